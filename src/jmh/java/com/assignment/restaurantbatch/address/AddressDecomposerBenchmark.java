@@ -0,0 +1,118 @@
+package com.assignment.restaurantbatch.address;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도로명주소 분해 비용과 접두어 캐시 적중률 벤치마크입니다.
+ * <p>
+ * - {@value #ROWS}행의 도로명주소를 prefixes개의 "시도 시군구 도로명" 접두어에서 만들고 건물번호와 상세주소만 바꿉니다.<br>
+ * - 결과는 행당 평균 시간이며, cached는 {@link AddressDecomposer}, uncached는 같은 분해를 매 행 다시 하는 경우입니다.<br>
+ * - cached의 hitRatio 보조 지표는 측정 구간의 캐시 적중률입니다. maxEntries가 접두어 수보다 작으면 적중률이 떨어집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressDecomposerBenchmark {
+
+    /** 측정 1회에 분해하는 행 수 */
+    private static final int ROWS = 100_000;
+
+    private static final String[][] SIDO_SIGUNGU = {
+            {"서울특별시", "강남구"}, {"서울특별시", "종로구"}, {"서울특별시", "마포구"}, {"부산광역시", "해운대구"},
+            {"경기도", "성남시 분당구"}, {"경기도", "수원시 영통구"}, {"경기도", "가평군"}, {"경상북도", "칠곡군 왜관읍"},
+            {"제주특별자치도", "제주시"}, {"세종특별자치시", ""}
+    };
+
+    @Param({"1000", "5000"})
+    public int prefixes;
+
+    @Param({"1024", "16384"})
+    public int maxEntries;
+
+    private List<String> addresses;
+    private AddressDecomposer decomposer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> roads = new ArrayList<>(prefixes);
+        for (int i = 0; i < prefixes; i++) {
+            String[] region = SIDO_SIGUNGU[i % SIDO_SIGUNGU.length];
+            String road = (i % 3 == 0 ? "중앙로" + i + "번길" : "도로" + i + "로");
+            roads.add(region[1].isEmpty() ? region[0] + " " + road : region[0] + " " + region[1] + " " + road);
+        }
+        addresses = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            String prefix = roads.get(random.nextInt(prefixes));
+            int building = 1 + random.nextInt(300);
+            addresses.add(i % 2 == 0
+                    ? prefix + " " + building
+                    : prefix + " " + building + ", " + (1 + random.nextInt(5)) + "층 (역삼동)");
+        }
+    }
+
+    /**
+     * 측정 반복마다 빈 캐시로 시작합니다. (적중률은 첫 등장 접두어의 미스를 포함)
+     */
+    @Setup(Level.Iteration)
+    public void resetCache() {
+        decomposer = new AddressDecomposer(maxEntries);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void cached(CacheCounters counters, Blackhole blackhole) {
+        long hitsBefore = decomposer.hits();
+        long missesBefore = decomposer.misses();
+        for (String address : addresses) {
+            blackhole.consume(decomposer.decompose(address, null));
+        }
+        counters.hits += decomposer.hits() - hitsBefore;
+        counters.misses += decomposer.misses() - missesBefore;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void uncached(Blackhole blackhole) {
+        for (String address : addresses) {
+            blackhole.consume(AddressParser.parse(address, AddressParser.prefixLength(address), true));
+        }
+    }
+
+    /**
+     * cached 측정 구간의 캐시 적중/미스 수와 적중률을 보조 지표로 보고합니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+
+        public double hitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0 : (double) hits / total;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.assignment.restaurantbatch.reader;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 벤치마크 공통 입력 데이터를 제공하는 유틸리티 클래스입니다.
+ * <p>
+ * 실제 공공데이터와 동일한 MS949 인코딩의 샘플 CSV(success-test.csv) 데이터 행을 반복하여
+ * 원하는 건수의 라인/DTO 목록을 만듭니다.
+ */
+public final class BenchmarkFixtures {
+
+    private static final String SAMPLE_CSV = "success-test.csv";
+
+    private static final List<String> SAMPLE_LINES = loadSampleLines();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 샘플 데이터 행을 반복하여 지정 건수의 CSV 라인 목록을 반환합니다.
+     */
+    public static List<String> lines(int count) {
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(SAMPLE_LINES.get(i % SAMPLE_LINES.size()));
+        }
+        return lines;
+    }
+
+    /**
+     * 지정 건수의 CSV 라인을 실제 LineMapper로 변환한 DTO 목록을 반환합니다.
+     */
+    public static List<RestaurantCsvDto> dtos(int count) {
+        var lineMapper = RestaurantItemReaderConfig.lineMapper();
+        List<String> lines = lines(count);
+        List<RestaurantCsvDto> dtos = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < lines.size(); i++) {
+                dtos.add(lineMapper.mapLine(lines.get(i), i + 2));
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("벤치마크 샘플 데이터 매핑 실패", e);
+        }
+        return dtos;
+    }
+
+    private static List<String> loadSampleLines() {
+        try (InputStream in = BenchmarkFixtures.class.getClassLoader().getResourceAsStream(SAMPLE_CSV);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(
+                     Objects.requireNonNull(in, SAMPLE_CSV + " 리소스 없음"), Charset.forName("MS949")))) {
+            return reader.lines()
+                    .skip(1) // 헤더 제외
+                    .filter(line -> !line.isBlank())
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
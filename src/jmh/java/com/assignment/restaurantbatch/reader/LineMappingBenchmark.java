@@ -0,0 +1,80 @@
+package com.assignment.restaurantbatch.reader;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.batch.item.file.mapping.DefaultLineMapper;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 라인 → DTO 변환 구간의 벤치마크입니다.
+ * <p>
+ * - tokenize: {@link DelimitedLineTokenizer} 라인 분리<br>
+ * - mapFieldSet: 스키마 바인더 기반 FieldSet → DTO 매핑 (컬럼 인덱스)<br>
+ * - mapLine: 리더가 사용하는 전체 LineMapper (분리 + 매핑)
+ * <p>
+ * 각 호출은 Chunk 하나({@code chunkSize} 라인)를 처리합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineMappingBenchmark {
+
+    @Param({"500", "1000", "2000"})
+    public int chunkSize;
+
+    private List<String> lines;
+    private List<FieldSet> fieldSets;
+    private DelimitedLineTokenizer tokenizer;
+    private FieldSetMapper<RestaurantCsvDto> fieldSetMapper;
+    private DefaultLineMapper<RestaurantCsvDto> lineMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        lines = BenchmarkFixtures.lines(chunkSize);
+        tokenizer = RestaurantItemReaderConfig.lineTokenizer();
+        fieldSetMapper = RestaurantItemReaderConfig.fieldSetMapper();
+        lineMapper = RestaurantItemReaderConfig.lineMapper();
+
+        fieldSets = new ArrayList<>(chunkSize);
+        for (String line : lines) {
+            fieldSets.add(tokenizer.tokenize(line));
+        }
+    }
+
+    @Benchmark
+    public void tokenize(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(tokenizer.tokenize(line));
+        }
+    }
+
+    @Benchmark
+    public void mapFieldSet(Blackhole blackhole) throws Exception {
+        for (FieldSet fieldSet : fieldSets) {
+            blackhole.consume(fieldSetMapper.mapFieldSet(fieldSet));
+        }
+    }
+
+    @Benchmark
+    public void mapLine(Blackhole blackhole) throws Exception {
+        int lineNumber = 2;
+        for (String line : lines) {
+            blackhole.consume(lineMapper.mapLine(line, lineNumber++));
+        }
+    }
+}
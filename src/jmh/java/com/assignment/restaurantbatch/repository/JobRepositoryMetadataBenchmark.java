@@ -0,0 +1,144 @@
+package com.assignment.restaurantbatch.repository;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파티션 수와 Chunk 크기에 따른 JobRepository 메타데이터 갱신 비용 벤치마크입니다. (H2 인메모리 DB 사용)
+ * <p>
+ * - 한 번의 측정은 {@value #TOTAL_ROWS}행을 partitions개 스레드가 나누어 적재할 때 슬레이브 스텝이 하는
+ *   메타데이터 호출(Chunk마다 updateExecutionContext + update, 시작/종료 갱신)만 재현합니다.<br>
+ * - flushEveryChunks=1은 기본 동작, 10은 {@link CoalescingJobRepository}로 스텝 건수 갱신을 10 Chunk마다 반영하는 경우입니다.<br>
+ * - 병합은 update(StepExecution)만 건너뛰고 updateExecutionContext는 매 Chunk 쓰며, 건너뛴 갱신도 Job 중지 요청 확인(SELECT)은 합니다.
+ *   따라서 Chunk당 메타데이터 쓰기는 2번에서 1 + 1/N번으로 줄어듭니다. (N=10이면 45% 감소, 시간 차이는 이 벤치마크로 측정)<br>
+ * - 적재 INSERT는 포함하지 않으므로, 결과는 같은 DB에서 INSERT와 경합하는 메타데이터 쓰기의 양을 나타냅니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JobRepositoryMetadataBenchmark {
+
+    /** 측정 1회에 전체 파티션이 적재하는 행 수 */
+    private static final int TOTAL_ROWS = 200_000;
+
+    @Param({"4", "16", "32"})
+    public int partitions;
+
+    @Param({"50", "500", "2000"})
+    public int chunkSize;
+
+    @Param({"1", "10"})
+    public int flushEveryChunks;
+
+    private JobRepository jobRepository;
+    private ExecutorService executor;
+    private List<StepExecution> stepExecutions;
+    private long run;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:repository-bench-" + partitions + "-" + chunkSize + "-" + flushEveryChunks
+                + ";DB_CLOSE_DELAY=-1");
+        try (Connection conn = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("org/springframework/batch/core/schema-h2.sql"));
+        }
+
+        JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setTransactionManager(new JdbcTransactionManager(dataSource));
+        factory.afterPropertiesSet();
+        JobRepository repository = factory.getObject();
+
+        jobRepository = flushEveryChunks > 1
+                ? new CoalescingJobRepository(flushEveryChunks, Duration.ofSeconds(5),
+                        CoalescingJobRepository.jdbcJobStatusLookup(dataSource, "BATCH_")).wrap(repository)
+                : repository;
+        executor = Executors.newFixedThreadPool(partitions);
+    }
+
+    /**
+     * 측정마다 새 Job 실행과 파티션별 스텝 실행을 만듭니다. (측정 시간에서 제외)
+     */
+    @Setup(Level.Iteration)
+    public void createExecutions() throws Exception {
+        JobExecution jobExecution = jobRepository.createJobExecution("metadataBenchmarkJob",
+                new JobParametersBuilder().addLong("run", run++).toJobParameters());
+        stepExecutions = new ArrayList<>(partitions);
+        for (int p = 0; p < partitions; p++) {
+            StepExecution stepExecution = jobExecution.createStepExecution("slaveStep:partition" + p);
+            jobRepository.add(stepExecution);
+            stepExecutions.add(stepExecution);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void stepMetadataUpdates() throws Exception {
+        int chunksPerPartition = TOTAL_ROWS / partitions / chunkSize;
+        List<Future<?>> futures = new ArrayList<>(partitions);
+        for (StepExecution stepExecution : stepExecutions) {
+            futures.add(executor.submit(() -> runPartition(stepExecution, chunksPerPartition)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    /**
+     * TaskletStep이 한 파티션을 처리하며 JobRepository를 호출하는 순서를 재현합니다.
+     */
+    private void runPartition(StepExecution stepExecution, int chunks) {
+        stepExecution.setStartTime(LocalDateTime.now());
+        stepExecution.setStatus(BatchStatus.STARTED);
+        jobRepository.update(stepExecution);
+
+        for (int chunk = 1; chunk <= chunks; chunk++) {
+            stepExecution.setReadCount((long) chunk * chunkSize);
+            stepExecution.setWriteCount((long) chunk * chunkSize);
+            stepExecution.incrementCommitCount();
+            stepExecution.getExecutionContext().putLong("restaurantItemReader.read.count", (long) chunk * chunkSize);
+            jobRepository.updateExecutionContext(stepExecution);
+            jobRepository.update(stepExecution);
+        }
+
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+        stepExecution.setExitStatus(ExitStatus.COMPLETED);
+        stepExecution.setEndTime(LocalDateTime.now());
+        jobRepository.updateExecutionContext(stepExecution);
+        jobRepository.update(stepExecution);
+    }
+}
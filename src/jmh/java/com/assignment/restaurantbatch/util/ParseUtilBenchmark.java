@@ -0,0 +1,76 @@
+package com.assignment.restaurantbatch.util;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.reader.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ParseUtil} 변환 비용 벤치마크입니다.
+ * <p>
+ * MultiInsertWriter가 한 레코드당 호출하는 것과 같은 필드(날짜 6개, 일시 2개, 실수 2개, 정수 9개)를
+ * Chunk 단위로 변환합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParseUtilBenchmark {
+
+    @Param({"500", "1000", "2000"})
+    public int chunkSize;
+
+    private List<RestaurantCsvDto> items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = BenchmarkFixtures.dtos(chunkSize);
+    }
+
+    @Benchmark
+    public void toLocalDate(Blackhole blackhole) {
+        for (RestaurantCsvDto item : items) {
+            blackhole.consume(ParseUtil.toLocalDate(item.getLicenseDate()));
+            blackhole.consume(ParseUtil.toLocalDate(item.getCancelDate()));
+            blackhole.consume(ParseUtil.toLocalDate(item.getCloseDate()));
+            blackhole.consume(ParseUtil.toLocalDate(item.getSuspendStartDate()));
+            blackhole.consume(ParseUtil.toLocalDate(item.getSuspendEndDate()));
+            blackhole.consume(ParseUtil.toLocalDate(item.getReopenDate()));
+        }
+    }
+
+    @Benchmark
+    public void toLocalDateTime(Blackhole blackhole) {
+        for (RestaurantCsvDto item : items) {
+            blackhole.consume(ParseUtil.toLocalDateTime(item.getLastModified()));
+            blackhole.consume(ParseUtil.toLocalDateTime(item.getDataUpdateDate()));
+        }
+    }
+
+    @Benchmark
+    public void parseNumbers(Blackhole blackhole) {
+        for (RestaurantCsvDto item : items) {
+            blackhole.consume(ParseUtil.parseDouble(item.getCoordX()));
+            blackhole.consume(ParseUtil.parseDouble(item.getCoordY()));
+            blackhole.consume(ParseUtil.parseInt(item.getMaleEmployee()));
+            blackhole.consume(ParseUtil.parseInt(item.getFemaleEmployee()));
+            blackhole.consume(ParseUtil.parseInt(item.getTotalEmployees()));
+            blackhole.consume(ParseUtil.parseInt(item.getHqEmployees()));
+            blackhole.consume(ParseUtil.parseInt(item.getOfficeEmployees()));
+            blackhole.consume(ParseUtil.parseInt(item.getSalesEmployees()));
+            blackhole.consume(ParseUtil.parseInt(item.getProductionEmployees()));
+            blackhole.consume(ParseUtil.parseInt(item.getGuaranteeAmount()));
+            blackhole.consume(ParseUtil.parseInt(item.getMonthlyRent()));
+        }
+    }
+}
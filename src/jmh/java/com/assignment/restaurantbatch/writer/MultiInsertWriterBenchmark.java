@@ -0,0 +1,100 @@
+package com.assignment.restaurantbatch.writer;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.reader.BenchmarkFixtures;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.batch.item.Chunk;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MultiInsertWriter} 구간별 벤치마크입니다. (H2 인메모리 DB 사용)
+ * <p>
+ * - placeholders: 다중 VALUES SQL 문자열 생성<br>
+ * - bind: 준비된 PreparedStatement에 Chunk 전체 파라미터 바인딩 (ParseUtil 변환 포함)<br>
+ * - write: 커넥션 획득부터 INSERT 실행까지 Chunk 한 번 저장
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultiInsertWriterBenchmark {
+
+    @Param({"500", "1000", "2000"})
+    public int chunkSize;
+
+    private JdbcDataSource dataSource;
+    private MultiInsertWriter writer;
+    private Chunk<RestaurantCsvDto> chunk;
+
+    private Connection bindConnection;
+    private PreparedStatement bindStatement;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:writer-bench-" + chunkSize + ";DB_CLOSE_DELAY=-1");
+        try (Connection conn = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(conn, new ClassPathResource("test-schema.sql"));
+        }
+
+        writer = new MultiInsertWriter(dataSource);
+        chunk = new Chunk<>(BenchmarkFixtures.dtos(chunkSize));
+
+        bindConnection = dataSource.getConnection();
+        bindStatement = bindConnection.prepareStatement(
+                MultiInsertWriter.INSERT_SQL_PREFIX
+                        + writer.generatePlaceholders(chunkSize, MultiInsertWriter.RECORD_COLUMN_COUNT));
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws Exception {
+        try (Connection conn = dataSource.getConnection(); Statement statement = conn.createStatement()) {
+            statement.execute("TRUNCATE TABLE restaurant");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        bindStatement.close();
+        bindConnection.close();
+    }
+
+    @Benchmark
+    public String placeholders() {
+        return MultiInsertWriter.INSERT_SQL_PREFIX
+                + writer.generatePlaceholders(chunkSize, MultiInsertWriter.RECORD_COLUMN_COUNT);
+    }
+
+    @Benchmark
+    public PreparedStatement bind() throws Exception {
+        List<RestaurantCsvDto> items = chunk.getItems();
+        bindStatement.clearParameters();
+        int paramIndex = 1;
+        for (RestaurantCsvDto item : items) {
+            writer.bindValues(bindStatement, item, paramIndex);
+            paramIndex += MultiInsertWriter.RECORD_COLUMN_COUNT;
+        }
+        return bindStatement;
+    }
+
+    @Benchmark
+    public void write() throws Exception {
+        writer.write(chunk);
+    }
+}
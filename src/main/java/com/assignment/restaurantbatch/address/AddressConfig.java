@@ -0,0 +1,45 @@
+package com.assignment.restaurantbatch.address;
+
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주소 분해 설정 클래스입니다. batch.address.enabled=true인 경우에만 적용됩니다.
+ * <p>
+ * restaurant 행을 저장할 때 도로명주소를 시도/시군구/도로명으로 분해하여 sido, sigungu, road_name 컬럼에 함께 씁니다.
+ * 지표: {@code batch.address.hits}, {@code batch.address.misses}, {@code batch.address.hit.ratio}, {@code batch.address.size}
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "batch.address", name = "enabled", havingValue = "true")
+public class AddressConfig {
+
+    public static final String HITS = "batch.address.hits";
+    public static final String MISSES = "batch.address.misses";
+    public static final String HIT_RATIO = "batch.address.hit.ratio";
+    public static final String SIZE = "batch.address.size";
+
+    /**
+     * 모든 파티션이 공유하는 주소 분해기입니다.
+     *
+     * @param maxEntries 도로명주소/지번주소 캐시별 최대 접두어 수 (batch.address.max-entries)
+     */
+    @Bean
+    public AddressDecomposer addressDecomposer(
+            @Value("${batch.address.max-entries:16384}") int maxEntries,
+            BatchMetrics batchMetrics
+    ) {
+        AddressDecomposer decomposer = new AddressDecomposer(maxEntries);
+        MeterRegistry registry = batchMetrics.getRegistry();
+        FunctionCounter.builder(HITS, decomposer, AddressDecomposer::hits).register(registry);
+        FunctionCounter.builder(MISSES, decomposer, AddressDecomposer::misses).register(registry);
+        Gauge.builder(HIT_RATIO, decomposer, AddressDecomposer::hitRatio).register(registry);
+        Gauge.builder(SIZE, decomposer, AddressDecomposer::size).register(registry);
+        return decomposer;
+    }
+}
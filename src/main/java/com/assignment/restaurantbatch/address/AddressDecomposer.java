@@ -0,0 +1,122 @@
+package com.assignment.restaurantbatch.address;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 도로명주소(없으면 지번주소)를 시도/시군구/도로명으로 분해하고 결과를 주소 접두어별로 캐시합니다.
+ * <p>
+ * - 수백만 행이 수천 개의 "시도 시군구 도로명" 접두어를 공유하므로, 건물번호 앞까지의 접두어를 키로 분해 결과를 재사용합니다.<br>
+ * - 키는 원본 문자열의 구간으로 조회하므로 캐시 적중 시 부분 문자열과 결과 객체를 새로 만들지 않습니다.
+ *   같은 접두어의 행은 같은 구성 요소 문자열 인스턴스를 공유합니다.<br>
+ * - 최대 항목 수를 넘으면 더 이상 추가하지 않고 분해 결과만 반환하므로 메모리 사용량이 제한됩니다.<br>
+ * - 항목은 불변 객체이고 빈 슬롯에만 CAS로 추가하므로 잠금 없이 여러 파티션 스레드에서 공유할 수 있습니다.
+ */
+public class AddressDecomposer {
+
+    /** 충돌 시 탐색할 최대 슬롯 수 */
+    private static final int MAX_PROBES = 8;
+
+    private final Cache roadCache;
+    private final Cache lotCache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maxEntries 도로명주소/지번주소 캐시별 최대 항목 수
+     */
+    public AddressDecomposer(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.roadCache = new Cache(maxEntries, true);
+        this.lotCache = new Cache(maxEntries, false);
+    }
+
+    /**
+     * 도로명주소를 분해합니다. 도로명주소가 비었거나 시도를 찾지 못하면 지번주소에서 시도/시군구만 찾습니다.
+     */
+    public RoadAddress decompose(String roadAddress, String fullAddress) {
+        if (roadAddress != null && !roadAddress.isBlank()) {
+            RoadAddress road = roadCache.get(roadAddress);
+            if (road.sido() != null) return road;
+        }
+        if (fullAddress != null && !fullAddress.isBlank()) {
+            return lotCache.get(fullAddress);
+        }
+        return RoadAddress.EMPTY;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * 캐시 적중률(0~1)을 반환합니다. 조회 이력이 없으면 0입니다.
+     */
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    public int size() {
+        return roadCache.size.get() + lotCache.size.get();
+    }
+
+    private static int hash(String value, int length) {
+        int h = 0;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + value.charAt(i);
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private final class Cache {
+        private final int maxEntries;
+        private final int mask;
+        private final boolean withRoad;
+        private final AtomicReferenceArray<Entry> table;
+        private final AtomicInteger size = new AtomicInteger();
+
+        private Cache(int maxEntries, boolean withRoad) {
+            this.maxEntries = maxEntries;
+            this.withRoad = withRoad;
+            int capacity = Integer.highestOneBit(Math.max(maxEntries * 2 - 1, 1)) << 1;
+            this.mask = capacity - 1;
+            this.table = new AtomicReferenceArray<>(capacity);
+        }
+
+        private RoadAddress get(String address) {
+            int length = AddressParser.prefixLength(address);
+            int hash = hash(address, length);
+            int slot = hash & mask;
+            for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & mask) {
+                Entry entry = table.get(slot);
+                if (entry == null) {
+                    RoadAddress parsed = AddressParser.parse(address, length, withRoad);
+                    misses.increment();
+                    if (size.get() < maxEntries
+                            && table.compareAndSet(slot, null, new Entry(hash, address.substring(0, length), parsed))) {
+                        size.incrementAndGet();
+                    }
+                    return parsed;
+                }
+                if (entry.hash == hash && entry.prefix.length() == length && address.regionMatches(0, entry.prefix, 0, length)) {
+                    hits.increment();
+                    return entry.value;
+                }
+            }
+            misses.increment();
+            return AddressParser.parse(address, length, withRoad);
+        }
+    }
+
+    private record Entry(int hash, String prefix, RoadAddress value) {
+    }
+}
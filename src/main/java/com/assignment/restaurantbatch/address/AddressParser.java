@@ -0,0 +1,118 @@
+package com.assignment.restaurantbatch.address;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 도로명/지번 주소 문자열을 시도, 시군구, 도로명으로 분해합니다.
+ * <p>
+ * - 도로명주소: {@code 시도 시군구 [구] [읍/면] 도로명 건물번호[, 상세주소] [(참고항목)]}<br>
+ * - 지번주소: {@code 시도 시군구 [구] [읍/면] 동/리 지번}. 동 이름이 "세종로"처럼 도로명과 같은 형태일 수 있으므로 도로명은 찾지 않습니다.<br>
+ * - 건물번호/지번 앞까지({@link #prefixLength(String)})만 보면 결과가 정해지므로, 이 접두어가 캐시 키가 됩니다.
+ */
+final class AddressParser {
+
+    /** 구성 요소별 최대 글자 수 (테이블 VARCHAR 길이). 넘으면 잘못 분해된 것으로 보고 null로 둡니다. */
+    static final int SIDO_MAX_LENGTH = 20;
+    static final int SIGUNGU_MAX_LENGTH = 40;
+    static final int ROAD_NAME_MAX_LENGTH = 80;
+
+    private AddressParser() {
+    }
+
+    /**
+     * 분해 결과를 결정하는 접두어 길이를 반환합니다.
+     * 숫자로 시작하는 첫 토큰(건물번호, 지번) 또는 쉼표·괄호 앞까지이며, "177번길"처럼 길로 끝나는 숫자 토큰은 도로명에 포함합니다.
+     */
+    static int prefixLength(String address) {
+        int length = address.length();
+        for (int i = 0; i < length; i++) {
+            char c = address.charAt(i);
+            if (c == ',' || c == '(') {
+                return trimEnd(address, i);
+            }
+            if (c == ' ' && i + 1 < length && isDigit(address.charAt(i + 1))) {
+                int end = i + 1;
+                while (end < length && address.charAt(end) != ' ' && address.charAt(end) != ',') end++;
+                if (address.charAt(end - 1) != '길') {
+                    return trimEnd(address, i);
+                }
+            }
+        }
+        return trimEnd(address, length);
+    }
+
+    /**
+     * 주소 앞 {@code length}글자를 분해합니다.
+     *
+     * @param withRoad true면 도로명주소로 보고 도로명까지 찾음
+     */
+    static RoadAddress parse(String address, int length, boolean withRoad) {
+        List<String> tokens = tokens(address, length);
+        if (tokens.isEmpty() || !isSido(tokens.get(0)) || tokens.get(0).length() > SIDO_MAX_LENGTH) {
+            return RoadAddress.EMPTY;
+        }
+        String sido = tokens.get(0);
+
+        // 시군구: 시/군/구로 끝나는 토큰 최대 두 개 (예: 성남시 분당구). 세종특별자치시는 시군구가 없음
+        int i = 1;
+        StringBuilder sigungu = new StringBuilder();
+        while (i < tokens.size() && i <= 2 && endsWith(tokens.get(i), '시', '군', '구')) {
+            if (!sigungu.isEmpty()) sigungu.append(' ');
+            sigungu.append(tokens.get(i++));
+        }
+
+        String roadName = null;
+        if (withRoad) {
+            if (i < tokens.size() && endsWith(tokens.get(i), '읍', '면')) i++;
+            if (i < tokens.size() && endsWith(tokens.get(i), '로', '길')) {
+                roadName = tokens.get(i++);
+                // "동판교로 177번길"처럼 띄어 쓴 번길은 공식 표기(동판교로177번길)로 붙임
+                if (i < tokens.size() && isDigit(tokens.get(i).charAt(0)) && endsWith(tokens.get(i), '길')) {
+                    roadName = roadName + tokens.get(i);
+                }
+            }
+        }
+        return new RoadAddress(sido,
+                sigungu.isEmpty() || sigungu.length() > SIGUNGU_MAX_LENGTH ? null : sigungu.toString(),
+                roadName == null || roadName.length() > ROAD_NAME_MAX_LENGTH ? null : roadName);
+    }
+
+    /** 특별시, 광역시, 특별자치시, 도, 특별자치도 */
+    private static boolean isSido(String token) {
+        return token.length() >= 2
+                && (token.endsWith("도") || token.endsWith("특별시") || token.endsWith("광역시") || token.endsWith("특별자치시"));
+    }
+
+    private static List<String> tokens(String address, int length) {
+        List<String> tokens = new ArrayList<>(6);
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean space = i == length || Character.isWhitespace(address.charAt(i));
+            if (space && start >= 0) {
+                tokens.add(address.substring(start, i));
+                start = -1;
+            } else if (!space && start < 0) {
+                start = i;
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean endsWith(String token, char... suffixes) {
+        char last = token.charAt(token.length() - 1);
+        for (char suffix : suffixes) {
+            if (last == suffix) return true;
+        }
+        return false;
+    }
+
+    private static int trimEnd(String address, int end) {
+        while (end > 0 && Character.isWhitespace(address.charAt(end - 1))) end--;
+        return end;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,13 @@
+package com.assignment.restaurantbatch.address;
+
+/**
+ * 주소에서 분해한 구성 요소입니다. 찾지 못한 요소는 null입니다.
+ *
+ * @param sido     시도 (예: 서울특별시, 경기도)
+ * @param sigungu  시군구. 구가 있는 시는 "성남시 분당구"처럼 시와 구를 함께 담습니다.
+ * @param roadName 도로명 (예: 테헤란로, 판교역로146번길). 지번 주소에서는 null입니다.
+ */
+public record RoadAddress(String sido, String sigungu, String roadName) {
+
+    public static final RoadAddress EMPTY = new RoadAddress(null, null, null);
+}
@@ -0,0 +1,47 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import java.io.Serializable;
+
+/**
+ * 한 파티션 안에서 하나의 집계 키에 대해 누적하는 값입니다. 파티션 스레드 안에서만 사용합니다.
+ * <p>
+ * 요약 테이블 반영 전까지 Job ExecutionContext에 보관되므로 직렬화할 수 있습니다.
+ */
+public class AggregateCounters implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    long rowCount;
+    long openCount;
+    long closedCount;
+    double totalArea;
+    long totalEmployees;
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getOpenCount() {
+        return openCount;
+    }
+
+    public long getClosedCount() {
+        return closedCount;
+    }
+
+    public double getTotalArea() {
+        return totalArea;
+    }
+
+    public long getTotalEmployees() {
+        return totalEmployees;
+    }
+
+    void add(AggregateCounters other) {
+        rowCount += other.rowCount;
+        openCount += other.openCount;
+        closedCount += other.closedCount;
+        totalArea += other.totalArea;
+        totalEmployees += other.totalEmployees;
+    }
+}
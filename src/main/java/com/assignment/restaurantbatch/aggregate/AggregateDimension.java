@@ -0,0 +1,19 @@
+package com.assignment.restaurantbatch.aggregate;
+
+/**
+ * 요약 테이블({@code restaurant_summary})의 집계 기준입니다.
+ */
+public enum AggregateDimension {
+
+    /** 개방자치단체코드 (region_code) */
+    REGION,
+
+    /** 영업상태구분코드 (business_status_code) */
+    STATUS,
+
+    /** 업태구분명 (business_type) */
+    BUSINESS_TYPE,
+
+    /** 인허가일자의 연도 (license_date) */
+    LICENSE_YEAR
+}
@@ -0,0 +1,92 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import com.assignment.restaurantbatch.aggregate.RestaurantAggregator.AggregateKey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 병합된 집계를 {@code restaurant_summary} 테이블에 누적 반영하는 클래스입니다.
+ * <p>
+ * 적재가 기존 데이터에 추가되는 방식이므로 요약 값도 덮어쓰지 않고 더합니다. 지역 재적재처럼 원본에서 다시 집계한 키만 덮어씁니다.
+ * MySQL/H2 모두에서 동작하도록 UPDATE 후 갱신되지 않은 키만 INSERT하며, 전체를 하나의 트랜잭션으로 처리합니다.
+ */
+@Component
+public class AggregateSummaryWriter {
+
+    static final String UPDATE_SQL = """
+            UPDATE restaurant_summary
+               SET row_count = row_count + ?, open_count = open_count + ?, closed_count = closed_count + ?,
+                   total_area = total_area + ?, total_employees = total_employees + ?, updated_at = ?
+             WHERE dimension = ? AND dim_value = ?""";
+
+    static final String REPLACE_SQL = """
+            UPDATE restaurant_summary
+               SET row_count = ?, open_count = ?, closed_count = ?,
+                   total_area = ?, total_employees = ?, updated_at = ?
+             WHERE dimension = ? AND dim_value = ?""";
+
+    static final String INSERT_SQL = """
+            INSERT INTO restaurant_summary
+                   (row_count, open_count, closed_count, total_area, total_employees, updated_at, dimension, dim_value)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public AggregateSummaryWriter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void write(Map<AggregateKey, AggregateCounters> aggregates) {
+        write(aggregates, Map.of());
+    }
+
+    /**
+     * 집계를 기존 값에 더하고, 일부 키는 주어진 값으로 덮어씁니다. 호출 중인 트랜잭션이 있으면 그 트랜잭션에 참여합니다.
+     *
+     * @param increments   기존 값에 더할 집계
+     * @param replacements 기존 값과 관계없이 이 값으로 바꿀 집계
+     */
+    public void write(Map<AggregateKey, AggregateCounters> increments, Map<AggregateKey, AggregateCounters> replacements) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> addArgs = toArgs(increments, now);
+        List<Object[]> replaceArgs = toArgs(replacements, now);
+
+        // rewriteBatchedStatements 사용 시 배치 UPDATE의 갱신 건수를 알 수 없으므로 키마다 개별 UPDATE 합니다.
+        // 집계 키는 수백~수천 개 수준이라 비용이 크지 않습니다.
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> inserts = new ArrayList<>();
+            for (Object[] row : addArgs) {
+                if (jdbcTemplate.update(UPDATE_SQL, row) == 0) {
+                    inserts.add(row);
+                }
+            }
+            for (Object[] row : replaceArgs) {
+                if (jdbcTemplate.update(REPLACE_SQL, row) == 0) {
+                    inserts.add(row);
+                }
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+            }
+        });
+    }
+
+    private static List<Object[]> toArgs(Map<AggregateKey, AggregateCounters> aggregates, Timestamp now) {
+        List<Object[]> args = new ArrayList<>(aggregates.size());
+        aggregates.forEach((key, c) -> args.add(new Object[]{
+                c.rowCount, c.openCount, c.closedCount, c.totalArea, c.totalEmployees, now,
+                key.dimension().name(), key.value()
+        }));
+        return args;
+    }
+}
@@ -0,0 +1,112 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.reader.ColumnarChunk;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 슬레이브 스텝이 저장한 행을 파티션 로컬 카운터({@link PartitionAggregates})에 누적하는 리스너입니다.
+ * <p>
+ * - 쓰기 완료(afterWrite)된 Chunk를 스레드별로 보관했다가 커밋 이후(afterChunk)에 집계하고, 롤백(afterChunkError) 시 버립니다.<br>
+ * - 파티션 하나는 한 스레드에서만 실행되므로 로컬 카운터는 동기화 없이 갱신합니다.<br>
+ * - 스텝 종료(afterStep) 시 로컬 카운터를 {@link RestaurantAggregator}에 한 번만 병합합니다.
+ *
+ * @param <T> 슬레이브 스텝의 아이템 타입 (DTO 또는 Columnar 버퍼)
+ */
+public class AggregatingStepListener<T> implements StepExecutionListener, ChunkListener, ItemWriteListener<T> {
+
+    /** Columnar 버퍼의 집계 대상 컬럼 인덱스 (schema/restaurant.yml 순서) */
+    static final int REGION_CODE = DatasetSchema.restaurant().indexOf("regionCode");
+    static final int LICENSE_DATE = DatasetSchema.restaurant().indexOf("licenseDate");
+    static final int BUSINESS_STATUS_CODE = DatasetSchema.restaurant().indexOf("businessStatusCode");
+    static final int AREA_SIZE = DatasetSchema.restaurant().indexOf("areaSize");
+    static final int BUSINESS_TYPE = DatasetSchema.restaurant().indexOf("businessType");
+    static final int TOTAL_EMPLOYEES = DatasetSchema.restaurant().indexOf("totalEmployees");
+
+    private final RestaurantAggregator aggregator;
+    private final BiConsumer<T, PartitionAggregates> accumulator;
+
+    private final ThreadLocal<PartitionAggregates> local = ThreadLocal.withInitial(PartitionAggregates::new);
+    private final ThreadLocal<List<Chunk<? extends T>>> pending = ThreadLocal.withInitial(ArrayList::new);
+
+    public AggregatingStepListener(RestaurantAggregator aggregator, BiConsumer<T, PartitionAggregates> accumulator) {
+        this.aggregator = aggregator;
+        this.accumulator = accumulator;
+    }
+
+    /**
+     * DTO 슬레이브 스텝용 리스너를 생성합니다.
+     */
+    public static AggregatingStepListener<RestaurantCsvDto> forDto(RestaurantAggregator aggregator) {
+        return new AggregatingStepListener<>(aggregator, (dto, aggregates) -> aggregates.add(
+                dto.getRegionCode(), dto.getBusinessStatusCode(), dto.getBusinessType(),
+                dto.getLicenseDate(), dto.getAreaSize(), dto.getTotalEmployees()));
+    }
+
+    /**
+     * Columnar 슬레이브 스텝용 리스너를 생성합니다. Writer가 실패로 표시한 행은 제외합니다.
+     */
+    public static AggregatingStepListener<ColumnarChunk> forColumnar(RestaurantAggregator aggregator) {
+        return new AggregatingStepListener<>(aggregator, (chunk, aggregates) -> {
+            for (int row = 0; row < chunk.rows(); row++) {
+                if (chunk.isRejected(row)) continue;
+                aggregates.add(
+                        chunk.getString(row, REGION_CODE), chunk.getString(row, BUSINESS_STATUS_CODE),
+                        chunk.getString(row, BUSINESS_TYPE), chunk.getString(row, LICENSE_DATE),
+                        chunk.getString(row, AREA_SIZE), chunk.getString(row, TOTAL_EMPLOYEES));
+            }
+        });
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        local.set(new PartitionAggregates());
+        pending.get().clear();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        PartitionAggregates aggregates = local.get();
+        if (!aggregates.isEmpty()) {
+            aggregator.merge(aggregates);
+        }
+        local.remove();
+        pending.remove();
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends T> items) {
+        pending.get().add(items);
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        List<Chunk<? extends T>> chunks = pending.get();
+        if (chunks.isEmpty()) return;
+
+        PartitionAggregates aggregates = local.get();
+        for (Chunk<? extends T> chunk : chunks) {
+            for (T item : chunk) {
+                accumulator.accept(item, aggregates);
+            }
+        }
+        chunks.clear();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        pending.get().clear();
+    }
+}
@@ -0,0 +1,96 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import com.assignment.restaurantbatch.util.ParseUtil;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 파티션 하나가 저장한 행을 집계 기준별로 누적하는 로컬 카운터입니다.
+ * <p>
+ * 파티션 스레드 안에서만 갱신하므로 동기화 없이 일반 {@link HashMap}을 사용하며,
+ * 스텝 종료 시 {@link RestaurantAggregator}에 한 번에 병합됩니다.
+ */
+public class PartitionAggregates {
+
+    /** 영업상태구분코드: 영업/정상 */
+    static final String STATUS_OPEN = "01";
+    /** 영업상태구분코드: 폐업 */
+    static final String STATUS_CLOSED = "03";
+
+    /** 값이 비어 있는 행의 집계 키 */
+    static final String EMPTY_KEY = "";
+
+    private final Map<AggregateDimension, Map<String, AggregateCounters>> counters = new EnumMap<>(AggregateDimension.class);
+
+    public PartitionAggregates() {
+        for (AggregateDimension dimension : AggregateDimension.values()) {
+            counters.put(dimension, new HashMap<>());
+        }
+    }
+
+    /**
+     * 저장에 성공한 행 하나를 모든 집계 기준에 반영합니다.
+     */
+    public void add(String regionCode, String statusCode, String businessType, String licenseDate,
+                    String areaSize, String totalEmployees) {
+        boolean open = STATUS_OPEN.equals(statusCode);
+        boolean closed = STATUS_CLOSED.equals(statusCode);
+        double area = parseArea(areaSize);
+        long employees = parseEmployees(totalEmployees);
+
+        add(AggregateDimension.REGION, regionCode, open, closed, area, employees);
+        add(AggregateDimension.STATUS, statusCode, open, closed, area, employees);
+        add(AggregateDimension.BUSINESS_TYPE, businessType, open, closed, area, employees);
+        add(AggregateDimension.LICENSE_YEAR, licenseYear(licenseDate), open, closed, area, employees);
+    }
+
+    public Map<AggregateDimension, Map<String, AggregateCounters>> getCounters() {
+        return counters;
+    }
+
+    public boolean isEmpty() {
+        return counters.values().stream().allMatch(Map::isEmpty);
+    }
+
+    private void add(AggregateDimension dimension, String key, boolean open, boolean closed, double area, long employees) {
+        AggregateCounters c = counters.get(dimension).computeIfAbsent(normalize(key), k -> new AggregateCounters());
+        c.rowCount++;
+        if (open) c.openCount++;
+        if (closed) c.closedCount++;
+        c.totalArea += area;
+        c.totalEmployees += employees;
+    }
+
+    private static String normalize(String key) {
+        return key == null ? EMPTY_KEY : key.trim();
+    }
+
+    private static String licenseYear(String licenseDate) {
+        if (licenseDate == null) return EMPTY_KEY;
+        String trimmed = licenseDate.trim();
+        return trimmed.length() >= 4 ? trimmed.substring(0, 4) : EMPTY_KEY;
+    }
+
+    /**
+     * 면적은 문자열 컬럼이므로 숫자가 아닌 값은 0으로 집계합니다.
+     */
+    private static double parseArea(String value) {
+        try {
+            Double area = ParseUtil.parseDouble(value);
+            return area == null ? 0 : area;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long parseEmployees(String value) {
+        try {
+            Integer employees = ParseUtil.parseInt(value);
+            return employees == null ? 0 : employees;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
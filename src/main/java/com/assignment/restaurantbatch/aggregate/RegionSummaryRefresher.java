@@ -0,0 +1,96 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import com.assignment.restaurantbatch.aggregate.RestaurantAggregator.AggregateKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 지역 재적재로 바뀐 지역의 집계를 요약 테이블에 반영하는 클래스입니다.
+ * <p>
+ * - 재적재는 지역의 기존 행을 통째로 교체하므로 적재 중 집계를 그대로 더하면 해당 지역이 두 번 집계됩니다.
+ *   그래서 재적재 Job에서는 적재 중 집계를 반영하지 않습니다.<br>
+ * - 기존 지역 행과 새 지역 행을 모두 읽을 수 있는 시점에 둘을 {@link PartitionAggregates}와 같은 규칙으로 집계합니다.
+ *   비파티션 테이블은 지역 행 교체와 같은 트랜잭션 안에서, MySQL 파티션 교환은 교환 직후(기존 행이 스테이징 테이블로 옮겨진 상태) 호출됩니다.<br>
+ * - 해당 지역의 지역 기준 행은 새 지역 행의 집계로 덮어쓰므로, 이전에 어긋난 값이 있어도 바로잡힙니다.<br>
+ * - 지역 외 기준(상태, 업태, 연도)은 다른 지역 행도 포함하므로 그 차이(새 값 - 기존 값)만 더합니다.
+ */
+@Slf4j
+@Component
+public class RegionSummaryRefresher {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AggregateSummaryWriter summaryWriter;
+
+    public RegionSummaryRefresher(JdbcTemplate jdbcTemplate, AggregateSummaryWriter summaryWriter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.summaryWriter = summaryWriter;
+    }
+
+    /**
+     * 테이블에서 한 지역의 행을 요약 테이블 기준별로 집계합니다.
+     */
+    public Map<AggregateKey, AggregateCounters> aggregate(String table, String regionCode) {
+        if (!IDENTIFIER.matcher(table).matches()) {
+            throw new IllegalArgumentException("테이블명 형식이 올바르지 않습니다: " + table);
+        }
+        PartitionAggregates aggregates = new PartitionAggregates();
+        jdbcTemplate.query("SELECT region_code, business_status_code, business_type, license_date, area_size, total_employees"
+                        + " FROM " + table + " WHERE region_code = ?",
+                rs -> {
+                    aggregates.add(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                            rs.getString(5), rs.getString(6));
+                },
+                regionCode);
+
+        RestaurantAggregator aggregator = new RestaurantAggregator();
+        aggregator.merge(aggregates);
+        return aggregator.snapshot();
+    }
+
+    /**
+     * 지역 행 교체에 맞춰 요약 테이블을 갱신합니다. {@link com.assignment.restaurantbatch.region.RegionPartitionManager.SwapListener}로 사용합니다.
+     *
+     * @param regionCode   교체한 지역 코드
+     * @param oldRowsTable 교체 전 지역 행이 있는 테이블
+     * @param newRowsTable 새로 적재한 지역 행이 있는 테이블
+     */
+    public void refresh(String regionCode, String oldRowsTable, String newRowsTable) {
+        Map<AggregateKey, AggregateCounters> before = aggregate(oldRowsTable, regionCode);
+        Map<AggregateKey, AggregateCounters> after = aggregate(newRowsTable, regionCode);
+        Set<AggregateKey> keys = new HashSet<>(before.keySet());
+        keys.addAll(after.keySet());
+
+        Map<AggregateKey, AggregateCounters> delta = new HashMap<>();
+        Map<AggregateKey, AggregateCounters> regionRows = new HashMap<>();
+        for (AggregateKey key : keys) {
+            AggregateCounters newValue = after.getOrDefault(key, new AggregateCounters());
+            if (key.dimension() == AggregateDimension.REGION) {
+                regionRows.put(key, newValue);
+                continue;
+            }
+            AggregateCounters oldValue = before.getOrDefault(key, new AggregateCounters());
+            AggregateCounters diff = new AggregateCounters();
+            diff.rowCount = newValue.rowCount - oldValue.rowCount;
+            diff.openCount = newValue.openCount - oldValue.openCount;
+            diff.closedCount = newValue.closedCount - oldValue.closedCount;
+            diff.totalArea = newValue.totalArea - oldValue.totalArea;
+            diff.totalEmployees = newValue.totalEmployees - oldValue.totalEmployees;
+            if (diff.rowCount != 0 || diff.openCount != 0 || diff.closedCount != 0
+                    || diff.totalArea != 0 || diff.totalEmployees != 0) {
+                delta.put(key, diff);
+            }
+        }
+        summaryWriter.write(delta, regionRows);
+        log.info("지역 재적재 요약 테이블 반영: region_code={}, 지역 기준 {}개 재계산, 그 외 {}개 집계 키 변경",
+                regionCode, regionRows.size(), delta.size());
+    }
+}
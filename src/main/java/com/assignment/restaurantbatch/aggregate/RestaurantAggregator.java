@@ -0,0 +1,108 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.Serializable;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 파티션별 로컬 집계를 모으는 마스터 스텝 리스너입니다.
+ * <p>
+ * - 각 슬레이브 스텝은 종료 시 {@link #merge(PartitionAggregates)}로 자신의 카운터를 한 번만 병합합니다.<br>
+ * - 병합은 {@link ConcurrentHashMap}과 {@link LongAdder}/{@link DoubleAdder}로 수행하여 락 없이 동시에 진행됩니다.<br>
+ * - 모든 파티션이 끝난 뒤(afterStep) 누적 결과를 Job ExecutionContext({@link #PENDING_SUMMARY_KEY})에 더해 둡니다.
+ *   요약 테이블 반영은 다음 스텝({@link SummaryWriteTasklet})이 하므로, 반영이 실패하면 Job이 실패하고 재시작 시 다시 반영합니다.
+ *   (StepExecutionListener의 afterStep 예외는 Spring Batch가 로그만 남기고 삼키므로 여기서 DB에 쓰지 않습니다.)
+ * <p>
+ * 마스터 스텝 실행마다 새로 생성되므로 재실행 시에는 이번 실행에서 커밋된 행만 더해지고,
+ * 실패한 이전 실행에서 보관한 집계에 합쳐집니다.
+ */
+@Slf4j
+public class RestaurantAggregator implements StepExecutionListener {
+
+    /** 요약 테이블에 아직 반영하지 않은 집계를 보관하는 Job ExecutionContext 키 */
+    public static final String PENDING_SUMMARY_KEY = "restaurantAggregator.pendingSummary";
+
+    private final Map<AggregateKey, SharedCounters> totals = new ConcurrentHashMap<>();
+
+    /**
+     * 파티션 하나의 로컬 집계를 전체 집계에 더합니다. 여러 파티션 스레드에서 동시에 호출됩니다.
+     */
+    public void merge(PartitionAggregates partition) {
+        partition.getCounters().forEach((dimension, values) -> values.forEach((value, local) -> {
+            SharedCounters shared = totals.computeIfAbsent(new AggregateKey(dimension, value), key -> new SharedCounters());
+            shared.rowCount.add(local.rowCount);
+            shared.openCount.add(local.openCount);
+            shared.closedCount.add(local.closedCount);
+            shared.totalArea.add(local.totalArea);
+            shared.totalEmployees.add(local.totalEmployees);
+        }));
+    }
+
+    /**
+     * 현재까지 병합된 집계를 조회용 스냅샷으로 반환합니다.
+     */
+    public Map<AggregateKey, AggregateCounters> snapshot() {
+        Map<AggregateKey, AggregateCounters> snapshot = new TreeMap<>();
+        totals.forEach((key, shared) -> {
+            AggregateCounters counters = new AggregateCounters();
+            counters.rowCount = shared.rowCount.sum();
+            counters.openCount = shared.openCount.sum();
+            counters.closedCount = shared.closedCount.sum();
+            counters.totalArea = shared.totalArea.sum();
+            counters.totalEmployees = shared.totalEmployees.sum();
+            snapshot.put(key, counters);
+        });
+        return snapshot;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        Map<AggregateKey, AggregateCounters> snapshot = snapshot();
+        if (!snapshot.isEmpty()) {
+            ExecutionContext jobContext = stepExecution.getJobExecution().getExecutionContext();
+            TreeMap<AggregateKey, AggregateCounters> pending = new TreeMap<>(pendingSummary(jobContext));
+            snapshot.forEach((key, counters) -> pending.computeIfAbsent(key, k -> new AggregateCounters()).add(counters));
+            jobContext.put(PENDING_SUMMARY_KEY, pending);
+            log.info("요약 테이블 반영 대기: {}개 집계 키", pending.size());
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    /**
+     * 마스터 스텝이 Job ExecutionContext에 보관한, 요약 테이블에 반영할 집계를 반환합니다. (없으면 빈 Map)
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<AggregateKey, AggregateCounters> pendingSummary(ExecutionContext jobContext) {
+        Object pending = jobContext.get(PENDING_SUMMARY_KEY);
+        return pending == null ? Map.of() : (Map<AggregateKey, AggregateCounters>) pending;
+    }
+
+    /**
+     * 요약 테이블의 PK (dimension, dim_value)에 대응하는 집계 키입니다.
+     */
+    public record AggregateKey(AggregateDimension dimension, String value) implements Comparable<AggregateKey>, Serializable {
+
+        @Override
+        public int compareTo(AggregateKey other) {
+            int byDimension = dimension.compareTo(other.dimension);
+            return byDimension != 0 ? byDimension : value.compareTo(other.value);
+        }
+    }
+
+    private static final class SharedCounters {
+        final LongAdder rowCount = new LongAdder();
+        final LongAdder openCount = new LongAdder();
+        final LongAdder closedCount = new LongAdder();
+        final DoubleAdder totalArea = new DoubleAdder();
+        final LongAdder totalEmployees = new LongAdder();
+    }
+}
@@ -0,0 +1,40 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import com.assignment.restaurantbatch.aggregate.RestaurantAggregator.AggregateKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.util.Map;
+
+/**
+ * 마스터 스텝이 모은 집계({@link RestaurantAggregator#pendingSummary})를 {@code restaurant_summary}에 반영하는 Tasklet입니다.
+ * <p>
+ * - 마스터 스텝 바로 다음 스텝으로 실행되며, 반영이 실패하면 예외를 그대로 던져 스텝과 Job을 실패시킵니다.<br>
+ * - 스텝 트랜잭션 안에서 반영하므로 실패 시 요약 테이블에는 아무것도 남지 않고, 재시작하면 보관된 집계로 다시 반영합니다.<br>
+ * - 보관된 집계가 없으면(검증 전용 실행, 지역 재적재, 다른 데이터셋) 아무것도 하지 않습니다.
+ */
+@Slf4j
+public class SummaryWriteTasklet implements Tasklet {
+
+    private final AggregateSummaryWriter summaryWriter;
+
+    public SummaryWriteTasklet(AggregateSummaryWriter summaryWriter) {
+        this.summaryWriter = summaryWriter;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        Map<AggregateKey, AggregateCounters> pending = RestaurantAggregator.pendingSummary(
+                contribution.getStepExecution().getJobExecution().getExecutionContext());
+        if (pending.isEmpty()) {
+            log.info("[요약 테이블] 반영할 집계 없음");
+            return RepeatStatus.FINISHED;
+        }
+        summaryWriter.write(pending);
+        log.info("[요약 테이블] 반영 완료: {}개 집계 키", pending.size());
+        return RepeatStatus.FINISHED;
+    }
+}
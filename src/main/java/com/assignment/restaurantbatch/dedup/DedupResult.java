@@ -0,0 +1,12 @@
+package com.assignment.restaurantbatch.dedup;
+
+/**
+ * 관리번호 중복 제거 결과입니다.
+ *
+ * @param rows            검사한 행 수
+ * @param removedRows     최신 버전이 아니어서 제거한 행 수
+ * @param spillPartitions 2단계 처리에 사용한 해시 파티션 수 (1이면 메모리 내 처리)
+ * @param rewrittenFiles  중복 행을 제거하여 다시 쓴 파티션 파일 수
+ */
+public record DedupResult(long rows, long removedRows, int spillPartitions, int rewrittenFiles) {
+}
@@ -0,0 +1,87 @@
+package com.assignment.restaurantbatch.dedup;
+
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 적재 전에 파티션 파일에서 관리번호 중복 행을 제거하는 Tasklet입니다.
+ * <p>
+ * 관리번호별 최신 버전만 남기고, 밀려난 행은 {@code duplicates-<jobExecutionId>.csv}에 기록합니다.
+ * 제거한 행 수는 스텝의 filterCount로 남습니다.
+ */
+@Slf4j
+public class DedupTasklet implements Tasklet {
+
+    /** 중복 제거 여부 JobParameter (false면 생략) */
+    public static final String DEDUP_PARAM = "dedup";
+
+    /** 전체 행 수를 모를 때 파일 크기로 행 수를 추정하는 기준 (보수적으로 작게 잡아 파티션을 넉넉히 나눔) */
+    static final long ESTIMATED_BYTES_PER_ROW = 200;
+
+    private final boolean enabled;
+    private final ManagementNumberDeduplicator deduplicator;
+    private final Path partitionDir;
+    private final Charset charset;
+    private final Long totalRows;
+    private final Path sideDir;
+
+    /**
+     * @param totalRows 전체 행 수 (모르면 null)
+     */
+    public DedupTasklet(boolean enabled, ManagementNumberDeduplicator deduplicator, Path partitionDir,
+                        Charset charset, Long totalRows, Path sideDir) {
+        this.enabled = enabled;
+        this.deduplicator = deduplicator;
+        this.partitionDir = partitionDir;
+        this.charset = charset;
+        this.totalRows = totalRows;
+        this.sideDir = sideDir;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (!enabled) {
+            log.info("[관리번호 중복 제거] 생략");
+            return RepeatStatus.FINISHED;
+        }
+
+        List<Path> files = partitionFiles();
+        long expectedRows = totalRows != null ? totalRows : estimateRows(files);
+        Path sideFile = sideDir.resolve("duplicates-" + contribution.getStepExecution().getJobExecutionId() + ".csv");
+
+        long start = System.nanoTime();
+        DedupResult result = deduplicator.deduplicate(files, charset, expectedRows, sideFile);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        contribution.incrementFilterCount(result.removedRows());
+        if (result.removedRows() > 0) {
+            log.warn("[관리번호 중복 제거] {}건 중 이전 버전 {}건 제거 (파일 {}개 재작성, {} ms) → {}",
+                    result.rows(), result.removedRows(), result.rewrittenFiles(), elapsedMillis, sideFile);
+        } else {
+            log.info("[관리번호 중복 제거] {}건 중 중복 없음 ({} ms)", result.rows(), elapsedMillis);
+        }
+        return RepeatStatus.FINISHED;
+    }
+
+    private List<Path> partitionFiles() throws IOException {
+        return CsvSplitter.partitionFiles(partitionDir);
+    }
+
+    private long estimateRows(List<Path> files) throws IOException {
+        long bytes = 0;
+        for (Path file : files) {
+            bytes += Files.size(file);
+        }
+        return bytes / ESTIMATED_BYTES_PER_ROW;
+    }
+}
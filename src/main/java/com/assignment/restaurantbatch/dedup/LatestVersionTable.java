@@ -0,0 +1,136 @@
+package com.assignment.restaurantbatch.dedup;
+
+/**
+ * 관리번호 해시를 키로 최신 버전(최종수정시점, 위치)만 보관하는 오픈 어드레싱 해시 테이블입니다.
+ * <p>
+ * - 키/값을 박싱 없이 long 배열 세 개에 저장하여 슬롯당 24바이트, 항목당 48바이트(부하율 0.5 기준)만 사용합니다.<br>
+ * - 슬롯 수는 생성 시 정한 최대 용량을 넘지 않으며, 최대 용량에서 부하율을 넘는 새 키는 {@link TableFullException}으로 거부합니다.<br>
+ * - 0은 빈 슬롯 표시로 사용하므로 키 0은 호출 측에서 다른 값으로 바꿔 넣어야 합니다.<br>
+ * - 스레드 안전하지 않으므로 단일 스레드에서만 사용해야 합니다.
+ */
+class LatestVersionTable {
+
+    /** 밀려난 버전이 없음을 나타내는 반환값 */
+    static final long NONE = -1;
+
+    static final int BYTES_PER_SLOT = 3 * Long.BYTES;
+
+    static final int BYTES_PER_ENTRY = BYTES_PER_SLOT * 2;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final int maxCapacity;
+    private long[] keys;
+    private long[] lastModified;
+    private long[] locations;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    /**
+     * @param expectedSize 예상 항목 수 (초기 용량 계산용)
+     * @param maxCapacity  최대 슬롯 수 (2의 거듭제곱, {@link #capacityFor(long)}로 구함)
+     */
+    LatestVersionTable(int expectedSize, int maxCapacity) {
+        this.maxCapacity = maxCapacity;
+        int capacity = Integer.highestOneBit(Math.max((int) Math.min(expectedSize / LOAD_FACTOR, MAX_CAPACITY), 16) - 1) << 1;
+        allocate(Math.min(capacity, maxCapacity));
+    }
+
+    /**
+     * 메모리 예산 안에 들어가는 가장 큰 2의 거듭제곱 슬롯 수를 반환합니다. (최소 2)
+     */
+    static int capacityFor(long budgetBytes) {
+        return Integer.highestOneBit((int) Math.max(2, Math.min(MAX_CAPACITY, budgetBytes / BYTES_PER_SLOT)));
+    }
+
+    /**
+     * 최대 슬롯 수가 capacity인 테이블에 담을 수 있는 항목 수를 반환합니다.
+     */
+    static int maxEntries(int capacity) {
+        return (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * 한 버전을 반영합니다. 같은 키가 이미 있으면 최종수정시점이 늦은 쪽(같으면 파일상 뒤쪽)을 남깁니다.
+     *
+     * @return 밀려난 버전의 위치, 밀려난 버전이 없으면 {@link #NONE}
+     * @throws TableFullException 새 키인데 최대 용량에서 더 담을 수 없는 경우
+     */
+    long offer(long key, long modified, long location) {
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) {
+                long existingModified = lastModified[index];
+                long existingLocation = locations[index];
+                if (modified > existingModified || (modified == existingModified && location > existingLocation)) {
+                    lastModified[index] = modified;
+                    locations[index] = location;
+                    return existingLocation;
+                }
+                return location;
+            }
+            index = (index + 1) & mask;
+        }
+
+        if (size >= resizeThreshold) {
+            if (keys.length >= maxCapacity) {
+                throw new TableFullException(size);
+            }
+            resize();
+            index = slot(key);
+            while (keys[index] != 0) {
+                index = (index + 1) & mask;
+            }
+        }
+        keys[index] = key;
+        lastModified[index] = modified;
+        locations[index] = location;
+        size++;
+        return NONE;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private int slot(long key) {
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        lastModified = new long[capacity];
+        locations = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldModified = lastModified;
+        long[] oldLocations = locations;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == 0) continue;
+            int index = slot(oldKeys[i]);
+            while (keys[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = oldKeys[i];
+            lastModified[index] = oldModified[i];
+            locations[index] = oldLocations[i];
+        }
+    }
+
+    /**
+     * 최대 용량까지 찬 테이블에 새 키를 넣으려 할 때 발생하는 예외입니다.
+     */
+    static final class TableFullException extends IllegalStateException {
+        TableFullException(int size) {
+            super("관리번호 테이블이 최대 용량에 도달했습니다: " + size + "건");
+        }
+    }
+}
@@ -0,0 +1,405 @@
+package com.assignment.restaurantbatch.dedup;
+
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.util.ParseUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongToIntFunction;
+import java.util.stream.Stream;
+
+/**
+ * 파티션 파일 전체에서 관리번호별로 최종수정시점이 가장 늦은 행만 남기는 중복 제거기입니다.
+ * <p>
+ * 1단계: 모든 행을 순차 스캔하여 (관리번호 64비트 해시, 최종수정시점, 파일/라인 위치) 24바이트 레코드로 만듭니다.
+ * 예상 행 수가 메모리 예산 안에 들어오면 바로 {@link LatestVersionTable}에 반영하고,
+ * 넘으면 해시 값으로 나눈 임시 파일(spill)에 기록합니다.<br>
+ * 2단계: spill 파일을 하나씩 읽어 예산 크기의 테이블로 최신 버전을 가리고, 밀려난 행의 위치만 모읍니다.
+ * 테이블은 예산을 넘어 커지지 않으며, 한 spill 파일의 관리번호가 예산을 넘으면 해시의 다른 비트로 다시 나눕니다.<br>
+ * 3단계: 밀려난 행이 있는 파티션 파일만 다시 쓰고, 밀려난 행은 별도 파일(UTF-8, 헤더 포함)에 기록합니다.
+ * <p>
+ * 관리번호가 비어 있는 행은 비교하지 않고 그대로 둡니다.
+ * 서로 다른 관리번호의 64비트 해시가 충돌할 확률은 500만 건 기준 약 10<sup>-6</sup>으로 무시합니다.
+ */
+@Slf4j
+public class ManagementNumberDeduplicator {
+
+    /** CSV 컬럼 인덱스: 관리번호, 최종수정시점 (schema/restaurant.yml 순서) */
+    static final int MANAGEMENT_NUMBER = DatasetSchema.restaurant().indexOf("managementNumber");
+    static final int LAST_MODIFIED = DatasetSchema.restaurant().indexOf("lastModified");
+
+    /** spill 파일 최대 개수 */
+    static final int MAX_SPILL_PARTITIONS = 256;
+
+    /** 예산을 넘은 spill 파일을 다시 나눌 때 사용하는 해시 비트 수와 최대 단계 */
+    private static final int RESPLIT_BITS = 4;
+    private static final int RESPLIT_FANOUT = 1 << RESPLIT_BITS;
+    private static final int MAX_RESPLIT_DEPTH = 4;
+
+    /** spill 레코드 크기: 키, 최종수정시점, 위치 */
+    private static final int SPILL_RECORD_BYTES = 3 * Long.BYTES;
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    /** 최종수정시점이 없거나 잘못된 행은 어떤 버전에도 밀립니다. */
+    private static final long UNKNOWN_MODIFIED = Long.MIN_VALUE;
+
+    private final long memoryBudgetBytes;
+
+    /**
+     * @param memoryBudgetBytes 최신 버전 테이블에 사용할 최대 메모리
+     */
+    public ManagementNumberDeduplicator(long memoryBudgetBytes) {
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    /**
+     * @param files        파티션 파일 목록 (각 파일 첫 줄은 헤더)
+     * @param charset      파일 인코딩
+     * @param expectedRows 예상 행 수 (spill 파티션 수 산정용)
+     * @param sideFile     밀려난 행을 기록할 파일
+     */
+    public DedupResult deduplicate(List<Path> files, Charset charset, long expectedRows, Path sideFile) throws IOException {
+        if (files.isEmpty()) return new DedupResult(0, 0, 1, 0);
+
+        int capacity = LatestVersionTable.capacityFor(memoryBudgetBytes);
+        int entriesPerPartition = LatestVersionTable.maxEntries(capacity);
+        int partitions = (int) Math.min(MAX_SPILL_PARTITIONS, Math.max(1, (expectedRows + entriesPerPartition - 1) / entriesPerPartition));
+
+        LocationList losers = new LocationList();
+        long rows;
+        if (partitions == 1) {
+            try {
+                rows = resolveInMemory(files, charset, (int) Math.min(expectedRows, entriesPerPartition), capacity, losers);
+            } catch (LatestVersionTable.TableFullException e) {
+                // 예상 행 수보다 관리번호가 많아 예산을 넘으면 spill로 처음부터 다시 처리합니다.
+                log.info("관리번호 중복 검사: 관리번호가 메모리 예산({}건)을 넘어 해시 파티션으로 다시 처리", entriesPerPartition);
+                losers = new LocationList();
+                partitions = RESPLIT_FANOUT;
+                rows = resolveWithSpill(files, charset, partitions, capacity, losers);
+            }
+        } else {
+            rows = resolveWithSpill(files, charset, partitions, capacity, losers);
+        }
+
+        int rewritten = losers.size() == 0 ? 0 : removeLosers(files, charset, losers.sorted(), sideFile);
+        return new DedupResult(rows, losers.size(), partitions, rewritten);
+    }
+
+    private long resolveInMemory(List<Path> files, Charset charset, int expectedEntries, int capacity,
+                                 LocationList losers) throws IOException {
+        LatestVersionTable table = new LatestVersionTable(expectedEntries, capacity);
+        return scan(files, charset, (key, modified, location) -> {
+            long loser = table.offer(key, modified, location);
+            if (loser != LatestVersionTable.NONE) losers.add(loser);
+        });
+    }
+
+    /**
+     * 해시 값으로 나눈 spill 파일에 기록한 뒤, 파일 단위로 최신 버전을 가립니다.
+     * 같은 관리번호는 항상 같은 spill 파일에 들어가므로 파일별 결과를 합치면 전체 결과와 같습니다.
+     */
+    private long resolveWithSpill(List<Path> files, Charset charset, int partitions, int capacity,
+                                  LocationList losers) throws IOException {
+        Path spillDir = Files.createTempDirectory(files.get(0).toAbsolutePath().getParent(), "dedup-");
+        try {
+            Path[] spillFiles = new Path[partitions];
+            long rows = spill(spillDir, "spill", spillFiles, key -> (int) Long.remainderUnsigned(key, partitions),
+                    consumer -> scan(files, charset, consumer));
+            log.info("관리번호 중복 검사: {}건을 {}개 해시 파티션으로 나누어 처리", rows, partitions);
+
+            for (Path spillFile : spillFiles) {
+                resolveSpillFile(spillFile, 0, capacity, losers);
+            }
+            return rows;
+        } finally {
+            try (Stream<Path> remaining = Files.list(spillDir)) {
+                for (Path path : remaining.toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+            Files.deleteIfExists(spillDir);
+        }
+    }
+
+    /**
+     * spill 파일 하나의 최신 버전을 가립니다. 관리번호가 테이블 최대 용량을 넘으면
+     * 해시 상위 비트로 {@value #RESPLIT_FANOUT}개 파일로 다시 나누어 각각 처리합니다.
+     *
+     * @param depth 이 파일이 다시 나뉘어 만들어진 단계 (처음 spill 파일은 0)
+     */
+    private void resolveSpillFile(Path spillFile, int depth, int capacity, LocationList losers) throws IOException {
+        long records = Files.size(spillFile) / SPILL_RECORD_BYTES;
+        LatestVersionTable table = new LatestVersionTable(
+                (int) Math.min(records, LatestVersionTable.maxEntries(capacity)), capacity);
+        LocationList fileLosers = new LocationList();
+        try {
+            readSpill(spillFile, (key, modified, location) -> {
+                long loser = table.offer(key, modified, location);
+                if (loser != LatestVersionTable.NONE) fileLosers.add(loser);
+            });
+        } catch (LatestVersionTable.TableFullException e) {
+            if (depth == MAX_RESPLIT_DEPTH) {
+                throw new IllegalStateException("관리번호 중복 검사 메모리 예산이 부족합니다: " + spillFile.getFileName()
+                        + " 구간의 관리번호가 " + LatestVersionTable.maxEntries(capacity) + "건을 넘습니다.", e);
+            }
+            resplit(spillFile, depth + 1, capacity, losers);
+            return;
+        }
+        losers.addAll(fileLosers);
+        Files.delete(spillFile);
+    }
+
+    private void resplit(Path spillFile, int depth, int capacity, LocationList losers) throws IOException {
+        int shift = Long.SIZE - RESPLIT_BITS * depth;
+        String prefix = spillFile.getFileName().toString().replace(".bin", "");
+        Path[] parts = new Path[RESPLIT_FANOUT];
+        long records = spill(spillFile.getParent(), prefix, parts, key -> (int) (key >>> shift) & (RESPLIT_FANOUT - 1),
+                consumer -> readSpill(spillFile, consumer));
+        Files.delete(spillFile);
+        log.info("관리번호 중복 검사: {} 구간({}건)이 메모리 예산을 넘어 {}개로 다시 나누어 처리",
+                prefix, records, RESPLIT_FANOUT);
+
+        for (Path part : parts) {
+            resolveSpillFile(part, depth, capacity, losers);
+        }
+    }
+
+    /**
+     * source의 레코드를 partitioner가 정한 spill 파일에 기록합니다.
+     *
+     * @return source가 반환한 행 수
+     */
+    private long spill(Path dir, String prefix, Path[] spillFiles, LongToIntFunction partitioner,
+                       VersionSource source) throws IOException {
+        DataOutputStream[] outs = new DataOutputStream[spillFiles.length];
+        try {
+            for (int i = 0; i < spillFiles.length; i++) {
+                spillFiles[i] = dir.resolve(String.format("%s-%03d.bin", prefix, i));
+                outs[i] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFiles[i]), IO_BUFFER_SIZE));
+            }
+            return source.forEach((key, modified, location) -> {
+                DataOutputStream out = outs[partitioner.applyAsInt(key)];
+                out.writeLong(key);
+                out.writeLong(modified);
+                out.writeLong(location);
+            });
+        } finally {
+            for (DataOutputStream out : outs) {
+                if (out != null) out.close();
+            }
+        }
+    }
+
+    private static long readSpill(Path spillFile, VersionConsumer consumer) throws IOException {
+        long records = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile), IO_BUFFER_SIZE))) {
+            while (true) {
+                long key;
+                try {
+                    key = in.readLong();
+                } catch (EOFException e) {
+                    break;
+                }
+                consumer.accept(key, in.readLong(), in.readLong());
+                records++;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 밀려난 행이 있는 파일만 다시 쓰고, 밀려난 행은 별도 파일에 옮깁니다.
+     *
+     * @return 다시 쓴 파일 수
+     */
+    private int removeLosers(List<Path> files, Charset charset, long[] sortedLosers, Path sideFile) throws IOException {
+        Files.createDirectories(sideFile.toAbsolutePath().getParent());
+        int rewritten = 0;
+        boolean headerWritten = false;
+
+        try (BufferedWriter side = Files.newBufferedWriter(sideFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            int cursor = 0;
+            while (cursor < sortedLosers.length) {
+                int fileIndex = (int) (sortedLosers[cursor] >>> 32);
+                Path file = files.get(fileIndex);
+                Path temp = file.resolveSibling(file.getFileName() + ".dedup");
+
+                try (BufferedReader reader = Files.newBufferedReader(file, charset);
+                     BufferedWriter writer = Files.newBufferedWriter(temp, charset)) {
+                    String line;
+                    int lineNumber = 0;
+                    while ((line = reader.readLine()) != null) {
+                        lineNumber++;
+                        if (lineNumber == 1 && !headerWritten) {
+                            side.write(line);
+                            side.newLine();
+                            headerWritten = true;
+                        }
+                        if (cursor < sortedLosers.length && sortedLosers[cursor] == location(fileIndex, lineNumber)) {
+                            side.write(line);
+                            side.newLine();
+                            cursor++;
+                            continue;
+                        }
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+                // 스캔 이후 파일이 바뀌어 찾지 못한 위치는 건너뜁니다.
+                while (cursor < sortedLosers.length && (int) (sortedLosers[cursor] >>> 32) == fileIndex) cursor++;
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                rewritten++;
+            }
+        }
+        return rewritten;
+    }
+
+    private long scan(List<Path> files, Charset charset, VersionConsumer consumer) throws IOException {
+        long rows = 0;
+        for (int fileIndex = 0; fileIndex < files.size(); fileIndex++) {
+            try (BufferedReader reader = Files.newBufferedReader(files.get(fileIndex), charset)) {
+                reader.readLine(); // 헤더
+                String line;
+                int lineNumber = 1;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.trim().isEmpty()) continue;
+                    rows++;
+
+                    String managementNumber = field(line, MANAGEMENT_NUMBER);
+                    if (managementNumber == null || managementNumber.isBlank()) continue;
+
+                    consumer.accept(key(managementNumber.trim()), modified(field(line, LAST_MODIFIED)),
+                            location(fileIndex, lineNumber));
+                }
+            }
+        }
+        return rows;
+    }
+
+    static long location(int fileIndex, int lineNumber) {
+        return ((long) fileIndex << 32) | lineNumber;
+    }
+
+    /**
+     * 큰따옴표로 감싼 CSV 라인에서 index번째 필드만 꺼냅니다. 전체 토큰화보다 가볍게 두 컬럼만 읽기 위해 사용합니다.
+     *
+     * @return 필드 값 (필드 수가 부족하면 null)
+     */
+    static String field(String line, int index) {
+        int n = line.length();
+        int i = 0;
+        for (int current = 0; i <= n; current++) {
+            boolean target = current == index;
+            if (i < n && line.charAt(i) == '"') {
+                StringBuilder value = target ? new StringBuilder() : null;
+                i++;
+                while (i < n) {
+                    char c = line.charAt(i);
+                    if (c == '"') {
+                        if (i + 1 < n && line.charAt(i + 1) == '"') {
+                            if (target) value.append('"');
+                            i += 2;
+                            continue;
+                        }
+                        i++;
+                        break;
+                    }
+                    if (target) value.append(c);
+                    i++;
+                }
+                while (i < n && line.charAt(i) != ',') i++;
+                if (target) return value.toString();
+            } else {
+                int start = i;
+                while (i < n && line.charAt(i) != ',') i++;
+                if (target) return line.substring(start, i);
+            }
+            i++; // 구분자
+        }
+        return null;
+    }
+
+    private static long modified(String value) {
+        try {
+            LocalDateTime time = ParseUtil.toLocalDateTime(value);
+            return time == null ? UNKNOWN_MODIFIED : time.toEpochSecond(ZoneOffset.UTC);
+        } catch (RuntimeException e) {
+            return UNKNOWN_MODIFIED;
+        }
+    }
+
+    /**
+     * 관리번호의 64비트 해시 (FNV-1a + splitmix64 마무리). 0은 빈 슬롯 표시이므로 1로 바꿉니다.
+     */
+    static long key(String managementNumber) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < managementNumber.length(); i++) {
+            h = (h ^ managementNumber.charAt(i)) * 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        h = h ^ (h >>> 31);
+        return h == 0 ? 1 : h;
+    }
+
+    @FunctionalInterface
+    private interface VersionConsumer {
+        void accept(long key, long modified, long location) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface VersionSource {
+        long forEach(VersionConsumer consumer) throws IOException;
+    }
+
+    /**
+     * 밀려난 행 위치를 박싱 없이 모으는 가변 long 배열입니다.
+     */
+    private static final class LocationList {
+        private long[] values = new long[64];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(LocationList other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.values[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -1,15 +1,25 @@
 package com.assignment.restaurantbatch.dto;
 
+import com.assignment.restaurantbatch.listener.FailureRecord;
+import com.assignment.restaurantbatch.util.CsvSplitter;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.batch.item.ResourceAware;
+import org.springframework.core.io.Resource;
 
 /**
  * CSV 파일로부터 읽어들인 음식점 정보를 담는 DTO 클래스입니다.
  * 각 필드는 전국일반음식점표준데이터의 컬럼과 1:1로 매핑됩니다.
+ * <p>
+ * 여러 파일 적재에서는 {@code MultiResourceItemReader}가 {@link ResourceAware}로 읽은 분할 파일을 알려주며,
+ * 그 이름에서 입력 파일 구분자를 꺼내 둡니다. (컬럼이 아니므로 transient)
  */
 @Getter
 @Setter
-public class RestaurantCsvDto {
+public class RestaurantCsvDto implements FailureRecord, ResourceAware {
+
+    /** 입력 파일 구분자 (여러 파일 적재 시, 그 외 null) */
+    private transient String sourceFile;
 
     /** 레코드 번호 */
     private Integer recordNumber;
@@ -151,4 +161,9 @@ public class RestaurantCsvDto {
 
     /** 홈페이지 URL */
     private String homepage;
+
+    @Override
+    public void setResource(Resource resource) {
+        this.sourceFile = resource.getFilename() == null ? null : CsvSplitter.sourceOf(resource.getFilename());
+    }
 }
@@ -0,0 +1,125 @@
+package com.assignment.restaurantbatch.inbox;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+
+/**
+ * 수신 폴더에 새 CSV 파일이 생기면 적재를 시작하는 감시기입니다.
+ * <p>
+ * - {@link WatchService}로 파일 생성 이벤트를 받으며, 이벤트 내용 대신 폴더를 다시 훑어 미처리 파일을 찾습니다.
+ *   (이벤트 유실(OVERFLOW), 감시 시작 전에 도착한 파일도 같은 경로로 처리)<br>
+ * - 파일 기록 완료 여부는 {@code <파일명><마커 접미사>}(기본 {@code .done}) 마커 파일로 판단하며,
+ *   마커를 기다리지 않고 바로 핸들러를 호출합니다. 기록 중인 파일은 리더가 마커가 생길 때까지 따라 읽습니다.<br>
+ * - 파일은 한 번에 하나씩 이름순으로 처리하고, 처리 후 마커와 함께 {@code processed/} 또는 {@code failed/}로 옮깁니다.
+ */
+@Slf4j
+public class InboxWatcher {
+
+    /** 처리 완료 파일 보관 디렉토리명 */
+    static final String PROCESSED_DIR = "processed";
+
+    /** 처리 실패 파일 보관 디렉토리명 */
+    static final String FAILED_DIR = "failed";
+
+    private static final String CSV_SUFFIX = ".csv";
+
+    /**
+     * 수신 파일 하나를 처리하는 핸들러. 예외를 던지면 실패로 간주합니다.
+     */
+    @FunctionalInterface
+    public interface FileHandler {
+        void handle(Path file, Path marker) throws Exception;
+    }
+
+    private final Path inbox;
+    private final String markerSuffix;
+    private final FileHandler handler;
+
+    public InboxWatcher(Path inbox, String markerSuffix, FileHandler handler) {
+        this.inbox = inbox;
+        this.markerSuffix = markerSuffix;
+        this.handler = handler;
+    }
+
+    /**
+     * 스레드가 인터럽트될 때까지 수신 폴더를 감시합니다.
+     */
+    public void run() throws IOException, InterruptedException {
+        Files.createDirectories(inbox);
+        try (WatchService watchService = inbox.getFileSystem().newWatchService()) {
+            inbox.register(watchService, ENTRY_CREATE);
+            log.info("수신 폴더 감시 시작: {} (완료 마커 *{})", inbox.toAbsolutePath(), markerSuffix);
+
+            processPending();
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                key.pollEvents();
+                processPending();
+                if (!key.reset()) {
+                    throw new IllegalStateException("수신 폴더를 더 이상 감시할 수 없습니다: " + inbox);
+                }
+            }
+        }
+    }
+
+    /**
+     * 수신 폴더에 남아 있는 CSV 파일을 이름순으로 모두 처리합니다.
+     *
+     * @return 처리한 파일 수
+     */
+    int processPending() throws IOException {
+        List<Path> files;
+        try (Stream<Path> list = Files.list(inbox)) {
+            files = list.filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().endsWith(CSV_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            process(file);
+        }
+        return files.size();
+    }
+
+    private void process(Path file) throws IOException {
+        Path marker = markerOf(file);
+        log.info("수신 파일 적재 시작: {}", file);
+
+        String target;
+        try {
+            handler.handle(file, marker);
+            target = PROCESSED_DIR;
+        } catch (Exception e) {
+            log.error("수신 파일 적재 실패: {}", file, e);
+            target = FAILED_DIR;
+        }
+
+        Path targetDir = Files.createDirectories(inbox.resolve(target));
+        moveIfExists(file, targetDir);
+        moveIfExists(marker, targetDir);
+        log.info("수신 파일 이동: {} -> {}", file.getFileName(), targetDir);
+    }
+
+    /**
+     * 수신 파일의 완료 마커 경로 반환
+     */
+    Path markerOf(Path file) {
+        return file.resolveSibling(file.getFileName() + markerSuffix);
+    }
+
+    private void moveIfExists(Path source, Path targetDir) throws IOException {
+        if (Files.exists(source)) {
+            Files.move(source, targetDir.resolve(source.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
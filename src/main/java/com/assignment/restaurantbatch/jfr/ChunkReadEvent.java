@@ -0,0 +1,27 @@
+package com.assignment.restaurantbatch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Chunk 시작부터 Writer 호출 직전까지(읽기 및 파싱) 구간을 나타내는 JFR 이벤트입니다.
+ */
+@Name(ChunkReadEvent.NAME)
+@Label("Chunk Read")
+@Description("Chunk 단위 CSV 읽기 및 파싱 구간")
+@Category({"Restaurant Batch", "Chunk"})
+@StackTrace(false)
+public class ChunkReadEvent extends Event {
+
+    public static final String NAME = "restaurantbatch.ChunkRead";
+
+    @Label("Partition")
+    public String partition;
+
+    @Label("Items")
+    public int items;
+}
@@ -0,0 +1,27 @@
+package com.assignment.restaurantbatch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Chunk 트랜잭션 롤백 시점을 나타내는 JFR 이벤트입니다.
+ */
+@Name(ChunkRollbackEvent.NAME)
+@Label("Chunk Rollback")
+@Description("Chunk 처리 중 예외로 인한 롤백")
+@Category({"Restaurant Batch", "Fault"})
+@StackTrace(false)
+public class ChunkRollbackEvent extends Event {
+
+    public static final String NAME = "restaurantbatch.ChunkRollback";
+
+    @Label("Partition")
+    public String partition;
+
+    @Label("Exception")
+    public String exception;
+}
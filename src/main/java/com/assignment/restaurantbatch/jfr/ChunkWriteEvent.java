@@ -0,0 +1,35 @@
+package com.assignment.restaurantbatch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 다중 INSERT 한 번(SQL 생성~실행)을 나타내는 JFR 이벤트입니다.
+ * <p>
+ * 기본/그룹 커밋/샤드 적재는 {@code MultiInsertWriter}, columnar 적재는 {@code ColumnarInsertWriter},
+ * 다른 데이터셋 적재는 {@code SchemaInsertWriter}에서 남깁니다. 그룹 커밋은 파티션 대신 커밋 스레드 이름을 씁니다.
+ */
+@Name(ChunkWriteEvent.NAME)
+@Label("Chunk Write")
+@Description("Chunk 단위 다중 INSERT 구간")
+@Category({"Restaurant Batch", "Chunk"})
+@StackTrace(false)
+public class ChunkWriteEvent extends Event {
+
+    public static final String NAME = "restaurantbatch.ChunkWrite";
+
+    @Label("Partition")
+    public String partition;
+
+    @Label("Rows")
+    public int rows;
+
+    @Label("SQL Size")
+    @DataAmount
+    public long sqlBytes;
+}
@@ -0,0 +1,141 @@
+package com.assignment.restaurantbatch.jfr;
+
+import com.assignment.restaurantbatch.listener.FailureRecord;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+
+/**
+ * 슬레이브 스텝의 파티션/Chunk/스킵/재시도/롤백 시점을 JFR 커스텀 이벤트로 기록하는 리스너입니다.
+ * <p>
+ * - 파티션: beforeStep → afterStep ({@link PartitionEvent})<br>
+ * - 읽기: beforeChunk → beforeWrite ({@link ChunkReadEvent})<br>
+ * - 스킵/재시도/롤백: 발생 시점 ({@link SkipEvent}, {@link RetryEvent}, {@link ChunkRollbackEvent})
+ * <p>
+ * 쓰기 구간({@link ChunkWriteEvent})은 SQL 크기를 알 수 있는 각 Writer({@code MultiInsertWriter}, {@code ColumnarInsertWriter},
+ * {@code SchemaInsertWriter})에서 직접 기록합니다.
+ * 기록 중인 JFR 세션이 없으면 {@code shouldCommit()}이 false를 반환하므로 운영 환경에서 상시 등록해도 비용이 거의 없습니다.
+ */
+public class JfrEventListener implements StepExecutionListener, ChunkListener,
+        ItemWriteListener<FailureRecord>, SkipListener<FailureRecord, FailureRecord>, RetryListener {
+
+    private static final int UNKNOWN_RECORD = -1;
+
+    /** 하나의 파티션은 하나의 스레드에서 실행되므로 진행 중인 이벤트는 스레드별로 보관합니다. */
+    private final ThreadLocal<PartitionEvent> partitionEvent = new ThreadLocal<>();
+    private final ThreadLocal<ChunkReadEvent> readEvent = new ThreadLocal<>();
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        PartitionEvent event = new PartitionEvent();
+        event.begin();
+        partitionEvent.set(event);
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        PartitionEvent event = partitionEvent.get();
+        partitionEvent.remove();
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.partition = stepExecution.getStepName();
+                event.file = stepExecution.getExecutionContext().getString("file", null);
+                event.readCount = stepExecution.getReadCount();
+                event.writeCount = stepExecution.getWriteCount();
+                event.skipCount = stepExecution.getSkipCount();
+                event.status = String.valueOf(stepExecution.getStatus());
+                event.commit();
+            }
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        ChunkReadEvent event = new ChunkReadEvent();
+        event.begin();
+        readEvent.set(event);
+    }
+
+    @Override
+    public void beforeWrite(Chunk<? extends FailureRecord> items) {
+        ChunkReadEvent event = readEvent.get();
+        readEvent.remove();
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.partition = BatchMetrics.currentPartition();
+                event.items = items.size();
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        // 아이템이 없어 Writer가 호출되지 않은 마지막 Chunk의 읽기 이벤트는 버립니다.
+        readEvent.remove();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        readEvent.remove();
+        ChunkRollbackEvent event = new ChunkRollbackEvent();
+        if (event.shouldCommit()) {
+            event.partition = context.getStepContext().getStepName();
+            Object error = context.getAttribute(ChunkListener.ROLLBACK_EXCEPTION_KEY);
+            event.exception = error == null ? null : error.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        commitSkip("read", t, null);
+    }
+
+    @Override
+    public void onSkipInProcess(FailureRecord item, Throwable t) {
+        commitSkip("process", t, item);
+    }
+
+    @Override
+    public void onSkipInWrite(FailureRecord item, Throwable t) {
+        commitSkip("write", t, item);
+    }
+
+    /**
+     * 재시도 대상 예외가 발생할 때마다 호출됩니다.
+     */
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        RetryEvent event = new RetryEvent();
+        if (event.shouldCommit()) {
+            event.partition = BatchMetrics.currentPartition();
+            event.exception = throwable.getClass().getSimpleName();
+            event.retryCount = context.getRetryCount();
+            event.commit();
+        }
+    }
+
+    private void commitSkip(String phase, Throwable t, FailureRecord item) {
+        SkipEvent event = new SkipEvent();
+        if (event.shouldCommit()) {
+            event.partition = BatchMetrics.currentPartition();
+            event.phase = phase;
+            event.exception = t.getClass().getSimpleName();
+            event.recordNumber = item == null || item.getRecordNumber() == null ? UNKNOWN_RECORD : item.getRecordNumber();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.assignment.restaurantbatch.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 녹화 파일(.jfr)에서 배치 커스텀 이벤트를 읽어 파티션별 처리량과 지연 시간 분포를 요약하는 도구입니다.
+ * <p>
+ * 사용법: {@code ./gradlew jfrSummary -Pjfr.file=recording.jfr}
+ */
+public class JfrSummary {
+
+    /**
+     * 파티션 하나의 요약 결과입니다.
+     *
+     * @param partition     파티션(슬레이브 스텝) 이름
+     * @param file          파티션 입력 파일
+     * @param durationMillis 파티션 실행 시간
+     * @param rowsWritten   저장된 행 수
+     * @param rowsPerSecond 초당 저장 행 수
+     * @param writeP50Millis Chunk 쓰기 p50
+     * @param writeP99Millis Chunk 쓰기 p99
+     * @param writeMaxMillis Chunk 쓰기 최대
+     * @param readP99Millis Chunk 읽기 p99
+     * @param retries       재시도 횟수
+     * @param skips         스킵 건수
+     * @param rollbacks     롤백 횟수
+     */
+    public record PartitionSummary(
+            String partition,
+            String file,
+            long durationMillis,
+            long rowsWritten,
+            long rowsPerSecond,
+            double writeP50Millis,
+            double writeP99Millis,
+            double writeMaxMillis,
+            double readP99Millis,
+            int retries,
+            int skips,
+            int rollbacks
+    ) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("사용법: JfrSummary <recording.jfr>");
+            System.exit(1);
+        }
+        System.out.print(format(summarize(Paths.get(args[0]))));
+    }
+
+    /**
+     * JFR 파일을 읽어 파티션 이름 순으로 요약합니다.
+     */
+    public static List<PartitionSummary> summarize(Path recording) throws IOException {
+        Map<String, Accumulator> partitions = new TreeMap<>();
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String name = event.getEventType().getName();
+            if (!name.startsWith("restaurantbatch.")) continue;
+
+            Accumulator acc = partitions.computeIfAbsent(partitionOf(event), key -> new Accumulator());
+            switch (name) {
+                case PartitionEvent.NAME -> {
+                    acc.file = event.getString("file");
+                    acc.partitionNanos = event.getDuration().toNanos();
+                    acc.partitionWriteCount = event.getLong("writeCount");
+                }
+                case ChunkWriteEvent.NAME -> {
+                    acc.writeNanos.add(event.getDuration().toNanos());
+                    acc.rowsWritten += event.getInt("rows");
+                    acc.firstStart = Math.min(acc.firstStart, event.getStartTime().toEpochMilli());
+                    acc.lastEnd = Math.max(acc.lastEnd, event.getEndTime().toEpochMilli());
+                }
+                case ChunkReadEvent.NAME -> {
+                    acc.readNanos.add(event.getDuration().toNanos());
+                    acc.firstStart = Math.min(acc.firstStart, event.getStartTime().toEpochMilli());
+                }
+                case RetryEvent.NAME -> acc.retries++;
+                case SkipEvent.NAME -> acc.skips++;
+                case ChunkRollbackEvent.NAME -> acc.rollbacks++;
+                default -> {
+                }
+            }
+        }
+
+        List<PartitionSummary> result = new ArrayList<>();
+        partitions.forEach((partition, acc) -> result.add(acc.toSummary(partition)));
+        return result;
+    }
+
+    /**
+     * 요약 결과를 표 형태의 문자열로 변환합니다.
+     */
+    public static String format(List<PartitionSummary> summaries) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-28s %10s %10s %10s %9s %9s %9s %9s %6s %6s %6s%n",
+                "partition", "millis", "rows", "rows/s", "w.p50ms", "w.p99ms", "w.maxms", "r.p99ms",
+                "retry", "skip", "rollbk"));
+        for (PartitionSummary s : summaries) {
+            sb.append(String.format("%-28s %10d %10d %10d %9.2f %9.2f %9.2f %9.2f %6d %6d %6d%n",
+                    s.partition(), s.durationMillis(), s.rowsWritten(), s.rowsPerSecond(),
+                    s.writeP50Millis(), s.writeP99Millis(), s.writeMaxMillis(), s.readP99Millis(),
+                    s.retries(), s.skips(), s.rollbacks()));
+        }
+        return sb.toString();
+    }
+
+    private static String partitionOf(RecordedEvent event) {
+        String partition = event.hasField("partition") ? event.getString("partition") : null;
+        return partition == null ? "none" : partition;
+    }
+
+    /**
+     * nearest-rank 방식의 백분위 값을 밀리초로 반환합니다.
+     */
+    static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        int index = Math.min(Math.max(rank, 1), sortedNanos.length) - 1;
+        return sortedNanos[index] / 1_000_000.0;
+    }
+
+    private static class Accumulator {
+        private String file;
+        private long partitionNanos = -1;
+        private long partitionWriteCount = -1;
+        private long rowsWritten;
+        private long firstStart = Long.MAX_VALUE;
+        private long lastEnd = Long.MIN_VALUE;
+        private final LongList writeNanos = new LongList();
+        private final LongList readNanos = new LongList();
+        private int retries;
+        private int skips;
+        private int rollbacks;
+
+        private PartitionSummary toSummary(String partition) {
+            // 파티션 이벤트가 없으면(녹화 도중 시작/종료) Chunk 이벤트 구간으로 대체합니다.
+            long durationMillis = partitionNanos >= 0
+                    ? Duration.ofNanos(partitionNanos).toMillis()
+                    : (lastEnd > firstStart ? lastEnd - firstStart : 0);
+            long rows = partitionWriteCount >= 0 ? partitionWriteCount : rowsWritten;
+
+            long[] writes = writeNanos.sorted();
+            long[] reads = readNanos.sorted();
+            return new PartitionSummary(
+                    partition,
+                    file,
+                    durationMillis,
+                    rows,
+                    durationMillis == 0 ? 0 : rows * 1000 / durationMillis,
+                    percentileMillis(writes, 50),
+                    percentileMillis(writes, 99),
+                    percentileMillis(writes, 100),
+                    percentileMillis(reads, 99),
+                    retries,
+                    skips,
+                    rollbacks
+            );
+        }
+    }
+
+    private static class LongList {
+        private long[] values = new long[64];
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.assignment.restaurantbatch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 슬레이브 스텝(파티션) 한 개의 시작~종료 구간을 나타내는 JFR 이벤트입니다.
+ */
+@Name(PartitionEvent.NAME)
+@Label("Partition")
+@Description("슬레이브 스텝 한 파티션의 실행 구간")
+@Category({"Restaurant Batch", "Partition"})
+@StackTrace(false)
+public class PartitionEvent extends Event {
+
+    public static final String NAME = "restaurantbatch.Partition";
+
+    @Label("Partition")
+    public String partition;
+
+    @Label("File")
+    public String file;
+
+    @Label("Read Count")
+    public long readCount;
+
+    @Label("Write Count")
+    public long writeCount;
+
+    @Label("Skip Count")
+    public long skipCount;
+
+    @Label("Status")
+    public String status;
+}
@@ -0,0 +1,30 @@
+package com.assignment.restaurantbatch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 재시도 대상 예외 발생 시점을 나타내는 JFR 이벤트입니다.
+ */
+@Name(RetryEvent.NAME)
+@Label("Retry")
+@Description("재시도 대상 예외 발생")
+@Category({"Restaurant Batch", "Fault"})
+@StackTrace(false)
+public class RetryEvent extends Event {
+
+    public static final String NAME = "restaurantbatch.Retry";
+
+    @Label("Partition")
+    public String partition;
+
+    @Label("Exception")
+    public String exception;
+
+    @Label("Retry Count")
+    public int retryCount;
+}
@@ -0,0 +1,34 @@
+package com.assignment.restaurantbatch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 레코드 스킵 발생 시점을 나타내는 JFR 이벤트입니다.
+ */
+@Name(SkipEvent.NAME)
+@Label("Skip")
+@Description("레코드 스킵 발생")
+@Category({"Restaurant Batch", "Fault"})
+@StackTrace(false)
+public class SkipEvent extends Event {
+
+    public static final String NAME = "restaurantbatch.Skip";
+
+    @Label("Partition")
+    public String partition;
+
+    /** read / process / write */
+    @Label("Phase")
+    public String phase;
+
+    @Label("Exception")
+    public String exception;
+
+    @Label("Record Number")
+    public int recordNumber;
+}
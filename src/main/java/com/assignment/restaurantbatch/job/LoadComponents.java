@@ -0,0 +1,109 @@
+package com.assignment.restaurantbatch.job;
+
+import com.assignment.restaurantbatch.address.AddressDecomposer;
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.reader.ColumnarChunkReader;
+import com.assignment.restaurantbatch.schema.SchemaRecord;
+import com.assignment.restaurantbatch.search.BigramIndexBuilder;
+import com.assignment.restaurantbatch.shard.ShardedInsertWriter;
+import com.assignment.restaurantbatch.snapshot.SnapshotItemReader;
+import com.assignment.restaurantbatch.writer.ColumnarInsertWriter;
+import com.assignment.restaurantbatch.writer.GroupCommitWriter;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import com.assignment.restaurantbatch.writer.SchemaInsertWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.MultiResourcePartitioner;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.MultiResourceItemReader;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마스터 스텝이 실행 조건(JobParameter, 설정)에 따라 골라 쓰는 파티셔너, 리더, Writer 묶음입니다.
+ * <p>
+ * - Step/Job 범위이거나 설정에 따라 없는 Bean이므로 {@link ObjectProvider}로 보관하고, 쓰는 경우에만 꺼냅니다.<br>
+ * - 새 적재 방식을 추가할 때 마스터 스텝 파라미터 대신 이 클래스에 추가합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoadComponents {
+
+    private final ObjectProvider<MultiResourcePartitioner> partitionerProvider;
+    private final ObjectProvider<SnapshotItemReader> snapshotReaderProvider;
+    private final ObjectProvider<MultiResourceItemReader<RestaurantCsvDto>> multiFileReaderProvider;
+    private final ObjectProvider<ColumnarChunkReader> columnarReaderProvider;
+    private final ObjectProvider<FlatFileItemReader<SchemaRecord>> schemaReaderProvider;
+    private final ObjectProvider<MultiInsertWriter> writerProvider;
+    private final ObjectProvider<ColumnarInsertWriter> columnarWriterProvider;
+    private final ObjectProvider<SchemaInsertWriter> schemaWriterProvider;
+    private final ObjectProvider<ShardedInsertWriter> shardedWriterProvider;
+    private final ObjectProvider<GroupCommitWriter> groupCommitWriterProvider;
+    private final ObjectProvider<BigramIndexBuilder> searchIndexProvider;
+    private final ObjectProvider<AddressDecomposer> addressDecomposerProvider;
+
+    /**
+     * 파티션 디렉토리의 파일마다 파티션을 만드는 기본 파티셔너
+     */
+    public MultiResourcePartitioner partitioner() {
+        return partitionerProvider.getObject();
+    }
+
+    public SnapshotItemReader snapshotReader() {
+        return snapshotReaderProvider.getObject();
+    }
+
+    public MultiResourceItemReader<RestaurantCsvDto> multiFileReader() {
+        return multiFileReaderProvider.getObject();
+    }
+
+    public ColumnarChunkReader columnarReader() {
+        return columnarReaderProvider.getObject();
+    }
+
+    public FlatFileItemReader<SchemaRecord> schemaReader() {
+        return schemaReaderProvider.getObject();
+    }
+
+    /**
+     * restaurant 행을 다중 INSERT로 저장하는 기본 Writer
+     */
+    public MultiInsertWriter writer() {
+        return writerProvider.getObject();
+    }
+
+    public ColumnarInsertWriter columnarWriter() {
+        return columnarWriterProvider.getObject();
+    }
+
+    public SchemaInsertWriter schemaWriter() {
+        return schemaWriterProvider.getObject();
+    }
+
+    /**
+     * batch.shard.urls 지정 시 restaurant 행을 여러 DB에 나누어 쓰는 Writer (미지정 시 null)
+     */
+    public ShardedInsertWriter shardedWriter() {
+        return shardedWriterProvider.getIfAvailable();
+    }
+
+    /**
+     * batch.group-commit.enabled=true면 여러 파티션의 Chunk를 모아 커밋하는 Writer (아니면 null)
+     */
+    public GroupCommitWriter groupCommitWriter() {
+        return groupCommitWriterProvider.getIfAvailable();
+    }
+
+    /**
+     * 검색 색인 사용 시 파티션별 포스팅을 모아 색인 파일을 만드는 빌더 (사용하지 않으면 null)
+     */
+    public BigramIndexBuilder searchIndex() {
+        return searchIndexProvider.getIfAvailable();
+    }
+
+    /**
+     * batch.address.enabled=true면 도로명주소를 시도/시군구/도로명으로 분해하는 분해기 (아니면 null)
+     */
+    public AddressDecomposer addressDecomposer() {
+        return addressDecomposerProvider.getIfAvailable();
+    }
+}
@@ -0,0 +1,105 @@
+package com.assignment.restaurantbatch.job;
+
+import com.assignment.restaurantbatch.multifile.FileGroupPartitioner;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import com.assignment.restaurantbatch.snapshot.SnapshotPartitioner;
+import com.assignment.restaurantbatch.validate.DryRunItemWriter;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+
+import java.util.Map;
+
+/**
+ * 마스터 스텝이 적재 방식을 고르는 데 쓰는 JobParameter 묶음입니다.
+ * <p>
+ * - 값이 없는 JobParameter의 기본값을 한곳에서 채웁니다.<br>
+ * - restaurant 데이터셋의 dto Chunk 형식에서만 지원하는 기능이 다른 형식과 함께 요청되었는지 검사합니다.
+ *
+ * @param gridSize     동시에 실행할 슬레이브 스텝 수
+ * @param chunkSize    Chunk 크기
+ * @param chunkFormat  dto(기본): 행마다 DTO 생성 / columnar: 재사용 버퍼에 컬럼 단위로 적재
+ * @param dataset      restaurant(기본)가 아니면 스키마 디스크립터 기반 슬레이브 스텝으로 적재 (chunkFormat 무시)
+ * @param snapshotFile 지정 시 파티션 파일 대신 바이너리 스냅샷의 행 그룹을 나누어 읽음
+ * @param dryRun       true면 DB에 쓰지 않고 형식·길이만 검증하며, 요약 테이블 반영 대신 컬럼별 오류 집계를 남김
+ * @param failureLog   실패 로그 파일 경로 (검증 전용·여러 파일 보고서도 같은 디렉토리에 저장)
+ * @param partitionDir 파티션 파일 디렉토리
+ * @param inputFiles   입력 파일 수. 2 이상이면 작은 분할 파일을 묶어 파티션을 만들고 입력 파일별 건수를 집계
+ * @param targetTable  지역 재적재 시 스테이징 테이블 (미지정 시 null, restaurant에 적재)
+ */
+public record LoadOptions(
+        int gridSize,
+        int chunkSize,
+        String chunkFormat,
+        String dataset,
+        String snapshotFile,
+        boolean dryRun,
+        String failureLog,
+        String partitionDir,
+        long inputFiles,
+        String targetTable
+) {
+
+    /**
+     * Job 범위의 JobParameter 맵({@code #{jobParameters}})에서 적재 옵션을 읽습니다.
+     *
+     * @throws IllegalStateException gridSize 또는 chunkSize가 없는 경우
+     */
+    public static LoadOptions from(Map<String, Object> jobParameters) {
+        return new LoadOptions(
+                (int) requiredLong(jobParameters, "gridSize"),
+                (int) requiredLong(jobParameters, "chunkSize"),
+                string(jobParameters, "chunkFormat", RestaurantJobConfig.CHUNK_FORMAT_DTO),
+                string(jobParameters, DatasetSchemaRegistry.DATASET_PARAM, DatasetSchema.RESTAURANT),
+                string(jobParameters, SnapshotPartitioner.SNAPSHOT_FILE_PARAM, null),
+                Boolean.parseBoolean(string(jobParameters, DryRunItemWriter.DRY_RUN_PARAM, "false")),
+                string(jobParameters, "failureLog", null),
+                string(jobParameters, "partitionDir", null),
+                Long.parseLong(string(jobParameters, FileGroupPartitioner.INPUT_FILES_PARAM, "1")),
+                string(jobParameters, MultiInsertWriter.TARGET_TABLE_PARAM, null));
+    }
+
+    private static String string(Map<String, Object> jobParameters, String key, String defaultValue) {
+        Object value = jobParameters.get(key);
+        return value == null ? defaultValue : value.toString();
+    }
+
+    private static long requiredLong(Map<String, Object> jobParameters, String key) {
+        String value = string(jobParameters, key, null);
+        if (value == null) {
+            throw new IllegalStateException("JobParameter " + key + "가 없습니다.");
+        }
+        return Long.parseLong(value);
+    }
+
+    /** restaurant 데이터셋 적재 여부 (아니면 스키마 기반 슬레이브 스텝) */
+    public boolean restaurant() {
+        return DatasetSchema.RESTAURANT.equals(dataset);
+    }
+
+    /** restaurant 데이터셋을 columnar Chunk 형식으로 적재하는지 여부 */
+    public boolean columnar() {
+        return restaurant() && RestaurantJobConfig.CHUNK_FORMAT_COLUMNAR.equals(chunkFormat);
+    }
+
+    /** restaurant 데이터셋을 dto Chunk 형식으로 적재하는지 여부 */
+    public boolean restaurantDto() {
+        return restaurant() && !columnar();
+    }
+
+    public boolean multiFile() {
+        return inputFiles > 1;
+    }
+
+    /**
+     * restaurant 데이터셋의 dto Chunk 형식에서만 지원하는 기능이 다른 형식에서 요청되면 예외를 던집니다.
+     *
+     * @param feature   예외 메시지의 주어 (예: "샤드 적재는")
+     * @param requested 이번 실행에서 기능을 사용하는지 여부
+     */
+    public void requireRestaurantDto(String feature, boolean requested) {
+        if (requested && !restaurantDto()) {
+            throw new IllegalStateException(feature + " restaurant 데이터셋의 " + RestaurantJobConfig.CHUNK_FORMAT_DTO
+                    + " Chunk 형식만 지원합니다.");
+        }
+    }
+}
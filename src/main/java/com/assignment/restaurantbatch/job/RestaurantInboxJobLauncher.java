@@ -0,0 +1,106 @@
+package com.assignment.restaurantbatch.job;
+
+import com.assignment.restaurantbatch.dedup.DedupTasklet;
+import com.assignment.restaurantbatch.inbox.InboxWatcher;
+import com.assignment.restaurantbatch.reader.TailFollowingInputStream;
+import com.assignment.restaurantbatch.reconcile.ReconciliationTasklet;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import com.assignment.restaurantbatch.util.BatchTuner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 수신 폴더를 감시하다가 새 CSV 파일이 생기면 적재를 시작하는 상주형 런처 설정입니다.
+ * <p>
+ * - {@code watch} 프로필에서만 활성화되며, 수신 폴더는 {@code batch.inbox.dir}(기본 data/inbox)입니다.<br>
+ * - 다운로드 완료를 기다리지 않고 파일이 생기는 즉시 Job을 실행하며, 리더는 완료 마커
+ *   ({@code <파일명>.done})가 생길 때까지 기록 중인 파일을 따라 읽습니다.<br>
+ * - 기록 중인 파일은 분할할 수 없으므로 파일 하나를 하나의 파티션으로 처리합니다.
+ *   전체 파일이 있어야 하는 중복 제거, 정합성 검증은 생략합니다.<br>
+ * - restaurant 외 데이터셋은 {@code --dataset=bakery}처럼 지정합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RestaurantInboxJobLauncher {
+
+    private final JobLauncher jobLauncher;
+    private final Job restaurantPartitionedJob;
+    private final BatchTuner batchTuner;
+
+    /**
+     * watch 프로필 실행 시 수신 폴더를 감시하는 Job Runner입니다. 애플리케이션이 종료될 때까지 반환하지 않습니다.
+     *
+     * @param inboxDir 수신 폴더 (batch.inbox.dir)
+     * @param markerSuffix 기록 완료 마커 접미사 (batch.inbox.marker-suffix)
+     * @return ApplicationRunner 인스턴스
+     */
+    @Bean
+    @Profile("watch & !test")
+    public ApplicationRunner inboxJobRunner(
+            @Value("${batch.inbox.dir:data/inbox}") String inboxDir,
+            @Value("${batch.inbox.marker-suffix:.done}") String markerSuffix
+    ) {
+        return args -> {
+            String dataset = RestaurantJobLauncher.getDataset(args);
+            new InboxWatcher(Paths.get(inboxDir), markerSuffix, (file, marker) -> launch(file, marker, dataset)).run();
+        };
+    }
+
+    /**
+     * 수신 파일 하나를 따라 읽는 Job을 실행합니다. Job이 COMPLETED가 아니면 예외를 던져 실패 폴더로 옮기게 합니다.
+     */
+    JobExecution launch(Path file, Path marker, String dataset) throws Exception {
+        // 전체 크기를 알 수 없으므로 최소 규모 기준 Chunk 크기 사용
+        var config = batchTuner.tune(0);
+        Path partitionPath = getPartitionDirPath();
+        Files.createDirectories(partitionPath);
+
+        String formattedTime = LocalDateTime.now()
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis())
+                .addLong("gridSize", 1L)
+                .addLong("chunkSize", (long) config.chunkSize())
+                // 따라 읽기 모드에서는 파티션 파일을 만들지 않지만, 중복 제거/정합성 검증 스텝 생성에 필요
+                .addString("partitionDir", partitionPath.toString())
+                .addString(TailFollowingInputStream.FOLLOW_FILE_PARAM, file.toAbsolutePath().toString())
+                .addString(TailFollowingInputStream.FOLLOW_MARKER_PARAM, marker.toAbsolutePath().toString())
+                .addString("failureLog", "data/failure/inbox-failed-" + formattedTime + ".csv")
+                .addString(DedupTasklet.DEDUP_PARAM, "false")
+                .addString(ReconciliationTasklet.RECONCILE_PARAM, "false")
+                .addString(DatasetSchemaRegistry.DATASET_PARAM, dataset)
+                .toJobParameters();
+
+        JobExecution execution = jobLauncher.run(restaurantPartitionedJob, jobParameters);
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("수신 파일 적재 Job이 완료되지 않았습니다: " + file + " (" + execution.getStatus() + ")");
+        }
+        return execution;
+    }
+
+    /**
+     * 감시 모드용 파티션 디렉토리 경로 반환 (테스트 오버라이드 가능)
+     */
+    protected Path getPartitionDirPath() {
+        return Paths.get("data/inbox-partitioned");
+    }
+}
@@ -1,113 +1,508 @@
 package com.assignment.restaurantbatch.job;
 
+import com.assignment.restaurantbatch.aggregate.AggregateSummaryWriter;
+import com.assignment.restaurantbatch.aggregate.AggregatingStepListener;
+import com.assignment.restaurantbatch.aggregate.RestaurantAggregator;
+import com.assignment.restaurantbatch.aggregate.SummaryWriteTasklet;
+import com.assignment.restaurantbatch.dedup.DedupTasklet;
+import com.assignment.restaurantbatch.dedup.ManagementNumberDeduplicator;
 import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.jfr.JfrEventListener;
+import com.assignment.restaurantbatch.listener.FailureRecord;
 import com.assignment.restaurantbatch.listener.RestaurantJobExecutionListener;
 import com.assignment.restaurantbatch.listener.RestaurantSkipListener;
+import com.assignment.restaurantbatch.listener.SchemaSkipListener;
 import com.assignment.restaurantbatch.listener.StepExecutionLogger;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.metrics.ChunkMetricsListener;
+import com.assignment.restaurantbatch.metrics.MetricsJsonReporter;
+import com.assignment.restaurantbatch.metrics.SkipRetryMetricsListener;
+import com.assignment.restaurantbatch.multifile.FileGroupPartitioner;
+import com.assignment.restaurantbatch.multifile.SourceFileListener;
+import com.assignment.restaurantbatch.multifile.SourceFileReport;
+import com.assignment.restaurantbatch.multifile.SourceFileStats;
 import com.assignment.restaurantbatch.policy.CustomSkipPolicy;
+import com.assignment.restaurantbatch.policy.DbRetrySettings;
+import com.assignment.restaurantbatch.progress.BatchProgress;
+import com.assignment.restaurantbatch.progress.ProgressJobListener;
+import com.assignment.restaurantbatch.progress.ProgressStepListener;
+import com.assignment.restaurantbatch.reader.ColumnarChunk;
+import com.assignment.restaurantbatch.reader.ColumnarChunkReader;
+import com.assignment.restaurantbatch.reader.RestaurantItemReaderConfig;
+import com.assignment.restaurantbatch.reconcile.LoadBoundaryListener;
+import com.assignment.restaurantbatch.reconcile.Reconciler;
+import com.assignment.restaurantbatch.reconcile.ReconciliationTasklet;
+import com.assignment.restaurantbatch.region.RegionPartitionListener;
+import com.assignment.restaurantbatch.region.RegionPartitionManager;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import com.assignment.restaurantbatch.schema.SchemaRecord;
+import com.assignment.restaurantbatch.search.BigramIndexBuilder;
+import com.assignment.restaurantbatch.search.IndexingStepListener;
+import com.assignment.restaurantbatch.search.ShardIndexListener;
+import com.assignment.restaurantbatch.shard.ShardedInsertWriter;
+import com.assignment.restaurantbatch.snapshot.SnapshotPartitioner;
+import com.assignment.restaurantbatch.validate.ColumnErrorStats;
+import com.assignment.restaurantbatch.validate.DryRunItemWriter;
+import com.assignment.restaurantbatch.validate.DryRunReport;
+import com.assignment.restaurantbatch.validate.RowValidator;
+import com.assignment.restaurantbatch.writer.ColumnarInsertWriter;
+import com.assignment.restaurantbatch.writer.GroupCommitWriter;
 import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import com.assignment.restaurantbatch.writer.SchemaInsertWriter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.JobScope;
-import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.job.builder.JobBuilder;
-import org.springframework.batch.core.partition.support.MultiResourcePartitioner;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
+import org.springframework.batch.core.step.builder.PartitionStepBuilder;
+import org.springframework.batch.core.step.builder.SimpleStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.MultiResourceItemReader;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.retry.RetryListener;
 import org.springframework.transaction.PlatformTransactionManager;
-import org.springframework.dao.TransientDataAccessException;
-import org.springframework.jdbc.CannotGetJdbcConnectionException;
 
+import javax.sql.DataSource;
+import java.io.File;
+import java.nio.charset.Charset;
 import java.nio.file.Paths;
-import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Spring Batch의 Job 및 Step 설정 클래스입니다.
  * CSV 파일을 파티셔닝하여 병렬로 처리하는 마스터-슬레이브 구조를 구성합니다.
  */
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class RestaurantJobConfig {
 
+    /** 슬레이브 스텝의 Chunk 표현 방식 (JobParameter chunkFormat) */
+    public static final String CHUNK_FORMAT_DTO = "dto";
+    public static final String CHUNK_FORMAT_COLUMNAR = "columnar";
+
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final ObjectProvider<FlatFileItemReader<RestaurantCsvDto>> readerProvider;
 
     /**
      * 전체 Batch Job 설정.
+     * @param dedupStep 적재 전 관리번호 중복 행을 제거하는 스텝
      * @param masterStep 병렬 처리용 마스터 스텝
+     * @param summaryStep 마스터 스텝이 모은 집계를 요약 테이블에 반영하는 스텝
+     * @param reconcileStep 적재 후 원본과 DB를 비교하는 정합성 검증 스텝
+     * @param restaurantSkipListener 실패 로그 파일을 Job 단위로 열고 닫는 스킵 리스너
+     * @param metricsJsonReporter Job 종료 시 지표를 JSON으로 저장하는 리스너
+     * @param progressJobListener 진행률 집계를 초기화하고 주기 로그를 출력하는 리스너
+     * @param dataSource 정합성 검증 범위(적재 시작 전 최대 id)를 조회할 DataSource
+     * @param regionPartitionManager 적재 전에 입력 지역의 LIST 파티션을 추가하는 관리자
      * @return Job 인스턴스
      */
     @Bean
-    public Job restaurantPartitionedJob(Step masterStep) {
+    public Job restaurantPartitionedJob(
+            Step dedupStep,
+            Step masterStep,
+            Step summaryStep,
+            Step reconcileStep,
+            RestaurantSkipListener restaurantSkipListener,
+            MetricsJsonReporter metricsJsonReporter,
+            ProgressJobListener progressJobListener,
+            DataSource dataSource,
+            RegionPartitionManager regionPartitionManager
+    ) {
         return new JobBuilder("restaurantPartitionedJob", jobRepository)
                 .listener(new RestaurantJobExecutionListener())
-                .start(masterStep)
+                .listener(new LoadBoundaryListener(dataSource))
+                .listener(new RegionPartitionListener(regionPartitionManager))
+                .listener(restaurantSkipListener)
+                .listener(metricsJsonReporter)
+                .listener(progressJobListener)
+                .start(dedupStep)
+                .next(masterStep)
+                .next(summaryStep)
+                .next(reconcileStep)
                 .build();
     }
 
     /**
      * 마스터 스텝 설정. Partition을 수행하며 슬레이브 스텝을 병렬 실행합니다.
+     * 슬레이브 스텝이 누적한 파티션별 집계는 모든 파티션 종료 후 Job ExecutionContext에 보관되고, 다음 스텝(summaryStep)이 요약 테이블에 반영합니다.
+     * 적재 방식(데이터셋, Chunk 형식, 스냅샷, 검증 전용, 여러 파일 등)은 {@link LoadOptions}로 읽고, 방식별 슬레이브 스텝은 create*SlaveStep이 만듭니다.
+     * @param jobParameters 적재 옵션 JobParameter ({@link LoadOptions#from(Map)})
+     * @param components 실행 조건에 따라 골라 쓰는 파티셔너, 리더, Writer (샤드, 그룹 커밋, 검색 색인 등)
+     * @param dbRetrySettings 슬레이브 스텝 공통 재시도 대기 정책, 공유 DB 회로 차단기
      */
     @Bean
     @JobScope
     public Step masterStep(
-            @Value("#{jobParameters['gridSize']}") Integer gridSize,
-            @Value("#{jobParameters['chunkSize']}") Integer chunkSize,
-            MultiResourcePartitioner partitioner,
-            MultiInsertWriter writer,
-            RestaurantSkipListener restaurantSkipListener
+            @Value("#{jobParameters}") Map<String, Object> jobParameters,
+            LoadComponents components,
+            RestaurantSkipListener restaurantSkipListener,
+            BatchMetrics batchMetrics,
+            BatchProgress batchProgress,
+            DbRetrySettings dbRetrySettings
     ) {
+        LoadOptions options = LoadOptions.from(jobParameters);
+        ShardedInsertWriter shardedWriter = components.shardedWriter();
+        options.requireRestaurantDto("샤드 적재는", shardedWriter != null);
+        options.requireRestaurantDto("스냅샷 적재는", options.snapshotFile() != null);
+        options.requireRestaurantDto("검증 전용 실행은", options.dryRun());
+        options.requireRestaurantDto("여러 파일 적재는", options.multiFile());
+        // columnar Writer는 분해 컬럼을 바인딩하지 않으므로 sido/sigungu/road_name이 NULL로 남음 (다른 데이터셋은 분해 컬럼 없음)
+        options.requireRestaurantDto("주소 분해(batch.address.enabled)는", components.addressDecomposer() != null && options.restaurant());
+        // columnar Writer는 항상 restaurant에 INSERT하므로 스테이징 테이블 대신 운영 테이블에 쓰게 됨
+        options.requireRestaurantDto("지역 재적재(" + MultiInsertWriter.TARGET_TABLE_PARAM + ")는", options.targetTable() != null);
+        if (shardedWriter != null && options.targetTable() != null) {
+            // 샤드 Writer는 Job마다 만들지 않으므로 스테이징 테이블로 바꿔 쓸 수 없음
+            throw new IllegalStateException("샤드 적재는 지역 재적재(" + MultiInsertWriter.TARGET_TABLE_PARAM + ")를 지원하지 않습니다.");
+        }
+        if (options.multiFile() && options.snapshotFile() != null) {
+            throw new IllegalStateException("여러 파일 적재는 스냅샷 적재와 함께 사용할 수 없습니다.");
+        }
+        Partitioner partitioner = options.snapshotFile() != null ? new SnapshotPartitioner(Paths.get(options.snapshotFile()))
+                : options.multiFile() ? new FileGroupPartitioner(new File(options.partitionDir()))
+                : components.partitioner();
+
+        RestaurantAggregator aggregator = new RestaurantAggregator();
+        BigramIndexBuilder indexBuilder = searchIndex(options, components.searchIndex(), shardedWriter);
+        // 슬레이브 스텝 구성에 따라 마스터 스텝 종료 시 남길 보고서 (검증 전용 컬럼별 오류 집계, 입력 파일별 건수)
+        List<StepExecutionListener> reports = new ArrayList<>();
+        Step slaveStep;
+        if (!options.restaurant()) {
+            slaveStep = createSchemaSlaveStep(options.chunkSize(), components.schemaReader(), components.schemaWriter(),
+                    restaurantSkipListener, batchMetrics, batchProgress, dbRetrySettings);
+        } else if (options.columnar()) {
+            slaveStep = createColumnarSlaveStep(components.columnarReader(), components.columnarWriter(), batchMetrics, batchProgress,
+                    aggregator, dbRetrySettings);
+        } else {
+            slaveStep = createSlaveStep(options, components, restaurantSkipListener, batchMetrics, batchProgress, aggregator,
+                    dbRetrySettings, indexBuilder, reports);
+        }
+
         TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
-        handler.setTaskExecutor(new SimpleAsyncTaskExecutor("partitioner-"));
-        handler.setGridSize(gridSize);
-        handler.setStep(createSlaveStep(chunkSize, writer, restaurantSkipListener));
+        // 파티션 파일이 gridSize보다 많을 수 있으므로(지역별 분할, 재처리) 동시 실행 수를 gridSize로 제한
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("partitioner-");
+        taskExecutor.setConcurrencyLimit(options.gridSize());
+        handler.setTaskExecutor(taskExecutor);
+        handler.setGridSize(options.gridSize());
+        handler.setStep(slaveStep);
 
-        return new StepBuilder("masterStep", jobRepository)
+        // 검증 전용 실행은 적재하지 않으므로 요약 테이블을 갱신하지 않고 컬럼별 오류 집계만 남김
+        // 지역 재적재는 기존 지역 행을 교체하므로 적재 중 집계를 더하지 않음 (교환 후 RegionSummaryRefresher가 차이만 반영)
+        // 여러 파일 적재는 입력 파일별 건수 보고서를 함께 남김
+        // 검색 색인은 모든 파티션이 끝난 뒤 파티션별 포스팅 목록을 합쳐 파일로 저장
+        // 샤드 적재는 마스터 스텝 완료 후 샤드 DB에서 이번 적재의 행을 읽어 샤드별 색인 파일에 반영
+        PartitionStepBuilder builder = new StepBuilder("masterStep", jobRepository)
                 .partitioner("slaveStep", partitioner)
-                .partitionHandler(handler)
-                .build();
+                .partitionHandler(handler);
+        if (!options.dryRun() && options.targetTable() == null) {
+            builder.listener(aggregator);
+        }
+        for (StepExecutionListener report : reports) {
+            builder.listener(report);
+        }
+        if (indexBuilder != null) {
+            builder.listener(indexBuilder);
+        } else if (shardedWriter != null && components.searchIndex() != null && options.restaurantDto() && !options.dryRun()) {
+            builder.listener(new ShardIndexListener(shardedWriter.shards(), components.searchIndex().indexFile()));
+        }
+        return builder.build();
     }
 
     /**
-     * 슬레이브 스텝 설정. 각 파티션 파일을 읽어 DB에 저장합니다.
+     * 이번 실행에서 검색 색인을 만들 빌더를 반환합니다. 적재 중 색인하지 않는 적재 방식이면 null을 반환합니다.
+     */
+    private static BigramIndexBuilder searchIndex(LoadOptions options, BigramIndexBuilder indexBuilder, ShardedInsertWriter shardedWriter) {
+        if (indexBuilder == null) {
+            return null;
+        }
+        if (!options.restaurantDto() || options.dryRun()) {
+            log.warn("검색 색인은 restaurant 데이터셋의 {} Chunk 형식 적재에서만 만듭니다. 이번 실행은 색인하지 않습니다.", CHUNK_FORMAT_DTO);
+            return null;
+        }
+        if (options.targetTable() != null || shardedWriter != null) {
+            // 스테이징 테이블의 id는 교환 후 달라지므로 교환 후 TableIndexer가 반영하고,
+            // 샤드별 id는 기본 DB의 행을 가리키지 않으므로 ShardIndexListener가 샤드별 색인 파일에 반영
+            return null;
+        }
+        return indexBuilder;
+    }
+
+    /**
+     * 슬레이브 스텝 설정. 각 파티션 파일(스냅샷 적재 시 행 그룹 구간)을 읽어 DB에 저장합니다.
+     * Writer는 샤드 → 그룹 커밋 → 기본 다중 INSERT 순으로 고르고, 검증 전용 실행이면 DB에 쓰지 않는 검증 Writer로 바꿉니다.
+     * @param indexBuilder 검색 색인 사용 시 파티션별 bigram 색인을 모을 빌더 (사용하지 않으면 null)
+     * @param reports 마스터 스텝에 등록할 보고서 리스너를 담을 목록 (검증 전용, 여러 파일 적재 시 추가)
      */
     private Step createSlaveStep(
+            LoadOptions options,
+            LoadComponents components,
+            RestaurantSkipListener restaurantSkipListener,
+            BatchMetrics batchMetrics,
+            BatchProgress batchProgress,
+            RestaurantAggregator aggregator,
+            DbRetrySettings dbRetrySettings,
+            BigramIndexBuilder indexBuilder,
+            List<StepExecutionListener> reports
+    ) {
+        ItemWriter<RestaurantCsvDto> writer = components.shardedWriter();
+        if (writer == null) {
+            GroupCommitWriter groupCommitWriter = components.groupCommitWriter();
+            writer = groupCommitWriter != null ? groupCommitWriter : components.writer();
+        }
+        ItemReader<RestaurantCsvDto> reader = options.snapshotFile() != null ? components.snapshotReader() : readerProvider.getObject();
+        SourceFileListener sourceListener = null;
+        if (options.multiFile()) {
+            // 입력 파일별 건수는 리더의 현재 파일 기준으로 집계
+            MultiResourceItemReader<RestaurantCsvDto> multiFileReader = components.multiFileReader();
+            SourceFileStats sourceStats = new SourceFileStats();
+            reader = multiFileReader;
+            sourceListener = new SourceFileListener(multiFileReader, sourceStats);
+            reports.add(new SourceFileReport(sourceStats, SourceFileReport.reportFileFor(Paths.get(options.failureLog()))));
+        }
+        if (options.dryRun()) {
+            RowValidator validator = new RowValidator(DatasetSchema.restaurant());
+            ColumnErrorStats stats = new ColumnErrorStats(validator);
+            writer = new DryRunItemWriter(validator, stats, batchMetrics, batchProgress, restaurantSkipListener::onSkipInWrite);
+            reports.add(new DryRunReport(stats, DryRunReport.reportFileFor(Paths.get(options.failureLog()))));
+        }
+        IndexingStepListener indexingListener = indexBuilder != null ? new IndexingStepListener(indexBuilder) : null;
+
+        FaultTolerantStepBuilder<RestaurantCsvDto, RestaurantCsvDto> builder = faultTolerant(new StepBuilder("slaveStep", jobRepository)
+                .<RestaurantCsvDto, RestaurantCsvDto>chunk(options.chunkSize(), transactionManager)
+                .reader(reader)
+                .writer(dbRetrySettings.guard(writer)), dbRetrySettings);
+        return listeners(builder,
+                sourceListener,
+                indexingListener,
+                restaurantSkipListener,
+                new SkipRetryMetricsListener(batchMetrics),
+                new ChunkMetricsListener(batchMetrics),
+                new JfrEventListener(),
+                new ProgressStepListener(batchProgress),
+                AggregatingStepListener.forDto(aggregator),
+                new StepExecutionLogger())
+                .build();
+    }
+
+    /**
+     * Columnar 슬레이브 스텝 설정. 리더가 chunkSize 행을 하나의 버퍼 아이템으로 반환하므로 commit-interval은 1입니다.
+     * 행 단위 스킵/실패 기록은 {@link ColumnarInsertWriter}가 직접 처리합니다.
+     * 지표·JFR·진행률 리스너는 아이템을 {@link FailureRecord}로 받으므로 버퍼 아이템과 무관한 인터페이스만 등록합니다.
+     */
+    private Step createColumnarSlaveStep(
+            ColumnarChunkReader columnarReader,
+            ColumnarInsertWriter columnarWriter,
+            BatchMetrics batchMetrics,
+            BatchProgress batchProgress,
+            RestaurantAggregator aggregator,
+            DbRetrySettings dbRetrySettings
+    ) {
+        JfrEventListener jfrEventListener = new JfrEventListener();
+
+        FaultTolerantStepBuilder<ColumnarChunk, ColumnarChunk> builder = faultTolerant(new StepBuilder("slaveStep", jobRepository)
+                .<ColumnarChunk, ColumnarChunk>chunk(1, transactionManager)
+                .reader(columnarReader)
+                .writer(dbRetrySettings.guard(columnarWriter)), dbRetrySettings);
+        builder.listener((RetryListener) new SkipRetryMetricsListener(batchMetrics))
+                .listener((RetryListener) jfrEventListener)
+                .listener((ChunkListener) jfrEventListener)
+                .listener((StepExecutionListener) jfrEventListener)
+                .listener((StepExecutionListener) new ProgressStepListener(batchProgress));
+        return listeners(builder,
+                columnarWriter,
+                AggregatingStepListener.forColumnar(aggregator),
+                new StepExecutionLogger())
+                .build();
+    }
+
+    /**
+     * 스키마 기반 슬레이브 스텝 설정. restaurant 외 데이터셋을 같은 파티션/Chunk/재시도 구성으로 적재합니다.
+     * 요약 집계는 restaurant 컬럼 기준이므로 등록하지 않습니다.
+     */
+    private Step createSchemaSlaveStep(
             int chunkSize,
-            MultiInsertWriter writer,
-            RestaurantSkipListener restaurantSkipListener
+            FlatFileItemReader<SchemaRecord> schemaReader,
+            SchemaInsertWriter writer,
+            RestaurantSkipListener restaurantSkipListener,
+            BatchMetrics batchMetrics,
+            BatchProgress batchProgress,
+            DbRetrySettings dbRetrySettings
     ) {
-        return new StepBuilder("slaveStep", jobRepository)
-                .<RestaurantCsvDto, RestaurantCsvDto>chunk(chunkSize, transactionManager)
-                .reader(readerProvider.getObject())
-                .writer(writer)
-                .faultTolerant()
-                .retry(TransientDataAccessException.class)
-                .retry(CannotGetJdbcConnectionException.class)
-                .retry(SQLException.class)
-                .retryLimit(3)
-                .skipPolicy(new CustomSkipPolicy())
-                .listener(new StepExecutionLogger())
-                .listener(restaurantSkipListener)
+        FaultTolerantStepBuilder<SchemaRecord, SchemaRecord> builder = faultTolerant(new StepBuilder("slaveStep", jobRepository)
+                .<SchemaRecord, SchemaRecord>chunk(chunkSize, transactionManager)
+                .reader(schemaReader)
+                .writer(dbRetrySettings.guard(writer)), dbRetrySettings);
+        return listeners(builder,
+                new SchemaSkipListener(restaurantSkipListener),
+                new SkipRetryMetricsListener(batchMetrics),
+                new ChunkMetricsListener(batchMetrics),
+                new JfrEventListener(),
+                new ProgressStepListener(batchProgress),
+                new StepExecutionLogger())
+                .build();
+    }
+
+    /**
+     * 슬레이브 스텝 공통 재시도·스킵 구성.
+     * writer는 공유 DB 회로 차단기를 거치며, DB 연결·일시적 오류만 지수 증가 + 지터 간격으로 대기하며 재시도합니다 (데이터 오류는 바로 스킵 탐색).
+     */
+    private static <T> FaultTolerantStepBuilder<T, T> faultTolerant(SimpleStepBuilder<T, T> builder, DbRetrySettings dbRetrySettings) {
+        return builder.faultTolerant()
+                .retryPolicy(dbRetrySettings.retryPolicy())
+                .backOffPolicy(dbRetrySettings.backOffPolicy())
+                .skipPolicy(new CustomSkipPolicy());
+    }
+
+    /**
+     * 리스너마다 구현한 스텝 리스너 인터페이스별로 등록합니다. null은 건너뜁니다.
+     * 여러 인터페이스를 구현한 리스너는 빌더 오버로드가 모호하므로 인터페이스별로 나누어 등록해야 합니다.
+     * 아이템 타입 인자는 확인하지 않으므로, 아이템 리스너는 스텝 아이템(또는 그 상위 타입)을 받는 것만 넘깁니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> FaultTolerantStepBuilder<T, T> listeners(FaultTolerantStepBuilder<T, T> builder, Object... listeners) {
+        for (Object listener : listeners) {
+            if (listener == null) continue;
+            if (listener instanceof SkipListener<?, ?> skipListener) {
+                builder.listener((SkipListener<T, T>) skipListener);
+            }
+            if (listener instanceof RetryListener retryListener) {
+                builder.listener(retryListener);
+            }
+            if (listener instanceof ChunkListener chunkListener) {
+                builder.listener(chunkListener);
+            }
+            if (listener instanceof ItemReadListener<?> readListener) {
+                builder.listener((ItemReadListener<T>) readListener);
+            }
+            if (listener instanceof ItemWriteListener<?> writeListener) {
+                builder.listener((ItemWriteListener<T>) writeListener);
+            }
+            if (listener instanceof StepExecutionListener stepListener) {
+                builder.listener(stepListener);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * 요약 테이블 반영 스텝 설정. 마스터 스텝이 보관한 집계를 스텝 트랜잭션 안에서 restaurant_summary에 더합니다.
+     * 반영이 실패하면 Job이 실패하며, 재시작하면 완료된 마스터 스텝은 건너뛰고 보관된 집계로 다시 반영합니다.
+     */
+    @Bean
+    public Step summaryStep(AggregateSummaryWriter aggregateSummaryWriter) {
+        return new StepBuilder("summaryStep", jobRepository)
+                .tasklet(new SummaryWriteTasklet(aggregateSummaryWriter), transactionManager)
+                .build();
+    }
+
+    /**
+     * 적재 전 중복 제거 스텝 설정. 모든 파티션 파일에서 관리번호별로 최종수정시점이 가장 늦은 행만 남깁니다.
+     * 관리번호/최종수정시점 컬럼 위치가 restaurant 기준이므로 다른 데이터셋에서는 생략합니다.
+     * @param dedup false면 생략 (JobParameter)
+     * @param enabled 중복 제거 사용 여부 (batch.dedup.enabled)
+     * @param memoryBudgetMb 최신 버전 테이블 메모리 예산, 넘으면 해시 파티션으로 나누어 처리 (batch.dedup.memory-budget-mb)
+     * @param sideDir 밀려난 행 저장 디렉토리 (batch.dedup.side-dir)
+     */
+    @Bean
+    @JobScope
+    public Step dedupStep(
+            @Value("#{jobParameters['partitionDir']}") String partitionDir,
+            @Value("#{jobParameters['encoding'] ?: '" + RestaurantItemReaderConfig.DEFAULT_ENCODING + "'}") String encoding,
+            @Value("#{jobParameters['" + ProgressJobListener.TOTAL_ROWS_PARAM + "']}") Long totalRows,
+            @Value("#{jobParameters['" + DedupTasklet.DEDUP_PARAM + "'] ?: 'true'}") String dedup,
+            @Value("#{jobParameters['" + DatasetSchemaRegistry.DATASET_PARAM + "'] ?: '" + DatasetSchema.RESTAURANT + "'}") String dataset,
+            @Value("${batch.dedup.enabled:true}") boolean enabled,
+            @Value("${batch.dedup.memory-budget-mb:64}") long memoryBudgetMb,
+            @Value("${batch.dedup.side-dir:data/duplicates}") String sideDir
+    ) {
+        DedupTasklet tasklet = new DedupTasklet(
+                enabled && Boolean.parseBoolean(dedup) && DatasetSchema.RESTAURANT.equals(dataset),
+                new ManagementNumberDeduplicator(memoryBudgetMb * 1024 * 1024),
+                Paths.get(partitionDir),
+                Charset.forName(encoding),
+                totalRows,
+                Paths.get(sideDir));
+
+        return new StepBuilder("dedupStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
+                .build();
+    }
+
+    /**
+     * 적재 후 정합성 검증 스텝 설정. 파티션 파일과 이번 Job이 restaurant 테이블에 적재한 행을 record_number 구간별 체크섬으로 비교합니다.
+     * restaurant 외 데이터셋, 샤드 적재, 검증 전용 실행, 지역 재적재(스테이징 테이블 적재)에서는 생략합니다.
+     * @param reconcile false면 검증 생략 (JobParameter, 실패 로그 재처리처럼 원본이 테이블 일부인 경우)
+     * @param enabled 검증 사용 여부 (batch.reconcile.enabled)
+     * @param bucketSize 체크섬 구간 크기 (batch.reconcile.bucket-size)
+     * @param reportDir 불일치 목록 저장 디렉토리 (batch.reconcile.report-dir)
+     */
+    @Bean
+    @JobScope
+    public Step reconcileStep(
+            @Value("#{jobParameters['partitionDir']}") String partitionDir,
+            @Value("#{jobParameters['encoding'] ?: '" + RestaurantItemReaderConfig.DEFAULT_ENCODING + "'}") String encoding,
+            @Value("#{jobParameters['" + ReconciliationTasklet.RECONCILE_PARAM + "'] ?: 'true'}") String reconcile,
+            @Value("#{jobParameters['" + DatasetSchemaRegistry.DATASET_PARAM + "'] ?: '" + DatasetSchema.RESTAURANT + "'}") String dataset,
+            @Value("#{jobParameters['" + DryRunItemWriter.DRY_RUN_PARAM + "'] ?: 'false'}") String dryRun,
+            @Value("#{jobParameters['" + MultiInsertWriter.TARGET_TABLE_PARAM + "']}") String targetTable,
+            @Value("${batch.reconcile.enabled:true}") boolean enabled,
+            @Value("${batch.reconcile.bucket-size:" + Reconciler.DEFAULT_BUCKET_SIZE + "}") int bucketSize,
+            @Value("${batch.reconcile.report-dir:data/reconcile}") String reportDir,
+            DataSource dataSource,
+            RestaurantSkipListener restaurantSkipListener,
+            LoadComponents components
+    ) {
+        // 샤드 적재 시 행이 기본 DB에 없으므로 생략
+        boolean sharded = components.shardedWriter() != null;
+        ReconciliationTasklet tasklet = new ReconciliationTasklet(
+                enabled && Boolean.parseBoolean(reconcile) && DatasetSchema.RESTAURANT.equals(dataset) && !sharded
+                        && !Boolean.parseBoolean(dryRun) && targetTable == null,
+                new Reconciler(dataSource, bucketSize),
+                Paths.get(partitionDir),
+                Charset.forName(encoding),
+                restaurantSkipListener,
+                Paths.get(reportDir));
+
+        return new StepBuilder("reconcileStep", jobRepository)
+                .tasklet(tasklet, transactionManager)
                 .build();
     }
 
     /**
      * 실패한 레코드를 기록할 SkipListener Bean입니다.
+     * 모든 파티션이 하나의 인스턴스를 공유하도록 Job 범위로 생성됩니다.
+     * 실패 로그 헤더는 적재 중인 데이터셋의 스키마를 따릅니다. 재시작한 Job은 기존 실패 로그에 이어서 기록합니다.
      */
     @Bean(name = "restaurantSkipListener")
-    @StepScope
+    @JobScope
     public RestaurantSkipListener restaurantSkipListener(
-            @Value("#{jobParameters['failureLog']}") String failurePath
+            @Value("#{jobParameters['failureLog']}") String failurePath,
+            @Value("#{jobParameters['" + DatasetSchemaRegistry.DATASET_PARAM + "'] ?: '" + DatasetSchema.RESTAURANT + "'}") String dataset,
+            DatasetSchemaRegistry datasetSchemaRegistry,
+            JobExplorer jobExplorer
     ) {
-        return new RestaurantSkipListener(Paths.get(failurePath));
+        return new RestaurantSkipListener(Paths.get(failurePath), datasetSchemaRegistry.get(dataset), jobExplorer);
     }
 }
@@ -1,24 +1,30 @@
 package com.assignment.restaurantbatch.job;
 
+import com.assignment.restaurantbatch.multifile.FileGroupPartitioner;
+import com.assignment.restaurantbatch.progress.ProgressJobListener;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
 import com.assignment.restaurantbatch.util.BatchTuner;
 import com.assignment.restaurantbatch.util.CsvSplitter;
+import com.assignment.restaurantbatch.util.InputFiles;
+import com.assignment.restaurantbatch.validate.DryRunItemWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
-import java.io.BufferedReader;
 import java.nio.charset.Charset;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 /**
  * Spring Boot 시작 시 자동 실행되는 배치 작업 런처 설정입니다.
@@ -26,11 +32,31 @@ import java.time.format.DateTimeFormatter;
  * - 입력 CSV의 전체 라인 수를 계산하여 적절한 배치 설정을 튜닝하고, <br>
  * - CSV를 여러 파일로 분할한 후, <br>
  * - 파라미터를 구성하여 Spring Batch Job을 실행합니다.
+ * <p>
+ * {@code --dry-run}을 지정하면 같은 읽기/변환 경로로 형식·길이만 검증하고 DB에는 적재하지 않습니다.
+ * <p>
+ * {@code --input}(쉼표 구분 경로/glob) 또는 {@code --manifest}(목록 파일)로 여러 입력 파일을 지정하면
+ * 파일마다 동시에 조사한 뒤 모두 같은 디렉토리에 분할하여 한 번의 파티션 Job으로 적재합니다.
  */
 @Configuration
 @RequiredArgsConstructor
 public class RestaurantJobLauncher {
 
+    /** 슬레이브 스텝 Chunk 표현 방식 지정 인자명 (--chunk.format=columnar) */
+    public static final String CHUNK_FORMAT_OPTION = "chunk.format";
+
+    /** 적재할 데이터셋 지정 인자명 (--dataset=bakery, 입력 파일은 data/bakery.csv) */
+    public static final String DATASET_OPTION = "dataset";
+
+    /** 검증 전용 실행 인자명 (--dry-run, DB에 쓰지 않고 형식·길이만 검사) */
+    public static final String DRY_RUN_OPTION = "dry-run";
+
+    /** 입력 파일 지정 인자명 (--input=data/extracts/*.csv,data/fix.csv, 쉼표 구분 경로 또는 glob) */
+    public static final String INPUT_OPTION = "input";
+
+    /** 입력 파일 목록 파일 지정 인자명 (--manifest=data/manifest.txt, 한 줄에 경로 또는 glob 하나) */
+    public static final String MANIFEST_OPTION = "manifest";
+
     private final JobLauncher jobLauncher;
     private final Job restaurantPartitionedJob;
     private final BatchTuner batchTuner;
@@ -41,22 +67,32 @@ public class RestaurantJobLauncher {
      * @return ApplicationRunner 인스턴스
      */
     @Bean
-    @Profile("!test")
+    @Profile("!test & !replay & !watch & !region & !snapshot")
     public ApplicationRunner jobRunner() {
         return args -> {
-            Path inputPath = getInputCsvPath();
+            String dataset = getDataset(args);
+            List<Path> inputPaths = getInputCsvPaths(args, dataset);
             Path partitionPath = getPartitionDirPath();
 
-            // 전체 라인 수 계산
-            long totalLines;
-            try (BufferedReader reader = Files.newBufferedReader(inputPath, Charset.forName("MS949"))) {
-                totalLines = reader.lines().count();
-            }
+            // 입력 파일별 라인 수/크기 계산 (파일마다 동시에)
+            int cores = Runtime.getRuntime().availableProcessors();
+            List<InputFiles.Profile> profiles = InputFiles.profile(inputPaths, Charset.forName("MS949"), cores);
+            long totalRows = profiles.stream().mapToLong(InputFiles.Profile::rows).sum();
+            long totalBytes = profiles.stream().mapToLong(InputFiles.Profile::bytes).sum();
+            long totalLines = totalRows + 1;
 
+            boolean dryRun = isDryRun(args);
             var config = batchTuner.tune((int) totalLines);
+            if (dryRun) {
+                config = forDryRun(config, totalLines, cores);
+            }
 
-            // CSV 분할
-            csvSplitter.split(inputPath, partitionPath.toString(), config.linesPerFile());
+            // CSV 분할 (여러 파일은 같은 디렉토리에 입력 파일별 이름으로)
+            if (inputPaths.size() == 1) {
+                csvSplitter.split(inputPaths.get(0), partitionPath.toString(), config.linesPerFile());
+            } else {
+                csvSplitter.splitAll(inputPaths, partitionPath.toString(), config.linesPerFile());
+            }
 
             // 실패 로그 파일 경로
             String formattedTime = LocalDateTime.now()
@@ -69,12 +105,79 @@ public class RestaurantJobLauncher {
                     .addLong("chunkSize", (long) config.chunkSize())
                     .addString("partitionDir", partitionPath.toString())
                     .addString("failureLog", "data/failure/failed-" + formattedTime + ".csv")
+                    // 진행률/ETA 계산용 전체 입력 크기 (헤더 제외)
+                    .addLong(ProgressJobListener.TOTAL_ROWS_PARAM, totalRows)
+                    .addLong(ProgressJobListener.TOTAL_BYTES_PARAM, totalBytes)
+                    .addLong(FileGroupPartitioner.INPUT_FILES_PARAM, (long) inputPaths.size())
+                    .addString("chunkFormat", getChunkFormat(args))
+                    .addString(DatasetSchemaRegistry.DATASET_PARAM, dataset)
+                    .addString(DryRunItemWriter.DRY_RUN_PARAM, String.valueOf(dryRun))
                     .toJobParameters();
 
             jobLauncher.run(restaurantPartitionedJob, jobParameters);
         };
     }
 
+    /**
+     * 슬레이브 스텝 Chunk 표현 방식 반환 (dto 또는 columnar, 미지정 시 dto)
+     */
+    protected String getChunkFormat(ApplicationArguments args) {
+        if (args == null || !args.containsOption(CHUNK_FORMAT_OPTION)) {
+            return RestaurantJobConfig.CHUNK_FORMAT_DTO;
+        }
+        return args.getOptionValues(CHUNK_FORMAT_OPTION).get(0).trim();
+    }
+
+    /**
+     * 검증 전용 실행 여부 반환 (--dry-run 지정 시 true)
+     */
+    static boolean isDryRun(ApplicationArguments args) {
+        return args != null && args.containsOption(DRY_RUN_OPTION);
+    }
+
+    /**
+     * 검증 전용 실행용 튜닝 값. DB 커넥션 수에 맞춘 제한이 필요 없으므로 모든 코어를 쓰도록
+     * 동시 파티션 수를 코어 수 이상으로 늘리고, 분할 파일도 그 수 이상이 되도록 나눕니다.
+     */
+    static BatchTuner.BatchConfig forDryRun(BatchTuner.BatchConfig config, long totalLines, int cores) {
+        int gridSize = Math.max(config.gridSize(), cores);
+        int linesPerFile = (int) Math.max(Math.min(config.linesPerFile(), (totalLines + gridSize - 1) / gridSize), 1);
+        return new BatchTuner.BatchConfig(linesPerFile, gridSize, config.chunkSize());
+    }
+
+    /**
+     * 적재할 데이터셋 이름 반환 (미지정 시 restaurant). 스키마 존재 여부는 Job 실행 시 검증됩니다.
+     */
+    static String getDataset(ApplicationArguments args) {
+        if (args == null || !args.containsOption(DATASET_OPTION)) {
+            return DatasetSchema.RESTAURANT;
+        }
+        return args.getOptionValues(DATASET_OPTION).get(0).trim();
+    }
+
+    /**
+     * 입력 CSV 파일 목록 반환. --manifest, --input 순으로 확인하고 둘 다 없으면 데이터셋 기본 입력 파일 하나를 사용합니다.
+     */
+    protected List<Path> getInputCsvPaths(ApplicationArguments args, String dataset) {
+        if (args != null && args.containsOption(MANIFEST_OPTION)) {
+            return InputFiles.readManifest(Paths.get(args.getOptionValues(MANIFEST_OPTION).get(0).trim()));
+        }
+        if (args != null && args.containsOption(INPUT_OPTION)) {
+            return InputFiles.resolve(String.join(",", args.getOptionValues(INPUT_OPTION)));
+        }
+        return List.of(getInputCsvPath(dataset));
+    }
+
+    /**
+     * 데이터셋별 입력 CSV 파일 경로 반환. restaurant 외 데이터셋은 data/&lt;dataset&gt;.csv를 사용합니다.
+     */
+    protected Path getInputCsvPath(String dataset) {
+        if (DatasetSchema.RESTAURANT.equals(dataset)) {
+            return getInputCsvPath();
+        }
+        return Paths.get("data", dataset + ".csv");
+    }
+
     /**
      * 입력 CSV 파일 경로 반환 (테스트 오버라이드 가능)
      */
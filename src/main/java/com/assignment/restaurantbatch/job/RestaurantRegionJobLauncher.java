@@ -0,0 +1,225 @@
+package com.assignment.restaurantbatch.job;
+
+import com.assignment.restaurantbatch.aggregate.RegionSummaryRefresher;
+import com.assignment.restaurantbatch.progress.ProgressJobListener;
+import com.assignment.restaurantbatch.reconcile.LoadBoundaryListener;
+import com.assignment.restaurantbatch.reconcile.ReconciliationTasklet;
+import com.assignment.restaurantbatch.region.RegionPartitionListener;
+import com.assignment.restaurantbatch.region.RegionPartitionManager;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import com.assignment.restaurantbatch.search.TableIndexer;
+import com.assignment.restaurantbatch.util.BatchTuner;
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.BufferedReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * 지역(개방자치단체코드) 파티션 테이블용 런처 설정입니다.
+ * <p>
+ * - {@code region} 프로필에서만 활성화됩니다.<br>
+ * - 인자 없이 실행하면 입력 CSV를 지역별 파일로 나누어 전체를 적재합니다. (없는 지역 파티션은 Job 시작 시 추가)
+ *   파티션 파일 하나가 한 지역이므로 각 슬레이브 스텝은 테이블 파티션 하나에만 씁니다.<br>
+ * - {@code --region=3220000,3250000}을 지정하면 해당 지역만 스테이징 테이블에 새로 적재한 뒤
+ *   {@code EXCHANGE PARTITION}으로 교체합니다. 지역마다 Job을 한 번씩 실행합니다.<br>
+ * - restaurant 데이터셋만 지원합니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RestaurantRegionJobLauncher {
+
+    /** 재적재할 지역 코드 지정 인자명 */
+    public static final String REGION_OPTION = "region";
+
+    private final JobLauncher jobLauncher;
+    private final Job restaurantPartitionedJob;
+    private final BatchTuner batchTuner;
+    private final CsvSplitter csvSplitter;
+    private final RegionPartitionManager regionPartitionManager;
+    private final RegionSummaryRefresher regionSummaryRefresher;
+    /** 검색 색인 사용 시 교환한 지역 행을 색인 파일에 반영 (batch.search-index.enabled) */
+    private final ObjectProvider<TableIndexer> tableIndexerProvider;
+
+    /**
+     * region 프로필 실행 시 지역 단위 적재/재적재를 수행하는 Job Runner입니다.
+     *
+     * @param stageTable 지역 재적재용 스테이징 테이블 (batch.region.stage-table)
+     * @return ApplicationRunner 인스턴스
+     */
+    @Bean
+    @Profile("region & !test")
+    public ApplicationRunner regionJobRunner(
+            @Value("${batch.region.stage-table:restaurant_stage}") String stageTable
+    ) {
+        return args -> {
+            if (!DatasetSchema.RESTAURANT.equals(RestaurantJobLauncher.getDataset(args))) {
+                throw new IllegalArgumentException("지역 파티션 적재는 restaurant 데이터셋만 지원합니다.");
+            }
+            List<String> regions = getRegions(args);
+            if (regions.isEmpty()) {
+                loadByRegion();
+                return;
+            }
+            for (String regionCode : regions) {
+                reload(regionCode, stageTable);
+            }
+        };
+    }
+
+    /**
+     * 입력 CSV를 지역별로 분할한 뒤 전체를 적재합니다. 없는 지역 파티션은 Job 시작 시 {@link RegionPartitionListener}가 추가합니다.
+     */
+    JobExecution loadByRegion() throws Exception {
+        Path inputPath = getInputCsvPath();
+        Path partitionPath = getPartitionDirPath();
+
+        SortedMap<String, Long> regionRows = csvSplitter.splitByRegion(inputPath, partitionPath.toString());
+        long totalRows = regionRows.values().stream().mapToLong(Long::longValue).sum();
+        log.info("지역별 분할 완료: 지역 {}개, 레코드 {}건", regionRows.size(), totalRows);
+
+        var config = batchTuner.tune((int) totalRows);
+        JobParameters jobParameters = baseParameters(config, Math.min(config.gridSize(), regionRows.size()), partitionPath, "region")
+                .addLong(ProgressJobListener.TOTAL_ROWS_PARAM, totalRows)
+                .addLong(ProgressJobListener.TOTAL_BYTES_PARAM, Files.size(inputPath))
+                .toJobParameters();
+
+        return jobLauncher.run(restaurantPartitionedJob, jobParameters);
+    }
+
+    /**
+     * 한 지역의 행만 스테이징 테이블에 적재한 뒤 restaurant의 해당 지역 파티션과 교환합니다.
+     * Job이 완료되지 않으면 교환하지 않고 스테이징 테이블을 남겨 둡니다.
+     * 요약 테이블은 적재 중에 갱신하지 않고, 지역 행 교체에 맞춰 {@link RegionSummaryRefresher}가 갱신합니다
+     * (비파티션 테이블은 교체와 같은 트랜잭션, 파티션 교환은 교환 직후).
+     * 검색 색인을 쓰면 교환 후 Job 시작 시 기준 id보다 큰 행(교환해 온 지역 행)을 색인 파일에 합칩니다.
+     * 교체된 이전 행의 id는 색인에 남지만 검색 시 DB 확인에서 걸러집니다.
+     *
+     * @throws IllegalArgumentException 입력 CSV에 해당 지역 행이 없는 경우 (지역 전체 삭제 방지)
+     */
+    JobExecution reload(String regionCode, String stageTable) throws Exception {
+        Path inputPath = getInputCsvPath();
+        Path partitionPath = getPartitionDirPath();
+
+        long regionRows = countRegionRows(inputPath, regionCode);
+        if (regionRows == 0) {
+            throw new IllegalArgumentException("입력 CSV에 지역 " + regionCode + "의 레코드가 없습니다: " + inputPath);
+        }
+        var config = batchTuner.tune((int) regionRows);
+        csvSplitter.split(inputPath, partitionPath.toString(), config.linesPerFile(),
+                line -> regionCode.equals(CsvSplitter.regionCodeOf(line)));
+        regionPartitionManager.prepareStaging(stageTable);
+        log.info("지역 재적재 시작: region_code={}, 레코드 {}건 -> {}", regionCode, regionRows, stageTable);
+
+        JobParameters jobParameters = baseParameters(config, config.gridSize(), partitionPath, "region-" + regionCode)
+                .addLong(ProgressJobListener.TOTAL_ROWS_PARAM, regionRows)
+                .addString(MultiInsertWriter.TARGET_TABLE_PARAM, stageTable)
+                // 대상이 스테이징 테이블이므로 restaurant 기준 정합성 검증은 생략
+                .addString(ReconciliationTasklet.RECONCILE_PARAM, "false")
+                .toJobParameters();
+
+        JobExecution execution = jobLauncher.run(restaurantPartitionedJob, jobParameters);
+        if (execution.getStatus() != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("지역 재적재 Job이 완료되지 않아 교환하지 않습니다: region_code="
+                    + regionCode + " (" + execution.getStatus() + ")");
+        }
+        regionPartitionManager.exchange(regionCode, stageTable, regionSummaryRefresher::refresh);
+        indexExchanged(regionCode, execution);
+        return execution;
+    }
+
+    /**
+     * 교환해 온 지역 행을 검색 색인에 반영합니다. 색인 실패는 교환을 되돌리지 않으므로 경고만 남깁니다.
+     */
+    private void indexExchanged(String regionCode, JobExecution execution) {
+        TableIndexer tableIndexer = tableIndexerProvider.getIfAvailable();
+        if (tableIndexer == null) return;
+        Long baseId = LoadBoundaryListener.baseId(execution);
+        if (baseId == null) {
+            log.warn("지역 재적재 기준 id가 없어 검색 색인을 갱신하지 않습니다: region_code={}", regionCode);
+            return;
+        }
+        try {
+            tableIndexer.indexAfter(baseId);
+        } catch (Exception e) {
+            log.warn("지역 재적재 검색 색인 갱신 실패: region_code={} ({})", regionCode, e.getMessage());
+        }
+    }
+
+    private JobParametersBuilder baseParameters(BatchTuner.BatchConfig config, int gridSize, Path partitionPath, String failurePrefix) {
+        String formattedTime = LocalDateTime.now()
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+
+        return new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis())
+                .addLong("gridSize", (long) Math.max(gridSize, 1))
+                .addLong("chunkSize", (long) config.chunkSize())
+                .addString("partitionDir", partitionPath.toString())
+                .addString("failureLog", "data/failure/" + failurePrefix + "-failed-" + formattedTime + ".csv")
+                .addString("chunkFormat", RestaurantJobConfig.CHUNK_FORMAT_DTO)
+                .addString(DatasetSchemaRegistry.DATASET_PARAM, DatasetSchema.RESTAURANT);
+    }
+
+    private long countRegionRows(Path inputPath, String regionCode) throws Exception {
+        try (BufferedReader reader = Files.newBufferedReader(inputPath, Charset.forName("MS949"))) {
+            return reader.lines()
+                    .skip(1)
+                    .filter(line -> regionCode.equals(CsvSplitter.regionCodeOf(line)))
+                    .count();
+        }
+    }
+
+    /**
+     * 재적재 대상 지역 코드 목록 반환 (쉼표 구분, 미지정 시 빈 목록)
+     */
+    static List<String> getRegions(ApplicationArguments args) {
+        List<String> regions = new ArrayList<>();
+        if (args == null || !args.containsOption(REGION_OPTION)) return regions;
+
+        for (String value : args.getOptionValues(REGION_OPTION)) {
+            for (String code : value.split(",")) {
+                if (!code.isBlank()) regions.add(code.trim());
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * 입력 CSV 파일 경로 반환 (테스트 오버라이드 가능)
+     */
+    protected Path getInputCsvPath() {
+        return Paths.get("data/restaurant.csv");
+    }
+
+    /**
+     * 지역 적재용 파티션 디렉토리 경로 반환 (테스트 오버라이드 가능)
+     */
+    protected Path getPartitionDirPath() {
+        return Paths.get("data/region-partitioned");
+    }
+}
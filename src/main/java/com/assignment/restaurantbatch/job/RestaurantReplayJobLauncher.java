@@ -0,0 +1,170 @@
+package com.assignment.restaurantbatch.job;
+
+import com.assignment.restaurantbatch.progress.ProgressJobListener;
+import com.assignment.restaurantbatch.reconcile.ReconciliationTasklet;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import com.assignment.restaurantbatch.util.BatchTuner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 실패 로그 CSV만 다시 적재하는 재처리(replay) 런처 설정입니다.
+ * <p>
+ * - {@code replay} 프로필에서만 활성화되며, {@code --replay.files=a.csv,b.csv} 인자로 실패 로그 파일을 지정합니다.<br>
+ * - 각 실패 로그 파일을 하나의 파티션 파일로 배치하여 파일 단위로 병렬 처리합니다.<br>
+ * - restaurant 외 데이터셋의 실패 로그는 {@code --dataset=bakery}처럼 데이터셋을 함께 지정합니다.<br>
+ * - 본 적재와 동일한 {@code restaurantPartitionedJob}(reader, writer, skip 정책)을 그대로 사용하며,
+ *   이번에도 실패한 레코드는 새 실패 로그 파일에 기록됩니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RestaurantReplayJobLauncher {
+
+    /** 실패 로그 파일 지정 인자명 */
+    public static final String REPLAY_FILES_OPTION = "replay.files";
+
+    /** 실패 로그 파일 인코딩 (RestaurantSkipListener가 UTF-8로 기록) */
+    private static final String FAILURE_LOG_ENCODING = "UTF-8";
+
+    private final JobLauncher jobLauncher;
+    private final Job restaurantPartitionedJob;
+    private final BatchTuner batchTuner;
+
+    /**
+     * replay 프로필 실행 시 실패 로그 파일을 재적재하는 Job Runner입니다.
+     * @return ApplicationRunner 인스턴스
+     */
+    @Bean
+    @Profile("replay & !test")
+    public ApplicationRunner replayJobRunner() {
+        return this::replay;
+    }
+
+    /**
+     * 지정된 실패 로그 파일들을 파티션 디렉토리에 배치한 뒤 Job을 실행합니다.
+     */
+    void replay(ApplicationArguments args) throws Exception {
+        List<Path> failureFiles = getReplayFiles(args);
+        if (failureFiles.isEmpty()) {
+            throw new IllegalArgumentException("재처리할 실패 로그 파일이 지정되지 않았습니다. --" + REPLAY_FILES_OPTION + "=<파일 목록>");
+        }
+
+        Path partitionPath = getPartitionDirPath();
+        long totalLines = stageFailureFiles(failureFiles, partitionPath);
+        log.info("실패 로그 재처리 시작: 파일 {}개, 레코드 {}건", failureFiles.size(), totalLines);
+
+        var config = batchTuner.tune((int) totalLines);
+        int gridSize = Math.min(config.gridSize(), failureFiles.size());
+
+        String formattedTime = LocalDateTime.now()
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis())
+                .addLong("gridSize", (long) gridSize)
+                .addLong("chunkSize", (long) config.chunkSize())
+                .addString("partitionDir", partitionPath.toString())
+                .addString("encoding", FAILURE_LOG_ENCODING)
+                .addString("failureLog", getFailureDirPath().resolve("replay-failed-" + formattedTime + ".csv").toString())
+                .addLong(ProgressJobListener.TOTAL_ROWS_PARAM, totalLines)
+                // 원본이 테이블의 일부이므로 전체 정합성 검증은 생략
+                .addString(ReconciliationTasklet.RECONCILE_PARAM, "false")
+                .addString(DatasetSchemaRegistry.DATASET_PARAM, RestaurantJobLauncher.getDataset(args))
+                .toJobParameters();
+
+        jobLauncher.run(restaurantPartitionedJob, jobParameters);
+    }
+
+    /**
+     * 실패 로그 파일을 restaurant-part-xxx.csv 이름으로 파티션 디렉토리에 복사합니다.
+     * gzip 파일은 압축을 해제하여 복사합니다.
+     *
+     * @return 헤더를 제외한 전체 레코드 수
+     */
+    long stageFailureFiles(List<Path> failureFiles, Path partitionPath) throws IOException {
+        Files.createDirectories(partitionPath);
+        try (Stream<Path> existing = Files.list(partitionPath)) {
+            for (Path path : existing.filter(p -> p.getFileName().toString().startsWith("restaurant-part-")).toList()) {
+                Files.delete(path);
+            }
+        }
+
+        long totalLines = 0;
+        int index = 0;
+        for (Path failureFile : failureFiles) {
+            Path target = partitionPath.resolve(String.format("restaurant-part-%03d.csv", index++));
+            try (InputStream in = openFailureFile(failureFile)) {
+                Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            try (BufferedReader reader = Files.newBufferedReader(target, StandardCharsets.UTF_8)) {
+                totalLines += Math.max(reader.lines().count() - 1, 0);
+            }
+        }
+        return totalLines;
+    }
+
+    private InputStream openFailureFile(Path failureFile) throws IOException {
+        InputStream in = Files.newInputStream(failureFile);
+        return failureFile.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(in) : in;
+    }
+
+    /**
+     * 재처리 대상 실패 로그 파일 목록 반환 (테스트 오버라이드 가능)
+     */
+    protected List<Path> getReplayFiles(ApplicationArguments args) {
+        List<Path> files = new ArrayList<>();
+        if (args == null || !args.containsOption(REPLAY_FILES_OPTION)) return files;
+
+        for (String value : args.getOptionValues(REPLAY_FILES_OPTION)) {
+            for (String file : value.split(",")) {
+                if (file.isBlank()) continue;
+                Path path = Paths.get(file.trim());
+                if (!Files.isRegularFile(path)) {
+                    throw new IllegalArgumentException("실패 로그 파일이 존재하지 않음: " + path);
+                }
+                files.add(path);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 재처리용 파티션 디렉토리 경로 반환 (테스트 오버라이드 가능)
+     */
+    protected Path getPartitionDirPath() {
+        return Paths.get("data/replay-partitioned");
+    }
+
+    /**
+     * 재처리 실패 로그 디렉토리 경로 반환 (테스트 오버라이드 가능)
+     */
+    protected Path getFailureDirPath() {
+        return Paths.get("data/failure");
+    }
+}
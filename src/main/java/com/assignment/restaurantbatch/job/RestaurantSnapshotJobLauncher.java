@@ -0,0 +1,169 @@
+package com.assignment.restaurantbatch.job;
+
+import com.assignment.restaurantbatch.dedup.DedupTasklet;
+import com.assignment.restaurantbatch.progress.ProgressJobListener;
+import com.assignment.restaurantbatch.reconcile.ReconciliationTasklet;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import com.assignment.restaurantbatch.snapshot.SnapshotPartitioner;
+import com.assignment.restaurantbatch.snapshot.SnapshotReader;
+import com.assignment.restaurantbatch.snapshot.SnapshotStore;
+import com.assignment.restaurantbatch.util.BatchTuner;
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.BufferedReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 바이너리 스냅샷 캐시를 사용하는 런처 설정입니다.
+ * <p>
+ * - {@code snapshot} 프로필에서만 활성화되며, restaurant 데이터셋만 지원합니다.<br>
+ * - 입력 CSV 지문에 해당하는 스냅샷이 있으면 CSV를 파싱하지 않고 스냅샷의 행 그룹을 파티션별로 나누어 적재합니다.<br>
+ * - 스냅샷이 없으면 기본 런처와 같이 CSV를 분할하여 적재하고, Job이 완료되면 파티션 파일로 스냅샷을 만듭니다.<br>
+ * - {@code --snapshot.file=<경로>}를 지정하면 원본 CSV 없이 해당 스냅샷으로 바로 적재합니다. (새 DB 구성, 복구)
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RestaurantSnapshotJobLauncher {
+
+    /** 적재할 스냅샷 파일 지정 인자명 */
+    public static final String SNAPSHOT_FILE_OPTION = "snapshot.file";
+
+    private static final Charset INPUT_CHARSET = Charset.forName("MS949");
+
+    private final JobLauncher jobLauncher;
+    private final Job restaurantPartitionedJob;
+    private final BatchTuner batchTuner;
+    private final CsvSplitter csvSplitter;
+    private final SnapshotStore snapshotStore;
+
+    /**
+     * snapshot 프로필 실행 시 스냅샷 캐시를 거쳐 적재하는 Job Runner입니다.
+     * @return ApplicationRunner 인스턴스
+     */
+    @Bean
+    @Profile("snapshot & !test")
+    public ApplicationRunner snapshotJobRunner() {
+        return args -> {
+            if (!DatasetSchema.RESTAURANT.equals(RestaurantJobLauncher.getDataset(args))) {
+                throw new IllegalArgumentException("스냅샷 적재는 restaurant 데이터셋만 지원합니다.");
+            }
+            if (args.containsOption(SNAPSHOT_FILE_OPTION)) {
+                loadSnapshot(Paths.get(args.getOptionValues(SNAPSHOT_FILE_OPTION).get(0).trim()));
+                return;
+            }
+            load();
+        };
+    }
+
+    /**
+     * 입력 CSV 지문으로 스냅샷을 찾아 있으면 스냅샷으로, 없으면 CSV로 적재합니다.
+     * CSV 적재가 완료되면 스냅샷을 저장합니다.
+     */
+    JobExecution load() throws Exception {
+        Path inputPath = getInputCsvPath();
+        String fingerprint = SnapshotStore.fingerprint(inputPath);
+
+        Optional<Path> snapshot = snapshotStore.find(fingerprint);
+        if (snapshot.isPresent()) {
+            log.info("스냅샷 적중: {} -> {}", inputPath, snapshot.get());
+            return loadSnapshot(snapshot.get());
+        }
+
+        log.info("스냅샷 없음, CSV로 적재 후 생성: {} ({})", inputPath, fingerprint);
+        JobExecution execution = loadCsv(inputPath);
+        if (execution.getStatus() == BatchStatus.COMPLETED) {
+            snapshotStore.save(fingerprint, CsvSplitter.partitionFiles(getPartitionDirPath()), INPUT_CHARSET);
+        } else {
+            log.warn("Job이 완료되지 않아 스냅샷을 만들지 않습니다: {}", execution.getStatus());
+        }
+        return execution;
+    }
+
+    /**
+     * 스냅샷의 행 그룹을 파티션별로 나누어 적재합니다.
+     * 스냅샷은 중복 제거가 끝난 파티션 파일로 만들었으므로 중복 제거와, 파티션 파일 기준인 정합성 검증은 생략합니다.
+     */
+    JobExecution loadSnapshot(Path snapshotFile) throws Exception {
+        long rows;
+        try (SnapshotReader reader = SnapshotReader.open(snapshotFile)) {
+            rows = reader.rowCount();
+        }
+        var config = batchTuner.tune((int) rows);
+
+        JobParameters jobParameters = baseParameters(config)
+                .addString(SnapshotPartitioner.SNAPSHOT_FILE_PARAM, snapshotFile.toString())
+                .addLong(ProgressJobListener.TOTAL_ROWS_PARAM, rows)
+                .addString(DedupTasklet.DEDUP_PARAM, "false")
+                .addString(ReconciliationTasklet.RECONCILE_PARAM, "false")
+                .toJobParameters();
+
+        log.info("스냅샷 적재 시작: {} ({}건)", snapshotFile, rows);
+        return jobLauncher.run(restaurantPartitionedJob, jobParameters);
+    }
+
+    private JobExecution loadCsv(Path inputPath) throws Exception {
+        long totalLines;
+        try (BufferedReader reader = Files.newBufferedReader(inputPath, INPUT_CHARSET)) {
+            totalLines = reader.lines().count();
+        }
+        var config = batchTuner.tune((int) totalLines);
+        csvSplitter.split(inputPath, getPartitionDirPath().toString(), config.linesPerFile());
+
+        JobParameters jobParameters = baseParameters(config)
+                .addLong(ProgressJobListener.TOTAL_ROWS_PARAM, Math.max(totalLines - 1, 0))
+                .addLong(ProgressJobListener.TOTAL_BYTES_PARAM, Files.size(inputPath))
+                .toJobParameters();
+
+        return jobLauncher.run(restaurantPartitionedJob, jobParameters);
+    }
+
+    private JobParametersBuilder baseParameters(BatchTuner.BatchConfig config) {
+        String formattedTime = LocalDateTime.now()
+                .format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
+
+        return new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis())
+                .addLong("gridSize", (long) config.gridSize())
+                .addLong("chunkSize", (long) config.chunkSize())
+                .addString("partitionDir", getPartitionDirPath().toString())
+                .addString("failureLog", "data/failure/failed-" + formattedTime + ".csv")
+                .addString("chunkFormat", RestaurantJobConfig.CHUNK_FORMAT_DTO)
+                .addString(DatasetSchemaRegistry.DATASET_PARAM, DatasetSchema.RESTAURANT);
+    }
+
+    /**
+     * 입력 CSV 파일 경로 반환 (테스트 오버라이드 가능)
+     */
+    protected Path getInputCsvPath() {
+        return Paths.get("data/restaurant.csv");
+    }
+
+    /**
+     * 파티션 디렉토리 경로 반환 (테스트 오버라이드 가능)
+     */
+    protected Path getPartitionDirPath() {
+        return Paths.get("data/partitioned");
+    }
+}
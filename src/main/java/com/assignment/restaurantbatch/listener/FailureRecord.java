@@ -0,0 +1,19 @@
+package com.assignment.restaurantbatch.listener;
+
+/**
+ * 실패 로그에 기록되는 항목입니다. {@link FailureRecordSink}는 (입력 파일, recordNumber) 기준으로 한 번만 기록합니다.
+ */
+public interface FailureRecord {
+
+    /**
+     * @return 원본 레코드 번호 (알 수 없으면 null, 이 경우 중복 제거 없이 기록)
+     */
+    Integer getRecordNumber();
+
+    /**
+     * @return 여러 파일 적재 시 행을 읽은 입력 파일 구분자 (&lt;순번&gt;_&lt;파일명&gt;), 단일 파일 적재는 null
+     */
+    default String getSourceFile() {
+        return null;
+    }
+}
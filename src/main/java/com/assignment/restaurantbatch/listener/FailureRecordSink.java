@@ -0,0 +1,290 @@
+package com.assignment.restaurantbatch.listener;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 실패 레코드를 백그라운드 단일 writer 스레드로 기록하는 싱크입니다.
+ * <p>
+ * - 여러 파티션 스레드는 큐에 레코드를 넣기만 하고, 파일 I/O는 writer 스레드 하나가 전담합니다.<br>
+ * - 파일은 Job당 한 번만 열리며, 큐에 쌓인 레코드를 묶어서 버퍼에 기록합니다.<br>
+ * - 파일명이 {@code .gz}로 끝나면 gzip으로 압축하여 기록합니다.<br>
+ * - 재시작한 Job은 {@link #openForAppend}로 이전 실행이 남긴 파일 끝에 이어서 기록합니다. (gzip은 새 member로 이어 붙임)<br>
+ * - 큐가 가득 차면 생산자 스레드는 대기합니다 (backpressure).<br>
+ * - 중복 제거는 (입력 파일, recordNumber) 기준으로 writer 스레드에서 {@link RecordKeys}로 수행하므로 별도 동기화가 필요 없습니다.<br>
+ * - 여러 파일 적재의 행은 실패 로그 컬럼에 입력 파일을 담을 수 없으므로(재처리 입력으로 그대로 쓰임),
+ *   기록한 (입력 파일, recordNumber)를 {@link #sourcesFile} 보조 파일에 함께 남겨 재시작 시 이어받을 수 있게 합니다.<br>
+ * - 레코드 하나의 변환 오류는 그 레코드만 건너뜁니다. 파일 쓰기 오류가 나면 싱크를 실패 상태로 바꾸고,
+ *   writer 스레드는 종료 신호까지 큐를 비우기만 하며 이후 {@link #offer}는 대기 없이 버립니다.
+ */
+@Slf4j
+public class FailureRecordSink implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 8_192;
+
+    /** writer 스레드가 한 번에 꺼내는 최대 레코드 수 */
+    private static final int DRAIN_BATCH_SIZE = 1_024;
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    /** 큐가 가득 찼을 때 writer 스레드 상태를 다시 확인하는 간격 */
+    private static final long OFFER_WAIT_MILLIS = 100;
+
+    /** 여러 파일 적재 시 기록한 행의 입력 파일 목록 파일 확장자 */
+    private static final String SOURCES_SUFFIX = ".sources";
+
+    /** 종료 신호용 센티널 */
+    private static final FailureRecord POISON_PILL = () -> null;
+
+    private final Path failureFile;
+    private final String headerLine;
+    private final Function<FailureRecord, String> lineFormatter;
+    private final BlockingQueue<FailureRecord> queue;
+
+    /** 입력 파일 목록 writer (writer 스레드 전용, 입력 파일이 있는 행을 처음 기록할 때 열림) */
+    private BufferedWriter sourcesWriter;
+
+    private volatile Thread writerThread;
+    private volatile boolean closed;
+    private volatile boolean failed;
+
+    public FailureRecordSink(Path failureFile, String headerLine, Function<FailureRecord, String> lineFormatter) {
+        this(failureFile, headerLine, lineFormatter, DEFAULT_CAPACITY);
+    }
+
+    public FailureRecordSink(Path failureFile, String headerLine,
+                             Function<FailureRecord, String> lineFormatter, int capacity) {
+        this.failureFile = failureFile;
+        this.headerLine = headerLine;
+        this.lineFormatter = lineFormatter;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * 파일을 열고 헤더를 기록한 뒤 writer 스레드를 시작합니다. 여러 번 호출해도 한 번만 실행됩니다.
+     */
+    public synchronized void open() {
+        open(false, new RecordKeys());
+    }
+
+    /**
+     * 기존 파일 끝에 이어서 기록하도록 열고 writer 스레드를 시작합니다. 파일이 이미 있으면 헤더를 다시 쓰지 않습니다.
+     *
+     * @param recorded 기존 파일에 이미 기록된 (입력 파일, recordNumber) (중복 기록하지 않음, 이후 writer 스레드가 소유)
+     */
+    public synchronized void openForAppend(RecordKeys recorded) {
+        open(true, recorded);
+    }
+
+    private void open(boolean append, RecordKeys recorded) {
+        if (writerThread != null || closed) return;
+
+        BufferedWriter writer = newWriter(append);
+        writerThread = new Thread(() -> drainLoop(writer, recorded), "failure-sink");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 실패 레코드를 큐에 추가합니다. 큐가 가득 찬 경우 공간이 생길 때까지 대기합니다.
+     * 싱크가 실패 상태이거나 writer 스레드가 끝났으면 기다리지 않고 버립니다.
+     */
+    public void offer(FailureRecord item) {
+        if (item == null) return;
+        if (closed) {
+            log.warn("이미 종료된 실패 로그 싱크에 기록 시도: recordNumber={}", item.getRecordNumber());
+            return;
+        }
+        if (failed) return;
+        open();
+
+        try {
+            while (!queue.offer(item, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (failed || !writerThread.isAlive()) return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("실패 라인 큐 적재 중 인터럽트 발생: recordNumber={}", item.getRecordNumber());
+        }
+    }
+
+    /**
+     * 남은 레코드를 모두 기록한 뒤 파일을 닫습니다.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        if (writerThread == null) return;
+
+        try {
+            while (!queue.offer(POISON_PILL, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!writerThread.isAlive()) break;
+            }
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("실패 로그 싱크 종료 대기 중 인터럽트 발생");
+        }
+    }
+
+    private BufferedWriter newWriter(boolean append) {
+        boolean writeHeader = !append || !Files.exists(failureFile);
+        try {
+            if (!append) {
+                Files.deleteIfExists(sourcesFile(failureFile));
+            }
+            OutputStream out = Files.newOutputStream(failureFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+            if (failureFile.getFileName().toString().endsWith(".gz")) {
+                out = new GZIPOutputStream(out, WRITE_BUFFER_SIZE);
+            }
+            BufferedWriter writer = new BufferedWriter(
+                    new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+            if (writeHeader) {
+                writer.write(headerLine);
+                writer.newLine();
+            }
+            return writer;
+        } catch (IOException e) {
+            throw new UncheckedIOException("실패 로그 파일 열기 실패: " + failureFile, e);
+        }
+    }
+
+    /**
+     * writer 스레드 본체. 큐에서 레코드를 묶음으로 꺼내 기록하고, 큐가 비면 flush 합니다.
+     * 실패 상태가 되면 종료 신호를 받을 때까지 꺼낸 레코드를 버립니다. (대기 중인 생산자와 close()가 멈추지 않도록)
+     */
+    private void drainLoop(BufferedWriter writer, RecordKeys seenRecords) {
+        List<FailureRecord> batch = new ArrayList<>(DRAIN_BATCH_SIZE);
+        boolean running = true;
+        long discarded = 0;
+
+        try (writer) {
+            while (running) {
+                batch.add(queue.take());
+                queue.drainTo(batch, DRAIN_BATCH_SIZE - 1);
+
+                for (FailureRecord item : batch) {
+                    if (item == POISON_PILL) {
+                        running = false;
+                        continue;
+                    }
+                    if (failed) {
+                        discarded++;
+                        continue;
+                    }
+                    Integer recordNumber = item.getRecordNumber();
+                    String source = item.getSourceFile();
+                    if (recordNumber != null && !seenRecords.add(source, recordNumber)) continue; // 중복이면 기록하지 않음
+
+                    try {
+                        writer.write(lineFormatter.apply(item));
+                        writer.newLine();
+                        if (source != null && recordNumber != null) {
+                            writeSource(source, recordNumber);
+                        }
+                    } catch (RuntimeException e) {
+                        log.error("실패 라인 변환 중 오류 - 건너뜀: recordNumber={}", recordNumber, e);
+                    } catch (IOException e) {
+                        fail(e);
+                        discarded++;
+                    }
+                }
+                batch.clear();
+
+                if (!failed && queue.isEmpty()) {
+                    try {
+                        writer.flush();
+                        if (sourcesWriter != null) sourcesWriter.flush();
+                    } catch (IOException e) {
+                        fail(e);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed = true;
+            queue.clear();
+            log.error("실패 로그 writer 스레드 인터럽트 발생");
+        } catch (IOException e) {
+            if (!failed) {
+                log.error("실패 로그 파일 close 중 오류: {}", failureFile, e);
+            }
+        } catch (RuntimeException | Error e) {
+            failed = true;
+            queue.clear();
+            log.error("실패 로그 writer 스레드 비정상 종료: {}", failureFile, e);
+            throw e;
+        } finally {
+            closeSourcesWriter();
+        }
+
+        if (failed) {
+            log.error("실패 로그 기록 중단: {} (고유 실패 건수={}, 버린 건수={})", failureFile, seenRecords.size(), discarded);
+        } else {
+            log.info("실패 로그 기록 완료: {} (고유 실패 건수={})", failureFile, seenRecords.size());
+        }
+    }
+
+    /**
+     * 기록한 행의 (입력 파일, recordNumber)를 입력 파일 목록 파일에 남깁니다.
+     * 새로 연 싱크는 시작할 때 이전 파일을 지우므로 항상 이어 쓰기로 엽니다.
+     */
+    private void writeSource(String source, int recordNumber) throws IOException {
+        if (sourcesWriter == null) {
+            sourcesWriter = Files.newBufferedWriter(sourcesFile(failureFile), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        sourcesWriter.write(source + "," + recordNumber);
+        sourcesWriter.newLine();
+    }
+
+    private void closeSourcesWriter() {
+        if (sourcesWriter == null) return;
+        try {
+            sourcesWriter.close();
+        } catch (IOException e) {
+            log.error("입력 파일 목록 파일 close 중 오류: {}", sourcesFile(failureFile), e);
+        }
+    }
+
+    private void fail(IOException e) {
+        if (!failed) {
+            failed = true;
+            log.error("실패 로그 파일 쓰기 오류 - 이후 실패 레코드는 기록하지 않습니다: {}", failureFile, e);
+        }
+    }
+
+    /** 파일 쓰기 오류로 실패 레코드 기록을 중단했는지 여부 */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public Path getFailureFile() {
+        return failureFile;
+    }
+
+    /**
+     * 실패 로그에 기록한 여러 파일 적재 행의 (입력 파일, recordNumber) 목록 파일 ({@code <실패 로그>.sources}, 한 줄에 "입력 파일,번호")
+     */
+    public static Path sourcesFile(Path failureFile) {
+        return failureFile.resolveSibling(failureFile.getFileName() + SOURCES_SUFFIX);
+    }
+}
@@ -0,0 +1,39 @@
+package com.assignment.restaurantbatch.listener;
+
+import com.assignment.restaurantbatch.util.IntHashSet;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 원본 행을 (입력 파일, recordNumber)로 구분하여 보관하는 Set입니다.
+ * <p>
+ * - 여러 파일 적재에서는 파일마다 번호가 1부터 시작할 수 있으므로 번호만으로는 행을 구분할 수 없습니다.<br>
+ * - 입력 파일 구분자({@link FailureRecord#getSourceFile()})가 없는 단일 파일 적재의 행은 null 구분자 하나에 모입니다.<br>
+ * - 입력 파일마다 {@link IntHashSet} 하나를 두므로 번호는 박싱 없이 저장됩니다.<br>
+ * - 스레드 안전하지 않으므로 여러 스레드에서 쓸 때는 호출 측에서 동기화해야 합니다.
+ */
+public class RecordKeys {
+
+    private final Map<String, IntHashSet> bySource = new HashMap<>();
+    private int size;
+
+    /**
+     * @param source 입력 파일 구분자 (단일 파일 적재는 null)
+     * @return 새로 추가되었으면 true, 이미 존재하면 false
+     */
+    public boolean add(String source, int recordNumber) {
+        boolean added = bySource.computeIfAbsent(source, key -> new IntHashSet()).add(recordNumber);
+        if (added) size++;
+        return added;
+    }
+
+    public boolean contains(String source, int recordNumber) {
+        IntHashSet numbers = bySource.get(source);
+        return numbers != null && numbers.contains(recordNumber);
+    }
+
+    public int size() {
+        return size;
+    }
+}
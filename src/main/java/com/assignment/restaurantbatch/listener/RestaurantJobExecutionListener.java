@@ -40,8 +40,9 @@ public class RestaurantJobExecutionListener implements JobExecutionListener {
      */
     @Override
     public void afterJob(JobExecution jobExecution) {
+        // 파티션별 슬레이브 스텝(slaveStep:partitionN)만 집계 (마스터 스텝과 Job 수준 스텝 제외)
         List<StepExecution> steps = jobExecution.getStepExecutions().stream()
-                .filter(step -> !step.getStepName().equals("masterStep"))
+                .filter(step -> step.getStepName().startsWith("slaveStep"))
                 .toList();
 
         long totalRead = steps.stream().mapToLong(StepExecution::getReadCount).sum();
@@ -1,20 +1,26 @@
 package com.assignment.restaurantbatch.listener;
 
 import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.SchemaDtoBinder;
+import com.assignment.restaurantbatch.schema.SchemaRecord;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
 import org.springframework.batch.core.SkipListener;
-import org.springframework.batch.core.StepExecution;
-import org.springframework.batch.core.StepExecutionListener;
-import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
 
-import java.io.BufferedWriter;
+import java.io.BufferedReader;
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
 
 /**
  * {@code RestaurantSkipListener}는 Spring Batch의 병렬 처리 환경에서도
@@ -22,42 +28,159 @@ import java.util.concurrent.ConcurrentHashMap;
  *
  * <p>다음 기능을 제공합니다:
  * <ul>
- *   <li>병렬 Step 간 충돌 없이 하나의 파일에 append</li>
- *   <li>헤더는 최초 1회만 기록 (beforeStep에서 처리)</li>
- *   <li>recordNumber 기준 중복 항목은 기록하지 않음</li>
+ *   <li>모든 파티션의 실패 항목을 {@link FailureRecordSink} 큐에 적재하고, 단일 writer 스레드가 기록</li>
+ *   <li>실패 로그 파일은 Job당 한 번만 열리며 헤더도 한 번만 기록 (beforeJob에서 처리)</li>
+ *   <li>재시작한 Job은 이전 실행이 남긴 파일에 이어서 기록하고, 이미 기록된 행은 스킵된 것으로 이어받음</li>
+ *   <li>(입력 파일, recordNumber) 기준 중복 항목은 Job 범위 내에서 한 번만 기록 (여러 파일 적재는 파일마다 번호가 1부터 시작할 수 있음)</li>
+ *   <li>afterJob에서 남은 항목을 모두 flush 후 파일을 닫음</li>
+ *   <li>스킵된 (입력 파일, recordNumber)를 보관하여 적재 후 정합성 검증에서 비교 대상에서 제외</li>
  * </ul>
+ *
+ * <p>헤더는 적재 중인 데이터셋의 {@link DatasetSchema}에서 만들어지며, DTO 행은 {@link SchemaDtoBinder}로 같은 컬럼 순서의 라인이 됩니다.
+ * 스키마 기반 데이터셋의 행({@link SchemaRecord})은 {@link SchemaSkipListener}를 통해 원본 값 그대로 기록됩니다.
  */
 @Slf4j
-public class RestaurantSkipListener implements SkipListener<RestaurantCsvDto, RestaurantCsvDto>, StepExecutionListener {
+public class RestaurantSkipListener implements SkipListener<RestaurantCsvDto, RestaurantCsvDto>, JobExecutionListener {
 
     private final Path failureFile;
 
-    // recordNumber 중복 제거용 (스레드 안전)
-    private static final Set<String> seenRecordNumbers = ConcurrentHashMap.newKeySet();
+    private final DatasetSchema schema;
+
+    private final FailureRecordSink sink;
+
+    /** 재시작 여부 판단용 (null이면 항상 새로 기록) */
+    private final JobExplorer jobExplorer;
+
+    /** 처리/쓰기 단계에서 스킵된 (입력 파일, recordNumber) (여러 파티션 스레드에서 추가하므로 this로 동기화) */
+    private final RecordKeys skippedRecords = new RecordKeys();
 
     public RestaurantSkipListener(Path failureFile) {
+        this(failureFile, DatasetSchema.restaurant());
+    }
+
+    public RestaurantSkipListener(Path failureFile, int queueCapacity) {
+        this(failureFile, DatasetSchema.restaurant(), queueCapacity);
+    }
+
+    public RestaurantSkipListener(Path failureFile, DatasetSchema schema) {
+        this(failureFile, schema, FailureRecordSink.DEFAULT_CAPACITY);
+    }
+
+    public RestaurantSkipListener(Path failureFile, DatasetSchema schema, int queueCapacity) {
+        this(failureFile, schema, queueCapacity, null);
+    }
+
+    public RestaurantSkipListener(Path failureFile, DatasetSchema schema, JobExplorer jobExplorer) {
+        this(failureFile, schema, FailureRecordSink.DEFAULT_CAPACITY, jobExplorer);
+    }
+
+    public RestaurantSkipListener(Path failureFile, DatasetSchema schema, int queueCapacity, JobExplorer jobExplorer) {
         this.failureFile = failureFile;
+        this.schema = schema;
+        this.jobExplorer = jobExplorer;
         try {
             Files.createDirectories(failureFile.getParent());
         } catch (IOException e) {
             throw new UncheckedIOException("디렉토리 생성 실패", e);
         }
+        this.sink = new FailureRecordSink(failureFile, schema.headerLine(), this::buildCsvLine, queueCapacity);
     }
 
     /**
-     * Step 시작 전 헤더를 기록합니다. 모든 스레드에 대해 최초 한 번만 실행됩니다.
+     * Job 시작 시 실패 로그 파일을 열고 헤더를 기록합니다. 파티션 수와 관계없이 한 번만 실행됩니다.
+     * <p>
+     * 재시작한 Job은 같은 failureLog 파라미터를 쓰며, 완료된 파티션은 다시 실행되지 않습니다.
+     * 그래서 Job 인스턴스에 이전 실행이 있고 파일이 있으면 파일을 비우지 않고 이어서 기록합니다.
      */
     @Override
-    public void beforeStep(StepExecution stepExecution) {
-        try (BufferedWriter writer = Files.newBufferedWriter(failureFile,
-                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
-            writer.write(buildHeaderLine());
-            writer.newLine();
+    public void beforeJob(JobExecution jobExecution) {
+        if (!isRestart(jobExecution) || !Files.exists(failureFile)) {
+            sink.open();
+            return;
+        }
+        RecordKeys recorded = readRecorded();
+        log.info("재시작: 기존 실패 로그에 이어서 기록 - {} (기록된 건수={})", failureFile, recorded.size());
+        sink.openForAppend(recorded);
+    }
+
+    private boolean isRestart(JobExecution jobExecution) {
+        return jobExecution != null && jobExplorer != null && jobExecution.getJobInstance() != null
+                && jobExplorer.getJobExecutions(jobExecution.getJobInstance()).size() > 1;
+    }
+
+    /**
+     * 이전 실행이 기록한 행을 읽어 스킵된 것으로 등록합니다.
+     * 여러 파일 적재의 행은 실패 로그에 입력 파일이 없으므로 {@link FailureRecordSink#sourcesFile} 목록에서 읽습니다.
+     */
+    private RecordKeys readRecorded() {
+        RecordKeys recorded = new RecordKeys();
+        readRecordedNumbers(recorded);
+        readRecordedSources(recorded);
+        return recorded;
+    }
+
+    /**
+     * 단일 파일 적재의 실패 로그에서 recordNumber를 읽습니다. 입력 파일 목록이 있으면(여러 파일 적재) 그 목록만 사용합니다.
+     * 강제 종료로 마지막 라인이나 gzip 스트림이 잘린 경우 읽은 데까지만 사용합니다.
+     */
+    private void readRecordedNumbers(RecordKeys recorded) {
+        if (Files.exists(FailureRecordSink.sourcesFile(failureFile))) return;
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setStrict(false);
+        try (InputStream in = openExisting();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            reader.readLine(); // 헤더
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Integer recordNumber;
+                try {
+                    recordNumber = schema.toRecord(tokenizer.tokenize(line).getValues()).getRecordNumber();
+                } catch (RuntimeException e) {
+                    continue; // 잘린 라인
+                }
+                if (recordNumber != null) {
+                    recorded.add(null, recordNumber);
+                    recordSkipped(null, recordNumber);
+                }
+            }
+        } catch (EOFException e) {
+            log.warn("기존 실패 로그가 중간에 잘려 있어 읽은 데까지만 이어받습니다: {}", failureFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("기존 실패 로그 읽기 실패: " + failureFile, e);
+        }
+    }
+
+    /**
+     * 여러 파일 적재에서 기록한 (입력 파일, recordNumber) 목록을 읽습니다. 강제 종료로 잘린 마지막 라인은 무시합니다.
+     */
+    private void readRecordedSources(RecordKeys recorded) {
+        Path sourcesFile = FailureRecordSink.sourcesFile(failureFile);
+        if (!Files.exists(sourcesFile)) return;
+        try (BufferedReader reader = Files.newBufferedReader(sourcesFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comma = line.lastIndexOf(',');
+                int recordNumber;
+                try {
+                    recordNumber = Integer.parseInt(line.substring(comma + 1));
+                } catch (NumberFormatException e) {
+                    continue; // 잘린 라인
+                }
+                if (comma <= 0) continue;
+                String source = line.substring(0, comma);
+                recorded.add(source, recordNumber);
+                recordSkipped(source, recordNumber);
+            }
         } catch (IOException e) {
-            throw new UncheckedIOException("헤더 기록 실패", e);
+            throw new UncheckedIOException("기존 입력 파일 목록 읽기 실패: " + sourcesFile, e);
         }
     }
 
+    private InputStream openExisting() throws IOException {
+        InputStream in = Files.newInputStream(failureFile);
+        return failureFile.getFileName().toString().endsWith(".gz") ? new GZIPInputStream(in) : in;
+    }
+
     @Override
     public void onSkipInRead(Throwable t) {
         log.warn("읽기 단계 Skip 발생: {}", t.getMessage());
@@ -65,69 +188,62 @@ public class RestaurantSkipListener implements SkipListener<RestaurantCsvDto, Re
 
     @Override
     public void onSkipInProcess(RestaurantCsvDto item, Throwable t) {
-        writeFailureLine(item);
+        recordSkipped(item);
+        sink.offer(item);
     }
 
     @Override
     public void onSkipInWrite(RestaurantCsvDto item, Throwable t) {
-        writeFailureLine(item);
+        recordSkipped(item);
+        sink.offer(item);
     }
 
     /**
-     * 실패 항목을 파일에 기록합니다. 중복된 recordNumber는 한 번만 기록됩니다.
+     * 스키마 기반 데이터셋에서 스킵된 행을 기록합니다.
      */
-    private void writeFailureLine(RestaurantCsvDto item) {
-        if (item == null) return;
+    public void onSkip(SchemaRecord item) {
+        recordSkipped(item);
+        sink.offer(item);
+    }
 
-        String key = String.valueOf(item.getRecordNumber());
-        if (!seenRecordNumbers.add(key)) return; // 중복이면 기록하지 않음
+    /**
+     * 단일 파일 적재에서 recordNumber가 지금까지 스킵된 행인지 반환합니다.
+     */
+    public boolean isSkipped(int recordNumber) {
+        return isSkipped(null, recordNumber);
+    }
 
-        try (BufferedWriter writer = Files.newBufferedWriter(failureFile,
-                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
-            writer.write(buildCsvLine(item));
-            writer.newLine();
-        } catch (IOException e) {
-            log.error("실패 라인 기록 중 오류", e);
+    /**
+     * 입력 파일의 recordNumber가 지금까지 스킵된 행인지 반환합니다.
+     *
+     * @param source 입력 파일 구분자 (단일 파일 적재는 null)
+     */
+    public synchronized boolean isSkipped(String source, int recordNumber) {
+        return skippedRecords.contains(source, recordNumber);
+    }
+
+    private void recordSkipped(FailureRecord item) {
+        if (item != null && item.getRecordNumber() != null) {
+            recordSkipped(item.getSourceFile(), item.getRecordNumber());
         }
     }
 
-    private String buildHeaderLine() {
-        return "\"번호\",\"개방서비스명\",\"개방서비스아이디\",\"개방자치단체코드\",\"관리번호\",\"인허가일자\",\"인허가취소일자\"," +
-                "\"영업상태구분코드\",\"영업상태명\",\"상세영업상태코드\",\"상세영업상태명\",\"폐업일자\",\"휴업시작일자\",\"휴업종료일자\"," +
-                "\"재개업일자\",\"소재지전화\",\"소재지면적\",\"소재지우편번호\",\"소재지전체주소\",\"도로명전체주소\",\"도로명우편번호\"," +
-                "\"사업장명\",\"최종수정시점\",\"데이터갱신구분\",\"데이터갱신일자\",\"업태구분명\",\"좌표정보x(epsg5174)\"," +
-                "\"좌표정보y(epsg5174)\",\"위생업태명\",\"남성종사자수\",\"여성종사자수\",\"영업장주변구분명\",\"등급구분명\"," +
-                "\"급수시설구분명\",\"총직원수\",\"본사직원수\",\"공장사무직직원수\",\"공장판매직직원수\",\"공장생산직직원수\"," +
-                "\"건물소유구분명\",\"보증액\",\"월세액\",\"다중이용업소여부\",\"시설총규모\",\"전통업소지정번호\",\"전통업소주된음식\"," +
-                "\"홈페이지\"";
-    }
-
-    private String buildCsvLine(RestaurantCsvDto item) {
-        return String.join(",", quote(item.getRecordNumber()),
-                quote(item.getServiceName()), quote(item.getServiceId()), quote(item.getRegionCode()),
-                quote(item.getManagementNumber()), quote(item.getLicenseDate()), quote(item.getCancelDate()),
-                quote(item.getBusinessStatusCode()), quote(item.getBusinessStatusName()), quote(item.getDetailStatusCode()),
-                quote(item.getDetailStatusName()), quote(item.getCloseDate()), quote(item.getSuspendStartDate()),
-                quote(item.getSuspendEndDate()), quote(item.getReopenDate()), quote(item.getPhone()),
-                quote(item.getAreaSize()), quote(item.getPostalCode()), quote(item.getFullAddress()),
-                quote(item.getRoadAddress()), quote(item.getRoadPostalCode()), quote(item.getStoreName()),
-                quote(item.getLastModified()), quote(item.getDataUpdateType()), quote(item.getDataUpdateDate()),
-                quote(item.getBusinessType()), quote(item.getCoordX()), quote(item.getCoordY()),
-                quote(item.getSanitationType()), quote(item.getMaleEmployee()), quote(item.getFemaleEmployee()),
-                quote(item.getAroundInfo()), quote(item.getGrade()), quote(item.getWaterType()),
-                quote(item.getTotalEmployees()), quote(item.getHqEmployees()), quote(item.getOfficeEmployees()),
-                quote(item.getSalesEmployees()), quote(item.getProductionEmployees()), quote(item.getBuildingOwnership()),
-                quote(item.getGuaranteeAmount()), quote(item.getMonthlyRent()), quote(item.getMultiUseYn()),
-                quote(item.getTotalScale()), quote(item.getTraditionalId()), quote(item.getMainMenu()),
-                quote(item.getHomepage()));
-    }
-
-    private String quote(Object value) {
-        return "\"" + (value == null ? "" : value.toString().replace("\"", "\"\"")) + "\"";
+    private synchronized void recordSkipped(String source, int recordNumber) {
+        skippedRecords.add(source, recordNumber);
     }
 
+    /**
+     * Job 종료 시 큐에 남은 실패 항목을 모두 기록하고 파일을 닫습니다.
+     */
     @Override
-    public ExitStatus afterStep(StepExecution stepExecution) {
-        return ExitStatus.COMPLETED;
+    public void afterJob(JobExecution jobExecution) {
+        sink.close();
+    }
+
+    private String buildCsvLine(FailureRecord record) {
+        if (record instanceof SchemaRecord schemaRecord) {
+            return schema.csvLine(schemaRecord);
+        }
+        return SchemaDtoBinder.restaurant().csvLine((RestaurantCsvDto) record);
     }
 }
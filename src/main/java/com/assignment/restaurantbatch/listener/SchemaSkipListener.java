@@ -0,0 +1,33 @@
+package com.assignment.restaurantbatch.listener;
+
+import com.assignment.restaurantbatch.schema.SchemaRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+
+/**
+ * 스키마 기반 슬레이브 스텝의 스킵 항목을 Job 단위 실패 로그({@link RestaurantSkipListener})로 넘기는 리스너입니다.
+ */
+@Slf4j
+public class SchemaSkipListener implements SkipListener<SchemaRecord, SchemaRecord> {
+
+    private final RestaurantSkipListener delegate;
+
+    public SchemaSkipListener(RestaurantSkipListener delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        log.warn("읽기 단계 Skip 발생: {}", t.getMessage());
+    }
+
+    @Override
+    public void onSkipInProcess(SchemaRecord item, Throwable t) {
+        delegate.onSkip(item);
+    }
+
+    @Override
+    public void onSkipInWrite(SchemaRecord item, Throwable t) {
+        delegate.onSkip(item);
+    }
+}
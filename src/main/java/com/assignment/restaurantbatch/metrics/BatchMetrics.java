@@ -0,0 +1,113 @@
+package com.assignment.restaurantbatch.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배치 처리 구간별 Micrometer 지표를 기록하는 컴포넌트입니다.
+ * <p>
+ * - 모든 지표는 {@code partition} 태그(슬레이브 스텝명)로 구분됩니다.<br>
+ * - 행 단위가 아닌 Chunk 단위로 기록하여 운영 환경에서도 상시 활성화할 수 있는 비용을 유지합니다.<br>
+ * - Timer는 (지표명, 파티션)마다 한 번만 등록해 재사용합니다. 파티션 수만큼 시계열이 늘어나므로
+ *   백분위 히스토그램은 발행하지 않고 count/sum/max만 남깁니다.
+ */
+@Component
+public class BatchMetrics {
+
+    public static final String PARTITION_TAG = "partition";
+    public static final String EXCEPTION_TAG = "exception";
+
+    /** Chunk 읽기 + 파싱 시간 (beforeChunk → beforeWrite) */
+    public static final String CHUNK_READ = "batch.chunk.read";
+    /** Chunk 쓰기 시간 (beforeWrite → afterWrite) */
+    public static final String CHUNK_WRITE = "batch.chunk.write";
+    /** Chunk 전체 시간 (beforeChunk → afterChunk, 메타데이터 커밋 포함) */
+    public static final String CHUNK_DURATION = "batch.chunk.duration";
+    /** MultiInsertWriter SQL 문자열 생성 시간 */
+    public static final String WRITER_SQL_BUILD = "batch.writer.sql.build";
+    /** MultiInsertWriter 파라미터 바인딩 시간 */
+    public static final String WRITER_BIND = "batch.writer.bind";
+    /** MultiInsertWriter 쿼리 실행 + 커밋 시간 */
+    public static final String WRITER_EXECUTE = "batch.writer.execute";
+    /** DataSource 커넥션 획득 대기 시간 */
+    public static final String WRITER_CONNECTION_ACQUIRE = "batch.writer.connection.acquire";
+
+    public static final String ROWS_READ = "batch.rows.read";
+    public static final String ROWS_WRITTEN = "batch.rows.written";
+    /** 최근 샘플 구간의 초당 커밋 행 수 (Job 전체 Gauge) */
+    public static final String ROWS_PER_SECOND = "batch.rows.per.second";
+    public static final String SKIPS = "batch.skips";
+    public static final String RETRIES = "batch.retries";
+
+    private static final String NO_PARTITION = "none";
+
+    private final MeterRegistry registry;
+    /** 지표명 → 파티션 → Timer */
+    private final Map<String, Map<String, Timer>> timers = new ConcurrentHashMap<>();
+
+    public BatchMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * 아무 곳에도 기록하지 않는 인스턴스를 반환합니다. (단위 테스트 및 계측 미사용 시)
+     */
+    public static BatchMetrics noop() {
+        return new BatchMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * 구간 소요 시간을 기록합니다.
+     */
+    public void recordTime(String name, String partition, long nanos) {
+        timer(name, partition).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * (지표명, 파티션)의 Timer를 반환합니다. 처음 호출될 때만 레지스트리에 등록합니다.
+     */
+    Timer timer(String name, String partition) {
+        Map<String, Timer> byPartition = timers.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+        Timer timer = byPartition.get(partition);
+        if (timer != null) {
+            return timer;
+        }
+        return byPartition.computeIfAbsent(partition, key -> Timer.builder(name)
+                .tag(PARTITION_TAG, key)
+                .register(registry));
+    }
+
+    /**
+     * 건수 카운터를 증가시킵니다.
+     */
+    public void increment(String name, String partition, long amount) {
+        registry.counter(name, PARTITION_TAG, partition).increment(amount);
+    }
+
+    /**
+     * 예외 유형별 카운터를 증가시킵니다. (스킵, 재시도)
+     */
+    public void increment(String name, String partition, Throwable t) {
+        registry.counter(name, PARTITION_TAG, partition, EXCEPTION_TAG, t.getClass().getSimpleName()).increment();
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * 현재 스레드에서 실행 중인 스텝명(예: slaveStep:partition0)을 반환합니다.
+     */
+    public static String currentPartition() {
+        StepContext context = StepSynchronizationManager.getContext();
+        return context == null ? NO_PARTITION : context.getStepName();
+    }
+}
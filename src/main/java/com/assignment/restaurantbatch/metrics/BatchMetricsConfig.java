@@ -0,0 +1,85 @@
+package com.assignment.restaurantbatch.metrics;
+
+import com.assignment.restaurantbatch.progress.BatchProgress;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+
+/**
+ * 배치 지표 리포터 및 Prometheus 수집 엔드포인트 설정 클래스입니다.
+ */
+@Configuration
+public class BatchMetricsConfig {
+
+    private static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+
+    /**
+     * Job 종료 시 지표를 JSON으로 저장하는 리스너 Bean입니다.
+     *
+     * @param jsonDir JSON 저장 디렉토리 (batch.metrics.json-dir)
+     */
+    @Bean
+    public MetricsJsonReporter metricsJsonReporter(
+            BatchMetrics batchMetrics,
+            @Value("${batch.metrics.json-dir:data/metrics}") String jsonDir
+    ) {
+        return new MetricsJsonReporter(batchMetrics, Paths.get(jsonDir));
+    }
+
+    /**
+     * 실행 중 초당 커밋 행 수를 {@link BatchMetrics#ROWS_PER_SECOND} Gauge로 노출합니다.
+     * 값은 {@link BatchProgress#snapshot()}의 최근 샘플 구간 처리 속도이며, Job이 실행 중이 아니면 0입니다.
+     * 다른 Bean이 참조하지 않으므로 {@code @Lazy(false)}를 지정합니다.
+     */
+    @Bean
+    @Lazy(false)
+    public Gauge rowsPerSecondGauge(BatchMetrics batchMetrics, BatchProgress batchProgress) {
+        return Gauge.builder(BatchMetrics.ROWS_PER_SECOND, batchProgress, progress -> progress.snapshot().rowsPerSecond())
+                .register(batchMetrics.getRegistry());
+    }
+
+    /**
+     * Prometheus 수집용 {@code /metrics}, 진행률 조회용 {@code /progress} 엔드포인트를 제공하는 HTTP 서버 Bean입니다.
+     * batch.metrics.http.enabled=true 일 때만 생성됩니다. (기본값 false) 다른 Bean이 참조하지 않으므로
+     * 지연 초기화(cds 프로파일)에서도 시작 시점에 생성되도록 {@code @Lazy(false)}를 지정합니다.
+     *
+     * @param port 서버 포트 (batch.metrics.http.port)
+     */
+    @Bean(destroyMethod = "stop")
+    @Lazy(false)
+    @ConditionalOnProperty(prefix = "batch.metrics.http", name = "enabled", havingValue = "true")
+    public MetricsHttpServer metricsHttpServer(
+            @Value("${batch.metrics.http.port:9404}") int port,
+            ObjectProvider<PrometheusMeterRegistry> prometheusRegistry,
+            BatchProgress batchProgress
+    ) {
+        MetricsHttpServer server = new MetricsHttpServer(port);
+        server.start();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        server.register("/progress", JSON_CONTENT_TYPE, () -> {
+            try {
+                return objectMapper.writeValueAsString(batchProgress.snapshot());
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        PrometheusMeterRegistry registry = prometheusRegistry.getIfAvailable();
+        if (registry != null) {
+            server.register("/metrics", PROMETHEUS_CONTENT_TYPE, registry::scrape);
+        }
+        return server;
+    }
+}
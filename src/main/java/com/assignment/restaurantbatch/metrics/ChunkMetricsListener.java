@@ -0,0 +1,57 @@
+package com.assignment.restaurantbatch.metrics;
+
+import com.assignment.restaurantbatch.listener.FailureRecord;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+/**
+ * 슬레이브 스텝의 Chunk 구간별 소요 시간과 처리 건수를 기록하는 리스너입니다.
+ * <p>
+ * - 읽기/파싱: beforeChunk → beforeWrite<br>
+ * - 쓰기: beforeWrite → afterWrite<br>
+ * - 전체: beforeChunk → afterChunk
+ * <p>
+ * 하나의 스텝 인스턴스가 여러 파티션 스레드에서 동시에 실행되므로 구간 시작 시각은 스레드별로 보관합니다.
+ */
+public class ChunkMetricsListener implements ChunkListener, ItemWriteListener<FailureRecord> {
+
+    private final BatchMetrics metrics;
+
+    /** [0] chunk 시작, [1] write 시작 (nanoTime) */
+    private final ThreadLocal<long[]> phaseStart = ThreadLocal.withInitial(() -> new long[2]);
+
+    public ChunkMetricsListener(BatchMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        phaseStart.get()[0] = System.nanoTime();
+    }
+
+    @Override
+    public void beforeWrite(Chunk<? extends FailureRecord> items) {
+        long now = System.nanoTime();
+        long[] start = phaseStart.get();
+        start[1] = now;
+
+        String partition = BatchMetrics.currentPartition();
+        metrics.recordTime(BatchMetrics.CHUNK_READ, partition, now - start[0]);
+        metrics.increment(BatchMetrics.ROWS_READ, partition, items.size());
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends FailureRecord> items) {
+        String partition = BatchMetrics.currentPartition();
+        metrics.recordTime(BatchMetrics.CHUNK_WRITE, partition, System.nanoTime() - phaseStart.get()[1]);
+        metrics.increment(BatchMetrics.ROWS_WRITTEN, partition, items.size());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        metrics.recordTime(BatchMetrics.CHUNK_DURATION, context.getStepContext().getStepName(),
+                System.nanoTime() - phaseStart.get()[0]);
+    }
+}
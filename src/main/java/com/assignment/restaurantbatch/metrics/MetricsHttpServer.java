@@ -0,0 +1,94 @@
+package com.assignment.restaurantbatch.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * 배치 지표를 외부에서 조회할 수 있도록 노출하는 경량 HTTP 서버입니다.
+ * <p>
+ * 배치 애플리케이션은 웹 서버 없이 실행되므로, JDK 내장 {@link HttpServer}를 데몬 스레드로 띄워
+ * Job 종료 후 JVM 종료를 막지 않도록 합니다.
+ */
+@Slf4j
+public class MetricsHttpServer {
+
+    private final int port;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public MetricsHttpServer(int port) {
+        this.port = port;
+    }
+
+    /**
+     * 서버를 시작합니다.
+     */
+    public synchronized void start() {
+        if (server != null) return;
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("지표 HTTP 서버 시작 실패: port=" + port, e);
+        }
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+        log.info("지표 HTTP 서버 시작: port={}", getPort());
+    }
+
+    /**
+     * 경로에 응답 본문 공급자를 등록합니다.
+     *
+     * @param path        요청 경로 (예: /metrics)
+     * @param contentType 응답 Content-Type
+     * @param body        요청마다 호출되는 응답 본문 공급자
+     */
+    public synchronized void register(String path, String contentType, Supplier<String> body) {
+        if (server == null) {
+            throw new IllegalStateException("지표 HTTP 서버가 시작되지 않았습니다.");
+        }
+        server.createContext(path, exchange -> respond(exchange, contentType, body));
+    }
+
+    /**
+     * 서버를 종료합니다.
+     */
+    public synchronized void stop() {
+        if (server == null) return;
+        server.stop(0);
+        executor.shutdownNow();
+        server = null;
+    }
+
+    /**
+     * 실제 바인딩된 포트를 반환합니다. (port=0 지정 시 임의 포트)
+     */
+    public int getPort() {
+        return server == null ? port : server.getAddress().getPort();
+    }
+
+    private void respond(HttpExchange exchange, String contentType, Supplier<String> body) throws IOException {
+        try (exchange) {
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+}
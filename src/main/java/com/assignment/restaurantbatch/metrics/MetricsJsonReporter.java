@@ -0,0 +1,99 @@
+package com.assignment.restaurantbatch.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Tag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Job 종료 시 누적된 배치 지표를 JSON 파일로 저장하는 리스너입니다.
+ * <p>
+ * - {@code batch.*}, {@code hikaricp.*} 지표만 대상으로 합니다.<br>
+ * - 파일명: {@code metrics-<jobExecutionId>.json}
+ */
+@Slf4j
+public class MetricsJsonReporter implements JobExecutionListener {
+
+    private final BatchMetrics metrics;
+    private final Path outputDir;
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public MetricsJsonReporter(BatchMetrics metrics, Path outputDir) {
+        this.metrics = metrics;
+        this.outputDir = outputDir;
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("jobName", jobExecution.getJobInstance().getJobName());
+        report.put("jobExecutionId", jobExecution.getId());
+        report.put("status", String.valueOf(jobExecution.getStatus()));
+
+        double rowsWritten = metrics.getRegistry().find(BatchMetrics.ROWS_WRITTEN).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+        long durationMillis = durationMillis(jobExecution);
+        report.put("rowsWritten", (long) rowsWritten);
+        report.put("durationMillis", durationMillis);
+        report.put("rowsPerSecond", durationMillis == 0 ? 0 : Math.round(rowsWritten * 1000 / durationMillis));
+        report.put("meters", collectMeters());
+
+        Path file = outputDir.resolve("metrics-" + jobExecution.getId() + ".json");
+        try {
+            Files.createDirectories(outputDir);
+            objectMapper.writeValue(file.toFile(), report);
+            log.info("배치 지표 JSON 저장: {}", file);
+        } catch (IOException e) {
+            log.warn("배치 지표 JSON 저장 실패: {}", file, e);
+        }
+    }
+
+    private List<Map<String, Object>> collectMeters() {
+        List<Map<String, Object>> meters = new ArrayList<>();
+        for (Meter meter : metrics.getRegistry().getMeters()) {
+            String name = meter.getId().getName();
+            if (!name.startsWith("batch.") && !name.startsWith("hikaricp.")) continue;
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("name", name);
+            entry.put("type", meter.getId().getType().name());
+
+            Map<String, String> tags = new LinkedHashMap<>();
+            for (Tag tag : meter.getId().getTags()) {
+                tags.put(tag.getKey(), tag.getValue());
+            }
+            entry.put("tags", tags);
+
+            Map<String, Double> values = new LinkedHashMap<>();
+            for (Measurement measurement : meter.measure()) {
+                values.put(measurement.getStatistic().getTagValueRepresentation(), measurement.getValue());
+            }
+            entry.put("measurements", values);
+            meters.add(entry);
+        }
+        return meters;
+    }
+
+    private long durationMillis(JobExecution jobExecution) {
+        LocalDateTime start = jobExecution.getStartTime();
+        if (start == null) return 0;
+        LocalDateTime end = Objects.requireNonNullElseGet(jobExecution.getEndTime(), LocalDateTime::now);
+        return Duration.between(start, end).toMillis();
+    }
+}
@@ -0,0 +1,42 @@
+package com.assignment.restaurantbatch.metrics;
+
+import com.assignment.restaurantbatch.listener.FailureRecord;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+
+/**
+ * 스킵 및 재시도 발생 건수를 예외 유형별로 집계하는 리스너입니다.
+ */
+public class SkipRetryMetricsListener implements SkipListener<FailureRecord, FailureRecord>, RetryListener {
+
+    private final BatchMetrics metrics;
+
+    public SkipRetryMetricsListener(BatchMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        metrics.increment(BatchMetrics.SKIPS, BatchMetrics.currentPartition(), t);
+    }
+
+    @Override
+    public void onSkipInProcess(FailureRecord item, Throwable t) {
+        metrics.increment(BatchMetrics.SKIPS, BatchMetrics.currentPartition(), t);
+    }
+
+    @Override
+    public void onSkipInWrite(FailureRecord item, Throwable t) {
+        metrics.increment(BatchMetrics.SKIPS, BatchMetrics.currentPartition(), t);
+    }
+
+    /**
+     * 재시도 대상 예외가 발생할 때마다 호출됩니다.
+     */
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        metrics.increment(BatchMetrics.RETRIES, BatchMetrics.currentPartition(), throwable);
+    }
+}
@@ -0,0 +1,76 @@
+package com.assignment.restaurantbatch.multifile;
+
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 입력 파일을 분할한 파티션 파일을 크기 기준으로 묶어 파티션을 만듭니다.
+ * <p>
+ * - 가장 큰 분할 파일 크기를 기준으로, 이름순으로 이어지는 작은 파일들을 기준 크기를 넘지 않을 때까지 한 파티션에 묶습니다.
+ *   입력 파일마다 마지막 조각이나 작은 보정 파일이 각자 파티션 하나(스텝 실행, 커넥션, 커밋 주기)를 차지하지 않게 합니다.<br>
+ * - 각 파티션은 stepExecutionContext의 {@link #FILES_KEY}로 파일 경로 목록(줄바꿈 구분)을 전달받고,
+ *   리더는 파일 순번과 파일 안 위치를 체크포인트로 저장합니다.
+ */
+public class FileGroupPartitioner implements Partitioner {
+
+    /** 입력 파일 수 JobParameter (2 이상이면 이 Partitioner와 여러 파일 리더를 사용) */
+    public static final String INPUT_FILES_PARAM = "inputFiles";
+
+    /** 파티션이 읽을 파일 경로 목록 (줄바꿈 구분) */
+    public static final String FILES_KEY = "files";
+
+    private final File partitionDir;
+
+    public FileGroupPartitioner(File partitionDir) {
+        this.partitionDir = partitionDir;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        File[] files = partitionDir.listFiles((dir, name) -> CsvSplitter.isPartitionFile(name));
+        if (files == null || files.length == 0) {
+            throw new IllegalStateException("분할된 CSV 파일이 없음: " + partitionDir);
+        }
+        Arrays.sort(files);
+
+        Map<String, ExecutionContext> contexts = new HashMap<>();
+        for (List<File> group : group(files)) {
+            ExecutionContext context = new ExecutionContext();
+            context.putString(FILES_KEY, group.stream().map(File::getPath).collect(Collectors.joining("\n")));
+            // JFR 이벤트 등 파일 이름으로 파티션을 구분하는 곳에서 사용
+            context.putString("file", group.get(0).getName() + (group.size() > 1 ? "+" + (group.size() - 1) : ""));
+            contexts.put("partition" + contexts.size(), context);
+        }
+        return contexts;
+    }
+
+    /**
+     * 이름순 파일 목록을 가장 큰 파일 크기를 넘지 않는 연속 묶음으로 나눕니다.
+     */
+    static List<List<File>> group(File[] files) {
+        long target = Arrays.stream(files).mapToLong(File::length).max().orElse(0);
+        List<List<File>> groups = new ArrayList<>();
+        List<File> current = new ArrayList<>();
+        long size = 0;
+        for (File file : files) {
+            if (!current.isEmpty() && size + file.length() > target) {
+                groups.add(current);
+                current = new ArrayList<>();
+                size = 0;
+            }
+            current.add(file);
+            size += file.length();
+        }
+        groups.add(current);
+        return groups;
+    }
+}
@@ -0,0 +1,109 @@
+package com.assignment.restaurantbatch.multifile;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.file.MultiResourceItemReader;
+import org.springframework.core.io.Resource;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * 여러 파일 적재 시 슬레이브 스텝의 행을 입력 파일별로 {@link SourceFileStats}에 집계하는 리스너입니다.
+ * <p>
+ * 읽을 때 리더의 현재 파일로 행의 입력 파일을 기록해 두고, 쓰기/스킵 시 그 기록으로 입력 파일을 찾습니다.
+ * 쓰기 완료 건수는 {@code ProgressStepListener}처럼 커밋 이후(afterChunk)에 반영하고 롤백 시 버립니다.
+ */
+public class SourceFileListener implements StepExecutionListener, ChunkListener, ItemReadListener<RestaurantCsvDto>,
+        ItemWriteListener<RestaurantCsvDto>, SkipListener<RestaurantCsvDto, RestaurantCsvDto> {
+
+    private final MultiResourceItemReader<RestaurantCsvDto> reader;
+    private final SourceFileStats stats;
+
+    /** 현재 Chunk에서 읽은 행의 입력 파일 (Chunk 커밋 전까지 보관) */
+    private final ThreadLocal<Map<RestaurantCsvDto, String>> sources = ThreadLocal.withInitial(IdentityHashMap::new);
+
+    /** 현재 Chunk에서 쓰기 완료되었지만 아직 커밋되지 않은 입력 파일별 건수 */
+    private final ThreadLocal<Map<String, Integer>> pendingRows = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * @param reader 슬레이브 스텝 리더 (Step 범위 프록시, 실행 중인 파티션의 리더로 연결됨)
+     */
+    public SourceFileListener(MultiResourceItemReader<RestaurantCsvDto> reader, SourceFileStats stats) {
+        this.reader = reader;
+        this.stats = stats;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        sources.remove();
+        pendingRows.remove();
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void afterRead(RestaurantCsvDto item) {
+        String source = currentSource();
+        sources.get().put(item, source);
+        stats.addRead(source);
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends RestaurantCsvDto> items) {
+        Map<String, Integer> pending = pendingRows.get();
+        for (RestaurantCsvDto item : items) {
+            pending.merge(sourceOf(item), 1, Integer::sum);
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        pendingRows.get().forEach(stats::addWritten);
+        pendingRows.get().clear();
+        sources.get().clear();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        pendingRows.get().clear();
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        stats.addSkipped(currentSource());
+    }
+
+    @Override
+    public void onSkipInProcess(RestaurantCsvDto item, Throwable t) {
+        stats.addSkipped(sourceOf(item));
+    }
+
+    @Override
+    public void onSkipInWrite(RestaurantCsvDto item, Throwable t) {
+        stats.addSkipped(sourceOf(item));
+    }
+
+    private String sourceOf(RestaurantCsvDto item) {
+        String source = sources.get().get(item);
+        return source != null ? source : currentSource();
+    }
+
+    private String currentSource() {
+        Resource resource = reader.getCurrentResource();
+        if (resource == null || resource.getFilename() == null) {
+            return "unknown";
+        }
+        String source = CsvSplitter.sourceOf(resource.getFilename());
+        return source != null ? source : resource.getFilename();
+    }
+}
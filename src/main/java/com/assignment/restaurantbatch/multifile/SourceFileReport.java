@@ -0,0 +1,77 @@
+package com.assignment.restaurantbatch.multifile;
+
+import com.assignment.restaurantbatch.multifile.SourceFileStats.SourceSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 여러 파일 적재의 마스터 스텝 리스너입니다. 모든 파티션이 끝난 뒤 입력 파일별 읽기/쓰기/스킵 건수를 로그와 CSV 파일로 남깁니다.
+ * <p>
+ * 스킵된 행 자체는 실패 로그(RestaurantSkipListener)에 기록되므로 이 보고서에는 파일별 건수만 남깁니다.
+ */
+@Slf4j
+public class SourceFileReport implements StepExecutionListener {
+
+    private static final String HEADER = "source,read,written,skipped";
+
+    private final SourceFileStats stats;
+    private final Path reportFile;
+
+    /**
+     * @param reportFile 입력 파일별 집계 CSV 경로 (보통 실패 로그 옆)
+     */
+    public SourceFileReport(SourceFileStats stats, Path reportFile) {
+        this.stats = stats;
+        this.reportFile = reportFile;
+    }
+
+    /**
+     * 실패 로그 경로에서 보고서 경로를 만듭니다. (failed-xxx.csv → failed-xxx-files.csv)
+     */
+    public static Path reportFileFor(Path failureLog) {
+        String name = failureLog.getFileName().toString();
+        String base = name.endsWith(".csv") ? name.substring(0, name.length() - 4) : name;
+        return failureLog.resolveSibling(base + "-files.csv");
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        List<SourceSummary> summaries = stats.summaries();
+        for (SourceSummary summary : summaries) {
+            log.info("[입력 파일] {} - 읽기 {}건, 쓰기 {}건, 스킵 {}건",
+                    summary.source(), summary.read(), summary.written(), summary.skipped());
+        }
+
+        try {
+            write(summaries);
+            log.info("입력 파일별 집계 저장: {}", reportFile);
+        } catch (IOException e) {
+            log.warn("입력 파일별 집계 저장 실패: {}", e.getMessage());
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    void write(List<SourceSummary> summaries) throws IOException {
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (SourceSummary summary : summaries) {
+                writer.write("\"" + summary.source().replace("\"", "\"\"") + "\"," + summary.read() + ","
+                        + summary.written() + "," + summary.skipped());
+                writer.newLine();
+            }
+        }
+    }
+}
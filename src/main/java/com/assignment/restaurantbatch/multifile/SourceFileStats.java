@@ -0,0 +1,55 @@
+package com.assignment.restaurantbatch.multifile;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 입력 파일별 읽기/쓰기/스킵 행 수를 누적합니다. 여러 파일이 한 파티션에 묶이거나 한 파일이 여러 파티션에 나뉘므로
+ * 파티션이 아니라 입력 파일 구분자({@code CsvSplitter#sourceOf}) 기준으로 모든 파티션 스레드가 함께 더합니다.
+ */
+public class SourceFileStats {
+
+    private final Map<String, Counts> counts = new ConcurrentHashMap<>();
+
+    public void addRead(String source) {
+        counts(source).read.increment();
+    }
+
+    public void addWritten(String source, int rows) {
+        counts(source).written.add(rows);
+    }
+
+    public void addSkipped(String source) {
+        counts(source).skipped.increment();
+    }
+
+    private Counts counts(String source) {
+        return counts.computeIfAbsent(source, key -> new Counts());
+    }
+
+    /**
+     * 입력 파일별 집계를 구분자(입력 순번) 순서로 반환합니다.
+     */
+    public List<SourceSummary> summaries() {
+        List<SourceSummary> summaries = new ArrayList<>();
+        counts.forEach((source, c) -> summaries.add(new SourceSummary(source, c.read.sum(), c.written.sum(), c.skipped.sum())));
+        summaries.sort(Comparator.comparing(SourceSummary::source));
+        return summaries;
+    }
+
+    /**
+     * @param source 입력 파일 구분자 (&lt;입력 순번&gt;_&lt;파일명&gt;)
+     */
+    public record SourceSummary(String source, long read, long written, long skipped) {
+    }
+
+    private static final class Counts {
+        private final LongAdder read = new LongAdder();
+        private final LongAdder written = new LongAdder();
+        private final LongAdder skipped = new LongAdder();
+    }
+}
@@ -1,5 +1,7 @@
 package com.assignment.restaurantbatch.partition;
 
+import com.assignment.restaurantbatch.reader.TailFollowingInputStream;
+import com.assignment.restaurantbatch.util.CsvSplitter;
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.partition.support.MultiResourcePartitioner;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,6 +19,7 @@ import java.util.stream.Stream;
  * <p>
  * 주어진 디렉토리 내에서 특정 패턴의 CSV 파일들을 찾아 파티션 단위로 설정합니다.
  * 설정된 각 파일은 슬레이브 스텝에서 독립적으로 처리됩니다.
+ * 수신 폴더 감시 모드(JobParameter followFile)에서는 기록 중인 입력 파일 하나를 단일 파티션으로 설정합니다.
  */
 @Configuration
 public class RestaurantPartitionerConfig {
@@ -25,21 +28,30 @@ public class RestaurantPartitionerConfig {
      * 파티션 리소스를 생성하는 Partitioner 빈입니다.
      *
      * @param partitionDir 파티션 CSV 파일이 위치한 디렉토리 (JobParameter)
+     * @param followFile 따라 읽을 단일 입력 파일 (JobParameter, 지정 시 partitionDir 대신 사용)
      * @return MultiResourcePartitioner 인스턴스
      */
     @Bean
     @JobScope
     public MultiResourcePartitioner multiResourcePartitioner(
-            @Value("#{jobParameters['partitionDir']}") String partitionDir
+            @Value("#{jobParameters['partitionDir']}") String partitionDir,
+            @Value("#{jobParameters['" + TailFollowingInputStream.FOLLOW_FILE_PARAM + "']}") String followFile
     ) {
+        if (followFile != null) {
+            // 기록 중인 파일은 분할할 수 없으므로 파일 하나를 하나의 파티션으로 처리
+            MultiResourcePartitioner partitioner = new MultiResourcePartitioner();
+            partitioner.setKeyName("file");
+            partitioner.setResources(new Resource[]{new FileSystemResource(followFile)});
+            return partitioner;
+        }
+
         File folder = new File(partitionDir);
         if (!folder.exists() || !folder.isDirectory()) {
             throw new IllegalStateException("Partition 디렉토리가 존재하지 않거나 디렉토리가 아님: " + partitionDir);
         }
 
         // restaurant-part-xxx.csv 패턴 파일 필터링
-        File[] files = folder.listFiles((dir, name) ->
-                name.startsWith("restaurant-part") && name.endsWith(".csv"));
+        File[] files = folder.listFiles((dir, name) -> CsvSplitter.isPartitionFile(name));
 
         if (files == null || files.length == 0) {
             throw new IllegalStateException("분할된 CSV 파일이 없음: " + partitionDir);
@@ -0,0 +1,33 @@
+package com.assignment.restaurantbatch.policy;
+
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+/**
+ * 쓰기 전후로 {@link DbCircuitBreaker}를 거치게 하는 ItemWriter 래퍼입니다.
+ * <p>
+ * 재시도와 스킵 탐색(scan, 한 건씩 다시 쓰기)도 모두 이 writer를 거치므로,
+ * 차단기가 OPEN인 동안에는 오류 대신 대기하게 되어 일시적 DB 오류로 스킵되는 행이 줄어듭니다.
+ */
+public class CircuitBreakingItemWriter<T> implements ItemWriter<T> {
+
+    private final ItemWriter<T> delegate;
+    private final DbCircuitBreaker circuitBreaker;
+
+    public CircuitBreakingItemWriter(ItemWriter<T> delegate, DbCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        circuitBreaker.acquire();
+        try {
+            delegate.write(chunk);
+        } catch (Exception | Error e) {
+            circuitBreaker.onFailure(e);
+            throw e;
+        }
+        circuitBreaker.onSuccess();
+    }
+}
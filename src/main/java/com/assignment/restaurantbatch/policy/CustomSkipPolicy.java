@@ -1,11 +1,11 @@
 package com.assignment.restaurantbatch.policy;
 
+import com.assignment.restaurantbatch.shard.ShardCommitUncertainException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.step.skip.SkipLimitExceededException;
 import org.springframework.batch.core.step.skip.SkipPolicy;
 import org.springframework.batch.item.file.FlatFileParseException;
-import org.springframework.dao.TransientDataAccessException;
-import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.dao.DataAccessException;
 
 import java.io.FileNotFoundException;
 import java.io.UncheckedIOException;
@@ -16,8 +16,10 @@ import java.time.format.DateTimeParseException;
  * Spring Batch의 SkipPolicy 구현체입니다.
  * <p>
  * 예외 발생 시, 그 예외가 스킵 가능한 유형인지 판단하여 true/false를 반환합니다.<br>
- * - CSV 포맷 오류, 날짜/숫자 파싱 오류, 일시적인 DB 오류는 스킵 허용<br>
+ * - CSV 포맷 오류, 날짜/숫자 파싱 오류, 제약 위반 같은 데이터 오류는 스킵 허용<br>
  * - 치명적인 시스템 오류나 파일 시스템 오류는 스킵 불가<br>
+ * - DB 연결·일시적 오류({@link DbCircuitBreaker#isDbError})는 재시도 한도를 넘겨도 스킵 불가 (행을 버리지 않고 스텝을 실패시켜 재시작)<br>
+ * - 샤드 상태를 확인하지 못한 {@link ShardCommitUncertainException}은 스킵 불가 (한 건씩 다시 쓰면 샤드에 행이 중복됨)<br>
  */
 @Slf4j
 public class CustomSkipPolicy implements SkipPolicy {
@@ -42,6 +44,11 @@ public class CustomSkipPolicy implements SkipPolicy {
             return false;
         }
 
+        if (t instanceof ShardCommitUncertainException e) {
+            log.error("샤드 {} 커밋 상태 확인 불가 - 스킵 불가: {}", e.shard(), t.getMessage());
+            return false;
+        }
+
         if (t instanceof FlatFileParseException e) {
             log.warn("잘못된 CSV 포맷 - 스킵 처리 (line={}): {}", e.getLineNumber(), e.getInput());
             return true;
@@ -57,10 +64,13 @@ public class CustomSkipPolicy implements SkipPolicy {
             return true;
         }
 
-        if (t instanceof TransientDataAccessException
-                || t instanceof CannotGetJdbcConnectionException
-                || t instanceof SQLException) {
-            log.warn("일시적 SQL 오류 또는 JDBC 오류 - 스킵 처리: {}", t.getMessage());
+        if (DbCircuitBreaker.isDbError(t)) {
+            log.error("DB 연결·일시적 오류 재시도 한도 초과 - 스킵 불가 ({}): {}", t.getClass().getSimpleName(), t.getMessage());
+            return false;
+        }
+
+        if (t instanceof DataAccessException || t instanceof SQLException) {
+            log.warn("SQL 데이터 오류 - 스킵 처리: {}", t.getMessage());
             return true;
         }
 
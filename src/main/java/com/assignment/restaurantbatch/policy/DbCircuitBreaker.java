@@ -0,0 +1,201 @@
+package com.assignment.restaurantbatch.policy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+
+/**
+ * 모든 파티션이 공유하는 DB 회로 차단기입니다.
+ * <p>
+ * - 최근 구간(기본 10초)의 Chunk 쓰기 중 DB 오류 비율이 임계치를 넘으면 OPEN 상태가 되어
+ *   모든 파티션의 다음 쓰기를 지정 시간 동안 멈춥니다. 멈춘 동안에는 오류가 나지 않으므로 재시도 한도를 소진하지 않습니다.<br>
+ * - 멈춤이 끝나면 RAMP_UP 상태에서 동시 쓰기 수를 1부터 성공할 때마다 두 배씩 늘리고,
+ *   전체 동시 수에 도달하면 CLOSED로 돌아갑니다. 늘리는 도중 DB 오류가 나면 다시 OPEN이 됩니다.<br>
+ * - 데이터 오류(제약 조건 위반 등)는 집계하지 않고 연결·일시적 오류만 집계합니다.
+ */
+@Slf4j
+public class DbCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, RAMP_UP }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openNanos;
+    private final int fullConcurrency;
+    private final int windowSeconds;
+
+    /** 초 단위 버킷 (인덱스 = 경과 초 % windowSeconds) */
+    private final long[] bucketSecond;
+    private final int[] bucketSuccesses;
+    private final int[] bucketFailures;
+
+    private State state = State.CLOSED;
+    private long openUntilNanos;
+    private int inFlight;
+    private int permits;
+    private int successesAtPermits;
+    private long openCount;
+
+    /**
+     * @param failureRateThreshold OPEN 전환 DB 오류 비율 (0~1)
+     * @param minimumCalls         비율을 판단할 최소 쓰기 수
+     * @param window               오류 비율 집계 구간 (초 단위)
+     * @param openDuration         OPEN 상태에서 쓰기를 멈추는 시간
+     * @param fullConcurrency      RAMP_UP 종료 기준 동시 쓰기 수 (보통 최대 파티션 수)
+     */
+    public DbCircuitBreaker(double failureRateThreshold, int minimumCalls, Duration window,
+                            Duration openDuration, int fullConcurrency) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.windowSeconds = (int) Math.max(window.toSeconds(), 1);
+        this.openNanos = openDuration.toNanos();
+        this.fullConcurrency = Math.max(fullConcurrency, 1);
+        this.bucketSecond = new long[windowSeconds];
+        this.bucketSuccesses = new int[windowSeconds];
+        this.bucketFailures = new int[windowSeconds];
+    }
+
+    /**
+     * 쓰기 전에 호출합니다. OPEN이면 멈춤이 끝날 때까지, RAMP_UP이면 허용 동시 수 안에 들 때까지 기다립니다.
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (true) {
+            if (state == State.OPEN) {
+                long remaining = openUntilNanos - System.nanoTime();
+                if (remaining > 0) {
+                    wait(Math.max(remaining / 1_000_000, 1));
+                    continue;
+                }
+                state = State.RAMP_UP;
+                permits = 1;
+                successesAtPermits = 0;
+                log.info("DB 회로 차단기 RAMP_UP: 동시 쓰기 1개부터 재개");
+            }
+            if (state == State.CLOSED || inFlight < permits) {
+                inFlight++;
+                return;
+            }
+            wait();
+        }
+    }
+
+    /**
+     * 쓰기 성공 시 호출합니다.
+     */
+    public synchronized void onSuccess() {
+        inFlight--;
+        record(false);
+        if (state == State.RAMP_UP && ++successesAtPermits >= permits) {
+            permits *= 2;
+            successesAtPermits = 0;
+            if (permits >= fullConcurrency) {
+                close();
+            }
+        }
+        notifyAll();
+    }
+
+    /**
+     * 쓰기 실패 시 호출합니다. DB 오류가 아니면 집계하지 않습니다.
+     */
+    public synchronized void onFailure(Throwable t) {
+        inFlight--;
+        if (isDbError(t)) {
+            record(true);
+            if (state == State.RAMP_UP || state == State.CLOSED && tripped()) {
+                open(t);
+            }
+        }
+        notifyAll();
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /** OPEN 전환 횟수 */
+    public synchronized long openCount() {
+        return openCount;
+    }
+
+    private void open(Throwable cause) {
+        state = State.OPEN;
+        openUntilNanos = System.nanoTime() + openNanos;
+        openCount++;
+        resetWindow();
+        log.warn("DB 회로 차단기 OPEN: {}ms 동안 모든 파티션 쓰기 중지 (원인: {})",
+                openNanos / 1_000_000, cause.getClass().getSimpleName());
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        resetWindow();
+        log.info("DB 회로 차단기 CLOSED: 전체 동시 쓰기 재개");
+    }
+
+    private void record(boolean failure) {
+        long second = System.nanoTime() / 1_000_000_000L;
+        int index = (int) (second % windowSeconds);
+        if (bucketSecond[index] != second) {
+            bucketSecond[index] = second;
+            bucketSuccesses[index] = 0;
+            bucketFailures[index] = 0;
+        }
+        if (failure) {
+            bucketFailures[index]++;
+        } else {
+            bucketSuccesses[index]++;
+        }
+    }
+
+    private boolean tripped() {
+        long now = System.nanoTime() / 1_000_000_000L;
+        long successes = 0;
+        long failures = 0;
+        for (int i = 0; i < windowSeconds; i++) {
+            if (now - bucketSecond[i] < windowSeconds) {
+                successes += bucketSuccesses[i];
+                failures += bucketFailures[i];
+            }
+        }
+        long calls = successes + failures;
+        return calls >= minimumCalls && (double) failures / calls >= failureRateThreshold;
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < windowSeconds; i++) {
+            bucketSecond[i] = Long.MIN_VALUE;
+            bucketSuccesses[i] = 0;
+            bucketFailures[i] = 0;
+        }
+    }
+
+    /**
+     * DB 연결·부하로 인한 일시적 오류인지 판단합니다. 원인(cause)까지 확인합니다.
+     * SQLState 08(연결), 40(교착/직렬화 실패 롤백)도 일시적 오류로 봅니다.
+     */
+    public static boolean isDbError(Throwable t) {
+        for (Throwable current = t; current != null; current = current.getCause()) {
+            if (current instanceof TransientDataAccessException
+                    || current instanceof RecoverableDataAccessException
+                    || current instanceof CannotGetJdbcConnectionException
+                    || current instanceof SQLTransientException
+                    || current instanceof SQLRecoverableException
+                    || current instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+            if (current instanceof SQLException e && e.getSQLState() != null
+                    && (e.getSQLState().startsWith("08") || e.getSQLState().startsWith("40"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
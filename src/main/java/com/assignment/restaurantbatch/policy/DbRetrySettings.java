@@ -0,0 +1,43 @@
+package com.assignment.restaurantbatch.policy;
+
+import com.assignment.restaurantbatch.shard.ShardCommitUncertainException;
+import org.springframework.batch.core.step.item.ForceRollbackForWriteSkipException;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.classify.BinaryExceptionClassifier;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+/**
+ * 슬레이브 스텝의 DB 오류 재시도 설정 묶음입니다.
+ *
+ * @param retryLimit     Chunk 재시도 한도 (최초 시도 포함)
+ * @param backOffPolicy  재시도 간 대기 정책 (지수 증가 + 지터)
+ * @param circuitBreaker 모든 파티션이 공유하는 DB 회로 차단기
+ */
+public record DbRetrySettings(int retryLimit, BackOffPolicy backOffPolicy, DbCircuitBreaker circuitBreaker) {
+
+    /**
+     * 회로 차단기를 거쳐 쓰도록 writer를 감쌉니다.
+     */
+    public <T> ItemWriter<T> guard(ItemWriter<T> writer) {
+        return new CircuitBreakingItemWriter<>(writer, circuitBreaker);
+    }
+
+    /**
+     * DB 연결·일시적 오류({@link DbCircuitBreaker#isDbError})만 재시도하는 정책을 만듭니다.
+     * <p>
+     * - 제약 위반, 값 길이 초과 같은 데이터 오류는 재시도·대기 없이 바로 한 건씩 쓰기(스킵 탐색)로 넘어갑니다.<br>
+     * - 스킵 탐색 중 Spring Batch가 롤백용으로 던지는 {@link ForceRollbackForWriteSkipException}은 기본 정책처럼 재시도 대상에 포함합니다.<br>
+     * - {@link ShardCommitUncertainException}은 원인이 연결 오류여도 재시도하지 않습니다. (재시도하면 샤드에 행이 중복될 수 있음)
+     */
+    public RetryPolicy retryPolicy() {
+        return new SimpleRetryPolicy(retryLimit, new BinaryExceptionClassifier(false) {
+            @Override
+            public Boolean classify(Throwable t) {
+                if (t instanceof ShardCommitUncertainException) return false;
+                return t instanceof ForceRollbackForWriteSkipException || DbCircuitBreaker.isDbError(t);
+            }
+        });
+    }
+}
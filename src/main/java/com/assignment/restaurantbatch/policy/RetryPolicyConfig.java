@@ -0,0 +1,81 @@
+package com.assignment.restaurantbatch.policy;
+
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.backoff.ExponentialRandomBackOffPolicy;
+
+import java.time.Duration;
+
+/**
+ * Chunk 쓰기 DB 오류 재시도 설정 클래스입니다.
+ * <p>
+ * - 재시도 간격은 지수적으로 늘리되 무작위 지터를 더해, 여러 파티션이 같은 순간에 다시 시도하지 않게 합니다.<br>
+ * - DB 오류 비율이 임계치를 넘으면 공유 회로 차단기가 모든 파티션의 쓰기를 잠시 멈추고, 동시 쓰기 수를 점진적으로 늘리며 재개합니다.
+ */
+@Configuration
+public class RetryPolicyConfig {
+
+    /** 회로 차단기 상태 지표 (0=CLOSED, 1=RAMP_UP, 2=OPEN) */
+    public static final String CIRCUIT_STATE = "batch.db.circuit.state";
+
+    /** 회로 차단기 OPEN 전환 횟수 지표 */
+    public static final String CIRCUIT_OPENS = "batch.db.circuit.opens";
+
+    /**
+     * 모든 슬레이브 스텝이 공유하는 DB 회로 차단기 Bean입니다.
+     *
+     * @param failureRate OPEN 전환 DB 오류 비율 (batch.retry.circuit.failure-rate)
+     * @param minimumCalls 비율을 판단할 최소 쓰기 수 (batch.retry.circuit.minimum-calls)
+     * @param window 오류 비율 집계 구간 (batch.retry.circuit.window)
+     * @param openDuration 쓰기를 멈추는 시간 (batch.retry.circuit.open-duration)
+     * @param rampUpMax RAMP_UP 종료 기준 동시 쓰기 수 (batch.retry.circuit.ramp-up-max)
+     */
+    @Bean
+    public DbCircuitBreaker dbCircuitBreaker(
+            @Value("${batch.retry.circuit.failure-rate:0.5}") double failureRate,
+            @Value("${batch.retry.circuit.minimum-calls:20}") int minimumCalls,
+            @Value("${batch.retry.circuit.window:10s}") Duration window,
+            @Value("${batch.retry.circuit.open-duration:5s}") Duration openDuration,
+            @Value("${batch.retry.circuit.ramp-up-max:32}") int rampUpMax,
+            BatchMetrics batchMetrics
+    ) {
+        DbCircuitBreaker circuitBreaker = new DbCircuitBreaker(failureRate, minimumCalls, window, openDuration, rampUpMax);
+        MeterRegistry registry = batchMetrics.getRegistry();
+        Gauge.builder(CIRCUIT_STATE, circuitBreaker, breaker -> switch (breaker.state()) {
+            case CLOSED -> 0;
+            case RAMP_UP -> 1;
+            case OPEN -> 2;
+        }).register(registry);
+        FunctionCounter.builder(CIRCUIT_OPENS, circuitBreaker, DbCircuitBreaker::openCount).register(registry);
+        return circuitBreaker;
+    }
+
+    /**
+     * 슬레이브 스텝 재시도 설정 Bean입니다.
+     *
+     * @param limit Chunk 재시도 한도 (batch.retry.limit)
+     * @param initialInterval 첫 재시도 전 대기 시간 (batch.retry.initial-interval)
+     * @param multiplier 재시도마다 대기 시간 증가 배수 (batch.retry.multiplier)
+     * @param maxInterval 대기 시간 상한 (batch.retry.max-interval)
+     */
+    @Bean
+    public DbRetrySettings dbRetrySettings(
+            @Value("${batch.retry.limit:5}") int limit,
+            @Value("${batch.retry.initial-interval:200ms}") Duration initialInterval,
+            @Value("${batch.retry.multiplier:2.0}") double multiplier,
+            @Value("${batch.retry.max-interval:5s}") Duration maxInterval,
+            DbCircuitBreaker dbCircuitBreaker
+    ) {
+        // 대기 시간 = 지수 증가 간격 × [1, multiplier) 범위의 무작위 배수
+        ExponentialRandomBackOffPolicy backOffPolicy = new ExponentialRandomBackOffPolicy();
+        backOffPolicy.setInitialInterval(initialInterval.toMillis());
+        backOffPolicy.setMultiplier(multiplier);
+        backOffPolicy.setMaxInterval(maxInterval.toMillis());
+        return new DbRetrySettings(limit, backOffPolicy, dbCircuitBreaker);
+    }
+}
@@ -0,0 +1,166 @@
+package com.assignment.restaurantbatch.progress;
+
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 모든 슬레이브 스텝의 진행 상황을 집계하는 컴포넌트입니다.
+ * <p>
+ * - 파티션 스레드들이 동시에 갱신하므로 경합이 적은 {@link LongAdder}로 누적합니다.<br>
+ * - JobRepository를 조회하지 않고 메모리 카운터만으로 진행률과 ETA를 계산합니다.<br>
+ * - 전체 입력 크기(행 수, 바이트)는 런처가 Job 파라미터로 전달한 값을 사용합니다.<br>
+ * - 기동 시간 비교를 위해 Job 시작과 첫 Chunk 커밋 시점의 JVM 가동 시간(uptime)을 함께 기록합니다.
+ */
+@Component
+public class BatchProgress {
+
+    /** 입력 크기를 알 수 없을 때의 값 */
+    public static final long UNKNOWN = -1;
+
+    /** 순간 처리 속도 계산에 사용하는 최소 샘플 간격 */
+    private static final long RATE_SAMPLE_NANOS = 1_000_000_000L;
+
+    private final LongAdder committedRows = new LongAdder();
+    private final LongAdder skippedRows = new LongAdder();
+    private final LongAdder bytesRead = new LongAdder();
+    private final LongAdder activePartitions = new LongAdder();
+
+    private volatile String jobName;
+    private volatile boolean running;
+    private volatile long totalRows = UNKNOWN;
+    private volatile long totalBytes = UNKNOWN;
+    private volatile long startNanos;
+    private volatile long endNanos;
+    private volatile long jobStartUptimeMillis = UNKNOWN;
+    private volatile long firstChunkUptimeMillis = UNKNOWN;
+
+    /** snapshot()에서만 갱신 (synchronized) */
+    private long sampleNanos;
+    private long sampleRows;
+    private double currentRowsPerSecond;
+
+    /**
+     * 새 Job 실행을 시작합니다. 이전 실행의 카운터는 초기화됩니다.
+     *
+     * @param jobName    Job 이름
+     * @param totalRows  전체 입력 행 수 (모르면 {@link #UNKNOWN})
+     * @param totalBytes 전체 입력 바이트 수 (모르면 {@link #UNKNOWN})
+     */
+    public synchronized void start(String jobName, long totalRows, long totalBytes) {
+        committedRows.reset();
+        skippedRows.reset();
+        bytesRead.reset();
+        activePartitions.reset();
+        this.jobName = jobName;
+        this.totalRows = totalRows;
+        this.totalBytes = totalBytes;
+        this.startNanos = System.nanoTime();
+        this.endNanos = 0;
+        this.jobStartUptimeMillis = uptimeMillis();
+        this.firstChunkUptimeMillis = UNKNOWN;
+        this.sampleNanos = startNanos;
+        this.sampleRows = 0;
+        this.currentRowsPerSecond = 0;
+        this.running = true;
+    }
+
+    /**
+     * Job 실행 종료를 기록합니다.
+     */
+    public synchronized void finish() {
+        if (!running) return;
+        endNanos = System.nanoTime();
+        running = false;
+    }
+
+    public void addCommitted(long rows) {
+        committedRows.add(rows);
+        if (firstChunkUptimeMillis == UNKNOWN) {
+            markFirstChunk();
+        }
+    }
+
+    /**
+     * 첫 Chunk 커밋 시점의 JVM 가동 시간을 한 번만 기록합니다. 이후 커밋은 volatile 읽기만 합니다.
+     */
+    private synchronized void markFirstChunk() {
+        if (firstChunkUptimeMillis == UNKNOWN) {
+            firstChunkUptimeMillis = uptimeMillis();
+        }
+    }
+
+    public void addSkipped() {
+        skippedRows.increment();
+    }
+
+    public void addBytes(long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    public void partitionStarted() {
+        activePartitions.increment();
+    }
+
+    public void partitionFinished() {
+        activePartitions.decrement();
+    }
+
+    /**
+     * 현재 진행 상황을 계산하여 반환합니다.
+     */
+    public synchronized ProgressSnapshot snapshot() {
+        long now = running ? System.nanoTime() : endNanos;
+        long committed = committedRows.sum();
+        long skipped = skippedRows.sum();
+        long bytes = bytesRead.sum();
+        long processed = committed + skipped;
+        long elapsedNanos = startNanos == 0 ? 0 : now - startNanos;
+
+        if (running && now - sampleNanos >= RATE_SAMPLE_NANOS) {
+            currentRowsPerSecond = (committed - sampleRows) * 1e9 / (now - sampleNanos);
+            sampleNanos = now;
+            sampleRows = committed;
+        }
+
+        double fraction = fraction(processed, bytes);
+        long etaSeconds = UNKNOWN;
+        if (!running && startNanos != 0) {
+            etaSeconds = 0;
+        } else if (fraction > 0) {
+            etaSeconds = Math.round(elapsedNanos / 1e9 * (1 - fraction) / fraction);
+        }
+
+        return new ProgressSnapshot(
+                jobName,
+                running,
+                committed,
+                skipped,
+                bytes,
+                totalRows,
+                totalBytes,
+                activePartitions.sum(),
+                elapsedNanos / 1_000_000,
+                Math.round(running ? currentRowsPerSecond : 0),
+                elapsedNanos == 0 ? 0 : Math.round(committed * 1e9 / elapsedNanos),
+                fraction < 0 ? UNKNOWN : Math.round(fraction * 1000) / 10.0,
+                etaSeconds,
+                jobStartUptimeMillis,
+                firstChunkUptimeMillis
+        );
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    /**
+     * 처리 비율(0~1)을 반환합니다. 행 수를 우선 사용하고, 없으면 바이트 기준으로 계산합니다.
+     */
+    private double fraction(long processedRows, long bytes) {
+        if (totalRows > 0) return Math.min(1.0, (double) processedRows / totalRows);
+        if (totalBytes > 0) return Math.min(1.0, (double) bytes / totalBytes);
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,42 @@
+package com.assignment.restaurantbatch.progress;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * 읽은 바이트 수를 콜백으로 전달하는 입력 스트림입니다.
+ * <p>
+ * Reader의 버퍼 단위(기본 8KB) 읽기마다 한 번씩 호출되므로 라인 단위 계측보다 비용이 작습니다.
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    private final LongConsumer onRead;
+
+    public CountingInputStream(InputStream in, LongConsumer onRead) {
+        super(in);
+        this.onRead = onRead;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) onRead.accept(1);
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) onRead.accept(n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        if (skipped > 0) onRead.accept(skipped);
+        return skipped;
+    }
+}
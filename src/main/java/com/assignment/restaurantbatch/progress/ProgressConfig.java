@@ -0,0 +1,27 @@
+package com.assignment.restaurantbatch.progress;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 배치 진행률 집계 리스너 설정 클래스입니다.
+ */
+@Configuration
+public class ProgressConfig {
+
+    /**
+     * 진행률 초기화 및 주기 로그를 담당하는 Job 리스너 Bean입니다.
+     *
+     * @param logInterval 진행률 로그 주기 (batch.progress.log-interval, 0이면 주기 로그 미출력)
+     */
+    @Bean
+    public ProgressJobListener progressJobListener(
+            BatchProgress batchProgress,
+            @Value("${batch.progress.log-interval:10s}") Duration logInterval
+    ) {
+        return new ProgressJobListener(batchProgress, logInterval);
+    }
+}
@@ -0,0 +1,69 @@
+package com.assignment.restaurantbatch.progress;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job 시작 시 {@link BatchProgress}를 초기화하고, 실행 중 주기적으로 진행률/ETA 로그를 출력하는 리스너입니다.
+ * <p>
+ * 전체 입력 크기는 Job 파라미터 {@code totalRows}, {@code totalBytes}로 전달받습니다.
+ */
+@Slf4j
+public class ProgressJobListener implements JobExecutionListener {
+
+    public static final String TOTAL_ROWS_PARAM = "totalRows";
+    public static final String TOTAL_BYTES_PARAM = "totalBytes";
+
+    private final BatchProgress progress;
+    private final Duration logInterval;
+    private ScheduledExecutorService scheduler;
+
+    public ProgressJobListener(BatchProgress progress, Duration logInterval) {
+        this.progress = progress;
+        this.logInterval = logInterval;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        JobParameters params = jobExecution.getJobParameters();
+        progress.start(
+                jobExecution.getJobInstance().getJobName(),
+                longParam(params, TOTAL_ROWS_PARAM),
+                longParam(params, TOTAL_BYTES_PARAM)
+        );
+
+        if (logInterval.isZero() || logInterval.isNegative()) return;
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = logInterval.toMillis();
+        scheduler.scheduleAtFixedRate(() -> log.info(progress.snapshot().toLogLine()),
+                millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        progress.finish();
+        ProgressSnapshot snapshot = progress.snapshot();
+        log.info(snapshot.toLogLine());
+        log.info(snapshot.toStartupLine());
+    }
+
+    private long longParam(JobParameters params, String key) {
+        Long value = params.getLong(key);
+        return value == null ? BatchProgress.UNKNOWN : value;
+    }
+}
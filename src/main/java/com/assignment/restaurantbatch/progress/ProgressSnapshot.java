@@ -0,0 +1,63 @@
+package com.assignment.restaurantbatch.progress;
+
+/**
+ * 특정 시점의 배치 진행 상황입니다. HTTP/JSON 응답과 주기 로그에 사용됩니다.
+ *
+ * @param jobName               Job 이름
+ * @param running               실행 중 여부
+ * @param committedRows         커밋된 행 수
+ * @param skippedRows           스킵된 행 수
+ * @param bytesRead             파티션 파일에서 읽은 바이트 수
+ * @param totalRows             전체 입력 행 수 (모르면 -1)
+ * @param totalBytes            전체 입력 바이트 수 (모르면 -1)
+ * @param activePartitions      실행 중인 슬레이브 스텝 수
+ * @param elapsedMillis         경과 시간
+ * @param rowsPerSecond         최근 샘플 구간의 초당 커밋 행 수
+ * @param averageRowsPerSecond  시작 이후 평균 초당 커밋 행 수
+ * @param percent               진행률 (모르면 -1)
+ * @param etaSeconds            예상 남은 시간 (모르면 -1)
+ * @param jobStartUptimeMillis  JVM 시작 후 Job 시작까지 걸린 시간 (모르면 -1)
+ * @param firstChunkUptimeMillis JVM 시작 후 첫 Chunk 커밋까지 걸린 시간 (아직 없으면 -1)
+ */
+public record ProgressSnapshot(
+        String jobName,
+        boolean running,
+        long committedRows,
+        long skippedRows,
+        long bytesRead,
+        long totalRows,
+        long totalBytes,
+        long activePartitions,
+        long elapsedMillis,
+        long rowsPerSecond,
+        long averageRowsPerSecond,
+        double percent,
+        long etaSeconds,
+        long jobStartUptimeMillis,
+        long firstChunkUptimeMillis
+) {
+
+    /**
+     * 주기 로그용 한 줄 요약을 반환합니다.
+     */
+    public String toLogLine() {
+        return String.format("진행률 %s | committed=%d/%s, skip=%d, read=%dMB, partitions=%d, %d rows/s (avg %d), ETA %s",
+                percent < 0 ? "?" : percent + "%",
+                committedRows,
+                totalRows < 0 ? "?" : String.valueOf(totalRows),
+                skippedRows,
+                bytesRead / (1024 * 1024),
+                activePartitions,
+                rowsPerSecond,
+                averageRowsPerSecond,
+                etaSeconds < 0 ? "?" : etaSeconds + "s");
+    }
+
+    /**
+     * 기동 시간 요약 로그를 반환합니다. {@code cdsStartupCompare} 태스크가 이 형식을 파싱합니다.
+     */
+    public String toStartupLine() {
+        return String.format("기동 시간 | jobStartUptimeMillis=%d, firstChunkUptimeMillis=%d",
+                jobStartUptimeMillis, firstChunkUptimeMillis);
+    }
+}
@@ -0,0 +1,76 @@
+package com.assignment.restaurantbatch.progress;
+
+import com.assignment.restaurantbatch.listener.FailureRecord;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+/**
+ * 슬레이브 스텝의 커밋/스킵 건수를 {@link BatchProgress}에 반영하는 리스너입니다.
+ * <p>
+ * 쓰기 완료(afterWrite) 건수를 스레드별로 보관했다가 트랜잭션 커밋 이후(afterChunk)에 반영하고,
+ * 롤백(afterChunkError) 시에는 버립니다.
+ */
+public class ProgressStepListener implements StepExecutionListener, ChunkListener,
+        ItemWriteListener<FailureRecord>, SkipListener<FailureRecord, FailureRecord> {
+
+    private final BatchProgress progress;
+
+    /** 현재 Chunk에서 쓰기 완료되었지만 아직 커밋되지 않은 건수 */
+    private final ThreadLocal<long[]> pendingRows = ThreadLocal.withInitial(() -> new long[1]);
+
+    public ProgressStepListener(BatchProgress progress) {
+        this.progress = progress;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        progress.partitionStarted();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        progress.partitionFinished();
+        pendingRows.remove();
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends FailureRecord> items) {
+        pendingRows.get()[0] += items.size();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        long[] pending = pendingRows.get();
+        if (pending[0] > 0) {
+            progress.addCommitted(pending[0]);
+            pending[0] = 0;
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        pendingRows.get()[0] = 0;
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        progress.addSkipped();
+    }
+
+    @Override
+    public void onSkipInProcess(FailureRecord item, Throwable t) {
+        progress.addSkipped();
+    }
+
+    @Override
+    public void onSkipInWrite(FailureRecord item, Throwable t) {
+        progress.addSkipped();
+    }
+}
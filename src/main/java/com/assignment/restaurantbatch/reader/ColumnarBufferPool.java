@@ -0,0 +1,51 @@
+package com.assignment.restaurantbatch.reader;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * {@link ColumnarChunk}가 사용하는 바이트 버퍼를 파티션 간에 재사용하기 위한 풀입니다.
+ * <p>
+ * 파티션 리더가 열릴 때 버퍼를 빌리고 닫힐 때 반납하므로, 동시에 실행되는 파티션 수만큼의 버퍼만 유지됩니다.
+ * direct 모드에서는 힙 밖(off-heap)에 할당하여 GC 대상에서 제외합니다.
+ */
+public class ColumnarBufferPool {
+
+    private final boolean direct;
+    private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    public ColumnarBufferPool(boolean direct) {
+        this.direct = direct;
+    }
+
+    /**
+     * 최소 용량 이상의 버퍼를 빌립니다. 풀에 맞는 버퍼가 없으면 새로 할당합니다.
+     */
+    public ByteBuffer acquire(int capacity) {
+        ByteBuffer buffer;
+        while ((buffer = buffers.poll()) != null) {
+            if (buffer.capacity() >= capacity) {
+                buffer.clear();
+                return buffer;
+            }
+            // 작은 버퍼는 버리고 새로 할당 (chunkSize 변경 시)
+        }
+        return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+    }
+
+    /**
+     * 버퍼를 풀에 반납합니다.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer != null) {
+            buffers.offer(buffer);
+        }
+    }
+
+    /**
+     * 풀에 보관 중인 버퍼 수를 반환합니다.
+     */
+    public int size() {
+        return buffers.size();
+    }
+}
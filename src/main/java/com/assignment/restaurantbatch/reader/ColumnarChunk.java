@@ -0,0 +1,197 @@
+package com.assignment.restaurantbatch.reader;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.SchemaDtoBinder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.BitSet;
+
+/**
+ * 여러 CSV 행을 DTO 객체 없이 컬럼 단위 바이트 구간으로 보관하는 재사용 가능한 Chunk 버퍼입니다.
+ * <p>
+ * - 필드 바이트는 인코딩을 해제하지 않은 원본(MS949 등) 그대로 하나의 {@link ByteBuffer}에 이어 붙입니다.<br>
+ * - 각 필드의 위치는 {@code [row * columns + column]} 인덱스의 offset/length 배열로 관리합니다.<br>
+ * - 따옴표 제거와 이스케이프("") 해제는 적재 시점에 처리하며, 문자열 변환은 바인딩 시점에만 수행합니다.
+ * <p>
+ * 인터닝 대상 컬럼은 {@link FieldInterner}로 바이트를 키로 조회하여 디코딩 없이 정규 문자열을 반환합니다.
+ * <p>
+ * 한 번에 한 스레드(한 파티션)만 사용하며, {@link #clear()} 후 다음 Chunk에 재사용됩니다.
+ */
+public class ColumnarChunk {
+
+    private static final byte DELIMITER = ',';
+    private static final byte QUOTE = '"';
+
+    private final int columns;
+    private final int rowCapacity;
+    private final ByteBuffer data;
+    private final Charset charset;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final FieldInterner[] interners;
+    /** 저장에 실패하여 실패 레코드로 넘겨진 행 */
+    private final BitSet rejected = new BitSet();
+    private int rows;
+
+    /** 문자열 변환용 임시 배열 (direct buffer는 array()를 제공하지 않음) */
+    private byte[] scratch = new byte[256];
+
+    public ColumnarChunk(int columns, int rowCapacity, ByteBuffer data, Charset charset) {
+        this(columns, rowCapacity, data, charset, null);
+    }
+
+    /**
+     * @param interners 컬럼 순서대로 정렬된 인터너 배열 (null이면 인터닝 미사용, 대상이 아닌 컬럼은 null)
+     */
+    public ColumnarChunk(int columns, int rowCapacity, ByteBuffer data, Charset charset, FieldInterner[] interners) {
+        this.columns = columns;
+        this.interners = interners;
+        this.rowCapacity = rowCapacity;
+        this.data = data;
+        this.charset = charset;
+        this.offsets = new int[columns * rowCapacity];
+        this.lengths = new int[columns * rowCapacity];
+    }
+
+    /**
+     * 버퍼를 비워 다음 Chunk에 재사용할 수 있도록 합니다.
+     */
+    public void clear() {
+        rows = 0;
+        data.clear();
+        rejected.clear();
+    }
+
+    public int rows() {
+        return rows;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    public boolean isEmpty() {
+        return rows == 0;
+    }
+
+    /**
+     * 저장에 실패한 행으로 표시합니다. 이후 집계 등에서 해당 행을 제외할 수 있습니다.
+     */
+    public void markRejected(int row) {
+        rejected.set(row);
+    }
+
+    public boolean isRejected(int row) {
+        return rejected.get(row);
+    }
+
+    /**
+     * 실패 표시를 모두 지웁니다. 행 단위 저장을 롤백하고 다시 시도할 때 사용합니다.
+     */
+    public void clearRejected() {
+        rejected.clear();
+    }
+
+    public boolean isFull() {
+        return rows == rowCapacity;
+    }
+
+    ByteBuffer data() {
+        return data;
+    }
+
+    /**
+     * CSV 한 줄을 토큰화하여 다음 행으로 추가합니다.
+     * <p>
+     * DelimitedLineTokenizer(비엄격 모드)와 동일하게 부족한 컬럼은 빈 값으로, 초과 컬럼은 무시합니다.
+     *
+     * @param line   라인 바이트 (개행 문자 제외)
+     * @param length 라인 길이
+     * @return 바이트 공간이 부족하거나 행 수가 가득 차서 추가하지 못하면 false
+     */
+    public boolean addRow(byte[] line, int length) {
+        if (isFull() || data.remaining() < length) return false;
+
+        int base = rows * columns;
+        int pos = 0;
+        for (int column = 0; column < columns; column++) {
+            int start = data.position();
+            if (pos < length && line[pos] == QUOTE) {
+                pos++;
+                while (pos < length) {
+                    byte b = line[pos];
+                    if (b == QUOTE) {
+                        if (pos + 1 < length && line[pos + 1] == QUOTE) {
+                            data.put(QUOTE);
+                            pos += 2;
+                            continue;
+                        }
+                        pos++;
+                        break;
+                    }
+                    data.put(b);
+                    pos++;
+                }
+                while (pos < length && line[pos] != DELIMITER) pos++;
+            } else {
+                while (pos < length && line[pos] != DELIMITER) {
+                    data.put(line[pos++]);
+                }
+            }
+            offsets[base + column] = start;
+            lengths[base + column] = data.position() - start;
+            if (pos < length) pos++; // 구분자 건너뛰기
+        }
+        rows++;
+        return true;
+    }
+
+    /**
+     * 필드 값을 문자열로 변환합니다. 빈 필드는 빈 문자열을 반환합니다.
+     */
+    public String getString(int row, int column) {
+        int index = row * columns + column;
+        int length = lengths[index];
+        if (length == 0) return "";
+        if (interners != null && column < interners.length && interners[column] != null) {
+            return interners[column].intern(data, offsets[index], length, charset);
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        data.get(offsets[index], scratch, 0, length);
+        return new String(scratch, 0, length, charset);
+    }
+
+    /**
+     * 필드가 비어 있거나 공백(ASCII)으로만 이루어졌는지 확인합니다. 0x80 이상의 바이트(한글 등 멀티바이트 문자)는 값으로 봅니다.
+     */
+    public boolean isBlank(int row, int column) {
+        int index = row * columns + column;
+        int offset = offsets[index];
+        for (int i = 0; i < lengths[index]; i++) {
+            if ((data.get(offset + i) & 0xFF) > ' ') return false;
+        }
+        return true;
+    }
+
+    /**
+     * 한 행을 DTO로 변환합니다. 실패 레코드 기록 등 예외 경로에서만 사용합니다.
+     */
+    public RestaurantCsvDto toDto(int row) {
+        String[] values = new String[columns];
+        for (int column = 0; column < columns; column++) {
+            values[column] = getString(row, column);
+        }
+        SchemaDtoBinder<RestaurantCsvDto> binder = SchemaDtoBinder.restaurant();
+        try {
+            return binder.newItem(values);
+        } catch (NumberFormatException e) {
+            // 번호 컬럼이 숫자가 아닌 경우 등 매핑 실패 시에도 원본 값은 남길 수 있도록 recordNumber만 비웁니다.
+            values[binder.schema().indexOf(DatasetSchema.RECORD_NUMBER_FIELD)] = "";
+            return binder.newItem(values);
+        }
+    }
+}
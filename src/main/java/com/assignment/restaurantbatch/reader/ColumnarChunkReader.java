@@ -0,0 +1,184 @@
+package com.assignment.restaurantbatch.reader;
+
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.file.FlatFileParseException;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * 파티션 CSV 파일을 읽어 한 번에 최대 {@code rowsPerChunk}행을 {@link ColumnarChunk}로 채워 반환하는 리더입니다.
+ * <p>
+ * - 라인을 문자열로 디코딩하지 않고 원본 바이트 그대로 토큰화합니다.
+ *   (MS949/UTF-8 모두 구분자·따옴표·개행이 멀티바이트 문자의 일부로 나타나지 않음)<br>
+ * - 반환하는 Chunk 객체는 매번 같은 인스턴스이며, Step의 commit-interval은 1이어야 합니다.<br>
+ * - 재시작을 위해 처리 완료된 라인 수를 ExecutionContext에 저장합니다.
+ */
+public class ColumnarChunkReader implements ItemStreamReader<ColumnarChunk> {
+
+    static final String LINES_READ_KEY = "columnarChunkReader.lines.read";
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final Resource resource;
+    private final Charset charset;
+    private final int columns;
+    private final int rowsPerChunk;
+    private final int bytesPerRow;
+    private final ColumnarBufferPool pool;
+    private final LongConsumer bytesReadListener;
+    private final FieldInterner[] interners;
+
+    private InputStream in;
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private int readPos;
+    private int readLimit;
+    private ColumnarChunk chunk;
+    private byte[] line = new byte[1024];
+    private int lineLength;
+    private boolean pendingLine;
+    private long linesRead;
+    private boolean exhausted;
+
+    public ColumnarChunkReader(Resource resource, Charset charset, int columns, int rowsPerChunk,
+                               int bytesPerRow, ColumnarBufferPool pool, LongConsumer bytesReadListener) {
+        this(resource, charset, columns, rowsPerChunk, bytesPerRow, pool, bytesReadListener, null);
+    }
+
+    /**
+     * @param interners 컬럼 순서대로 정렬된 인터너 배열 (null이면 인터닝 미사용)
+     */
+    public ColumnarChunkReader(Resource resource, Charset charset, int columns, int rowsPerChunk, int bytesPerRow,
+                               ColumnarBufferPool pool, LongConsumer bytesReadListener, FieldInterner[] interners) {
+        this.resource = resource;
+        this.charset = charset;
+        this.columns = columns;
+        this.rowsPerChunk = rowsPerChunk;
+        this.bytesPerRow = bytesPerRow;
+        this.pool = pool;
+        this.bytesReadListener = bytesReadListener;
+        this.interners = interners;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        try {
+            in = resource.getInputStream();
+            chunk = new ColumnarChunk(columns, rowsPerChunk, pool.acquire(rowsPerChunk * bytesPerRow), charset, interners);
+
+            // 헤더 + 이전 실행에서 커밋된 라인 건너뛰기
+            long skip = 1 + executionContext.getLong(LINES_READ_KEY, 0L);
+            for (long i = 0; i < skip && readLine(); i++) {
+                // skip
+            }
+            linesRead = skip - 1;
+        } catch (IOException e) {
+            throw new ItemStreamException("파티션 파일을 열 수 없습니다: " + resource, e);
+        }
+    }
+
+    /**
+     * 다음 Chunk를 채워 반환합니다. 더 읽을 행이 없으면 null을 반환합니다.
+     */
+    @Override
+    public ColumnarChunk read() throws Exception {
+        chunk.clear();
+        while (!chunk.isFull()) {
+            if (!pendingLine && !readLine()) break;
+            pendingLine = false;
+
+            // 빈 줄 무시
+            if (isBlankLine()) {
+                linesRead++;
+                continue;
+            }
+
+            if (!chunk.addRow(line, lineLength)) {
+                if (chunk.isEmpty()) {
+                    linesRead++;
+                    throw new FlatFileParseException("라인 길이가 Chunk 버퍼 용량을 초과합니다.",
+                            new String(line, 0, Math.min(lineLength, 200), charset), (int) linesRead + 1);
+                }
+                pendingLine = true; // 다음 Chunk의 첫 행으로 이월
+                break;
+            }
+            linesRead++;
+        }
+        return chunk.isEmpty() ? null : chunk;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        // update()는 Chunk 커밋 직전에 호출되므로 현재까지 적재한 라인 수를 저장합니다.
+        executionContext.putLong(LINES_READ_KEY, linesRead);
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        try {
+            if (in != null) in.close();
+        } catch (IOException e) {
+            throw new ItemStreamException("파티션 파일 닫기 실패: " + resource, e);
+        } finally {
+            if (chunk != null) pool.release(chunk.data());
+            in = null;
+            chunk = null;
+        }
+    }
+
+    /**
+     * 다음 라인을 {@code line} 배열에 읽습니다. 개행 문자(\r\n, \n)는 제외합니다.
+     *
+     * @return 읽을 라인이 없으면 false
+     */
+    private boolean readLine() throws IOException {
+        if (exhausted) return false;
+        lineLength = 0;
+        boolean any = false;
+        while (true) {
+            if (readPos == readLimit) {
+                readLimit = in.read(readBuffer, 0, readBuffer.length);
+                readPos = 0;
+                if (readLimit <= 0) {
+                    readLimit = 0;
+                    exhausted = true;
+                    break;
+                }
+                bytesReadListener.accept(readLimit);
+            }
+            any = true;
+
+            int start = readPos;
+            while (readPos < readLimit && readBuffer[readPos] != '\n') readPos++;
+            appendToLine(start, readPos - start);
+            if (readPos < readLimit) {
+                readPos++; // 개행 문자 건너뛰기
+                break;
+            }
+        }
+        if (!any) return false;
+        if (lineLength > 0 && line[lineLength - 1] == '\r') lineLength--;
+        return true;
+    }
+
+    private void appendToLine(int start, int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(readBuffer, start, line, lineLength, length);
+        lineLength += length;
+    }
+
+    private boolean isBlankLine() {
+        for (int i = 0; i < lineLength; i++) {
+            if ((line[i] & 0xFF) > ' ') return false;
+        }
+        return true;
+    }
+}
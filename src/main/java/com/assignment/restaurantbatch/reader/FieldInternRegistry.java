@@ -0,0 +1,78 @@
+package com.assignment.restaurantbatch.reader;
+
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 설정으로 지정한 컬럼별 {@link FieldInterner}를 보관하고 적중률 지표를 등록하는 클래스입니다.
+ * <p>
+ * 지표: {@code batch.intern.hits}, {@code batch.intern.misses}, {@code batch.intern.hit.ratio},
+ * {@code batch.intern.size} (모두 {@code column} 태그)
+ */
+public class FieldInternRegistry {
+
+    public static final String COLUMN_TAG = "column";
+    public static final String HITS = "batch.intern.hits";
+    public static final String MISSES = "batch.intern.misses";
+    public static final String HIT_RATIO = "batch.intern.hit.ratio";
+    public static final String SIZE = "batch.intern.size";
+
+    private final Map<String, FieldInterner> interners = new LinkedHashMap<>();
+
+    /**
+     * @param columns    캐시를 적용할 DTO 필드명 목록
+     * @param maxEntries 컬럼별 최대 캐시 항목 수
+     * @param metrics    적중률 지표를 등록할 배치 지표
+     */
+    public FieldInternRegistry(Collection<String> columns, int maxEntries, BatchMetrics metrics) {
+        MeterRegistry registry = metrics.getRegistry();
+        for (String column : columns) {
+            if (column.isBlank()) continue;
+            String name = column.trim();
+            if (!Arrays.asList(RestaurantItemReaderConfig.FIELD_NAMES).contains(name)) {
+                throw new IllegalArgumentException("알 수 없는 인터닝 대상 컬럼: " + name);
+            }
+            FieldInterner interner = new FieldInterner(maxEntries);
+            interners.put(name, interner);
+
+            FunctionCounter.builder(HITS, interner, FieldInterner::hits).tag(COLUMN_TAG, name).register(registry);
+            FunctionCounter.builder(MISSES, interner, FieldInterner::misses).tag(COLUMN_TAG, name).register(registry);
+            Gauge.builder(HIT_RATIO, interner, FieldInterner::hitRatio).tag(COLUMN_TAG, name).register(registry);
+            Gauge.builder(SIZE, interner, FieldInterner::size).tag(COLUMN_TAG, name).register(registry);
+        }
+    }
+
+    /**
+     * 인터닝을 사용하지 않는 인스턴스를 반환합니다. (단위 테스트 및 벤치마크)
+     */
+    public static FieldInternRegistry disabled() {
+        return new FieldInternRegistry(java.util.List.of(), 1, BatchMetrics.noop());
+    }
+
+    /**
+     * CSV 컬럼 순서대로 정렬된 인터너 배열을 반환합니다. 대상이 아닌 컬럼은 null입니다.
+     */
+    public FieldInterner[] byColumnIndex() {
+        String[] names = RestaurantItemReaderConfig.FIELD_NAMES;
+        FieldInterner[] result = new FieldInterner[names.length];
+        for (int i = 0; i < names.length; i++) {
+            result[i] = interners.get(names[i]);
+        }
+        return result;
+    }
+
+    public FieldInterner get(String column) {
+        return interners.get(column);
+    }
+
+    public boolean isEmpty() {
+        return interners.isEmpty();
+    }
+}
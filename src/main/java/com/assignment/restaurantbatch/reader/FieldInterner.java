@@ -0,0 +1,122 @@
+package com.assignment.restaurantbatch.reader;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 값의 종류가 적은 컬럼(서비스명, 영업상태명 등)의 문자열을 하나의 인스턴스로 공유하기 위한 캐시입니다.
+ * <p>
+ * - 원본 바이트를 키로 조회하므로, 캐시 적중 시 문자열 디코딩과 할당이 모두 생략됩니다.<br>
+ * - 원본 바이트가 있는 Columnar 경로에서만 사용합니다. (DTO 경로는 라인이 이미 디코딩되어 있어 할당을 줄이지 못합니다)<br>
+ * - 최대 항목 수를 넘으면 더 이상 추가하지 않고 그대로 반환하므로 메모리 사용량이 제한됩니다.<br>
+ * - 항목은 불변 객체이고 빈 슬롯에만 CAS로 추가하므로 잠금 없이 여러 파티션 스레드에서 공유할 수 있습니다.
+ */
+public class FieldInterner {
+
+    /** 충돌 시 탐색할 최대 슬롯 수 */
+    private static final int MAX_PROBES = 8;
+
+    private final int maxEntries;
+    private final int mask;
+    private final AtomicReferenceArray<Entry> table;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public FieldInterner(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.maxEntries = maxEntries;
+        int capacity = Integer.highestOneBit(Math.max(maxEntries * 2 - 1, 1)) << 1;
+        this.mask = capacity - 1;
+        this.table = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 버퍼의 바이트 구간에 해당하는 정규 문자열을 반환합니다. 캐시에 없으면 디코딩하여 추가합니다.
+     */
+    public String intern(ByteBuffer data, int offset, int length, Charset charset) {
+        int hash = hash(data, offset, length);
+        int slot = hash & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++, slot = (slot + 1) & mask) {
+            Entry entry = table.get(slot);
+            if (entry == null) {
+                byte[] raw = new byte[length];
+                data.get(offset, raw, 0, length);
+                String value = new String(raw, charset);
+                misses.increment();
+                if (size.get() < maxEntries && table.compareAndSet(slot, null, new Entry(hash, raw, value))) {
+                    size.incrementAndGet();
+                }
+                return value;
+            }
+            if (entry.hash == hash && entry.matches(data, offset, length)) {
+                hits.increment();
+                return entry.value;
+            }
+        }
+        misses.increment();
+        byte[] raw = new byte[length];
+        data.get(offset, raw, 0, length);
+        return new String(raw, charset);
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * 캐시 적중률(0~1)을 반환합니다. 조회 이력이 없으면 0입니다.
+     */
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0 : (double) h / total;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private static int hash(ByteBuffer data, int offset, int length) {
+        // FNV-1a
+        int h = 0x811C9DC5;
+        for (int i = 0; i < length; i++) {
+            h ^= data.get(offset + i) & 0xFF;
+            h *= 0x01000193;
+        }
+        return mix(h);
+    }
+
+    private static int mix(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Entry {
+        private final int hash;
+        private final byte[] raw;
+        private final String value;
+
+        private Entry(int hash, byte[] raw, String value) {
+            this.hash = hash;
+            this.raw = raw;
+            this.value = value;
+        }
+
+        private boolean matches(ByteBuffer data, int offset, int length) {
+            if (raw.length != length) return false;
+            for (int i = 0; i < length; i++) {
+                if (raw[i] != data.get(offset + i)) return false;
+            }
+            return true;
+        }
+    }
+}
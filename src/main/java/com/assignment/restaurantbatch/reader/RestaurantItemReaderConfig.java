@@ -1,22 +1,39 @@
 package com.assignment.restaurantbatch.reader;
 
 import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.multifile.FileGroupPartitioner;
+import com.assignment.restaurantbatch.progress.BatchProgress;
+import com.assignment.restaurantbatch.progress.CountingInputStream;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import com.assignment.restaurantbatch.schema.SchemaDtoBinder;
+import com.assignment.restaurantbatch.schema.SchemaRecord;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.MultiResourceItemReader;
 import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
-import org.springframework.batch.item.file.mapping.BeanWrapperFieldSetMapper;
+import org.springframework.batch.item.file.builder.MultiResourceItemReaderBuilder;
 import org.springframework.batch.item.file.mapping.DefaultLineMapper;
+import org.springframework.batch.item.file.mapping.FieldSetMapper;
 import org.springframework.batch.item.file.separator.DefaultRecordSeparatorPolicy;
 import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * 파티션된 CSV 파일을 읽기 위한 Spring Batch ItemReader 설정 클래스입니다.
@@ -27,27 +44,86 @@ import java.nio.charset.Charset;
 @Configuration
 public class RestaurantItemReaderConfig {
 
-    /** DTO 필드 수 = 예상 CSV 컬럼 수 */
-    private static final int RECORD_COLUMN_COUNT = RestaurantCsvDto.class.getDeclaredFields().length;
+    /** 예상 CSV 컬럼 수 (기본 데이터셋 스키마 기준) */
+    private static final int RECORD_COLUMN_COUNT = DatasetSchema.restaurant().columnCount();
+
+    /** CSV 컬럼 순서대로 나열한 DTO 필드명 (schema/restaurant.yml) */
+    static final String[] FIELD_NAMES = DatasetSchema.restaurant().fieldNames();
+
+    /** 원본 공공데이터 CSV 인코딩 */
+    public static final String DEFAULT_ENCODING = "MS949";
+
+    /** 따라 읽기 모드에서 파일 끝 도달 후 다시 읽기까지 대기 시간 */
+    private static final Duration FOLLOW_POLL_INTERVAL = Duration.ofMillis(200);
 
     /**
      * FlatFileItemReader 설정. 한 파티션 파일에 대해 한 슬레이브 스텝이 실행됩니다.
      * @param resource 파티션 파일 리소스 (stepExecutionContext['file']로 전달됨)
+     * @param encoding 파일 인코딩 (JobParameter, 미지정 시 MS949. 실패 로그 재처리 시 UTF-8)
+     * @param batchProgress 읽은 바이트 수를 집계할 진행률 컴포넌트
+     * @param followMarker 기록 완료 마커 경로 (JobParameter, 지정 시 기록 중인 파일을 마커가 생길 때까지 따라 읽음)
+     * @param followTimeout 따라 읽기 중 파일 증가 없이 기다릴 최대 시간 (batch.inbox.follow-timeout)
      * @return FlatFileItemReader 인스턴스
      */
     @Bean(name = "restaurantItemReader")
     @StepScope
     public FlatFileItemReader<RestaurantCsvDto> restaurantItemReader(
-            @Value("#{stepExecutionContext['file']}") Resource resource
+            @Value("#{stepExecutionContext['file']}") Resource resource,
+            @Value("#{jobParameters['encoding'] ?: '" + DEFAULT_ENCODING + "'}") String encoding,
+            BatchProgress batchProgress,
+            @Value("#{jobParameters['" + TailFollowingInputStream.FOLLOW_MARKER_PARAM + "']}") String followMarker,
+            @Value("${batch.inbox.follow-timeout:10m}") Duration followTimeout
     ) throws Exception {
 
-        // CSV 헤더 유효성 검사
-        validateHeader(resource);
+        // CSV 헤더 유효성 검사 (따라 읽기 모드에서는 헤더가 기록될 때까지 대기)
+        validateHeader(open(resource, followMarker, followTimeout), encoding);
 
-        return new FlatFileItemReaderBuilder<RestaurantCsvDto>()
+        return restaurantReaderBuilder(batchProgress, followMarker, followTimeout)
                 .name("restaurantItemReader")
                 .resource(resource)
-                .encoding("MS949")
+                .encoding(encoding)
+                .build();
+    }
+
+    /**
+     * 여러 파일 적재용 리더. 파티션에 묶인 분할 파일들을 차례로 읽으며,
+     * 체크포인트로 현재 파일 순번과 그 파일 안의 읽은 행 수를 저장하여 재시작 시 해당 파일의 다음 행부터 이어 읽습니다.
+     * @param files 파티션 파일 경로 목록 (stepExecutionContext['files'], 줄바꿈 구분)
+     * @param encoding 파일 인코딩
+     * @return MultiResourceItemReader 인스턴스
+     */
+    @Bean(name = "restaurantMultiFileItemReader")
+    @StepScope
+    public MultiResourceItemReader<RestaurantCsvDto> restaurantMultiFileItemReader(
+            @Value("#{stepExecutionContext['" + FileGroupPartitioner.FILES_KEY + "']}") String files,
+            @Value("#{jobParameters['encoding'] ?: '" + DEFAULT_ENCODING + "'}") String encoding,
+            BatchProgress batchProgress
+    ) throws Exception {
+        Resource[] resources = Arrays.stream(files.split("\n"))
+                .map(FileSystemResource::new)
+                .toArray(Resource[]::new);
+        for (Resource resource : resources) {
+            validateHeader(resource.getInputStream(), encoding);
+        }
+
+        // 리소스는 MultiResourceItemReader가 파일마다 지정
+        FlatFileItemReader<RestaurantCsvDto> delegate =
+                restaurantReaderBuilder(batchProgress, null, null)
+                        .name("restaurantItemReader")
+                        .encoding(encoding)
+                        .build();
+
+        return new MultiResourceItemReaderBuilder<RestaurantCsvDto>()
+                .name("restaurantMultiFileItemReader")
+                .resources(resources)
+                .delegate(delegate)
+                .strict(true)
+                .build();
+    }
+
+    private FlatFileItemReaderBuilder<RestaurantCsvDto> restaurantReaderBuilder(
+            BatchProgress batchProgress, String followMarker, Duration followTimeout) {
+        return new FlatFileItemReaderBuilder<RestaurantCsvDto>()
                 .linesToSkip(1)
                 .strict(true)
 
@@ -59,52 +135,180 @@ public class RestaurantItemReaderConfig {
                     }
                 })
 
-                .lineMapper(lineMapper())
+                // 진행률 집계를 위해 읽은 바이트 수 카운트
+                .bufferedReaderFactory((res, enc) -> new BufferedReader(new InputStreamReader(
+                        new CountingInputStream(open(res, followMarker, followTimeout), batchProgress::addBytes), enc)))
+
+                .lineMapper(lineMapper());
+    }
+
+    /**
+     * Columnar 모드(chunkFormat=columnar)용 리더. DTO 대신 {@link ColumnarChunk} 버퍼 단위로 반환합니다.
+     * @param resource 파티션 파일 리소스
+     * @param encoding 파일 인코딩
+     * @param chunkSize 버퍼 하나에 담을 최대 행 수 (JobParameter)
+     * @param bytesPerRow 버퍼 용량 산정용 행당 바이트 수 (batch.columnar.bytes-per-row)
+     * @return ColumnarChunkReader 인스턴스
+     */
+    @Bean(name = "columnarItemReader")
+    @StepScope
+    public ColumnarChunkReader columnarItemReader(
+            @Value("#{stepExecutionContext['file']}") Resource resource,
+            @Value("#{jobParameters['encoding'] ?: '" + DEFAULT_ENCODING + "'}") String encoding,
+            @Value("#{jobParameters['chunkSize']}") Integer chunkSize,
+            @Value("${batch.columnar.bytes-per-row:1024}") int bytesPerRow,
+            ColumnarBufferPool columnarBufferPool,
+            BatchProgress batchProgress,
+            FieldInternRegistry fieldInternRegistry
+    ) throws Exception {
+        validateHeader(resource.getInputStream(), encoding);
+        return new ColumnarChunkReader(resource, Charset.forName(encoding), RECORD_COLUMN_COUNT, chunkSize,
+                bytesPerRow, columnarBufferPool, batchProgress::addBytes,
+                fieldInternRegistry.isEmpty() ? null : fieldInternRegistry.byColumnIndex());
+    }
+
+    /**
+     * 스키마 기반 리더. restaurant 외 데이터셋(JobParameter dataset)은 DTO 대신 원본 값 배열({@link SchemaRecord})로 읽습니다.
+     * @param resource 파티션 파일 리소스
+     * @param encoding 파일 인코딩
+     * @param dataset 적재할 데이터셋 이름 (JobParameter)
+     * @param datasetSchemaRegistry 시작 시점에 읽어 둔 스키마 목록
+     * @param followMarker 기록 완료 마커 경로 (JobParameter)
+     * @param followTimeout 따라 읽기 중 파일 증가 없이 기다릴 최대 시간 (batch.inbox.follow-timeout)
+     * @return FlatFileItemReader 인스턴스
+     */
+    @Bean(name = "schemaItemReader")
+    @StepScope
+    public FlatFileItemReader<SchemaRecord> schemaItemReader(
+            @Value("#{stepExecutionContext['file']}") Resource resource,
+            @Value("#{jobParameters['encoding'] ?: '" + DEFAULT_ENCODING + "'}") String encoding,
+            @Value("#{jobParameters['" + DatasetSchemaRegistry.DATASET_PARAM + "'] ?: '" + DatasetSchema.RESTAURANT + "'}") String dataset,
+            DatasetSchemaRegistry datasetSchemaRegistry,
+            BatchProgress batchProgress,
+            @Value("#{jobParameters['" + TailFollowingInputStream.FOLLOW_MARKER_PARAM + "']}") String followMarker,
+            @Value("${batch.inbox.follow-timeout:10m}") Duration followTimeout
+    ) throws Exception {
+        DatasetSchema schema = datasetSchemaRegistry.get(dataset);
+        schema.validateHeader(readHeader(open(resource, followMarker, followTimeout), encoding));
+
+        return new FlatFileItemReaderBuilder<SchemaRecord>()
+                .name("schemaItemReader")
+                .resource(resource)
+                .encoding(encoding)
+                .linesToSkip(1)
+                .strict(true)
+                .recordSeparatorPolicy(new DefaultRecordSeparatorPolicy() {
+                    @Override
+                    public boolean isEndOfRecord(String line) {
+                        return line != null && !line.trim().isEmpty();
+                    }
+                })
+                .bufferedReaderFactory((res, enc) -> new BufferedReader(new InputStreamReader(
+                        new CountingInputStream(open(res, followMarker, followTimeout), batchProgress::addBytes), enc)))
+                .lineMapper(lineMapper(schema))
                 .build();
     }
 
+    /**
+     * 파티션 간 재사용되는 Columnar 버퍼 풀.
+     * @param direct true면 off-heap(direct) 버퍼 사용 (batch.columnar.direct)
+     */
+    @Bean
+    public ColumnarBufferPool columnarBufferPool(@Value("${batch.columnar.direct:true}") boolean direct) {
+        return new ColumnarBufferPool(direct);
+    }
+
+    /**
+     * 반복 값이 많은 컬럼의 문자열 인터닝 캐시. Columnar 리더의 모든 파티션이 공유합니다.
+     * @param columns 인터닝 대상 DTO 필드명 목록 (batch.intern.columns, 비어 있으면 미사용)
+     * @param maxEntries 컬럼별 최대 캐시 항목 수 (batch.intern.max-entries)
+     */
+    @Bean
+    public FieldInternRegistry fieldInternRegistry(
+            @Value("${batch.intern.columns:}") List<String> columns,
+            @Value("${batch.intern.max-entries:4096}") int maxEntries,
+            BatchMetrics batchMetrics
+    ) {
+        return new FieldInternRegistry(columns, maxEntries, batchMetrics);
+    }
+
+    /**
+     * 파티션 파일 입력 스트림을 엽니다. 완료 마커가 지정되면 기록 중인 파일을 마커가 생길 때까지 따라 읽습니다.
+     */
+    private static InputStream open(Resource resource, String followMarker, Duration followTimeout) throws IOException {
+        if (followMarker == null) {
+            return resource.getInputStream();
+        }
+        return new TailFollowingInputStream(resource.getFile().toPath(), Paths.get(followMarker),
+                FOLLOW_POLL_INTERVAL, followTimeout);
+    }
+
     /**
      * CSV 헤더의 필드 수가 DTO와 일치하는지 검증합니다.
      */
-    private void validateHeader(Resource resource) throws Exception {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), Charset.forName("MS949")))) {
+    private void validateHeader(InputStream in, String encoding) throws Exception {
+        int columnCount = readHeader(in, encoding).split(",").length;
+        if (columnCount != RECORD_COLUMN_COUNT) {
+            throw new IllegalArgumentException("CSV 헤더 필드 수가 예상과 다릅니다. 실제: " + columnCount);
+        }
+    }
+
+    private String readHeader(InputStream in, String encoding) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, Charset.forName(encoding)))) {
             String header = reader.readLine();
             if (header == null) {
                 throw new IllegalArgumentException("CSV 파일에 헤더가 존재하지 않습니다.");
             }
-            int columnCount = header.split(",").length;
-            if (columnCount != RECORD_COLUMN_COUNT) {
-                throw new IllegalArgumentException("CSV 헤더 필드 수가 예상과 다릅니다. 실제: " + columnCount);
-            }
+            return header;
         }
     }
 
     /**
      * CSV 라인을 DTO로 매핑하기 위한 LineMapper 구성.
      */
-    private DefaultLineMapper<RestaurantCsvDto> lineMapper() {
-        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+    public static DefaultLineMapper<RestaurantCsvDto> lineMapper() {
+        DefaultLineMapper<RestaurantCsvDto> lineMapper = new DefaultLineMapper<>();
+        lineMapper.setLineTokenizer(lineTokenizer());
+        lineMapper.setFieldSetMapper(fieldSetMapper());
+        return lineMapper;
+    }
+
+    /**
+     * 스키마 컬럼 순서대로 토큰화하여 원본 값 배열을 그대로 레코드로 만드는 LineMapper 구성.
+     * 필드명 기반 바인딩(BeanWrapper)을 거치지 않습니다.
+     */
+    public static DefaultLineMapper<SchemaRecord> lineMapper(DatasetSchema schema) {
+        DefaultLineMapper<SchemaRecord> lineMapper = new DefaultLineMapper<>();
+        lineMapper.setLineTokenizer(configure(new DelimitedLineTokenizer(), schema.fieldNames()));
+        lineMapper.setFieldSetMapper(fieldSet -> schema.toRecord(fieldSet.getValues()));
+        return lineMapper;
+    }
+
+    /**
+     * 큰따옴표로 감싼 CSV 라인을 DTO 필드명 순서의 FieldSet으로 분리하는 Tokenizer 구성.
+     */
+    static DelimitedLineTokenizer lineTokenizer() {
+        return configure(new DelimitedLineTokenizer());
+    }
+
+    private static DelimitedLineTokenizer configure(DelimitedLineTokenizer tokenizer) {
+        return configure(tokenizer, FIELD_NAMES);
+    }
+
+    private static DelimitedLineTokenizer configure(DelimitedLineTokenizer tokenizer, String[] names) {
         tokenizer.setDelimiter(",");
         tokenizer.setQuoteCharacter('"');
         tokenizer.setStrict(false);
-        tokenizer.setNames(
-                "recordNumber", "serviceName", "serviceId", "regionCode", "managementNumber",
-                "licenseDate", "cancelDate", "businessStatusCode", "businessStatusName",
-                "detailStatusCode", "detailStatusName", "closeDate", "suspendStartDate", "suspendEndDate",
-                "reopenDate", "phone", "areaSize", "postalCode", "fullAddress", "roadAddress",
-                "roadPostalCode", "storeName", "lastModified", "dataUpdateType", "dataUpdateDate",
-                "businessType", "coordX", "coordY", "sanitationType", "maleEmployee", "femaleEmployee",
-                "aroundInfo", "grade", "waterType", "totalEmployees", "hqEmployees", "officeEmployees",
-                "salesEmployees", "productionEmployees", "buildingOwnership", "guaranteeAmount", "monthlyRent",
-                "multiUseYn", "totalScale", "traditionalId", "mainMenu", "homepage"
-        );
-
-        BeanWrapperFieldSetMapper<RestaurantCsvDto> fieldSetMapper = new BeanWrapperFieldSetMapper<>();
-        fieldSetMapper.setTargetType(RestaurantCsvDto.class);
+        tokenizer.setNames(names);
+        return tokenizer;
+    }
 
-        DefaultLineMapper<RestaurantCsvDto> lineMapper = new DefaultLineMapper<>();
-        lineMapper.setLineTokenizer(tokenizer);
-        lineMapper.setFieldSetMapper(fieldSetMapper);
-        return lineMapper;
+    /**
+     * FieldSet을 DTO로 변환하는 FieldSetMapper 구성.
+     * 토큰을 컬럼 위치로 {@link SchemaDtoBinder}의 setter에 넘기며, 필드명 기반 바인딩(BeanWrapper)을 거치지 않습니다.
+     */
+    static FieldSetMapper<RestaurantCsvDto> fieldSetMapper() {
+        SchemaDtoBinder<RestaurantCsvDto> binder = SchemaDtoBinder.restaurant();
+        return fieldSet -> binder.newItem(fieldSet.getValues());
     }
 }
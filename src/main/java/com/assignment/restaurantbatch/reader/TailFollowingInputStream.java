@@ -0,0 +1,96 @@
+package com.assignment.restaurantbatch.reader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 아직 기록 중인 파일을 끝까지 따라 읽는 입력 스트림입니다.
+ * <p>
+ * - 파일 끝(EOF)에 도달하면 바로 종료하지 않고, 완료 마커 파일이 생길 때까지 주기적으로 다시 읽습니다.<br>
+ * - 마커가 보이면 그 전에 기록된 나머지 바이트를 모두 읽은 뒤 EOF를 반환합니다.<br>
+ * - 쓰는 중인 마지막 라인은 줄바꿈이 들어올 때까지 {@code BufferedReader.readLine()}에서 대기하므로
+ *   FlatFileItemReader에는 완성된 레코드만 전달됩니다.<br>
+ * - 지정 시간 동안 파일이 늘어나지 않고 마커도 없으면 전송 중단으로 보고 {@link IOException}을 던집니다.
+ */
+public class TailFollowingInputStream extends InputStream {
+
+    /** 따라 읽을 단일 입력 파일 (JobParameter, 지정 시 파티션 디렉토리 대신 이 파일 하나를 읽음) */
+    public static final String FOLLOW_FILE_PARAM = "followFile";
+
+    /** 입력 파일 기록 완료 마커 경로 (JobParameter) */
+    public static final String FOLLOW_MARKER_PARAM = "followMarker";
+
+    private final InputStream in;
+    private final Path marker;
+    private final long pollMillis;
+    private final long idleTimeoutMillis;
+    private boolean completed;
+
+    /**
+     * @param file        따라 읽을 파일
+     * @param marker      기록 완료 마커 파일
+     * @param pollInterval EOF에서 다시 읽기까지 대기 시간
+     * @param idleTimeout 파일 증가 없이 기다릴 최대 시간
+     */
+    public TailFollowingInputStream(Path file, Path marker, Duration pollInterval, Duration idleTimeout) throws IOException {
+        this.in = Files.newInputStream(file);
+        this.marker = marker;
+        this.pollMillis = Math.max(pollInterval.toMillis(), 1);
+        this.idleTimeoutMillis = idleTimeout.toMillis();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int n = read(single, 0, 1);
+        return n < 0 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        long waitingSince = 0;
+        while (true) {
+            int n = in.read(b, off, len);
+            if (n > 0) return n;
+            if (completed) return -1;
+
+            // 마커 확인 후 한 번 더 읽어 마커 생성 전에 기록된 나머지를 비움
+            if (Files.exists(marker)) {
+                completed = true;
+                continue;
+            }
+
+            long now = System.currentTimeMillis();
+            if (waitingSince == 0) {
+                waitingSince = now;
+            } else if (now - waitingSince >= idleTimeoutMillis) {
+                throw new IOException("입력 파일이 " + idleTimeoutMillis + "ms 동안 늘어나지 않았고 완료 마커도 없습니다: " + marker);
+            }
+            sleep();
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        return in.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void sleep() throws InterruptedIOException {
+        try {
+            Thread.sleep(pollMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("입력 파일 대기 중 인터럽트: " + marker);
+        }
+    }
+}
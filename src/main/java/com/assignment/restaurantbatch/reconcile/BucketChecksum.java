@@ -0,0 +1,36 @@
+package com.assignment.restaurantbatch.reconcile;
+
+/**
+ * record_number 구간 하나의 순서 무관 체크섬입니다.
+ * <p>
+ * 행 해시의 합과 XOR, 행 수를 함께 누적합니다. XOR만으로는 같은 행이 두 번 들어간 경우가 상쇄되므로
+ * 합과 행 수로 중복 INSERT를, XOR로 값 변경을 함께 검출합니다.
+ */
+final class BucketChecksum {
+
+    private long count;
+    private long sum;
+    private long xor;
+
+    void add(long hash) {
+        count++;
+        sum += hash;
+        xor ^= hash;
+    }
+
+    long count() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BucketChecksum other)) return false;
+        return count == other.count && sum == other.sum && xor == other.xor;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(count) * 31 * 31 + Long.hashCode(sum) * 31 + Long.hashCode(xor);
+    }
+}
@@ -0,0 +1,51 @@
+package com.assignment.restaurantbatch.reconcile;
+
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Job 시작 시 restaurant 테이블의 최대 id를 Job ExecutionContext에 남기는 리스너입니다.
+ * <p>
+ * - restaurant 테이블은 적재를 거듭하며 행이 쌓이므로, 정합성 검증은 이 값보다 큰 id(이번 Job이 적재한 행)만 비교합니다.<br>
+ * - 재시작 시에는 이전 실행의 ExecutionContext가 이어지므로 처음 값을 유지합니다. 첫 실행에서 커밋된 행도 비교 대상에 남습니다.<br>
+ * - 같은 테이블에 동시에 적재하는 다른 Job의 행은 구분하지 못합니다.
+ */
+@Slf4j
+public class LoadBoundaryListener implements JobExecutionListener {
+
+    /** 적재 시작 전 최대 id를 담는 Job ExecutionContext 키 */
+    public static final String BASE_ID_KEY = "reconcile.baseId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LoadBoundaryListener(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        ExecutionContext context = jobExecution.getExecutionContext();
+        String dataset = jobExecution.getJobParameters().getString(DatasetSchemaRegistry.DATASET_PARAM, DatasetSchema.RESTAURANT);
+        if (context.containsKey(BASE_ID_KEY) || !DatasetSchema.RESTAURANT.equals(dataset)) return;
+
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(id), 0) FROM " + DatasetSchema.restaurant().table(), Long.class);
+        context.putLong(BASE_ID_KEY, maxId == null ? 0 : maxId);
+        log.info("정합성 검증 기준 id: {} 초과", maxId);
+    }
+
+    /**
+     * 기준 id를 반환합니다. 기록되지 않았으면 null입니다.
+     */
+    public static Long baseId(JobExecution jobExecution) {
+        ExecutionContext context = jobExecution.getExecutionContext();
+        return context.containsKey(BASE_ID_KEY) ? context.getLong(BASE_ID_KEY) : null;
+    }
+}
@@ -0,0 +1,245 @@
+package com.assignment.restaurantbatch.reconcile;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.reader.RestaurantItemReaderConfig;
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.file.LineMapper;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 원본 CSV와 {@code restaurant} 테이블을 스트리밍으로 비교하는 정합성 검증기입니다.
+ * <p>
+ * 1차: 양쪽을 한 번씩 순차 스캔하며 행 해시를 record_number 구간별 {@link BucketChecksum}에 누적합니다.
+ * 메모리는 구간 수에만 비례합니다.<br>
+ * 2차: 체크섬이 다른 구간이 있을 때만 양쪽을 한 번 더 스캔하여 해당 구간의 행 해시만 모아
+ * 레코드 단위로 비교합니다.
+ * <p>
+ * 적재 중 스킵된 레코드는 원본 쪽에서 (입력 파일, record_number)로 찾아 제외하고 비교합니다.
+ * 여러 파일 적재는 파일마다 번호가 1부터 시작할 수 있는데, 테이블 행에는 입력 파일이 없으므로
+ * 같은 번호의 행들은 한 구간/레코드 번호에 모여 해시 목록(중복 허용)으로 비교됩니다.
+ * 테이블은 이전 적재 행을 함께 담으므로, DB 쪽은 적재 시작 전 최대 id({@link LoadBoundaryListener})보다 큰 행만 읽습니다.
+ */
+@Slf4j
+public class Reconciler {
+
+    public static final int DEFAULT_BUCKET_SIZE = 10_000;
+
+    /** record_number가 없는 DB 행의 구간 */
+    static final long NULL_BUCKET = Long.MIN_VALUE;
+
+    private final DataSource dataSource;
+    private final int bucketSize;
+    private final LineMapper<RestaurantCsvDto> lineMapper = RestaurantItemReaderConfig.lineMapper();
+
+    public Reconciler(DataSource dataSource, int bucketSize) {
+        if (bucketSize <= 0) {
+            throw new IllegalArgumentException("bucketSize는 1 이상이어야 합니다: " + bucketSize);
+        }
+        this.dataSource = dataSource;
+        this.bucketSize = bucketSize;
+    }
+
+    /**
+     * 테이블 전체를 원본과 비교합니다.
+     */
+    public ReconciliationReport reconcile(List<Path> sourceFiles, Charset charset, Exclusion excluded)
+            throws IOException, SQLException {
+        return reconcile(sourceFiles, charset, excluded, 0);
+    }
+
+    /**
+     * @param sourceFiles 원본 CSV 파일 목록 (각 파일 첫 줄은 헤더)
+     * @param charset     원본 인코딩
+     * @param excluded    적재 중 스킵되어 비교에서 제외할 (입력 파일, record_number)
+     * @param afterId     이 id보다 큰 행만 DB 쪽 비교 대상 (적재 시작 전 최대 id)
+     */
+    public ReconciliationReport reconcile(List<Path> sourceFiles, Charset charset, Exclusion excluded, long afterId)
+            throws IOException, SQLException {
+        Map<Long, BucketChecksum> sourceBuckets = new HashMap<>();
+        Map<Long, BucketChecksum> tableBuckets = new HashMap<>();
+
+        SourceStats stats = scanSource(sourceFiles, charset, excluded,
+                (recordNumber, hash) -> sourceBuckets.computeIfAbsent(bucketOf(recordNumber), k -> new BucketChecksum()).add(hash));
+        long tableRows = scanTable(afterId,
+                (recordNumber, hash) -> tableBuckets.computeIfAbsent(bucketOf(recordNumber), k -> new BucketChecksum()).add(hash));
+
+        Set<Long> allBuckets = new HashSet<>(sourceBuckets.keySet());
+        allBuckets.addAll(tableBuckets.keySet());
+        Set<Long> mismatched = new HashSet<>();
+        for (Long bucket : allBuckets) {
+            if (!Objects.equals(sourceBuckets.get(bucket), tableBuckets.get(bucket))) {
+                mismatched.add(bucket);
+            }
+        }
+
+        List<ReconciliationMismatch> mismatches = mismatched.isEmpty()
+                ? List.of()
+                : drillDown(sourceFiles, charset, excluded, afterId, mismatched);
+
+        return new ReconciliationReport(stats.rows, stats.excluded, stats.unparseable, tableRows,
+                allBuckets.size(), mismatched.size(), mismatches);
+    }
+
+    /**
+     * 불일치 구간에 속한 행만 레코드 번호별 해시 목록으로 모아 비교합니다.
+     */
+    private List<ReconciliationMismatch> drillDown(List<Path> sourceFiles, Charset charset, Exclusion excluded,
+                                                   long afterId, Set<Long> mismatched) throws IOException, SQLException {
+        log.info("정합성 불일치 구간 {}개 상세 비교 시작", mismatched.size());
+        Map<Integer, List<Long>> sourceRows = new HashMap<>();
+        Map<Integer, List<Long>> tableRows = new HashMap<>();
+
+        scanSource(sourceFiles, charset, excluded, (recordNumber, hash) -> {
+            if (mismatched.contains(bucketOf(recordNumber))) {
+                sourceRows.computeIfAbsent(recordNumber, k -> new ArrayList<>(1)).add(hash);
+            }
+        });
+        scanTable(afterId, (recordNumber, hash) -> {
+            if (mismatched.contains(bucketOf(recordNumber))) {
+                tableRows.computeIfAbsent(recordNumber, k -> new ArrayList<>(1)).add(hash);
+            }
+        });
+
+        Set<Integer> recordNumbers = new HashSet<>(sourceRows.keySet());
+        recordNumbers.addAll(tableRows.keySet());
+
+        List<ReconciliationMismatch> mismatches = new ArrayList<>();
+        for (Integer recordNumber : recordNumbers) {
+            List<Long> source = sourceRows.getOrDefault(recordNumber, List.of());
+            List<Long> table = tableRows.getOrDefault(recordNumber, List.of());
+            ReconciliationMismatch.Type type = classify(source, table);
+            if (type != null) {
+                mismatches.add(new ReconciliationMismatch(recordNumber, type, source.size(), table.size()));
+            }
+        }
+        mismatches.sort(Comparator.comparing(ReconciliationMismatch::recordNumber,
+                Comparator.nullsFirst(Comparator.naturalOrder())));
+        return mismatches;
+    }
+
+    /**
+     * 한 레코드 번호의 원본/DB 해시 목록을 비교합니다.
+     *
+     * @return 불일치 유형 (일치하면 null)
+     */
+    static ReconciliationMismatch.Type classify(List<Long> source, List<Long> table) {
+        if (source.isEmpty()) return ReconciliationMismatch.Type.UNEXPECTED;
+        if (table.size() < source.size()) return ReconciliationMismatch.Type.MISSING;
+        if (table.size() > source.size()) return ReconciliationMismatch.Type.DUPLICATE;
+
+        List<Long> sortedSource = new ArrayList<>(source);
+        List<Long> sortedTable = new ArrayList<>(table);
+        Collections.sort(sortedSource);
+        Collections.sort(sortedTable);
+        return sortedSource.equals(sortedTable) ? null : ReconciliationMismatch.Type.CHANGED;
+    }
+
+    private long bucketOf(Integer recordNumber) {
+        return recordNumber == null ? NULL_BUCKET : Math.floorDiv(recordNumber, bucketSize);
+    }
+
+    private SourceStats scanSource(List<Path> sourceFiles, Charset charset, Exclusion excluded,
+                                   RowConsumer consumer) throws IOException {
+        SourceStats stats = new SourceStats();
+        for (Path file : sourceFiles) {
+            String source = CsvSplitter.sourceOf(file.getFileName().toString());
+            try (BufferedReader reader = Files.newBufferedReader(file, charset)) {
+                reader.readLine(); // 헤더
+                String line;
+                int lineNumber = 1;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.trim().isEmpty()) continue;
+
+                    RestaurantCsvDto item;
+                    Object[] values;
+                    try {
+                        item = lineMapper.mapLine(line, lineNumber);
+                        if (item.getRecordNumber() != null && excluded.test(source, item.getRecordNumber())) {
+                            stats.excluded++;
+                            continue;
+                        }
+                        values = RowValues.fromDto(item);
+                    } catch (Exception e) {
+                        // 적재 시에도 읽기/쓰기 단계에서 스킵되는 행
+                        stats.unparseable++;
+                        continue;
+                    }
+                    stats.rows++;
+                    consumer.accept(item.getRecordNumber(), RowHasher.hash(values));
+                }
+            }
+        }
+        return stats;
+    }
+
+    private long scanTable(long afterId, RowConsumer consumer) throws SQLException {
+        long rows = 0;
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement statement = conn.prepareStatement(RowValues.SELECT_AFTER_ID_SQL,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(streamingFetchSize(conn));
+            statement.setLong(1, afterId);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    Object[] values = RowValues.fromResultSet(rs);
+                    Integer recordNumber = values[0] == null ? null : ((Long) values[0]).intValue();
+                    consumer.accept(recordNumber, RowHasher.hash(values));
+                    rows++;
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 메모리에 모두 올리지 않고 스트리밍합니다.
+     */
+    private int streamingFetchSize(Connection conn) throws SQLException {
+        String product = conn.getMetaData().getDatabaseProductName();
+        return "MySQL".equalsIgnoreCase(product) ? Integer.MIN_VALUE : 1_000;
+    }
+
+    /**
+     * 적재 중 스킵되어 비교에서 제외할 원본 행
+     */
+    @FunctionalInterface
+    public interface Exclusion {
+
+        /**
+         * @param source 입력 파일 구분자 (여러 파일 적재의 분할 파일이 아니면 null)
+         */
+        boolean test(String source, int recordNumber);
+    }
+
+    @FunctionalInterface
+    private interface RowConsumer {
+        void accept(Integer recordNumber, long hash);
+    }
+
+    private static final class SourceStats {
+        long rows;
+        long excluded;
+        long unparseable;
+    }
+}
@@ -0,0 +1,23 @@
+package com.assignment.restaurantbatch.reconcile;
+
+/**
+ * 원본과 DB가 일치하지 않는 레코드 하나입니다.
+ *
+ * @param recordNumber 레코드 번호 (DB에 번호 없이 저장된 행은 null)
+ * @param type         불일치 유형
+ * @param sourceCount  원본에서의 행 수
+ * @param tableCount   DB에서의 행 수
+ */
+public record ReconciliationMismatch(Integer recordNumber, Type type, int sourceCount, int tableCount) {
+
+    public enum Type {
+        /** 원본에는 있으나 DB에 없거나 부족함 (누락, 잘림) */
+        MISSING,
+        /** DB에 원본보다 많이 저장됨 (재시도 Chunk 중복 INSERT 등) */
+        DUPLICATE,
+        /** 원본에 없는 레코드가 DB에 있음 */
+        UNEXPECTED,
+        /** 건수는 같으나 컬럼 값이 다름 */
+        CHANGED
+    }
+}
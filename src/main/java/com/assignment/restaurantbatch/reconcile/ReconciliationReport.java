@@ -0,0 +1,34 @@
+package com.assignment.restaurantbatch.reconcile;
+
+import java.util.List;
+
+/**
+ * 적재 후 정합성 검증 결과입니다.
+ *
+ * @param sourceRows         비교 대상 원본 행 수 (스킵된 레코드 제외)
+ * @param sourceExcluded     적재 중 스킵되어 비교에서 제외한 원본 행 수
+ * @param sourceUnparseable  파싱/변환에 실패하여 비교할 수 없는 원본 행 수
+ * @param tableRows          DB 행 수
+ * @param buckets            비교한 record_number 구간 수
+ * @param mismatchedBuckets  체크섬이 다른 구간 수
+ * @param mismatches         불일치 레코드 목록 (record_number 순)
+ */
+public record ReconciliationReport(
+        long sourceRows,
+        long sourceExcluded,
+        long sourceUnparseable,
+        long tableRows,
+        int buckets,
+        int mismatchedBuckets,
+        List<ReconciliationMismatch> mismatches
+) {
+
+    public boolean isMatched() {
+        return mismatchedBuckets == 0;
+    }
+
+    public String toLogLine() {
+        return String.format("원본 %d건(스킵 제외 %d건, 파싱 불가 %d건), DB %d건, 구간 %d개 중 불일치 %d개, 불일치 레코드 %d건",
+                sourceRows, sourceExcluded, sourceUnparseable, tableRows, buckets, mismatchedBuckets, mismatches.size());
+    }
+}
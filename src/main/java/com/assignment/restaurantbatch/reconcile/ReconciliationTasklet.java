@@ -0,0 +1,110 @@
+package com.assignment.restaurantbatch.reconcile;
+
+import com.assignment.restaurantbatch.listener.RestaurantSkipListener;
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 적재 직후 파티션 파일과 {@code restaurant} 테이블을 비교하는 정합성 검증 Tasklet입니다.
+ * <p>
+ * - 불일치가 있으면 레코드 번호와 유형을 {@code reconcile-<jobExecutionId>.csv}로 저장하고
+ *   스텝 종료 코드를 {@link #MISMATCH}로 설정합니다. Job 자체는 실패 처리하지 않습니다.<br>
+ * - 파티션 파일은 Job 종료 후 정리되므로 검증은 마스터 스텝 바로 다음에 실행되어야 합니다.<br>
+ * - 테이블 쪽은 이번 Job이 적재한 행({@link LoadBoundaryListener}의 기준 id 초과)만 비교합니다. 기준 id가 없으면 생략합니다.
+ */
+@Slf4j
+public class ReconciliationTasklet implements Tasklet {
+
+    /** 불일치 발견 시 스텝 종료 코드 */
+    public static final ExitStatus MISMATCH = new ExitStatus("COMPLETED_WITH_MISMATCH");
+
+    /** 정합성 검증 여부 JobParameter (false면 생략) */
+    public static final String RECONCILE_PARAM = "reconcile";
+
+    /** 로그에 출력할 최대 불일치 레코드 수 */
+    private static final int LOG_LIMIT = 20;
+
+    private final boolean enabled;
+    private final Reconciler reconciler;
+    private final Path partitionDir;
+    private final Charset charset;
+    private final RestaurantSkipListener skipListener;
+    private final Path reportDir;
+
+    public ReconciliationTasklet(boolean enabled, Reconciler reconciler, Path partitionDir, Charset charset,
+                                 RestaurantSkipListener skipListener, Path reportDir) {
+        this.enabled = enabled;
+        this.reconciler = reconciler;
+        this.partitionDir = partitionDir;
+        this.charset = charset;
+        this.skipListener = skipListener;
+        this.reportDir = reportDir;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        if (!enabled) {
+            log.info("[정합성 검증] 생략");
+            return RepeatStatus.FINISHED;
+        }
+
+        Long baseId = LoadBoundaryListener.baseId(contribution.getStepExecution().getJobExecution());
+        if (baseId == null) {
+            log.warn("[정합성 검증] 적재 시작 전 기준 id가 없어 이번 Job의 행을 구분할 수 없으므로 생략");
+            return RepeatStatus.FINISHED;
+        }
+
+        List<Path> sourceFiles = partitionFiles();
+        long start = System.nanoTime();
+        ReconciliationReport report = reconciler.reconcile(sourceFiles, charset, skipListener::isSkipped, baseId);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        if (report.isMatched()) {
+            log.info("[정합성 검증] 일치 - {} ({} ms)", report.toLogLine(), elapsedMillis);
+            return RepeatStatus.FINISHED;
+        }
+
+        log.warn("[정합성 검증] 불일치 - {} ({} ms)", report.toLogLine(), elapsedMillis);
+        report.mismatches().stream().limit(LOG_LIMIT).forEach(mismatch ->
+                log.warn(" - recordNumber={} {} (원본 {}건, DB {}건)",
+                        mismatch.recordNumber(), mismatch.type(), mismatch.sourceCount(), mismatch.tableCount()));
+
+        Long jobExecutionId = contribution.getStepExecution().getJobExecutionId();
+        Path reportFile = writeReport(report, reportDir.resolve("reconcile-" + jobExecutionId + ".csv"));
+        log.warn("불일치 레코드 전체 목록: {}", reportFile);
+
+        contribution.setExitStatus(MISMATCH);
+        return RepeatStatus.FINISHED;
+    }
+
+    private List<Path> partitionFiles() throws IOException {
+        return CsvSplitter.partitionFiles(partitionDir);
+    }
+
+    static Path writeReport(ReconciliationReport report, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("recordNumber,type,sourceCount,tableCount");
+            writer.newLine();
+            for (ReconciliationMismatch mismatch : report.mismatches()) {
+                writer.write((mismatch.recordNumber() == null ? "" : mismatch.recordNumber()) + ","
+                        + mismatch.type() + "," + mismatch.sourceCount() + "," + mismatch.tableCount());
+                writer.newLine();
+            }
+        }
+        return file;
+    }
+}
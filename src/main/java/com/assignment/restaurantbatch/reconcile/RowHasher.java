@@ -0,0 +1,85 @@
+package com.assignment.restaurantbatch.reconcile;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 한 행의 타입 변환된 컬럼 값들로 64비트 해시를 계산합니다.
+ * <p>
+ * 원본 CSV와 DB 행을 같은 기준으로 비교하기 위해 정수는 long, 실수는 비트 값,
+ * 날짜는 epoch 값으로 정규화한 뒤 FNV-1a로 누적하고 마지막에 비트를 섞습니다.
+ */
+public final class RowHasher {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte DATE = 4;
+    private static final byte DATETIME = 5;
+
+    private RowHasher() {
+    }
+
+    public static long hash(Object[] values) {
+        long h = FNV_OFFSET;
+        for (Object value : values) {
+            h = feed(h, value);
+        }
+        return mix(h);
+    }
+
+    private static long feed(long h, Object value) {
+        if (value == null) {
+            return feedByte(h, NULL);
+        }
+        if (value instanceof String s) {
+            h = feedByte(h, STRING);
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                h = feedByte(h, (byte) (c >>> 8));
+                h = feedByte(h, (byte) c);
+            }
+            // 연속된 문자열 컬럼의 경계를 구분하기 위해 길이도 반영합니다.
+            return feedLong(h, s.length());
+        }
+        if (value instanceof Double d) {
+            return feedLong(feedByte(h, DOUBLE), Double.doubleToLongBits(d));
+        }
+        if (value instanceof Number n) {
+            return feedLong(feedByte(h, INTEGER), n.longValue());
+        }
+        if (value instanceof LocalDate date) {
+            return feedLong(feedByte(h, DATE), date.toEpochDay());
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            h = feedLong(feedByte(h, DATETIME), dateTime.toEpochSecond(ZoneOffset.UTC));
+            return feedLong(h, dateTime.getNano());
+        }
+        throw new IllegalArgumentException("지원하지 않는 컬럼 값 타입: " + value.getClass().getName());
+    }
+
+    private static long feedLong(long h, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            h = feedByte(h, (byte) (value >>> shift));
+        }
+        return h;
+    }
+
+    private static long feedByte(long h, byte b) {
+        return (h ^ (b & 0xff)) * FNV_PRIME;
+    }
+
+    /**
+     * 합/XOR 누적 시 비트가 고르게 분포하도록 splitmix64 최종 단계로 섞습니다.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,86 @@
+package com.assignment.restaurantbatch.reconcile;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.schema.ColumnSpec;
+import com.assignment.restaurantbatch.schema.ColumnType;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.SchemaDtoBinder;
+import com.assignment.restaurantbatch.util.ParseUtil;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+
+/**
+ * 원본 DTO와 DB 행을 같은 순서, 같은 타입의 컬럼 값 배열로 변환합니다.
+ * <p>
+ * DTO 값은 적재 시와 같은 {@link SchemaDtoBinder}로 꺼내 같은 규칙으로 변환하므로,
+ * 정상 적재된 행은 양쪽에서 같은 값 배열(같은 해시)을 갖습니다.
+ */
+public final class RowValues {
+
+    private static final DatasetSchema SCHEMA = DatasetSchema.restaurant();
+
+    /** INSERT 컬럼 순서와 동일한 조회 컬럼 (schema/restaurant.yml) */
+    static final String SELECT_SQL = "SELECT "
+            + SCHEMA.columns().stream().map(ColumnSpec::column).collect(Collectors.joining(", "))
+            + " FROM " + SCHEMA.table();
+
+    /** 이번 Job이 적재한 행만 조회 (id가 적재 시작 전 최대 id보다 큰 행) */
+    static final String SELECT_AFTER_ID_SQL = SELECT_SQL + " WHERE id > ?";
+
+    private static final ColumnType[] TYPES = SCHEMA.types();
+
+    private RowValues() {
+    }
+
+    /**
+     * DTO를 적재 시와 같은 규칙으로 변환합니다.
+     *
+     * @throws RuntimeException 날짜/숫자 변환 실패 시 (해당 행은 적재 시에도 스킵됨)
+     */
+    public static Object[] fromDto(RestaurantCsvDto item) {
+        String[] raw = SchemaDtoBinder.restaurant().values(item);
+
+        Object[] values = new Object[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            values[i] = switch (TYPES[i]) {
+                case STRING -> raw[i];
+                case INT -> {
+                    Integer value = ParseUtil.parseInt(raw[i]);
+                    yield value == null ? null : value.longValue();
+                }
+                case DOUBLE -> ParseUtil.parseDouble(raw[i]);
+                case DATE -> ParseUtil.toLocalDate(raw[i]);
+                case DATETIME -> ParseUtil.toLocalDateTime(raw[i]);
+            };
+        }
+        return values;
+    }
+
+    /**
+     * {@link #SELECT_SQL}로 조회한 현재 행을 변환합니다.
+     */
+    public static Object[] fromResultSet(ResultSet rs) throws SQLException {
+        Object[] values = new Object[TYPES.length];
+        for (int i = 0; i < TYPES.length; i++) {
+            int column = i + 1;
+            values[i] = switch (TYPES[i]) {
+                case STRING -> rs.getString(column);
+                case INT -> {
+                    long value = rs.getLong(column);
+                    yield rs.wasNull() ? null : value;
+                }
+                case DOUBLE -> {
+                    double value = rs.getDouble(column);
+                    yield rs.wasNull() ? null : value;
+                }
+                case DATE -> rs.getObject(column, LocalDate.class);
+                case DATETIME -> rs.getObject(column, LocalDateTime.class);
+            };
+        }
+        return values;
+    }
+}
@@ -0,0 +1,22 @@
+package com.assignment.restaurantbatch.region;
+
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 지역(region_code) 파티션 관리 설정 클래스입니다.
+ */
+@Configuration
+public class RegionPartitionConfig {
+
+    /**
+     * restaurant 테이블의 지역 파티션 추가, 스테이징 테이블 교환을 담당하는 Bean입니다.
+     */
+    @Bean
+    public RegionPartitionManager regionPartitionManager(DataSource dataSource) {
+        return new RegionPartitionManager(dataSource, DatasetSchema.restaurant().table());
+    }
+}
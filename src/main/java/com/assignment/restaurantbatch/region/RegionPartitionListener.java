@@ -0,0 +1,117 @@
+package com.assignment.restaurantbatch.region;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import com.assignment.restaurantbatch.snapshot.SnapshotPartitioner;
+import com.assignment.restaurantbatch.snapshot.SnapshotReader;
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import com.assignment.restaurantbatch.validate.DryRunItemWriter;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.JobParameters;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Job 시작 시 이번 적재 입력의 지역 코드에 해당하는 LIST 파티션을 미리 추가하는 리스너입니다.
+ * <p>
+ * - 파티션이 없는 지역 코드의 INSERT는 MySQL이 오류(1526)로 거부하고, 슬레이브 스텝은 그 행들을 스킵하므로
+ *   지역 재적재뿐 아니라 모든 restaurant 적재가 쓰기 전에 파티션을 갖춰야 합니다.<br>
+ * - 대상 테이블이 LIST 파티션이 아니면(H2 포함) 입력을 읽지 않고 바로 끝냅니다.<br>
+ * - 입력은 파티션 디렉토리의 분할 파일(스냅샷 적재는 스냅샷 파일)을 한 번 더 읽어 지역 코드만 모읍니다.<br>
+ * - 스테이징 테이블 적재({@link MultiInsertWriter#TARGET_TABLE_PARAM})는 비파티션 테이블에 쓰며,
+ *   교환 직전 {@link RegionPartitionManager#exchange}가 파티션을 추가하므로 생략합니다. 검증 전용 실행도 생략합니다.
+ */
+@Slf4j
+public class RegionPartitionListener implements JobExecutionListener {
+
+    private final RegionPartitionManager regionPartitionManager;
+
+    public RegionPartitionListener(RegionPartitionManager regionPartitionManager) {
+        this.regionPartitionManager = regionPartitionManager;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        JobParameters parameters = jobExecution.getJobParameters();
+        String dataset = parameters.getString(DatasetSchemaRegistry.DATASET_PARAM, DatasetSchema.RESTAURANT);
+        if (!DatasetSchema.RESTAURANT.equals(dataset)
+                || parameters.getString(MultiInsertWriter.TARGET_TABLE_PARAM) != null
+                || Boolean.parseBoolean(parameters.getString(DryRunItemWriter.DRY_RUN_PARAM, "false"))
+                || !regionPartitionManager.isListPartitioned()) {
+            return;
+        }
+
+        String snapshotFile = parameters.getString(SnapshotPartitioner.SNAPSHOT_FILE_PARAM);
+        String partitionDir = parameters.getString("partitionDir");
+        Set<String> regionCodes;
+        if (snapshotFile != null) {
+            regionCodes = snapshotRegionCodes(Paths.get(snapshotFile));
+        } else if (partitionDir != null) {
+            regionCodes = partitionFileRegionCodes(Paths.get(partitionDir));
+        } else {
+            log.warn("지역 파티션 확인 생략: 입력 위치(partitionDir, {})가 없습니다.", SnapshotPartitioner.SNAPSHOT_FILE_PARAM);
+            return;
+        }
+
+        int added = regionPartitionManager.ensurePartitions(regionCodes);
+        log.info("지역 파티션 확인: {} 입력 지역 {}개, 추가한 파티션 {}개", regionPartitionManager.table(), regionCodes.size(), added);
+    }
+
+    /**
+     * 분할 파일의 지역 코드를 모읍니다.
+     * 지역 코드와 구분자는 ASCII이고 MS949/UTF-8 멀티바이트 문자에는 쉼표와 큰따옴표 바이트가 없으므로,
+     * 입력 인코딩(원본 MS949, 재처리 UTF-8)과 관계없이 ISO-8859-1로 읽습니다.
+     */
+    static Set<String> partitionFileRegionCodes(Path partitionDir) {
+        Set<String> regionCodes = new TreeSet<>();
+        for (Path file : partitionFiles(partitionDir)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+                reader.readLine(); // 헤더
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) continue;
+                    regionCodes.add(CsvSplitter.regionCodeOf(line));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("분할 파일 지역 코드 읽기 실패: " + file, e);
+            }
+        }
+        return regionCodes;
+    }
+
+    private static List<Path> partitionFiles(Path partitionDir) {
+        try {
+            return CsvSplitter.partitionFiles(partitionDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("분할 파일 목록 읽기 실패: " + partitionDir, e);
+        }
+    }
+
+    private static Set<String> snapshotRegionCodes(Path snapshotFile) {
+        Set<String> regionCodes = new TreeSet<>();
+        try (SnapshotReader reader = SnapshotReader.open(snapshotFile)) {
+            for (int group = 0; group < reader.rowGroupCount(); group++) {
+                for (RestaurantCsvDto item : reader.readRowGroup(group)) {
+                    String regionCode = item.getRegionCode();
+                    regionCodes.add(regionCode == null ? "" : regionCode.trim());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 지역 코드 읽기 실패: " + snapshotFile, e);
+        }
+        return regionCodes;
+    }
+}
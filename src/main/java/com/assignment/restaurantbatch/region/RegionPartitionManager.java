@@ -0,0 +1,247 @@
+package com.assignment.restaurantbatch.region;
+
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 개방자치단체코드(region_code) 기준 LIST COLUMNS 파티션 테이블을 관리합니다.
+ * <p>
+ * - MySQL에서 테이블이 LIST 파티션이면 적재 전에 없는 지역 파티션({@code p_<코드>})을 추가합니다.<br>
+ * - 지역 재적재는 같은 구조의 비파티션 스테이징 테이블에 새로 적재한 뒤
+ *   {@code ALTER TABLE ... EXCHANGE PARTITION}으로 해당 지역 파티션과 통째로 맞바꿉니다.<br>
+ * - 교환한 행의 id가 다른 지역 파티션의 id와 겹치지 않도록 스테이징 테이블은 대상 테이블의 다음 id부터 발급하고,
+ *   교환 후 대상 테이블의 AUTO_INCREMENT를 교환한 행 이후로 올립니다.<br>
+ * - 파티션이 아닌 테이블이나 H2(테스트)에서는 한 트랜잭션 안에서 지역 행을 DELETE 후 스테이징 행을 INSERT합니다.
+ *   이때 CSV 컬럼과 함께 도로명주소 분해 컬럼(시도/시군구/도로명)도 옮기며, id는 대상 테이블에서 새로 발급합니다.
+ */
+@Slf4j
+public class RegionPartitionManager {
+
+    /** 개방자치단체코드가 빈 행을 담는 파티션 이름 */
+    static final String NO_REGION_PARTITION = "p_none";
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+    private static final Pattern REGION_CODE = Pattern.compile("[A-Za-z0-9_-]*");
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final String columnList;
+
+    /**
+     * @param table restaurant와 컬럼 구성이 같은 적재 대상 테이블
+     */
+    public RegionPartitionManager(DataSource dataSource, String table) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.table = checkIdentifier(table);
+        this.columnList = DatasetSchema.restaurant().columnList() + ", " + MultiInsertWriter.ADDRESS_COLUMNS;
+    }
+
+    /** 지역 파티션을 관리하는 대상 테이블 */
+    public String table() {
+        return table;
+    }
+
+    /**
+     * 대상 테이블이 MySQL LIST(COLUMNS) 파티션 테이블인지 확인합니다.
+     */
+    public boolean isListPartitioned() {
+        if (!isMySql()) return false;
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+                  AND PARTITION_NAME IS NOT NULL AND PARTITION_METHOD LIKE 'LIST%'""", Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 주어진 지역 코드에 해당하는 파티션이 없으면 추가합니다. LIST 파티션 테이블이 아니면 아무것도 하지 않습니다.
+     *
+     * @return 새로 추가한 파티션 수
+     */
+    public int ensurePartitions(Collection<String> regionCodes) {
+        if (!isListPartitioned()) return 0;
+
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList("""
+                SELECT PARTITION_NAME FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL""", String.class, table));
+
+        Set<String> missing = new TreeSet<>();
+        for (String regionCode : regionCodes) {
+            if (!existing.contains(partitionName(regionCode))) {
+                missing.add(regionCode);
+            }
+        }
+        if (missing.isEmpty()) return 0;
+
+        jdbcTemplate.execute(addPartitionSql(table, missing));
+        log.info("지역 파티션 추가: {} ({}개)", table, missing.size());
+        return missing.size();
+    }
+
+    /**
+     * 비어 있는 스테이징 테이블을 새로 만듭니다. 기존 스테이징 테이블은 삭제합니다.
+     * MySQL은 대상 테이블과 같은 구조(CREATE TABLE ... LIKE)에서 파티션만 제거하여 EXCHANGE 조건을 맞춥니다.
+     * LIKE로 만든 테이블의 AUTO_INCREMENT는 1부터 시작하므로 대상 테이블의 다음 id로 맞춥니다.
+     */
+    public void prepareStaging(String stageTable) {
+        String stage = checkIdentifier(stageTable);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + stage);
+        if (isMySql()) {
+            jdbcTemplate.execute("CREATE TABLE " + stage + " LIKE " + table);
+            if (isListPartitioned()) {
+                jdbcTemplate.execute("ALTER TABLE " + stage + " REMOVE PARTITIONING");
+            }
+            jdbcTemplate.execute(autoIncrementSql(stage, maxId(table) + 1));
+        } else {
+            jdbcTemplate.execute("CREATE TABLE " + stage + " AS SELECT " + columnList + " FROM " + table + " WHERE 1 = 0");
+        }
+        log.info("지역 재적재 스테이징 테이블 준비: {}", stage);
+    }
+
+    /**
+     * 스테이징 테이블의 행으로 해당 지역의 행을 모두 교체하고 스테이징 테이블을 삭제합니다.
+     *
+     * @return 교체된 지역의 행 수 (스테이징 테이블 행 수)
+     * @throws IllegalStateException 스테이징 테이블에 다른 지역의 행이 있거나, 교환할 id가 대상 테이블의 id와 겹치는 경우
+     */
+    public long exchange(String regionCode, String stageTable) {
+        return exchange(regionCode, stageTable, (region, oldRowsTable, newRowsTable) -> {
+        });
+    }
+
+    /**
+     * 스테이징 테이블의 행으로 해당 지역의 행을 모두 교체하고 스테이징 테이블을 삭제합니다.
+     * 교체 전 행과 새 행을 모두 읽을 수 있는 시점에 listener를 호출합니다.
+     * <p>
+     * - 비파티션 테이블: DELETE/INSERT와 같은 트랜잭션 안에서 호출하므로, listener가 실패하면 교체도 롤백됩니다.<br>
+     * - MySQL 파티션 교환: EXCHANGE PARTITION은 암묵적으로 커밋되므로 교환 직후 별도 트랜잭션에서 호출합니다.
+     *   이때 교체 전 행은 스테이징 테이블에 있으며, listener가 실패하면 스테이징 테이블을 삭제하지 않고 남겨 둡니다.
+     *
+     * @param listener 교체에 맞춰 함께 반영할 작업 (요약 테이블 갱신 등)
+     * @return 교체된 지역의 행 수 (스테이징 테이블 행 수)
+     * @throws IllegalStateException 스테이징 테이블에 다른 지역의 행이 있거나, 교환할 id가 대상 테이블의 id와 겹치는 경우
+     */
+    public long exchange(String regionCode, String stageTable, SwapListener listener) {
+        String stage = checkIdentifier(stageTable);
+        Long others = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + stage + " WHERE region_code IS NULL OR region_code <> ?", Long.class, regionCode);
+        if (others != null && others > 0) {
+            throw new IllegalStateException("스테이징 테이블에 다른 지역의 행이 " + others + "건 있습니다: " + stage);
+        }
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + stage, Long.class);
+
+        if (isListPartitioned()) {
+            // 스테이징 적재 중 다른 적재가 대상 테이블에 같은 id를 발급했으면 교환 후 id가 중복되므로 교환하지 않음
+            Long overlapping = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + stage + " s WHERE EXISTS (SELECT 1 FROM "
+                    + table + " t WHERE t.id = s.id)", Long.class);
+            if (overlapping != null && overlapping > 0) {
+                throw new IllegalStateException("스테이징 테이블의 id " + overlapping + "건이 " + table + "의 id와 겹칩니다: " + stage);
+            }
+            long stageMaxId = maxId(stage);
+            ensurePartitions(List.of(regionCode));
+            // 교환 후 스테이징 테이블에는 이전 지역 행이 남음
+            jdbcTemplate.execute("ALTER TABLE " + table + " EXCHANGE PARTITION " + partitionName(regionCode)
+                    + " WITH TABLE " + stage);
+            // 이후 적재가 교환해 온 행의 id를 다시 발급하지 않도록 AUTO_INCREMENT를 올림 (현재 값보다 작으면 MySQL이 무시)
+            jdbcTemplate.execute(autoIncrementSql(table, stageMaxId + 1));
+            transactionTemplate().executeWithoutResult(status -> listener.swapped(regionCode, stage, table));
+        } else {
+            transactionTemplate().executeWithoutResult(status -> {
+                listener.swapped(regionCode, table, stage);
+                jdbcTemplate.update("DELETE FROM " + table + " WHERE region_code = ?", regionCode);
+                jdbcTemplate.update("INSERT INTO " + table + " (" + columnList + ") SELECT " + columnList + " FROM " + stage);
+            });
+        }
+        jdbcTemplate.execute("DROP TABLE " + stage);
+        log.info("지역 재적재 반영: {} region_code={} ({}건)", table, regionCode, rows);
+        return rows == null ? 0 : rows;
+    }
+
+    /**
+     * 지역 코드의 파티션 이름 (p_&lt;코드&gt;, 빈 코드는 p_none)
+     *
+     * @throws IllegalArgumentException 코드가 영문/숫자/밑줄/하이픈 외의 문자를 포함한 경우
+     */
+    static String partitionName(String regionCode) {
+        if (!REGION_CODE.matcher(regionCode).matches()) {
+            throw new IllegalArgumentException("지역 코드 형식이 올바르지 않습니다: " + regionCode);
+        }
+        return regionCode.isEmpty() ? NO_REGION_PARTITION : "p_" + regionCode.replace('-', '_');
+    }
+
+    /**
+     * 지역별 LIST 파티션 추가 DDL
+     */
+    static String addPartitionSql(String table, Collection<String> regionCodes) {
+        return "ALTER TABLE " + table + " ADD PARTITION ("
+                + regionCodes.stream()
+                        .map(code -> "PARTITION " + partitionName(code) + " VALUES IN ('" + code + "')")
+                        .collect(Collectors.joining(", "))
+                + ")";
+    }
+
+    private TransactionTemplate transactionTemplate() {
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    /**
+     * 테이블의 다음 AUTO_INCREMENT 값 지정 DDL (MySQL)
+     */
+    static String autoIncrementSql(String table, long nextId) {
+        return "ALTER TABLE " + table + " AUTO_INCREMENT = " + nextId;
+    }
+
+    private long maxId(String tableName) {
+        Long max = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + tableName, Long.class);
+        return max == null ? 0 : max;
+    }
+
+    private boolean isMySql() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return product != null && product.toLowerCase(Locale.ROOT).contains("mysql");
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("DB 종류를 확인할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 지역 행 교체 시 교체 전 행과 새 행을 함께 읽을 수 있는 시점에 호출되는 리스너입니다.
+     */
+    @FunctionalInterface
+    public interface SwapListener {
+
+        /**
+         * @param regionCode   교체하는 지역 코드
+         * @param oldRowsTable 교체 전 지역 행이 있는 테이블
+         * @param newRowsTable 새로 적재한 지역 행이 있는 테이블
+         */
+        void swapped(String regionCode, String oldRowsTable, String newRowsTable);
+    }
+
+    private static String checkIdentifier(String name) {
+        if (!IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("테이블명 형식이 올바르지 않습니다: " + name);
+        }
+        return name;
+    }
+}
@@ -0,0 +1,173 @@
+package com.assignment.restaurantbatch.repository;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행 중인 스텝의 메타데이터 갱신을 묶어서 반영하는 {@link JobRepository} 프록시입니다.
+ * <p>
+ * - TaskletStep은 Chunk 커밋마다 {@code updateExecutionContext(StepExecution)}, {@code update(StepExecution)}를 호출하여
+ *   BATCH_STEP_EXECUTION(_CONTEXT)를 갱신합니다. 파티션이 많고 Chunk가 작으면 이 갱신이 적재 INSERT와 경합합니다.<br>
+ * - 스텝 상태가 STARTED인 동안의 {@code update(StepExecution)}(건수·버전)는 N번째 Chunk마다 또는 지정 시간이 지났을 때만 반영하고 나머지는 건너뜁니다.<br>
+ * - {@code updateExecutionContext(StepExecution)}는 리더 위치(재시작 지점)를 담으므로 병합하지 않고 매 Chunk 반영합니다.
+ *   강제 종료 후 재시작해도 이미 커밋한 Chunk를 다시 적재하지 않습니다.<br>
+ * - 스텝의 첫 갱신(STARTED 기록)과 종료·실패·중지 시 갱신은 항상 반영되므로, 강제 종료 시에만 실행 중 건수가 최대 N-1 Chunk만큼 늦게 보입니다.<br>
+ * - 기본 JobRepository는 {@code update(StepExecution)}마다 Job 상태를 DB에서 다시 읽어 중지 요청(STOPPING)이면 스텝에 종료를 표시합니다.
+ *   건너뛴 갱신에서도 같은 확인을 하여({@link JobStatusLookup}) 중지 요청이 다음 반영까지 늦어지지 않게 합니다.
+ *   따라서 줄어드는 것은 Chunk마다의 BATCH_STEP_EXECUTION UPDATE뿐이고, Job 상태 조회(기본 키 SELECT)는 그대로입니다.
+ */
+public class CoalescingJobRepository implements MethodInterceptor {
+
+    private static final String UPDATE = "update";
+    private static final String UPDATE_EXECUTION_CONTEXT = "updateExecutionContext";
+
+    private final int flushEveryChunks;
+    private final long flushIntervalNanos;
+    private final JobStatusLookup jobStatusLookup;
+
+    /** 스텝 실행 ID별 update 반영 상태 */
+    private final Map<Long, FlushState> updateStates = new ConcurrentHashMap<>();
+
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param flushEveryChunks 실행 중 스텝을 반영할 Chunk 간격 (1 이하면 매번 반영)
+     * @param flushInterval    Chunk 수와 관계없이 반영할 최대 간격
+     * @param jobStatusLookup  건너뛴 갱신에서 중지 요청을 확인할 Job 상태 조회
+     */
+    public CoalescingJobRepository(int flushEveryChunks, Duration flushInterval, JobStatusLookup jobStatusLookup) {
+        this.flushEveryChunks = flushEveryChunks;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.jobStatusLookup = jobStatusLookup;
+    }
+
+    /**
+     * JobRepository 테이블에서 Job 실행 상태를 읽는 조회를 만듭니다.
+     *
+     * @param tablePrefix 메타데이터 테이블 접두사 (spring.batch.jdbc.table-prefix, 기본 BATCH_)
+     */
+    public static JobStatusLookup jdbcJobStatusLookup(DataSource dataSource, String tablePrefix) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String sql = "SELECT STATUS FROM " + tablePrefix + "JOB_EXECUTION WHERE JOB_EXECUTION_ID = ?";
+        return jobExecutionId -> {
+            List<String> statuses = jdbcTemplate.queryForList(sql, String.class, jobExecutionId);
+            return statuses.isEmpty() || statuses.get(0) == null ? null : BatchStatus.valueOf(statuses.get(0));
+        };
+    }
+
+    /**
+     * 주어진 JobRepository를 이 인스턴스의 갱신 병합 규칙을 적용하는 프록시로 감쌉니다.
+     */
+    public JobRepository wrap(JobRepository jobRepository) {
+        ProxyFactory proxyFactory = new ProxyFactory(jobRepository);
+        proxyFactory.addAdvice(this);
+        return (JobRepository) proxyFactory.getProxy();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object[] args = invocation.getArguments();
+        if (args.length == 1 && args[0] instanceof StepExecution stepExecution) {
+            String name = invocation.getMethod().getName();
+            if (UPDATE.equals(name)) {
+                if (!shouldFlush(stepExecution)) {
+                    coalesced.increment();
+                    checkForInterruption(stepExecution);
+                    return null;
+                }
+                flushed.increment();
+            } else if (UPDATE_EXECUTION_CONTEXT.equals(name)) {
+                flushed.increment();
+            }
+        }
+        return invocation.proceed();
+    }
+
+    /**
+     * 이번 갱신을 반영해야 하는지 판단합니다. ID가 없는(아직 저장되지 않은) 스텝은 항상 반영합니다.
+     */
+    private boolean shouldFlush(StepExecution stepExecution) {
+        Long id = stepExecution.getId();
+        if (id == null || flushEveryChunks <= 1) return true;
+
+        if (stepExecution.getStatus() != BatchStatus.STARTED) {
+            updateStates.remove(id);
+            return true;
+        }
+
+        long now = System.nanoTime();
+        FlushState state = updateStates.get(id);
+        if (state == null) {
+            updateStates.put(id, new FlushState(now));
+            return true;
+        }
+        // 같은 스텝 실행은 한 스레드에서만 갱신하므로 상태 객체 자체는 동기화하지 않음
+        if (++state.pending >= flushEveryChunks || now - state.lastFlushNanos >= flushIntervalNanos) {
+            state.pending = 0;
+            state.lastFlushNanos = now;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 건너뛴 갱신에서도 기본 JobRepository와 같이 Job 중지 요청을 스텝에 전달합니다.
+     * 스텝은 다음 Chunk 경계에서 종료 표시를 보고 멈추며, 그때의 종료 갱신은 항상 반영됩니다.
+     */
+    private void checkForInterruption(StepExecution stepExecution) {
+        JobExecution jobExecution = stepExecution.getJobExecution();
+        if (jobExecution.getId() == null) return;
+        BatchStatus status = jobStatusLookup.statusOf(jobExecution.getId());
+        if (status != null) {
+            jobExecution.upgradeStatus(status);
+        }
+        if (jobExecution.isStopping()) {
+            stepExecution.setTerminateOnly();
+        }
+    }
+
+    /** 실제로 반영된 스텝 갱신 수 */
+    public long flushedCount() {
+        return flushed.sum();
+    }
+
+    /** 건너뛴 스텝 갱신 수 */
+    public long coalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Job 실행의 현재 상태를 메타데이터 저장소에서 읽습니다.
+     */
+    @FunctionalInterface
+    public interface JobStatusLookup {
+
+        /**
+         * @return 저장된 상태 (없으면 null)
+         */
+        BatchStatus statusOf(long jobExecutionId);
+    }
+
+    private static final class FlushState {
+        private int pending;
+        private long lastFlushNanos;
+
+        private FlushState(long lastFlushNanos) {
+            this.lastFlushNanos = lastFlushNanos;
+        }
+    }
+}
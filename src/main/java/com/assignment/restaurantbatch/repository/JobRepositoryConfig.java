@@ -0,0 +1,69 @@
+package com.assignment.restaurantbatch.repository;
+
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * JobRepository 메타데이터 갱신 부담을 줄이는 설정 클래스입니다.
+ * <p>
+ * - {@code batch.repository.flush-every-chunks} &gt; 1: 실행 중 스텝의 건수 갱신을 N Chunk마다 한 번으로 묶습니다. 재시작 위치(ExecutionContext)는 매 Chunk 반영합니다.<br>
+ * - BATCH_* 테이블은 적재 DB에 둡니다. 별도 DB에 두면 재시작 위치가 적재 Chunk 트랜잭션보다 먼저 커밋되어,
+ *   그 사이 강제 종료 시 재시작이 적재되지 않은 행을 건너뛰므로 분리하지 않습니다.
+ */
+@Slf4j
+@Configuration
+public class JobRepositoryConfig {
+
+    /** 스텝 메타데이터 갱신 건수 지표 (result=flushed|coalesced) */
+    public static final String STEP_UPDATES = "batch.repository.step.updates";
+
+    /**
+     * Spring Boot가 만든 JobRepository를 갱신 병합 프록시로 감싸는 후처리기입니다.
+     * 다른 Bean보다 먼저 생성되어야 하므로 static으로 선언하고, 지표는 처음 감쌀 때 등록합니다.
+     *
+     * @param flushEveryChunks 실행 중 스텝 갱신을 반영할 Chunk 간격 (batch.repository.flush-every-chunks, 1이면 매 Chunk)
+     * @param flushInterval 스텝 갱신을 반영할 최대 간격 (batch.repository.flush-interval)
+     * @param tablePrefix 건너뛴 갱신에서 Job 중지 요청을 확인할 메타데이터 테이블 접두사 (spring.batch.jdbc.table-prefix)
+     * @param dataSource 메타데이터 테이블이 있는 DataSource (적재 DB)
+     */
+    @Bean
+    public static BeanPostProcessor coalescingJobRepositoryPostProcessor(
+            @Value("${batch.repository.flush-every-chunks:1}") int flushEveryChunks,
+            @Value("${batch.repository.flush-interval:5s}") Duration flushInterval,
+            @Value("${spring.batch.jdbc.table-prefix:BATCH_}") String tablePrefix,
+            ObjectProvider<DataSource> dataSource,
+            ObjectProvider<BatchMetrics> batchMetrics
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof JobRepository jobRepository) || flushEveryChunks <= 1) {
+                    return bean;
+                }
+                CoalescingJobRepository coalescing = new CoalescingJobRepository(flushEveryChunks, flushInterval,
+                        CoalescingJobRepository.jdbcJobStatusLookup(dataSource.getObject(), tablePrefix));
+                BatchMetrics metrics = batchMetrics.getIfAvailable();
+                if (metrics != null) {
+                    MeterRegistry registry = metrics.getRegistry();
+                    FunctionCounter.builder(STEP_UPDATES, coalescing, CoalescingJobRepository::flushedCount)
+                            .tag("result", "flushed").register(registry);
+                    FunctionCounter.builder(STEP_UPDATES, coalescing, CoalescingJobRepository::coalescedCount)
+                            .tag("result", "coalesced").register(registry);
+                }
+                log.info("JobRepository 스텝 갱신 병합 사용: {} Chunk 또는 {}마다 반영", flushEveryChunks, flushInterval);
+                return coalescing.wrap(jobRepository);
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.assignment.restaurantbatch.schema;
+
+/**
+ * 스키마 컬럼 하나의 정의입니다.
+ *
+ * @param field  FieldSet 필드명 (CSV 컬럼 순서)
+ * @param column 적재 테이블 컬럼명
+ * @param header 원본 CSV 헤더명
+ * @param type   바인딩 타입
+ * @param length STRING 컬럼의 최대 글자 수 (null이면 검사하지 않음)
+ */
+public record ColumnSpec(String field, String column, String header, ColumnType type, Integer length) {
+
+    public ColumnSpec(String field, String column, String header, ColumnType type) {
+        this(field, column, header, type, null);
+    }
+}
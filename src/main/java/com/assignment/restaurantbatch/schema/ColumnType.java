@@ -0,0 +1,41 @@
+package com.assignment.restaurantbatch.schema;
+
+import com.assignment.restaurantbatch.util.ParseUtil;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * 스키마 컬럼의 DB 바인딩 타입입니다.
+ * <p>
+ * CSV 값은 문자열로 읽고, 바인딩 시점에만 {@link ParseUtil} 형식으로 변환합니다.
+ */
+public enum ColumnType {
+
+    STRING, INT, DOUBLE, DATE, DATETIME;
+
+    /**
+     * 문자열 값을 타입에 맞게 변환하여 바인딩합니다.
+     * 문자열 컬럼은 그대로, 그 외 타입의 빈 값은 null로 바인딩합니다.
+     */
+    public void bind(PreparedStatement ps, int index, String value) throws SQLException {
+        if (this == STRING) {
+            ps.setString(index, value);
+        } else {
+            ps.setObject(index, convert(value));
+        }
+    }
+
+    /**
+     * 문자열 값을 바인딩할 값으로 변환합니다. 형식이 맞지 않으면 {@link ParseUtil}의 예외를 그대로 던집니다.
+     */
+    public Object convert(String value) {
+        return switch (this) {
+            case STRING -> value;
+            case INT -> ParseUtil.parseInt(value);
+            case DOUBLE -> ParseUtil.parseDouble(value);
+            case DATE -> ParseUtil.toLocalDate(value);
+            case DATETIME -> ParseUtil.toLocalDateTime(value);
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package com.assignment.restaurantbatch.schema;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * CSV 데이터셋 하나의 컬럼 구성과 적재 테이블을 정의하는 스키마입니다.
+ * <p>
+ * YAML 디스크립터({@link DatasetSchemaLoader})에서 만들어지며, 생성 시점에 리더/바인더/실패 로그가 사용할
+ * 필드명 배열, 컬럼 타입 배열, INSERT 구문, 헤더 라인을 미리 계산해 둡니다.
+ * 행 단위 처리에서는 이 배열만 순회하므로 리플렉션이나 필드명 조회가 없습니다.
+ * <p>
+ * 기본 데이터셋(전국일반음식점)은 {@link #restaurant()}로 얻으며, DTO 경로의 필드명/INSERT 구문/실패 로그 헤더도
+ * 이 스키마에서 만들어집니다.
+ */
+public final class DatasetSchema {
+
+    /** 기본 데이터셋 이름 */
+    public static final String RESTAURANT = "restaurant";
+
+    /** recordNumber로 사용할 필드명. 실패 로그 중복 제거 기준이 됩니다. */
+    public static final String RECORD_NUMBER_FIELD = "recordNumber";
+
+    private final String name;
+    private final String table;
+    private final List<ColumnSpec> columns;
+
+    private final String[] fieldNames;
+    private final ColumnType[] types;
+    private final String headerLine;
+    private final String columnList;
+    private final String insertSqlPrefix;
+    private final int recordNumberIndex;
+
+    public DatasetSchema(String name, String table, List<ColumnSpec> columns) {
+        this.name = name;
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.fieldNames = columns.stream().map(ColumnSpec::field).toArray(String[]::new);
+        this.types = columns.stream().map(ColumnSpec::type).toArray(ColumnType[]::new);
+        this.headerLine = columns.stream().map(column -> quote(column.header())).collect(Collectors.joining(","));
+        this.columnList = columns.stream().map(ColumnSpec::column).collect(Collectors.joining(", "));
+        this.insertSqlPrefix = "INSERT INTO " + table + " (" + columnList + ") VALUES ";
+        this.recordNumberIndex = Arrays.asList(fieldNames).indexOf(RECORD_NUMBER_FIELD);
+    }
+
+    /**
+     * 클래스패스 {@code schema/restaurant.yml}에서 읽은 기본 데이터셋 스키마를 반환합니다.
+     */
+    public static DatasetSchema restaurant() {
+        return RestaurantHolder.SCHEMA;
+    }
+
+    private static final class RestaurantHolder {
+        private static final DatasetSchema SCHEMA =
+                DatasetSchemaLoader.load(new ClassPathResource("schema/" + RESTAURANT + ".yml"));
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public List<ColumnSpec> columns() {
+        return columns;
+    }
+
+    public int columnCount() {
+        return fieldNames.length;
+    }
+
+    /**
+     * CSV 컬럼 순서대로 나열한 필드명 (복사본)
+     */
+    public String[] fieldNames() {
+        return fieldNames.clone();
+    }
+
+    /**
+     * 필드명의 CSV 컬럼 인덱스 (0부터)
+     *
+     * @throws IllegalArgumentException 스키마에 없는 필드명인 경우
+     */
+    public int indexOf(String field) {
+        for (int column = 0; column < fieldNames.length; column++) {
+            if (fieldNames[column].equals(field)) return column;
+        }
+        throw new IllegalArgumentException("스키마(" + name + ")에 필드 " + field + "가 없습니다.");
+    }
+
+    /**
+     * CSV 컬럼 순서대로 나열한 바인딩 타입 (복사본)
+     */
+    public ColumnType[] types() {
+        return types.clone();
+    }
+
+    /**
+     * 큰따옴표로 감싼 원본 헤더 라인 (실패 로그 헤더)
+     */
+    public String headerLine() {
+        return headerLine;
+    }
+
+    /**
+     * VALUES 절 앞까지의 INSERT 구문
+     */
+    public String insertSqlPrefix() {
+        return insertSqlPrefix;
+    }
+
+    /**
+     * 같은 컬럼 구성의 다른 테이블(예: 스테이징 테이블)에 쓰는 INSERT 구문 (VALUES 절 앞까지)
+     *
+     * @throws IllegalArgumentException 테이블명이 영문/숫자/밑줄 외의 문자를 포함한 경우
+     */
+    public String insertSqlPrefix(String targetTable) {
+        if (!targetTable.matches("[A-Za-z0-9_]+")) {
+            throw new IllegalArgumentException("테이블명 형식이 올바르지 않습니다: " + targetTable);
+        }
+        return "INSERT INTO " + targetTable + " (" + columnList + ") VALUES ";
+    }
+
+    /**
+     * 쉼표로 구분한 적재 컬럼 목록 (id 제외, CSV 컬럼 순서)
+     */
+    public String columnList() {
+        return columnList;
+    }
+
+    /**
+     * 토큰화된 한 행을 레코드로 변환합니다. recordNumber는 숫자가 아니면 null로 둡니다.
+     */
+    public SchemaRecord toRecord(String[] values) {
+        Integer recordNumber = null;
+        if (recordNumberIndex >= 0 && recordNumberIndex < values.length) {
+            try {
+                recordNumber = Integer.valueOf(values[recordNumberIndex].trim());
+            } catch (NumberFormatException ignored) {
+                // 번호가 깨진 행도 그대로 읽어 바인딩 단계에서 실패 처리
+            }
+        }
+        return new SchemaRecord(values, recordNumber);
+    }
+
+    /**
+     * 레코드를 헤더와 같은 순서의 CSV 라인으로 직렬화합니다.
+     */
+    public String csvLine(SchemaRecord record) {
+        return csvLine(record.values());
+    }
+
+    /**
+     * 컬럼 순서대로 정렬된 값을 헤더와 같은 순서의 CSV 라인으로 직렬화합니다. (null은 빈 값)
+     */
+    public String csvLine(String[] values) {
+        StringBuilder line = new StringBuilder(256);
+        for (int column = 0; column < fieldNames.length; column++) {
+            if (column > 0) line.append(',');
+            line.append(quote(column < values.length ? values[column] : null));
+        }
+        return line.toString();
+    }
+
+    /**
+     * 원본 CSV 헤더가 스키마와 같은지 확인합니다. 마지막 빈 컬럼(행 끝 쉼표)은 무시합니다.
+     *
+     * @throws IllegalArgumentException 컬럼 수 또는 헤더명이 다를 때
+     */
+    public void validateHeader(String header) {
+        String[] actual = header.split(",");
+        if (actual.length != fieldNames.length) {
+            throw new IllegalArgumentException(
+                    "CSV 헤더 필드 수가 스키마(" + name + ")와 다릅니다. 예상: " + fieldNames.length + ", 실제: " + actual.length);
+        }
+        for (int column = 0; column < actual.length; column++) {
+            String expected = columns.get(column).header();
+            String found = unquote(actual[column]);
+            if (!expected.equals(found)) {
+                throw new IllegalArgumentException(
+                        "CSV 헤더가 스키마(" + name + ")와 다릅니다. " + (column + 1) + "번째 컬럼 예상: " + expected + ", 실제: " + found);
+            }
+        }
+    }
+
+    private static String unquote(String token) {
+        String value = token.trim();
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+            value = value.substring(1, value.length() - 1).replace("\"\"", "\"");
+        }
+        return value;
+    }
+
+    private static String quote(String value) {
+        return "\"" + (value == null ? "" : value.replace("\"", "\"\"")) + "\"";
+    }
+
+    @Override
+    public String toString() {
+        return name + "(" + table + ", " + fieldNames.length + " columns)";
+    }
+}
@@ -0,0 +1,47 @@
+package com.assignment.restaurantbatch.schema;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 데이터셋 스키마 디스크립터를 읽어 {@link DatasetSchemaRegistry}로 등록하는 설정 클래스입니다.
+ * <p>
+ * 새 데이터셋은 코드 변경 없이 YAML 파일과 적재 테이블만 추가하면 같은 파티션 Job으로 적재할 수 있습니다.
+ */
+@Slf4j
+@Configuration
+public class DatasetSchemaConfig {
+
+    /**
+     * @param locations 스키마 YAML 위치 패턴 목록 (batch.schema.locations, 예: file:config/schema/*.yml)
+     * @return 기본 데이터셋(restaurant)을 항상 포함하는 레지스트리
+     */
+    @Bean
+    public DatasetSchemaRegistry datasetSchemaRegistry(
+            @Value("${batch.schema.locations:classpath*:schema/*.yml}") List<String> locations
+    ) throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        List<DatasetSchema> schemas = new ArrayList<>();
+        schemas.add(DatasetSchema.restaurant());
+
+        for (String location : locations) {
+            for (Resource resource : resolver.getResources(location.trim())) {
+                DatasetSchema schema = DatasetSchemaLoader.load(resource);
+                if (DatasetSchema.RESTAURANT.equals(schema.name())) continue; // 기본 스키마는 클래스패스 것을 사용
+                schemas.add(schema);
+            }
+        }
+
+        DatasetSchemaRegistry registry = new DatasetSchemaRegistry(schemas);
+        log.info("데이터셋 스키마 등록: {}", schemas);
+        return registry;
+    }
+}
@@ -0,0 +1,155 @@
+package com.assignment.restaurantbatch.schema;
+
+import org.springframework.core.io.Resource;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * YAML 스키마 디스크립터를 읽어 {@link DatasetSchema}를 만드는 로더입니다.
+ * <p>
+ * 형식:
+ * <pre>
+ * name: bakery
+ * table: bakery
+ * columns:
+ *   - { field: recordNumber, header: "번호", type: INT }
+ *   - { field: storeName, column: store_name, header: "사업장명", length: 255 }
+ * </pre>
+ * - {@code column}을 생략하면 {@code field}를 snake_case로 변환하여 사용합니다.<br>
+ * - {@code type}을 생략하면 STRING입니다.<br>
+ * - {@code length}는 STRING 컬럼의 최대 글자 수입니다. 생략하면 길이를 검사하지 않습니다.<br>
+ * - 테이블/컬럼명은 INSERT 구문에 그대로 들어가므로 영문/숫자/밑줄만 허용합니다.
+ */
+public final class DatasetSchemaLoader {
+
+    private static final Pattern NAME = Pattern.compile("[a-z0-9][a-z0-9_-]*");
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    private DatasetSchemaLoader() {
+    }
+
+    /**
+     * 리소스(UTF-8)에서 스키마를 읽습니다.
+     *
+     * @throws IllegalArgumentException 디스크립터 형식이 잘못된 경우
+     */
+    public static DatasetSchema load(Resource resource) {
+        try (Reader reader = new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)) {
+            Object root = new Yaml(new SafeConstructor(new LoaderOptions())).load(reader);
+            return parse(root, resource.getDescription());
+        } catch (IOException e) {
+            throw new UncheckedIOException("스키마 파일 읽기 실패: " + resource.getDescription(), e);
+        }
+    }
+
+    static DatasetSchema parse(Object root, String source) {
+        Map<?, ?> descriptor = asMap(root, source);
+        String name = requireText(descriptor, "name", source);
+        if (!NAME.matcher(name).matches()) {
+            throw invalid(source, "name 값은 소문자/숫자/-/_ 만 사용할 수 있습니다: " + name);
+        }
+        String table = requireIdentifier(descriptor, "table", source);
+
+        if (!(descriptor.get("columns") instanceof List<?> entries) || entries.isEmpty()) {
+            throw invalid(source, "columns가 비어 있습니다.");
+        }
+
+        List<ColumnSpec> columns = new ArrayList<>(entries.size());
+        Set<String> fields = new HashSet<>();
+        Set<String> columnNames = new HashSet<>();
+        for (int i = 0; i < entries.size(); i++) {
+            String at = source + " columns[" + i + "]";
+            Map<?, ?> entry = asMap(entries.get(i), at);
+
+            String field = requireIdentifier(entry, "field", at);
+            String column = entry.get("column") == null ? toSnakeCase(field) : requireIdentifier(entry, "column", at);
+            String header = requireText(entry, "header", at);
+            ColumnType type = parseType(entry.get("type"), at);
+            Integer length = parseLength(entry.get("length"), type, at);
+
+            if (!fields.add(field)) throw invalid(at, "field 중복: " + field);
+            if (!columnNames.add(column)) throw invalid(at, "column 중복: " + column);
+            columns.add(new ColumnSpec(field, column, header, type, length));
+        }
+        return new DatasetSchema(name, table, columns);
+    }
+
+    /**
+     * camelCase 필드명을 snake_case 컬럼명으로 변환합니다 (예: coordX → coord_x).
+     */
+    static String toSnakeCase(String field) {
+        StringBuilder column = new StringBuilder(field.length() + 8);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) column.append('_');
+                column.append(Character.toLowerCase(c));
+            } else {
+                column.append(c);
+            }
+        }
+        return column.toString();
+    }
+
+    private static ColumnType parseType(Object value, String at) {
+        if (value == null) return ColumnType.STRING;
+        try {
+            return ColumnType.valueOf(value.toString().trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw invalid(at, "지원하지 않는 type: " + value);
+        }
+    }
+
+    private static Integer parseLength(Object value, ColumnType type, String at) {
+        if (value == null) return null;
+        if (type != ColumnType.STRING) {
+            throw invalid(at, "length는 STRING 컬럼에만 지정할 수 있습니다.");
+        }
+        try {
+            int length = Integer.parseInt(value.toString().trim());
+            if (length > 0) return length;
+        } catch (NumberFormatException ignored) {
+            // 아래에서 형식 오류로 처리
+        }
+        throw invalid(at, "length는 1 이상의 정수여야 합니다: " + value);
+    }
+
+    private static Map<?, ?> asMap(Object value, String at) {
+        if (value instanceof Map<?, ?> map) return map;
+        throw invalid(at, "매핑(key: value) 형식이어야 합니다.");
+    }
+
+    private static String requireText(Map<?, ?> map, String key, String at) {
+        Object value = map.get(key);
+        if (value == null || value.toString().isBlank()) {
+            throw invalid(at, key + " 값이 없습니다.");
+        }
+        return value.toString().trim();
+    }
+
+    private static String requireIdentifier(Map<?, ?> map, String key, String at) {
+        String value = requireText(map, key, at);
+        if (!IDENTIFIER.matcher(value).matches()) {
+            throw invalid(at, key + " 값은 영문/숫자/밑줄만 사용할 수 있습니다: " + value);
+        }
+        return value;
+    }
+
+    private static IllegalArgumentException invalid(String at, String message) {
+        return new IllegalArgumentException("잘못된 스키마 디스크립터 [" + at + "]: " + message);
+    }
+}
@@ -0,0 +1,41 @@
+package com.assignment.restaurantbatch.schema;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시작 시점에 읽어 둔 데이터셋 스키마 목록입니다. Job 파라미터 {@code dataset}으로 적재 대상을 선택합니다.
+ */
+public class DatasetSchemaRegistry {
+
+    /** 적재할 데이터셋 이름 JobParameter (미지정 시 restaurant) */
+    public static final String DATASET_PARAM = "dataset";
+
+    private final Map<String, DatasetSchema> schemas = new LinkedHashMap<>();
+
+    public DatasetSchemaRegistry(Collection<DatasetSchema> schemas) {
+        for (DatasetSchema schema : schemas) {
+            DatasetSchema previous = this.schemas.putIfAbsent(schema.name(), schema);
+            if (previous != null) {
+                throw new IllegalStateException("같은 이름의 데이터셋 스키마가 여러 개입니다: " + schema.name());
+            }
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException 등록되지 않은 데이터셋인 경우
+     */
+    public DatasetSchema get(String name) {
+        DatasetSchema schema = schemas.get(name);
+        if (schema == null) {
+            throw new IllegalArgumentException("등록되지 않은 데이터셋: " + name + " (등록된 데이터셋: " + schemas.keySet() + ")");
+        }
+        return schema;
+    }
+
+    public Set<String> names() {
+        return schemas.keySet();
+    }
+}
@@ -0,0 +1,244 @@
+package com.assignment.restaurantbatch.schema;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 스키마 컬럼 순서대로 DTO 접근자를 호출하여 토큰 배열을 DTO로 만들고, INSERT 바인딩과 실패 로그 CSV 라인을 만드는 바인더입니다.
+ * <p>
+ * - 생성 시점에 {@code field}마다 DTO getter/setter와 기본 생성자를 찾아 {@link LambdaMetafactory}로 접근자를 만들어 둡니다.
+ *   행 단위 처리에서는 리플렉션 없이 접근자 배열만 순회합니다.<br>
+ * - 스키마 필드에 맞는 getter/setter가 없으면 생성 시점에 실패하므로, YAML과 DTO가 어긋난 채로 적재가 시작되지 않습니다.<br>
+ * - 토큰은 컬럼 위치(인덱스)로 setter에 넘깁니다. 문자열 필드는 원본 그대로, 숫자 필드(예: recordNumber)는 공백을 제거해 변환하며
+ *   빈 값은 null로 둡니다.<br>
+ * - 바인딩 규칙은 {@link SchemaRecord} 경로와 같습니다. 문자열 값은 {@link ColumnType#bind}로 변환하고,
+ *   DTO가 이미 타입을 가진 값(예: recordNumber)은 그대로 바인딩합니다.
+ *
+ * @param <T> 스키마 필드명과 같은 이름의 getter/setter를 가진 DTO 타입
+ */
+public final class SchemaDtoBinder<T> {
+
+    private final DatasetSchema schema;
+    private final Supplier<T> factory;
+    private final Function<T, Object>[] getters;
+    private final BiConsumer<T, Object>[] setters;
+    private final Function<String, Object>[] converters;
+    private final Class<?>[] valueTypes;
+    private final ColumnType[] types;
+
+    private SchemaDtoBinder(DatasetSchema schema, Supplier<T> factory, Function<T, Object>[] getters,
+                            BiConsumer<T, Object>[] setters, Function<String, Object>[] converters, Class<?>[] valueTypes) {
+        this.schema = schema;
+        this.factory = factory;
+        this.getters = getters;
+        this.setters = setters;
+        this.converters = converters;
+        this.valueTypes = valueTypes;
+        this.types = schema.types();
+    }
+
+    /**
+     * 기본 데이터셋 스키마({@link DatasetSchema#restaurant()})와 {@link RestaurantCsvDto}의 바인더를 반환합니다.
+     */
+    public static SchemaDtoBinder<RestaurantCsvDto> restaurant() {
+        return RestaurantHolder.BINDER;
+    }
+
+    private static final class RestaurantHolder {
+        private static final SchemaDtoBinder<RestaurantCsvDto> BINDER =
+                of(DatasetSchema.restaurant(), RestaurantCsvDto.class);
+    }
+
+    /**
+     * 스키마 필드마다 DTO getter/setter 접근자를 만듭니다.
+     *
+     * @throws IllegalStateException 스키마 필드에 해당하는 public getter/setter 또는 public 기본 생성자가 DTO에 없는 경우
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> SchemaDtoBinder<T> of(DatasetSchema schema, Class<T> type) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        String[] fields = schema.fieldNames();
+        Function<T, Object>[] getters = new Function[fields.length];
+        for (int column = 0; column < fields.length; column++) {
+            getters[column] = getter(lookup, type, fields[column], schema.name());
+        }
+        BiConsumer<T, Object>[] setters = new BiConsumer[fields.length];
+        Function<String, Object>[] converters = new Function[fields.length];
+        Class<?>[] valueTypes = new Class[fields.length];
+        for (int column = 0; column < fields.length; column++) {
+            Method method = setterMethod(type, fields[column], schema.name());
+            valueTypes[column] = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+            setters[column] = setter(lookup, type, method, valueTypes[column], fields[column], schema.name());
+            converters[column] = converter(valueTypes[column], fields[column], schema.name());
+        }
+        return new SchemaDtoBinder<>(schema, factory(lookup, type), getters, setters, converters, valueTypes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Supplier<T> factory(MethodHandles.Lookup lookup, Class<T> type) {
+        try {
+            MethodHandle handle = lookup.findConstructor(type, MethodType.methodType(void.class));
+            return (Supplier<T>) LambdaMetafactory.metafactory(lookup, "get",
+                            MethodType.methodType(Supplier.class),
+                            MethodType.methodType(Object.class),
+                            handle,
+                            MethodType.methodType(type))
+                    .getTarget()
+                    .invokeExact();
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(type.getSimpleName() + "에 public 기본 생성자가 없습니다.", e);
+        } catch (Throwable e) {
+            throw new IllegalStateException(type.getSimpleName() + "의 생성자 접근자 생성 실패", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Function<T, Object> getter(MethodHandles.Lookup lookup, Class<T> type, String field, String schemaName) {
+        String name = "get" + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        try {
+            Class<?> returnType = type.getMethod(name).getReturnType();
+            MethodHandle handle = lookup.findVirtual(type, name, MethodType.methodType(returnType));
+            return (Function<T, Object>) LambdaMetafactory.metafactory(lookup, "apply",
+                            MethodType.methodType(Function.class),
+                            MethodType.methodType(Object.class, Object.class),
+                            handle,
+                            MethodType.methodType(returnType, type))
+                    .getTarget()
+                    .invokeExact();
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("스키마(" + schemaName + ") 필드 " + field + "에 해당하는 getter가 "
+                    + type.getSimpleName() + "에 없습니다: " + name + "()", e);
+        } catch (Throwable e) {
+            throw new IllegalStateException("스키마(" + schemaName + ") 필드 " + field + "의 접근자 생성 실패", e);
+        }
+    }
+
+    private static Method setterMethod(Class<?> type, String field, String schemaName) {
+        String name = "set" + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+        for (Method method : type.getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == 1) {
+                return method;
+            }
+        }
+        throw new IllegalStateException("스키마(" + schemaName + ") 필드 " + field + "에 해당하는 setter가 "
+                + type.getSimpleName() + "에 없습니다: " + name + "(..)");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> BiConsumer<T, Object> setter(MethodHandles.Lookup lookup, Class<T> type, Method method,
+                                                    Class<?> valueType, String field, String schemaName) {
+        try {
+            MethodHandle handle = lookup.unreflect(method);
+            return (BiConsumer<T, Object>) LambdaMetafactory.metafactory(lookup, "accept",
+                            MethodType.methodType(BiConsumer.class),
+                            MethodType.methodType(void.class, Object.class, Object.class),
+                            handle,
+                            MethodType.methodType(void.class, type, valueType))
+                    .getTarget()
+                    .invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("스키마(" + schemaName + ") 필드 " + field + "의 접근자 생성 실패", e);
+        }
+    }
+
+    /**
+     * 원본 토큰을 setter 파라미터 타입으로 바꾸는 변환기. 문자열은 그대로 두고, 숫자는 공백을 제거해 변환합니다.
+     */
+    private static Function<String, Object> converter(Class<?> valueType, String field, String schemaName) {
+        if (valueType == String.class) return value -> value;
+        if (valueType == Integer.class) return value -> value.isBlank() ? null : Integer.valueOf(value.trim());
+        if (valueType == Long.class) return value -> value.isBlank() ? null : Long.valueOf(value.trim());
+        if (valueType == Double.class) return value -> value.isBlank() ? null : Double.valueOf(value.trim());
+        throw new IllegalStateException("스키마(" + schemaName + ") 필드 " + field + "의 setter 타입을 지원하지 않습니다: "
+                + valueType.getSimpleName());
+    }
+
+    public DatasetSchema schema() {
+        return schema;
+    }
+
+    /**
+     * 스키마 컬럼 순서로 토큰화된 값을 인덱스로 DTO에 채웁니다. 스키마보다 긴 배열의 나머지 값은 무시합니다.
+     *
+     * @throws NumberFormatException 숫자 필드 값이 숫자가 아닌 경우
+     */
+    public T newItem(String[] values) {
+        T item = factory.get();
+        int count = Math.min(values.length, setters.length);
+        for (int column = 0; column < count; column++) {
+            set(item, column, values[column]);
+        }
+        return item;
+    }
+
+    /**
+     * 한 컬럼의 원본 값을 DTO에 설정합니다. null은 설정하지 않습니다.
+     *
+     * @throws NumberFormatException 숫자 필드 값이 숫자가 아닌 경우
+     */
+    public void set(T item, int column, String value) {
+        if (value == null) return;
+        setters[column].accept(item, converters[column].apply(value));
+    }
+
+    /**
+     * 한 컬럼의 DTO 값을 반환합니다.
+     */
+    public Object get(T item, int column) {
+        return getters[column].apply(item);
+    }
+
+    /**
+     * 한 컬럼의 DTO 필드 타입 (기본형은 래퍼 타입)
+     */
+    public Class<?> valueType(int column) {
+        return valueTypes[column];
+    }
+
+    /**
+     * 한 DTO의 값을 스키마 컬럼 순서대로 바인딩합니다.
+     *
+     * @param index 첫 컬럼의 파라미터 위치 (1부터)
+     * @return 다음 컬럼을 바인딩할 파라미터 위치
+     */
+    public int bind(PreparedStatement ps, T item, int index) throws SQLException {
+        for (int column = 0; column < getters.length; column++) {
+            Object value = getters[column].apply(item);
+            if (value == null || value instanceof String) {
+                types[column].bind(ps, index++, (String) value);
+            } else {
+                ps.setObject(index++, value);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * DTO 값을 스키마 컬럼 순서의 원본 문자열 배열로 꺼냅니다. (빈 값은 null)
+     */
+    public String[] values(T item) {
+        String[] values = new String[getters.length];
+        for (int column = 0; column < getters.length; column++) {
+            Object value = getters[column].apply(item);
+            values[column] = value == null ? null : value.toString();
+        }
+        return values;
+    }
+
+    /**
+     * DTO를 헤더({@link DatasetSchema#headerLine()})와 같은 순서의 CSV 라인으로 직렬화합니다.
+     */
+    public String csvLine(T item) {
+        return schema.csvLine(values(item));
+    }
+}
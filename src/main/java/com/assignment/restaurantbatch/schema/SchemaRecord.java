@@ -0,0 +1,36 @@
+package com.assignment.restaurantbatch.schema;
+
+import com.assignment.restaurantbatch.listener.FailureRecord;
+
+/**
+ * 스키마 기반 데이터셋의 한 행입니다.
+ * <p>
+ * 토큰화된 원본 문자열을 컬럼 순서대로 그대로 보관하며, 타입 변환은 바인딩 시점에 수행합니다.
+ * 따라서 변환에 실패한 행도 원본 그대로 실패 로그에 남길 수 있습니다.
+ */
+public class SchemaRecord implements FailureRecord {
+
+    private final String[] values;
+    private final Integer recordNumber;
+
+    public SchemaRecord(String[] values, Integer recordNumber) {
+        this.values = values;
+        this.recordNumber = recordNumber;
+    }
+
+    /**
+     * 컬럼 순서대로 정렬된 원본 값 (복사하지 않으므로 수정하지 않아야 합니다)
+     */
+    public String[] values() {
+        return values;
+    }
+
+    public String get(int column) {
+        return values[column];
+    }
+
+    @Override
+    public Integer getRecordNumber() {
+        return recordNumber;
+    }
+}
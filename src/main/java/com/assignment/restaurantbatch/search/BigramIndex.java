@@ -0,0 +1,187 @@
+package com.assignment.restaurantbatch.search;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * bigram 검색 색인 파일({@link BigramIndexFormat})을 메모리 매핑으로 읽어 후보 행 id를 찾습니다.
+ * <p>
+ * - 열 때 디렉토리(키, 문서 수, 위치)만 힙에 읽고, 포스팅 목록은 매핑된 파일에서 필요할 때 디코딩합니다.<br>
+ * - 검색어의 bigram마다 포스팅 목록을 찾아 문서 수가 적은 것부터 교집합을 구합니다.<br>
+ * - bigram이 모두 있다고 검색어가 연속해서 들어 있는 것은 아니므로 결과는 후보입니다. 확인은 {@link BigramSearcher}가 합니다.<br>
+ * - 조회마다 버퍼 복사본을 쓰므로 여러 스레드에서 동시에 조회할 수 있습니다.
+ */
+public class BigramIndex implements AutoCloseable {
+
+    private static final int[] NONE = new int[0];
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final Map<String, Column> columns;
+
+    private BigramIndex(Path path, FileChannel channel, MappedByteBuffer buffer, Map<String, Column> columns) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.columns = columns;
+    }
+
+    /**
+     * 색인 파일을 열고 트레일러와 디렉토리를 확인합니다.
+     *
+     * @throws IllegalStateException 색인 파일이 아니거나, 손상되었거나, 2GB를 넘는 경우
+     */
+    public static BigramIndex open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("검색 색인 파일이 2GB를 넘어 매핑할 수 없습니다: " + path);
+            }
+            if (size < BigramIndexFormat.HEADER_BYTES + Integer.BYTES + BigramIndexFormat.TRAILER_BYTES) {
+                throw new IllegalStateException("검색 색인 파일이 너무 짧습니다: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != BigramIndexFormat.MAGIC) {
+                throw new IllegalStateException("검색 색인 파일이 아닙니다: " + path);
+            }
+            int version = buffer.getInt(Integer.BYTES);
+            if (version != BigramIndexFormat.VERSION) {
+                throw new IllegalStateException("지원하지 않는 검색 색인 버전입니다: " + version + " (" + path + ")");
+            }
+            int trailer = (int) size - BigramIndexFormat.TRAILER_BYTES;
+            long directoryOffset = buffer.getLong(trailer);
+            if (buffer.getInt(trailer + Long.BYTES) != BigramIndexFormat.MAGIC
+                    || directoryOffset < BigramIndexFormat.HEADER_BYTES || directoryOffset > trailer) {
+                throw new IllegalStateException("검색 색인 트레일러가 올바르지 않습니다 (기록 중 중단된 파일일 수 있음): " + path);
+            }
+            return new BigramIndex(path, channel, buffer, readDirectory(buffer.duplicate().position((int) directoryOffset)));
+        } catch (BufferUnderflowException e) {
+            channel.close();
+            throw new IllegalStateException("검색 색인 디렉토리가 손상되었습니다: " + path, e);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static Map<String, Column> readDirectory(ByteBuffer in) {
+        int columnCount = in.getInt();
+        Map<String, Column> columns = new LinkedHashMap<>();
+        for (int c = 0; c < columnCount; c++) {
+            byte[] name = new byte[in.getInt()];
+            in.get(name);
+            int keyCount = in.getInt();
+            Column column = new Column(new int[keyCount], new int[keyCount], new int[keyCount], new int[keyCount]);
+            for (int i = 0; i < keyCount; i++) {
+                column.keys[i] = in.getInt();
+                column.counts[i] = in.getInt();
+                column.offsets[i] = Math.toIntExact(in.getLong());
+                // 길이: 조회는 문서 수만큼 읽으므로 쓰지 않고, 세그먼트 복사 시에만 사용
+                column.lengths[i] = in.getInt();
+            }
+            columns.put(new String(name, StandardCharsets.UTF_8), column);
+        }
+        return columns;
+    }
+
+    /** 색인된 컬럼명 (파일 기록 순서) */
+    public List<String> columns() {
+        return List.copyOf(columns.keySet());
+    }
+
+    /**
+     * 검색어의 bigram을 모두 포함하는 행의 id를 오름차순으로 반환합니다.
+     *
+     * @throws IllegalArgumentException 색인되지 않은 컬럼이거나, 검색어에 공백 없이 이어진 두 글자가 없는 경우
+     */
+    public int[] candidates(String column, String query) {
+        Column postings = columns.get(column);
+        if (postings == null) {
+            throw new IllegalArgumentException("색인되지 않은 컬럼입니다: " + column + " (색인 컬럼: " + columns.keySet() + ")");
+        }
+        int[] keys = Bigrams.keys(query);
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("검색어는 공백 없이 이어진 두 글자 이상이어야 합니다: " + query);
+        }
+
+        Integer[] slots = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            int slot = Arrays.binarySearch(postings.keys, keys[i]);
+            if (slot < 0) return NONE;
+            slots[i] = slot;
+        }
+        // 문서 수가 적은 목록부터 교집합을 구해 중간 결과를 작게 유지
+        Arrays.sort(slots, Comparator.comparingInt(slot -> postings.counts[slot]));
+
+        int[] result = decode(postings, slots[0]);
+        int size = result.length;
+        for (int i = 1; i < slots.length && size > 0; i++) {
+            size = intersect(result, size, decode(postings, slots[i]));
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 컬럼의 포스팅 목록을 압축된 그대로 복사합니다. 기존 색인에 새 적재분을 합칠 때 사용합니다.
+     *
+     * @return 색인 파일에 없는 컬럼이면 null
+     */
+    PartitionPostings.Segment segment(String column) {
+        Column postings = columns.get(column);
+        if (postings == null) return null;
+        byte[][] encoded = new byte[postings.keys.length][];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = new byte[postings.lengths[i]];
+            buffer.get(postings.offsets[i], encoded[i]);
+        }
+        return new PartitionPostings.Segment(postings.keys.clone(), postings.counts.clone(), encoded);
+    }
+
+    private int[] decode(Column column, int slot) {
+        int[] docs = new int[column.counts[slot]];
+        BigramIndexFormat.decode(buffer.duplicate().position(column.offsets[slot]), docs.length, docs, 0);
+        return docs;
+    }
+
+    /**
+     * 오름차순 목록 두 개의 교집합을 {@code target} 앞부분에 남기고 개수를 반환합니다.
+     */
+    static int intersect(int[] target, int size, int[] other) {
+        int kept = 0;
+        int j = 0;
+        for (int i = 0; i < size && j < other.length; i++) {
+            int value = target[i];
+            while (j < other.length && other[j] < value) j++;
+            if (j < other.length && other[j] == value) {
+                target[kept++] = value;
+                j++;
+            }
+        }
+        return kept;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private record Column(int[] keys, int[] counts, int[] offsets, int[] lengths) {
+    }
+}
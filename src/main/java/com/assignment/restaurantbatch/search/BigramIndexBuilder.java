@@ -0,0 +1,346 @@
+package com.assignment.restaurantbatch.search;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.reconcile.LoadBoundaryListener;
+import com.assignment.restaurantbatch.search.PartitionPostings.Segment;
+import com.assignment.restaurantbatch.writer.GeneratedIdListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import javax.sql.DataSource;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 파티션별 bigram 포스팅 목록을 모아 검색 색인 파일({@link BigramIndexFormat})로 저장하는 마스터 스텝 리스너입니다.
+ * <p>
+ * - 각 슬레이브 스텝은 종료 시 {@link #merge(PartitionPostings)}로 자기 포스팅 목록을 넘깁니다.
+ *   정렬·압축은 파티션 스레드에서 끝내고, 여기서는 압축된 세그먼트만 보관합니다.<br>
+ * - 모든 파티션이 끝난 뒤(afterStep) 기존 색인 파일의 포스팅 목록과 이번 실행의 세그먼트를 컬럼·키 순서로 합쳐
+ *   임시 파일에 쓰고 원자적으로 교체합니다. restaurant는 추가만 되므로 이전 적재(재처리, 감시 모드 포함) 행도 계속 검색됩니다.<br>
+ * - 마스터 스텝이 실패했으면 저장하지 않습니다. 재시작된 실행은 이전 실행에서 커밋된 행이 메모리에 없으므로,
+ *   DataSource가 주어졌으면 Job 시작 시 기준 id({@link LoadBoundaryListener}) 이후의 행을 테이블에서 읽어
+ *   색인합니다({@link TableIndexer}).<br>
+ * - 포스팅 목록은 Writer가 INSERT 후 넘겨준 행 id({@link GeneratedIdListener})를 가리킵니다.
+ *   record_number는 적재마다, 입력 파일마다 반복되므로 쓰지 않습니다.
+ */
+@Slf4j
+public class BigramIndexBuilder implements StepExecutionListener, GeneratedIdListener {
+
+    /** 색인 대상 컬럼 (파일에 기록되는 순서) */
+    public static final List<IndexedColumn> COLUMNS = List.of(
+            new IndexedColumn("store_name", RestaurantCsvDto::getStoreName),
+            new IndexedColumn("road_address", RestaurantCsvDto::getRoadAddress));
+
+    /** 마스터 스텝 실행 컨텍스트의 색인 시작 표시 (재시작 판별용) */
+    static final String STARTED_KEY = "searchIndex.started";
+
+    private final Path indexFile;
+    /** 재시작된 실행에서 테이블을 읽어 색인할 DB (null이면 재시작된 실행은 저장하지 않음) */
+    private final DataSource dataSource;
+    private final Queue<Segment[]> segments = new ConcurrentLinkedQueue<>();
+    private final LongAdder rows = new LongAdder();
+    /** 포스팅 목록(int) 범위를 넘는 id라 색인하지 못한 행 수 */
+    private final LongAdder unindexable = new LongAdder();
+    /** INSERT 후 아직 색인하지 않은 행의 id (DTO는 equals를 재정의하지 않지만 명시적으로 동일성 비교) */
+    private final Map<RestaurantCsvDto, Long> insertedIds = new IdentityHashMap<>();
+    private volatile boolean restarted;
+
+    /**
+     * @param indexFile 색인 파일 경로 (같은 디렉토리에 임시 파일을 쓴 뒤 교체)
+     */
+    public BigramIndexBuilder(Path indexFile) {
+        this(indexFile, null);
+    }
+
+    /**
+     * @param dataSource 재시작된 실행에서 이번 Job의 행을 다시 읽을 DB
+     */
+    public BigramIndexBuilder(Path indexFile, DataSource dataSource) {
+        this.indexFile = indexFile;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 파티션 하나의 포스팅 목록을 압축하여 보관합니다. 여러 파티션 스레드에서 동시에 호출됩니다.
+     */
+    public void merge(PartitionPostings partition) {
+        if (partition.isEmpty()) return;
+        segments.add(partition.freeze());
+        rows.add(partition.rows());
+    }
+
+    /**
+     * INSERT로 생성된 id를 행별로 보관합니다. 재시도로 같은 행을 다시 쓰면 새 id로 바뀝니다.
+     */
+    @Override
+    public synchronized void onInserted(List<? extends RestaurantCsvDto> items, long[] ids) {
+        for (int i = 0; i < ids.length; i++) {
+            insertedIds.put(items.get(i), ids[i]);
+        }
+    }
+
+    /**
+     * 행의 id를 꺼내고 보관 목록에서 지웁니다.
+     *
+     * @return INSERT 시 받은 id (받지 못했으면 null)
+     */
+    public synchronized Long takeId(RestaurantCsvDto item) {
+        return insertedIds.remove(item);
+    }
+
+    /**
+     * 포스팅 목록(int) 범위를 넘는 id라 색인하지 못한 행을 셉니다. 마스터 스텝 종료 시 로그로 남깁니다.
+     */
+    public void countUnindexable() {
+        unindexable.increment();
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        restarted = stepExecution.getExecutionContext().containsKey(STARTED_KEY);
+        stepExecution.getExecutionContext().putString(STARTED_KEY, "true");
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (unindexable.sum() > 0) {
+            log.warn("id가 {}를 넘어 검색 색인에서 빠진 행: {}건", Integer.MAX_VALUE, unindexable.sum());
+        }
+        if (!ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode())) {
+            log.warn("마스터 스텝이 완료되지 않아 검색 색인을 저장하지 않습니다: {}", stepExecution.getExitStatus().getExitCode());
+        } else if (restarted) {
+            indexRestarted(stepExecution);
+        } else {
+            try {
+                long bytes = write();
+                log.info("검색 색인 저장: {} (이번 실행 {}건 추가, {} bytes)", indexFile, rows.sum(), bytes);
+            } catch (IOException e) {
+                log.warn("검색 색인 저장 실패: {}", e.getMessage());
+            }
+        }
+        segments.clear();
+        synchronized (this) {
+            insertedIds.clear();
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    /**
+     * 재시작된 실행은 이전 실행에서 커밋된 행이 메모리에 없으므로 Job 시작 시 기준 id 이후의 행을 테이블에서 읽어 색인합니다.
+     * 첫 실행이 실패하여 색인 파일에는 이번 Job의 행이 없으므로 이번 실행의 세그먼트는 버립니다. (테이블 행에 모두 포함됨)
+     */
+    private void indexRestarted(StepExecution stepExecution) {
+        Long baseId = LoadBoundaryListener.baseId(stepExecution.getJobExecution());
+        if (dataSource == null || baseId == null) {
+            log.warn("재시작된 실행은 이전 실행에서 커밋된 행이 빠지므로 검색 색인을 저장하지 않습니다. 기준 id가 없습니다.");
+            return;
+        }
+        try {
+            new TableIndexer(dataSource, indexFile).indexAfter(baseId);
+        } catch (IOException | SQLException e) {
+            log.warn("재시작된 실행의 검색 색인 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 기존 색인 파일과 보관한 세그먼트를 합쳐 색인 파일을 씁니다.
+     *
+     * @return 파일 크기 (bytes)
+     */
+    long write() throws IOException {
+        return write(true);
+    }
+
+    /**
+     * @param mergeExisting false면 기존 색인 파일을 읽지 않고 보관한 세그먼트만으로 새로 만듦
+     * @return 파일 크기 (bytes)
+     */
+    long write(boolean mergeExisting) throws IOException {
+        if (indexFile.getParent() != null) {
+            Files.createDirectories(indexFile.getParent());
+        }
+        Path temp = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        List<Segment[]> parts = new ArrayList<>(segments);
+        Segment[] existing = mergeExisting ? readExisting() : null;
+        if (existing != null) {
+            parts.add(existing);
+        }
+        List<Directory> directories = new ArrayList<>(COLUMNS.size());
+        long position = 0;
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(BigramIndexFormat.MAGIC);
+            out.writeInt(BigramIndexFormat.VERSION);
+            position += BigramIndexFormat.HEADER_BYTES;
+
+            for (int column = 0; column < COLUMNS.size(); column++) {
+                int index = column;
+                Directory directory = mergeColumn(parts.stream().map(segment -> segment[index]).toList(), out, position);
+                directories.add(directory);
+                position = directory.end;
+            }
+
+            long directoryOffset = position;
+            out.writeInt(COLUMNS.size());
+            for (int column = 0; column < COLUMNS.size(); column++) {
+                byte[] name = COLUMNS.get(column).name().getBytes(StandardCharsets.UTF_8);
+                out.writeInt(name.length);
+                out.write(name);
+                Directory directory = directories.get(column);
+                out.writeInt(directory.keys.length);
+                for (int i = 0; i < directory.keys.length; i++) {
+                    out.writeInt(directory.keys[i]);
+                    out.writeInt(directory.counts[i]);
+                    out.writeLong(directory.offsets[i]);
+                    out.writeInt(directory.lengths[i]);
+                }
+            }
+            out.writeLong(directoryOffset);
+            out.writeInt(BigramIndexFormat.MAGIC);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        Files.move(temp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return Files.size(indexFile);
+    }
+
+    /**
+     * 기존 색인 파일의 포스팅 목록을 컬럼별 세그먼트로 읽습니다.
+     *
+     * @return 파일이 없거나 읽을 수 없으면 null (이번 실행의 행만으로 새로 만듦)
+     */
+    private Segment[] readExisting() throws IOException {
+        if (!Files.exists(indexFile)) return null;
+        try (BigramIndex index = BigramIndex.open(indexFile)) {
+            Segment[] existing = new Segment[COLUMNS.size()];
+            for (int column = 0; column < COLUMNS.size(); column++) {
+                Segment segment = index.segment(COLUMNS.get(column).name());
+                existing[column] = segment != null ? segment : new Segment(new int[0], new int[0], new byte[0][]);
+            }
+            return existing;
+        } catch (IllegalStateException e) {
+            log.warn("기존 검색 색인을 읽을 수 없어 이번 실행의 행만으로 새로 만듭니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 컬럼 하나의 파티션 세그먼트들을 키 순서로 합쳐 포스팅 목록을 씁니다.
+     * 여러 파티션에 같은 키가 있으면 id 목록을 합쳐 다시 정렬·압축합니다.
+     */
+    private static Directory mergeColumn(List<Segment> parts, DataOutputStream out, long position) throws IOException {
+        int[] keys = parts.stream().flatMapToInt(part -> Arrays.stream(part.keys())).sorted().distinct().toArray();
+        Directory directory = new Directory(keys.length);
+        int[] cursors = new int[parts.size()];
+        int[] sources = new int[parts.size()];
+        int[] docs = new int[1024];
+
+        for (int k = 0; k < keys.length; k++) {
+            int key = keys[k];
+            int sourceCount = 0;
+            for (int p = 0; p < parts.size(); p++) {
+                Segment part = parts.get(p);
+                if (cursors[p] < part.keys().length && part.keys()[cursors[p]] == key) {
+                    sources[sourceCount++] = p;
+                }
+            }
+
+            // 한 파티션에만 있는 키는 압축된 목록을 그대로 씀
+            byte[] encoded;
+            int total;
+            if (sourceCount == 1) {
+                Segment part = parts.get(sources[0]);
+                encoded = part.postings()[cursors[sources[0]]];
+                total = part.counts()[cursors[sources[0]]];
+            } else {
+                total = 0;
+                for (int s = 0; s < sourceCount; s++) {
+                    Segment part = parts.get(sources[s]);
+                    int count = part.counts()[cursors[sources[s]]];
+                    if (docs.length < total + count) {
+                        docs = Arrays.copyOf(docs, Math.max(docs.length * 2, total + count));
+                    }
+                    BigramIndexFormat.decode(ByteBuffer.wrap(part.postings()[cursors[sources[s]]]), count, docs, total);
+                    total += count;
+                }
+                Arrays.sort(docs, 0, total);
+                total = distinct(docs, total);
+                encoded = BigramIndexFormat.encode(docs, total);
+            }
+            for (int s = 0; s < sourceCount; s++) {
+                cursors[sources[s]]++;
+            }
+
+            out.write(encoded);
+            directory.keys[k] = key;
+            directory.counts[k] = total;
+            directory.offsets[k] = position;
+            directory.lengths[k] = encoded.length;
+            position += encoded.length;
+        }
+        directory.end = position;
+        return directory;
+    }
+
+    private static int distinct(int[] values, int size) {
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || values[distinct - 1] != values[i]) {
+                values[distinct++] = values[i];
+            }
+        }
+        return distinct;
+    }
+
+    /** 이번 실행에서 색인한 행 수 */
+    public long rows() {
+        return rows.sum();
+    }
+
+    public Path indexFile() {
+        return indexFile;
+    }
+
+    /**
+     * @param name   테이블 컬럼명 (검색 시 컬럼 지정과 DB 확인에 사용)
+     * @param getter DTO에서 값을 꺼내는 함수
+     */
+    public record IndexedColumn(String name, Function<RestaurantCsvDto, String> getter) {
+    }
+
+    private static final class Directory {
+        private final int[] keys;
+        private final int[] counts;
+        private final long[] offsets;
+        private final int[] lengths;
+        private long end;
+
+        private Directory(int size) {
+            keys = new int[size];
+            counts = new int[size];
+            offsets = new long[size];
+            lengths = new int[size];
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.assignment.restaurantbatch.search;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * bigram 검색 색인 파일 형식 상수와 포스팅 목록 인코딩입니다.
+ * <pre>
+ * [헤더]     MAGIC(int) VERSION(int)
+ * [포스팅]   컬럼별, 키 오름차순으로 행 id 오름차순 목록 (첫 값 varint, 이후 앞 값과의 차이 varint)
+ * [디렉토리] 컬럼 수(int) {컬럼명 길이(int) 컬럼명(UTF-8) 키 수(int) {키(int) 문서 수(int) 오프셋(long) 길이(int)}...}...
+ * [트레일러] 디렉토리 오프셋(long) MAGIC(int)
+ * </pre>
+ * 정수는 빅엔디언입니다. 트레일러는 모든 포스팅과 디렉토리를 쓴 뒤 마지막에 쓰므로, 트레일러가 없으면 기록 중 중단된 파일입니다.
+ */
+final class BigramIndexFormat {
+
+    /** 'RBGI' */
+    static final int MAGIC = 0x52424749;
+    /** 2: 포스팅 목록이 record_number 대신 행 id를 가리킴 */
+    static final int VERSION = 2;
+
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    /** 트레일러 크기 (디렉토리 오프셋 long + MAGIC int) */
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+
+    private BigramIndexFormat() {
+    }
+
+    /**
+     * 오름차순 id 목록을 차이값 varint로 인코딩합니다.
+     */
+    static byte[] encode(int[] docs, int count) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count + 4);
+        int previous = 0;
+        for (int i = 0; i < count; i++) {
+            writeVarInt(out, docs[i] - previous);
+            previous = docs[i];
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * {@link #encode}로 인코딩한 목록을 읽어 {@code target}의 {@code offset} 위치부터 채웁니다.
+     */
+    static void decode(ByteBuffer in, int count, int[] target, int offset) {
+        int value = 0;
+        for (int i = 0; i < count; i++) {
+            value += readVarInt(in);
+            target[offset + i] = value;
+        }
+    }
+
+    static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalStateException("색인 가변 길이 정수 형식이 올바르지 않습니다.");
+    }
+}
@@ -0,0 +1,66 @@
+package com.assignment.restaurantbatch.search;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * bigram 색인으로 후보를 좁힌 뒤 DB에서 실제로 검색어를 포함하는 행만 확인하는 부분 문자열 검색입니다.
+ * <p>
+ * - 색인 후보는 bigram이 모두 들어 있을 뿐 순서·연속 여부는 보장하지 않으므로, 후보 id(기본 키)로 컬럼 값을 읽어 확인합니다.<br>
+ * - 확인은 읽은 값에 색인과 같은 정규화({@link Bigrams#normalize})를 적용하여 Java에서 합니다.
+ *   DB의 LOWER/LIKE는 NFKC(전각/반각)와 연속 공백을 정규화하지 않아 색인이 찾은 행을 놓치기 때문입니다.<br>
+ * - 후보가 많으면 {@value #BATCH_SIZE}건씩 나누어 조회하고, {@code limit}건을 찾으면 멈춥니다.<br>
+ * - 컬럼명은 색인에 기록된 컬럼만 허용하므로 SQL에 그대로 넣어도 안전합니다.
+ */
+public class BigramSearcher {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BigramIndex index;
+
+    public BigramSearcher(JdbcTemplate jdbcTemplate, BigramIndex index) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.index = index;
+    }
+
+    /**
+     * 컬럼 값에 검색어가 들어 있는 행의 id를 오름차순으로 최대 {@code limit}건 반환합니다.
+     *
+     * @throws IllegalArgumentException 색인되지 않은 컬럼이거나 검색어가 두 글자 미만인 경우
+     */
+    public List<Long> search(String column, String query, int limit) {
+        int[] candidates = index.candidates(column, query);
+        if (candidates.length == 0 || limit <= 0) return Collections.emptyList();
+
+        String normalizedQuery = Bigrams.normalize(query);
+        List<Long> found = new ArrayList<>();
+        for (int from = 0; from < candidates.length && found.size() < limit; from += BATCH_SIZE) {
+            int[] batch = Arrays.copyOfRange(candidates, from, Math.min(from + BATCH_SIZE, candidates.length));
+            Object[] args = new Object[batch.length];
+            for (int i = 0; i < batch.length; i++) {
+                args[i] = batch[i];
+            }
+            jdbcTemplate.query(confirmSql(column, batch.length), rs -> {
+                String value = rs.getString(2);
+                if (value != null && Bigrams.normalize(value).contains(normalizedQuery)) {
+                    found.add(rs.getLong(1));
+                }
+            }, args);
+        }
+        Collections.sort(found);
+        return found.size() > limit ? List.copyOf(found.subList(0, limit)) : found;
+    }
+
+    /**
+     * 후보 id의 컬럼 값을 읽는 SQL. 검색어 포함 여부는 정규화한 값으로 Java에서 확인합니다.
+     */
+    static String confirmSql(String column, int candidates) {
+        return "SELECT id, " + column + " FROM restaurant WHERE id IN ("
+                + String.join(", ", Collections.nCopies(candidates, "?")) + ")";
+    }
+}
@@ -0,0 +1,58 @@
+package com.assignment.restaurantbatch.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 문자 bigram(연속한 두 글자) 추출기입니다.
+ * <p>
+ * - 색인과 검색어에 같은 정규화(NFKC, 소문자, 연속 공백 하나로)를 적용합니다.<br>
+ * - 공백을 포함한 bigram은 만들지 않습니다. "서울 강남"은 "서울", "강남"만 색인합니다.<br>
+ * - bigram은 두 UTF-16 문자를 하나의 int 키(앞 글자 상위 16비트)로 표현합니다.
+ */
+public final class Bigrams {
+
+    private static final int[] NONE = new int[0];
+
+    private Bigrams() {
+    }
+
+    /**
+     * 텍스트의 서로 다른 bigram 키를 오름차순으로 반환합니다. null이나 두 글자 미만이면 빈 배열입니다.
+     */
+    public static int[] keys(String text) {
+        if (text == null) return NONE;
+        String normalized = normalize(text);
+        if (normalized.length() < 2) return NONE;
+
+        int[] keys = new int[normalized.length() - 1];
+        int count = 0;
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            char first = normalized.charAt(i);
+            char second = normalized.charAt(i + 1);
+            if (first == ' ' || second == ' ') continue;
+            keys[count++] = key(first, second);
+        }
+        Arrays.sort(keys, 0, count);
+
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || keys[distinct - 1] != keys[i]) {
+                keys[distinct++] = keys[i];
+            }
+        }
+        return distinct == keys.length ? keys : Arrays.copyOf(keys, distinct);
+    }
+
+    static int key(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+}
@@ -0,0 +1,89 @@
+package com.assignment.restaurantbatch.search;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 슬레이브 스텝이 저장한 행의 검색 대상 컬럼을 파티션 로컬 포스팅 목록({@link PartitionPostings})에 색인하는 리스너입니다.
+ * <p>
+ * - 쓰기 완료(afterWrite)된 Chunk를 스레드별로 보관했다가 커밋 이후(afterChunk)에 색인하고, 롤백(afterChunkError) 시 버립니다.<br>
+ * - 스텝 종료(afterStep) 시 로컬 포스팅 목록을 압축하여 {@link BigramIndexBuilder}에 한 번만 넘깁니다.<br>
+ * - 행은 Writer가 INSERT 후 {@link BigramIndexBuilder}에 넘겨준 id로 가리킵니다. 롤백된 Chunk의 id는 함께 버립니다.
+ */
+public class IndexingStepListener implements StepExecutionListener, ChunkListener, ItemWriteListener<RestaurantCsvDto> {
+
+    private final BigramIndexBuilder builder;
+
+    private final ThreadLocal<PartitionPostings> local =
+            ThreadLocal.withInitial(() -> new PartitionPostings(BigramIndexBuilder.COLUMNS.size()));
+    private final ThreadLocal<List<Chunk<? extends RestaurantCsvDto>>> pending = ThreadLocal.withInitial(ArrayList::new);
+
+    public IndexingStepListener(BigramIndexBuilder builder) {
+        this.builder = builder;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        local.set(new PartitionPostings(BigramIndexBuilder.COLUMNS.size()));
+        pending.get().clear();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        builder.merge(local.get());
+        local.remove();
+        pending.remove();
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void afterWrite(Chunk<? extends RestaurantCsvDto> items) {
+        pending.get().add(items);
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        List<Chunk<? extends RestaurantCsvDto>> chunks = pending.get();
+        if (chunks.isEmpty()) return;
+
+        PartitionPostings postings = local.get();
+        for (Chunk<? extends RestaurantCsvDto> chunk : chunks) {
+            int rows = 0;
+            for (RestaurantCsvDto item : chunk) {
+                // id를 받지 못한 행은 제외하고, 포스팅 목록(int) 범위를 넘는 id는 세어서 마스터 스텝 종료 시 알림
+                Long id = builder.takeId(item);
+                if (id == null) continue;
+                if (id > Integer.MAX_VALUE) {
+                    builder.countUnindexable();
+                    continue;
+                }
+                for (int column = 0; column < BigramIndexBuilder.COLUMNS.size(); column++) {
+                    postings.add(column, id.intValue(), BigramIndexBuilder.COLUMNS.get(column).getter().apply(item));
+                }
+                rows++;
+            }
+            postings.addRows(rows);
+        }
+        chunks.clear();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        List<Chunk<? extends RestaurantCsvDto>> chunks = pending.get();
+        for (Chunk<? extends RestaurantCsvDto> chunk : chunks) {
+            for (RestaurantCsvDto item : chunk) {
+                builder.takeId(item);
+            }
+        }
+        chunks.clear();
+    }
+}
@@ -0,0 +1,105 @@
+package com.assignment.restaurantbatch.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파티션 하나에서 커밋된 행의 bigram 포스팅 목록을 컬럼별로 모읍니다.
+ * <p>
+ * 파티션 하나는 한 스레드에서만 실행되므로 동기화하지 않습니다.
+ * 파티션이 끝나면 {@link #freeze()}로 키 정렬·차이값 압축한 {@link Segment}로 바꾸어 병합기에 넘깁니다.
+ */
+public class PartitionPostings {
+
+    private final List<Map<Integer, IntList>> columns;
+    private long rows;
+
+    public PartitionPostings(int columnCount) {
+        List<Map<Integer, IntList>> maps = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            maps.add(new HashMap<>());
+        }
+        this.columns = List.copyOf(maps);
+    }
+
+    /**
+     * 행 하나의 컬럼 값을 색인합니다.
+     */
+    public void add(int column, int id, String text) {
+        Map<Integer, IntList> postings = columns.get(column);
+        for (int key : Bigrams.keys(text)) {
+            postings.computeIfAbsent(key, k -> new IntList()).add(id);
+        }
+    }
+
+    /** 색인한 행 수를 더합니다. */
+    public void addRows(int count) {
+        rows += count;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public boolean isEmpty() {
+        return rows == 0;
+    }
+
+    /**
+     * 컬럼별 포스팅 목록을 키 오름차순 압축 세그먼트로 바꿉니다.
+     */
+    public Segment[] freeze() {
+        Segment[] segments = new Segment[columns.size()];
+        for (int column = 0; column < segments.length; column++) {
+            Map<Integer, IntList> postings = columns.get(column);
+            int[] keys = postings.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+            int[] counts = new int[keys.length];
+            byte[][] encoded = new byte[keys.length][];
+            for (int i = 0; i < keys.length; i++) {
+                IntList docs = postings.get(keys[i]);
+                counts[i] = docs.sortDistinct();
+                encoded[i] = BigramIndexFormat.encode(docs.values, counts[i]);
+            }
+            segments[column] = new Segment(keys, counts, encoded);
+        }
+        return segments;
+    }
+
+    /**
+     * 컬럼 하나의 압축 포스팅 목록
+     *
+     * @param keys     bigram 키 (오름차순)
+     * @param counts   키별 문서 수
+     * @param postings 키별 차이값 인코딩 id 목록
+     */
+    public record Segment(int[] keys, int[] counts, byte[][] postings) {
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        /** 정렬 후 중복을 제거하고 남은 개수를 반환합니다. */
+        int sortDistinct() {
+            Arrays.sort(values, 0, size);
+            int distinct = 0;
+            for (int i = 0; i < size; i++) {
+                if (distinct == 0 || values[distinct - 1] != values[i]) {
+                    values[distinct++] = values[i];
+                }
+            }
+            size = distinct;
+            return distinct;
+        }
+    }
+}
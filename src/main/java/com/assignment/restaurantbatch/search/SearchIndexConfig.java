@@ -0,0 +1,50 @@
+package com.assignment.restaurantbatch.search;
+
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.nio.file.Paths;
+
+/**
+ * 검색 색인 설정 클래스입니다. batch.search-index.enabled=true인 경우에만 bigram 색인을 만듭니다.
+ * <p>
+ * - restaurant 데이터셋의 dto Chunk 형식 적재는 적재 중 색인하고, 재시작된 실행은 완료 후 테이블에서 이번 Job의 행을 읽어 색인합니다.<br>
+ * - 지역 재적재는 교환 후 {@link TableIndexer}로, 샤드 적재는 {@link ShardIndexListener}로 샤드별 색인 파일에 반영합니다.<br>
+ * - 검증 전용 실행은 색인하지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "batch.search-index", name = "enabled", havingValue = "true")
+public class SearchIndexConfig {
+
+    /**
+     * Job 실행마다 새로 만드는 색인 병합기입니다.
+     *
+     * @param file 색인 파일 경로 (batch.search-index.file)
+     * @param dataSource 재시작된 실행에서 이번 Job의 행을 다시 읽을 DataSource
+     */
+    @Bean
+    @JobScope
+    public BigramIndexBuilder bigramIndexBuilder(
+            @Value("${batch.search-index.file:data/search/restaurant-bigram.idx}") String file,
+            DataSource dataSource
+    ) {
+        return new BigramIndexBuilder(Paths.get(file), dataSource);
+    }
+
+    /**
+     * 적재된 테이블에서 색인을 반영하거나 새로 만드는 색인기입니다. (지역 재적재 교환 후 반영 등)
+     *
+     * @param file 색인 파일 경로 (batch.search-index.file)
+     */
+    @Bean
+    public TableIndexer tableIndexer(
+            @Value("${batch.search-index.file:data/search/restaurant-bigram.idx}") String file,
+            DataSource dataSource
+    ) {
+        return new TableIndexer(dataSource, Paths.get(file));
+    }
+}
@@ -0,0 +1,71 @@
+package com.assignment.restaurantbatch.search;
+
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 샤드 적재의 검색 색인을 샤드별 색인 파일({@link TableIndexer#shardIndexFile})에 반영하는 마스터 스텝 리스너입니다.
+ * <p>
+ * - 샤드마다 id가 따로 생성되어 한 색인 파일에 담을 수 없으므로, 검색도 샤드별 색인 파일과 그 샤드 DataSource로 합니다.<br>
+ * - 마스터 스텝 시작 시 샤드별 최대 id를 실행 컨텍스트에 남기고, 완료 시 그보다 큰 행을 샤드 DB에서 읽어 색인합니다.<br>
+ * - 재시작 시에는 이전 실행의 실행 컨텍스트가 이어지므로 처음 값을 유지하여 첫 실행에서 커밋된 행도 색인합니다.
+ */
+@Slf4j
+public class ShardIndexListener implements StepExecutionListener {
+
+    /** 마스터 스텝 실행 컨텍스트의 샤드별 기준 id 키 접두사 (뒤에 샤드 번호) */
+    static final String BASE_ID_KEY_PREFIX = "searchIndex.shardBaseId.";
+
+    private final List<? extends DataSource> shards;
+    private final Path indexFile;
+
+    /**
+     * @param shards    샤드별 DataSource (목록 순서가 샤드 번호)
+     * @param indexFile 색인 파일 경로 (샤드별 파일은 이 경로 뒤에 샤드 번호를 붙임)
+     */
+    public ShardIndexListener(List<? extends DataSource> shards, Path indexFile) {
+        this.shards = List.copyOf(shards);
+        this.indexFile = indexFile;
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        ExecutionContext context = stepExecution.getExecutionContext();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            String key = BASE_ID_KEY_PREFIX + shard;
+            if (context.containsKey(key)) continue;
+            Long maxId = new JdbcTemplate(shards.get(shard)).queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) FROM " + DatasetSchema.restaurant().table(), Long.class);
+            context.putLong(key, maxId == null ? 0 : maxId);
+        }
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        if (!ExitStatus.COMPLETED.getExitCode().equals(stepExecution.getExitStatus().getExitCode())) {
+            log.warn("마스터 스텝이 완료되지 않아 샤드 검색 색인을 저장하지 않습니다: {}", stepExecution.getExitStatus().getExitCode());
+            return stepExecution.getExitStatus();
+        }
+        ExecutionContext context = stepExecution.getExecutionContext();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            long baseId = context.getLong(BASE_ID_KEY_PREFIX + shard, 0L);
+            try {
+                new TableIndexer(shards.get(shard), TableIndexer.shardIndexFile(indexFile, shard)).indexAfter(baseId);
+            } catch (IOException | SQLException e) {
+                log.warn("샤드 {} 검색 색인 저장 실패: {}", shard, e.getMessage());
+            }
+        }
+        return stepExecution.getExitStatus();
+    }
+}
@@ -0,0 +1,115 @@
+package com.assignment.restaurantbatch.search;
+
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.stream.Collectors;
+
+/**
+ * 적재된 restaurant 테이블의 행을 읽어 검색 색인 파일에 반영하는 색인기입니다.
+ * <p>
+ * - 적재 중 색인({@link IndexingStepListener})을 쓸 수 없는 경우에 씁니다:
+ *   재시작된 실행, 지역 재적재 교환 후, 샤드 적재(샤드마다 별도 색인 파일).<br>
+ * - {@link #indexAfter(long)}는 기준 id보다 큰 행(이번 적재의 행)만 읽어 기존 색인 파일과 합칩니다.<br>
+ * - {@link #rebuild()}는 기존 색인 파일을 읽지 않고 테이블 전체로 새로 만듭니다.
+ *   교환으로 지워진 지역 행의 id처럼 색인에 남은 낡은 id를 정리할 때 씁니다.<br>
+ * - 테이블에서 지워진 행의 id가 색인에 남아도 검색 시 DB 확인({@link BigramSearcher})에서 걸러지므로 결과는 틀리지 않습니다.<br>
+ * - 행은 id 순서로 스트리밍하여 파티션 하나 분량의 포스팅 목록({@link PartitionPostings})에 모읍니다.
+ */
+@Slf4j
+public class TableIndexer {
+
+    private static final String SELECT_AFTER_ID_SQL = "SELECT id, "
+            + BigramIndexBuilder.COLUMNS.stream().map(BigramIndexBuilder.IndexedColumn::name).collect(Collectors.joining(", "))
+            + " FROM " + DatasetSchema.restaurant().table() + " WHERE id > ? ORDER BY id";
+
+    private final DataSource dataSource;
+    private final Path indexFile;
+
+    /**
+     * @param dataSource 색인할 restaurant 테이블의 DB (샤드 적재는 샤드별 DataSource)
+     * @param indexFile  색인 파일 경로
+     */
+    public TableIndexer(DataSource dataSource, Path indexFile) {
+        this.dataSource = dataSource;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * 샤드 적재의 샤드별 색인 파일 경로 (&lt;색인 파일&gt;.shard-&lt;샤드 번호&gt;)
+     */
+    public static Path shardIndexFile(Path indexFile, int shard) {
+        return indexFile.resolveSibling(indexFile.getFileName() + ".shard-" + shard);
+    }
+
+    /**
+     * 기준 id보다 큰 행을 색인하여 기존 색인 파일과 합칩니다.
+     *
+     * @return 색인한 행 수
+     */
+    public long indexAfter(long afterId) throws IOException, SQLException {
+        long rows = index(afterId, true);
+        log.info("검색 색인 반영: {} (id {} 초과 {}건)", indexFile, afterId, rows);
+        return rows;
+    }
+
+    /**
+     * 테이블 전체로 색인 파일을 새로 만듭니다.
+     *
+     * @return 색인한 행 수
+     */
+    public long rebuild() throws IOException, SQLException {
+        long rows = index(0, false);
+        log.info("검색 색인 재생성: {} ({}건)", indexFile, rows);
+        return rows;
+    }
+
+    private long index(long afterId, boolean mergeExisting) throws IOException, SQLException {
+        int columnCount = BigramIndexBuilder.COLUMNS.size();
+        PartitionPostings postings = new PartitionPostings(columnCount);
+        long unindexable = 0;
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement statement = conn.prepareStatement(SELECT_AFTER_ID_SQL,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(streamingFetchSize(conn));
+            statement.setLong(1, afterId);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    long id = rs.getLong(1);
+                    // 포스팅 목록(int) 범위를 넘는 id는 적재 중 색인과 같이 세어서 알림
+                    if (id > Integer.MAX_VALUE) {
+                        unindexable++;
+                        continue;
+                    }
+                    for (int column = 0; column < columnCount; column++) {
+                        postings.add(column, (int) id, rs.getString(column + 2));
+                    }
+                    postings.addRows(1);
+                }
+            }
+        }
+        if (unindexable > 0) {
+            log.warn("id가 {}를 넘어 검색 색인에서 빠진 행: {}건", Integer.MAX_VALUE, unindexable);
+        }
+
+        BigramIndexBuilder builder = new BigramIndexBuilder(indexFile);
+        builder.merge(postings);
+        builder.write(mergeExisting);
+        return postings.rows();
+    }
+
+    /**
+     * MySQL 드라이버는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 메모리에 모두 올리지 않고 스트리밍합니다.
+     */
+    private static int streamingFetchSize(Connection conn) throws SQLException {
+        String product = conn.getMetaData().getDatabaseProductName();
+        return "MySQL".equalsIgnoreCase(product) ? Integer.MIN_VALUE : 1_000;
+    }
+}
@@ -0,0 +1,23 @@
+package com.assignment.restaurantbatch.shard;
+
+/**
+ * 샤드에 이번 Chunk의 행이 남았는지 확인할 수 없을 때 던지는 예외입니다.
+ * <p>
+ * - 이미 커밋한 샤드의 되돌리기가 실패했거나, 커밋 결과를 알 수 없는 샤드(커밋 요청 후 연결 끊김)를 정리하지 못한 경우입니다.<br>
+ * - 재시도하거나 한 건씩 다시 쓰면(스킵 탐색) 해당 샤드에 행이 중복되므로
+ *   {@link com.assignment.restaurantbatch.policy.CustomSkipPolicy}와 재시도 정책 모두 이 예외를 받으면 스텝을 실패시킵니다.
+ */
+public class ShardCommitUncertainException extends RuntimeException {
+
+    private final int shard;
+
+    public ShardCommitUncertainException(int shard, String message, Throwable cause) {
+        super(message, cause);
+        this.shard = shard;
+    }
+
+    /** 상태를 확인하지 못한 샤드 번호 */
+    public int shard() {
+        return shard;
+    }
+}
@@ -0,0 +1,69 @@
+package com.assignment.restaurantbatch.shard;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * 한 행을 적재할 샤드 번호(0 ~ 샤드 수 - 1)를 정하는 라우터입니다.
+ * <p>
+ * 키 문자열의 CRC32 값으로 나누므로 JVM, 실행 순서, 파티션 분할과 관계없이 같은 키는 항상 같은 샤드로 갑니다.
+ */
+@FunctionalInterface
+public interface ShardRouter {
+
+    /** 관리번호 기준 라우팅 키 이름 (batch.shard.key) */
+    String MANAGEMENT_NUMBER = "management-number";
+
+    /** 개방자치단체코드 기준 라우팅 키 이름 (batch.shard.key) */
+    String REGION = "region";
+
+    int route(RestaurantCsvDto item);
+
+    /**
+     * 관리번호 해시로 나눕니다. 샤드 간 행 수가 고르게 나뉩니다.
+     */
+    static ShardRouter byManagementNumber(int shardCount) {
+        return hashing(RestaurantCsvDto::getManagementNumber, shardCount);
+    }
+
+    /**
+     * 개방자치단체코드 해시로 나눕니다. 한 지역의 행은 모두 같은 샤드에 모입니다.
+     */
+    static ShardRouter byRegion(int shardCount) {
+        return hashing(RestaurantCsvDto::getRegionCode, shardCount);
+    }
+
+    /**
+     * 설정 값(management-number 또는 region)에 맞는 라우터를 반환합니다.
+     *
+     * @throws IllegalArgumentException 알 수 없는 키 이름인 경우
+     */
+    static ShardRouter of(String key, int shardCount) {
+        return switch (key) {
+            case MANAGEMENT_NUMBER -> byManagementNumber(shardCount);
+            case REGION -> byRegion(shardCount);
+            default -> throw new IllegalArgumentException("지원하지 않는 샤드 키입니다: " + key
+                    + " (" + MANAGEMENT_NUMBER + " 또는 " + REGION + ")");
+        };
+    }
+
+    private static ShardRouter hashing(Function<RestaurantCsvDto, String> key, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("샤드 수는 1 이상이어야 합니다: " + shardCount);
+        }
+        return item -> shardOf(key.apply(item), shardCount);
+    }
+
+    /**
+     * 키 문자열의 샤드 번호. 키가 없으면 0번 샤드입니다.
+     */
+    static int shardOf(String key, int shardCount) {
+        if (key == null || key.isEmpty()) return 0;
+        CRC32 crc = new CRC32();
+        crc.update(key.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc.getValue() % shardCount);
+    }
+}
@@ -0,0 +1,247 @@
+package com.assignment.restaurantbatch.shard;
+
+import com.assignment.restaurantbatch.address.AddressDecomposer;
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 행을 여러 DB(샤드)에 나누어 다중 INSERT하는 Writer입니다.
+ * <p>
+ * - {@link ShardRouter}로 Chunk의 행을 샤드별 버퍼에 나누고, 샤드마다 자기 커넥션 풀에서 받은 커넥션으로 INSERT합니다.<br>
+ * - 커밋은 Chunk 단위로 맞춥니다. 모든 대상 샤드의 INSERT가 성공한 뒤에만 차례로 커밋하고,
+ *   INSERT 중 하나라도 실패하면 모든 샤드를 롤백한 뒤 예외를 던져 Chunk를 재시도하게 합니다.<br>
+ * - 커밋 도중 실패하면 이미 커밋한 샤드에서 이번 Chunk의 행을 INSERT 시 생성된 id로 지워 되돌린 뒤 예외를 던집니다.
+ *   record_number는 적재마다(재처리, 여러 입력 파일) 다시 쓰이므로 되돌리기 기준으로 쓰지 않습니다.<br>
+ * - 커밋에 실패한 샤드도 커밋 요청 후 연결이 끊겼다면 실제로 커밋됐을 수 있으므로 같은 id로 지웁니다. (지운 행이 0건이거나 전부여야 정상)<br>
+ * - 되돌리기나 정리가 실패하면 재시도·스킵 탐색 시 중복이 생기므로 {@link ShardCommitUncertainException}을 던져 스텝을 실패시킵니다.
+ */
+@Slf4j
+public class ShardedInsertWriter implements ItemWriter<RestaurantCsvDto>, AutoCloseable {
+
+    private final List<? extends DataSource> shards;
+    private final List<MultiInsertWriter> shardWriters;
+    private final ShardRouter router;
+    private final BatchMetrics metrics;
+    private final LongAdder[] shardRows;
+    private final LongAdder compensations = new LongAdder();
+
+    /**
+     * @param shards 샤드별 DataSource (목록 순서가 샤드 번호)
+     * @param router 행을 샤드 번호로 매핑하는 라우터 (샤드 수와 같은 범위)
+     */
+    public ShardedInsertWriter(List<? extends DataSource> shards, ShardRouter router, BatchMetrics metrics) {
+        this(shards, router, metrics, null);
+    }
+
+    /**
+     * @param addressDecomposer 주소 분해기 (null이면 주소 분해 컬럼을 쓰지 않음)
+     */
+    public ShardedInsertWriter(List<? extends DataSource> shards, ShardRouter router, BatchMetrics metrics,
+                               AddressDecomposer addressDecomposer) {
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("샤드 DataSource가 하나 이상 필요합니다.");
+        }
+        this.shards = List.copyOf(shards);
+        this.router = router;
+        this.metrics = metrics;
+        this.shardWriters = new ArrayList<>(shards.size());
+        this.shardRows = new LongAdder[shards.size()];
+        for (int i = 0; i < shards.size(); i++) {
+            shardWriters.add(new MultiInsertWriter(shards.get(i), metrics, null, addressDecomposer));
+            shardRows[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void write(Chunk<? extends RestaurantCsvDto> chunk) throws Exception {
+        List<? extends RestaurantCsvDto> items = chunk.getItems();
+        if (items.isEmpty()) return;
+
+        String partition = BatchMetrics.currentPartition();
+        List<List<RestaurantCsvDto>> buffers = route(items);
+        Connection[] connections = new Connection[shards.size()];
+        long[][] insertedIds = new long[shards.size()][];
+        try {
+            // 1단계: 대상 샤드마다 트랜잭션을 열고 INSERT (커밋 보류)
+            try {
+                for (int shard = 0; shard < connections.length; shard++) {
+                    if (buffers.get(shard).isEmpty()) continue;
+                    long start = System.nanoTime();
+                    connections[shard] = shards.get(shard).getConnection();
+                    connections[shard].setAutoCommit(false);
+                    long acquired = System.nanoTime();
+                    metrics.recordTime(BatchMetrics.WRITER_CONNECTION_ACQUIRE, partition, acquired - start);
+
+                    insertedIds[shard] = shardWriters.get(shard).insertReturningIds(connections[shard], buffers.get(shard));
+                    metrics.recordTime(BatchMetrics.WRITER_EXECUTE, partition, System.nanoTime() - acquired);
+                }
+            } catch (Exception e) {
+                rollbackAll(connections, e);
+                throw e;
+            }
+
+            // 2단계: 모든 샤드 INSERT 성공 후 차례로 커밋
+            commitAll(connections, insertedIds);
+        } finally {
+            closeAll(connections);
+        }
+
+        for (int shard = 0; shard < shardRows.length; shard++) {
+            shardRows[shard].add(buffers.get(shard).size());
+        }
+    }
+
+    /**
+     * Chunk의 행을 샤드별 버퍼로 나눕니다.
+     */
+    List<List<RestaurantCsvDto>> route(List<? extends RestaurantCsvDto> items) {
+        List<List<RestaurantCsvDto>> buffers = new ArrayList<>(shards.size());
+        int expected = items.size() / shards.size() + 1;
+        for (int i = 0; i < shards.size(); i++) {
+            buffers.add(new ArrayList<>(expected));
+        }
+        for (RestaurantCsvDto item : items) {
+            buffers.get(router.route(item)).add(item);
+        }
+        return buffers;
+    }
+
+    private void commitAll(Connection[] connections, long[][] insertedIds) throws SQLException {
+        List<Integer> committed = new ArrayList<>();
+        for (int shard = 0; shard < connections.length; shard++) {
+            if (connections[shard] == null) continue;
+            try {
+                connections[shard].commit();
+                committed.add(shard);
+            } catch (SQLException e) {
+                log.warn("샤드 {} 커밋 실패, 커밋된 샤드 {} 되돌림 후 재시도: {}", shard, committed, e.getMessage());
+                rollbackAll(connections, e);
+                compensate(committed, insertedIds, e);
+                cleanUpUncertain(shard, insertedIds[shard], e);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 이미 커밋한 샤드에서 이번 Chunk의 행을 INSERT 시 생성된 id로 지웁니다.
+     */
+    private void compensate(List<Integer> committed, long[][] insertedIds, SQLException cause) {
+        for (int shard : committed) {
+            long[] ids = insertedIds[shard];
+            try {
+                int deleted = deleteInserted(shard, ids);
+                if (deleted != ids.length) {
+                    throw new SQLException("되돌린 행 수(" + deleted + ")가 커밋한 행 수(" + ids.length + ")와 다릅니다.");
+                }
+                compensations.increment();
+            } catch (SQLException e) {
+                e.addSuppressed(cause);
+                throw new ShardCommitUncertainException(shard, "샤드 " + shard + "에 커밋된 Chunk를 되돌리지 못했습니다. "
+                        + "재시도하면 중복이 생기므로 중단합니다.", e);
+            }
+        }
+    }
+
+    /**
+     * 커밋에 실패한 샤드에서 이번 Chunk의 행을 id로 지웁니다.
+     * <p>
+     * 커밋 요청이 DB에 닿은 뒤 응답 전에 연결이 끊기면 커밋 여부를 알 수 없습니다.
+     * 지운 행이 0건(커밋 안 됨)이거나 전부(커밋됨)면 어느 쪽이든 샤드에 이번 Chunk 행이 남지 않으므로 재시도할 수 있습니다.
+     */
+    private void cleanUpUncertain(int shard, long[] ids, SQLException cause) {
+        try {
+            int deleted = deleteInserted(shard, ids);
+            if (deleted != 0 && deleted != ids.length) {
+                throw new SQLException("정리한 행 수(" + deleted + ")가 0도 INSERT한 행 수(" + ids.length + ")도 아닙니다.");
+            }
+            if (deleted > 0) {
+                log.warn("샤드 {} 커밋 실패로 보고됐지만 실제로 커밋된 {}행을 지웠습니다.", shard, deleted);
+                compensations.increment();
+            }
+        } catch (SQLException e) {
+            e.addSuppressed(cause);
+            throw new ShardCommitUncertainException(shard, "샤드 " + shard + "의 커밋 결과를 확인하지 못했습니다. "
+                    + "재시도하면 중복이 생길 수 있으므로 중단합니다.", e);
+        }
+    }
+
+    private int deleteInserted(int shard, long[] ids) throws SQLException {
+        try (Connection conn = shards.get(shard).getConnection();
+             PreparedStatement ps = conn.prepareStatement("DELETE FROM " + shardWriters.get(shard).table() + " WHERE id IN ("
+                     + String.join(",", Collections.nCopies(ids.length, "?")) + ")")) {
+            for (int i = 0; i < ids.length; i++) {
+                ps.setLong(i + 1, ids[i]);
+            }
+            int deleted = ps.executeUpdate();
+            if (!conn.getAutoCommit()) conn.commit();
+            return deleted;
+        }
+    }
+
+    private void rollbackAll(Connection[] connections, Exception cause) {
+        for (Connection conn : connections) {
+            if (conn == null) continue;
+            try {
+                conn.rollback();
+            } catch (SQLException e) {
+                cause.addSuppressed(e);
+            }
+        }
+    }
+
+    private void closeAll(Connection[] connections) {
+        for (Connection conn : connections) {
+            if (conn == null) continue;
+            try (conn) {
+                conn.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.warn("샤드 커넥션 반납 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /** 샤드별 DataSource (목록 순서가 샤드 번호) */
+    public List<? extends DataSource> shards() {
+        return shards;
+    }
+
+    /** 샤드별 커밋된 행 수 */
+    public long rowsWritten(int shard) {
+        return shardRows[shard].sum();
+    }
+
+    /** 커밋 도중 실패로 이미 커밋한 샤드를 되돌린 횟수 */
+    public long compensationCount() {
+        return compensations.sum();
+    }
+
+    /**
+     * 샤드 커넥션 풀을 닫습니다. (Spring 컨텍스트 종료 시 호출)
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.assignment.restaurantbatch.shard;
+
+import com.assignment.restaurantbatch.address.AddressDecomposer;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 샤드 적재 설정 클래스입니다. batch.shard.urls가 지정된 경우에만 적용됩니다.
+ * <p>
+ * - URL마다 별도 커넥션 풀(shard-0, shard-1, ...)을 만들고, restaurant 행을 {@code batch.shard.key} 기준으로 나누어 씁니다.<br>
+ * - 샤드 적재는 restaurant 데이터셋의 dto Chunk 형식에서만 사용됩니다. 요약 테이블과 JobRepository는 기본 DB에 남습니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "batch.shard", name = "urls")
+public class ShardingConfig {
+
+    /** 샤드별 커밋 행 수 지표 (shard=0, 1, ...) */
+    public static final String SHARD_ROWS = "batch.shard.rows";
+
+    /** 커밋 도중 실패로 샤드를 되돌린 횟수 지표 */
+    public static final String SHARD_COMPENSATIONS = "batch.shard.compensations";
+
+    /**
+     * 샤드 Writer Bean입니다. 컨텍스트 종료 시 샤드 커넥션 풀을 닫습니다.
+     *
+     * @param urls 샤드 JDBC URL 목록, 순서가 샤드 번호 (batch.shard.urls, 쉼표 구분)
+     * @param key 라우팅 기준 management-number 또는 region (batch.shard.key)
+     * @param poolSize 샤드별 최대 커넥션 수 (batch.shard.pool-size)
+     * @param addressDecomposerProvider 주소 분해기 (batch.address.enabled=true일 때만 존재)
+     */
+    @Bean(destroyMethod = "close")
+    public ShardedInsertWriter shardedItemWriter(
+            @Value("${batch.shard.urls}") List<String> urls,
+            @Value("${batch.shard.username:${spring.datasource.username:}}") String username,
+            @Value("${batch.shard.password:${spring.datasource.password:}}") String password,
+            @Value("${batch.shard.key:" + ShardRouter.MANAGEMENT_NUMBER + "}") String key,
+            @Value("${batch.shard.pool-size:8}") int poolSize,
+            BatchMetrics batchMetrics,
+            ObjectProvider<AddressDecomposer> addressDecomposerProvider
+    ) {
+        List<HikariDataSource> shards = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("shard-" + i);
+            dataSource.setJdbcUrl(urls.get(i).trim());
+            dataSource.setUsername(username);
+            dataSource.setPassword(password);
+            dataSource.setMaximumPoolSize(poolSize);
+            shards.add(dataSource);
+        }
+
+        ShardedInsertWriter writer = new ShardedInsertWriter(shards, ShardRouter.of(key, shards.size()), batchMetrics,
+                addressDecomposerProvider.getIfAvailable());
+        for (int i = 0; i < shards.size(); i++) {
+            int shard = i;
+            FunctionCounter.builder(SHARD_ROWS, writer, w -> w.rowsWritten(shard))
+                    .tag("shard", String.valueOf(shard))
+                    .register(batchMetrics.getRegistry());
+        }
+        FunctionCounter.builder(SHARD_COMPENSATIONS, writer, ShardedInsertWriter::compensationCount)
+                .register(batchMetrics.getRegistry());
+
+        log.info("샤드 적재 사용: 샤드 {}개, 기준 {}, 샤드별 풀 {}", shards.size(), key, poolSize);
+        return writer;
+    }
+}
@@ -0,0 +1,41 @@
+package com.assignment.restaurantbatch.snapshot;
+
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 바이너리 스냅샷 캐시와 스냅샷 리더 설정 클래스입니다.
+ */
+@Configuration
+public class SnapshotConfig {
+
+    /**
+     * @param dir 스냅샷 보관 디렉토리 (batch.snapshot.dir)
+     * @param rowGroupSize 행 그룹 하나의 최대 행 수 (batch.snapshot.row-group-size)
+     */
+    @Bean
+    public SnapshotStore snapshotStore(
+            @Value("${batch.snapshot.dir:data/snapshot}") String dir,
+            @Value("${batch.snapshot.row-group-size:8192}") int rowGroupSize
+    ) {
+        return new SnapshotStore(Paths.get(dir), rowGroupSize);
+    }
+
+    /**
+     * 스냅샷 적재(JobParameter snapshotFile)용 리더. 파티션마다 할당된 행 그룹 구간을 읽습니다.
+     */
+    @Bean
+    @StepScope
+    public SnapshotItemReader snapshotItemReader(
+            @Value("#{stepExecutionContext['" + SnapshotPartitioner.SNAPSHOT_FILE_KEY + "']}") String snapshotFile,
+            @Value("#{stepExecutionContext['" + SnapshotPartitioner.FROM_GROUP_KEY + "']}") Integer fromGroup,
+            @Value("#{stepExecutionContext['" + SnapshotPartitioner.TO_GROUP_KEY + "']}") Integer toGroup
+    ) {
+        return new SnapshotItemReader(Path.of(snapshotFile), fromGroup, toGroup);
+    }
+}
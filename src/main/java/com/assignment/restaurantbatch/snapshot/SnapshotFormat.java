@@ -0,0 +1,130 @@
+package com.assignment.restaurantbatch.snapshot;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.SchemaDtoBinder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * restaurant 바이너리 스냅샷 파일 형식 상수와 가변 길이 정수·문자열 인코딩입니다.
+ * <pre>
+ * [헤더]   MAGIC(int) VERSION(int) 컬럼 수(varint) 컬럼명(str)...
+ * [행 그룹] recordNumber 컬럼(varint, 0=null) → 문자열 컬럼마다 인코딩(byte) + 값
+ *          PLAIN: 행마다 str(길이+1, 0=null)
+ *          DICT : 사전 크기(varint) + 사전 str... + 행마다 코드+1(varint, 0=null)
+ * [푸터]   원본 지문(str) 전체 행 수(long) 행 그룹 수(int) {오프셋(long) 길이(int) 행 수(int) CRC32C(int)}...
+ * [트레일러] 푸터 오프셋(long) MAGIC(int)
+ * </pre>
+ * 정수는 빅엔디언이며, 행 그룹은 서로 독립적으로 읽고 검증할 수 있습니다.
+ * 문자열 컬럼은 schema/restaurant.yml 순서를 따르며, 접근자는 {@link SchemaDtoBinder}에서 얻습니다.
+ */
+final class SnapshotFormat {
+
+    /** 'RSNP' */
+    static final int MAGIC = 0x52534E50;
+    static final int VERSION = 1;
+
+    /** 트레일러 크기 (푸터 오프셋 long + MAGIC int) */
+    static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+
+    static final byte ENCODING_PLAIN = 0;
+    static final byte ENCODING_DICT = 1;
+
+    /** DTO 접근자 (schema/restaurant.yml 컬럼 순서) */
+    static final SchemaDtoBinder<RestaurantCsvDto> BINDER = SchemaDtoBinder.restaurant();
+
+    /** 문자열로 기록하는 컬럼의 스키마 인덱스 (recordNumber 제외, 스키마 순서) */
+    static final int[] STRING_COLUMNS = stringColumns();
+
+    /** 파일에 기록되는 컬럼명 순서 (recordNumber + 문자열 컬럼) */
+    static final List<String> COLUMN_NAMES = columnNames();
+
+    /** 푸터 색인의 행 그룹 항목 */
+    record RowGroupEntry(long offset, int length, int rows, int crc) {}
+
+    private SnapshotFormat() {
+    }
+
+    /**
+     * @throws IllegalStateException recordNumber 외의 DTO 필드가 문자열이 아닌 경우
+     */
+    private static int[] stringColumns() {
+        int recordNumber = BINDER.schema().indexOf(DatasetSchema.RECORD_NUMBER_FIELD);
+        int[] columns = new int[BINDER.schema().columnCount() - 1];
+        int next = 0;
+        for (int column = 0; column < BINDER.schema().columnCount(); column++) {
+            if (column == recordNumber) continue;
+            if (BINDER.valueType(column) != String.class) {
+                throw new IllegalStateException("스냅샷은 recordNumber 외의 문자열 필드만 지원합니다: "
+                        + BINDER.schema().columns().get(column).field());
+            }
+            columns[next++] = column;
+        }
+        return columns;
+    }
+
+    private static List<String> columnNames() {
+        String[] fields = BINDER.schema().fieldNames();
+        List<String> names = new ArrayList<>();
+        names.add(DatasetSchema.RECORD_NUMBER_FIELD);
+        for (int column : STRING_COLUMNS) {
+            names.add(fields[column]);
+        }
+        return List.copyOf(names);
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalStateException("스냅샷 가변 길이 정수 형식이 올바르지 않습니다.");
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        return Math.toIntExact(readVarLong(in));
+    }
+
+    /**
+     * 문자열을 (UTF-8 길이 + 1)과 바이트로 씁니다. null은 0 하나로 씁니다.
+     */
+    static void writeString(ByteArrayOutputStream out, String value) {
+        if (value == null) {
+            out.write(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    /**
+     * {@link #writeString}으로 쓴 문자열을 읽습니다.
+     *
+     * @param scratch 재사용 바이트 버퍼 (길이가 부족하면 새로 만들어 scratch[0]에 담음)
+     */
+    static String readString(ByteBuffer in, byte[][] scratch) {
+        int length = readVarInt(in) - 1;
+        if (length < 0) return null;
+        if (scratch[0].length < length) {
+            scratch[0] = new byte[Math.max(length, scratch[0].length * 2)];
+        }
+        in.get(scratch[0], 0, length);
+        return new String(scratch[0], 0, length, StandardCharsets.UTF_8);
+    }
+}
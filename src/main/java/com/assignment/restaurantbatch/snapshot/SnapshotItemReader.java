@@ -0,0 +1,80 @@
+package com.assignment.restaurantbatch.snapshot;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 스냅샷의 행 그룹 구간 [from, to)을 차례로 읽는 슬레이브 스텝 리더입니다.
+ * <p>
+ * 읽은 행 수를 ExecutionContext에 남기므로 재시작 시 이미 처리한 행 그룹은 디코딩하지 않고 건너뜁니다.
+ */
+public class SnapshotItemReader extends AbstractItemCountingItemStreamItemReader<RestaurantCsvDto> {
+
+    private final Path snapshotFile;
+    private final int fromGroup;
+    private final int toGroup;
+
+    private SnapshotReader reader;
+    private int nextGroup;
+    private List<RestaurantCsvDto> rows = List.of();
+    private int rowIndex;
+
+    /**
+     * @param fromGroup 읽을 첫 행 그룹 (포함)
+     * @param toGroup 읽을 마지막 행 그룹 (제외)
+     */
+    public SnapshotItemReader(Path snapshotFile, int fromGroup, int toGroup) {
+        this.snapshotFile = snapshotFile;
+        this.fromGroup = fromGroup;
+        this.toGroup = toGroup;
+        setName("snapshotItemReader");
+    }
+
+    @Override
+    protected void doOpen() throws Exception {
+        reader = SnapshotReader.open(snapshotFile);
+        if (toGroup > reader.rowGroupCount()) {
+            throw new IllegalStateException("행 그룹 범위가 스냅샷을 벗어납니다: " + fromGroup + "-" + toGroup
+                    + " (전체 " + reader.rowGroupCount() + ")");
+        }
+        nextGroup = fromGroup;
+        rows = List.of();
+        rowIndex = 0;
+    }
+
+    @Override
+    protected RestaurantCsvDto doRead() throws Exception {
+        while (rowIndex >= rows.size()) {
+            if (nextGroup >= toGroup) return null;
+            rows = reader.readRowGroup(nextGroup++);
+            rowIndex = 0;
+        }
+        return rows.get(rowIndex++);
+    }
+
+    /**
+     * 재시작 시 이미 읽은 행 그룹은 색인의 행 수만 보고 건너뜁니다.
+     */
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        int remaining = itemIndex;
+        while (nextGroup < toGroup && remaining >= reader.rowGroupRows(nextGroup)) {
+            remaining -= reader.rowGroupRows(nextGroup++);
+        }
+        if (remaining > 0 && nextGroup < toGroup) {
+            rows = reader.readRowGroup(nextGroup++);
+            rowIndex = remaining;
+        }
+    }
+
+    @Override
+    protected void doClose() throws Exception {
+        if (reader != null) {
+            reader.close();
+            reader = null;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.assignment.restaurantbatch.snapshot;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 스냅샷의 행 그룹을 gridSize개의 연속 구간으로 나누어 파티션을 만듭니다.
+ * 각 파티션은 stepExecutionContext의 {@link #SNAPSHOT_FILE_KEY}, {@link #FROM_GROUP_KEY}, {@link #TO_GROUP_KEY}로 구간을 전달받습니다.
+ */
+public class SnapshotPartitioner implements Partitioner {
+
+    /** 스냅샷 적재 JobParameter (지정 시 파티션 파일 대신 스냅샷을 읽음) */
+    public static final String SNAPSHOT_FILE_PARAM = "snapshotFile";
+
+    static final String SNAPSHOT_FILE_KEY = "snapshotFile";
+    static final String FROM_GROUP_KEY = "rowGroupFrom";
+    static final String TO_GROUP_KEY = "rowGroupTo";
+
+    private final Path snapshotFile;
+
+    public SnapshotPartitioner(Path snapshotFile) {
+        this.snapshotFile = snapshotFile;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        int groups;
+        try (SnapshotReader reader = SnapshotReader.open(snapshotFile)) {
+            groups = reader.rowGroupCount();
+        } catch (IOException e) {
+            throw new UncheckedIOException("스냅샷 파일을 열 수 없습니다: " + snapshotFile, e);
+        }
+
+        int partitions = Math.max(Math.min(gridSize, groups), 1);
+        Map<String, ExecutionContext> contexts = new HashMap<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            int from = (int) ((long) groups * i / partitions);
+            int to = (int) ((long) groups * (i + 1) / partitions);
+
+            ExecutionContext context = new ExecutionContext();
+            context.putString(SNAPSHOT_FILE_KEY, snapshotFile.toString());
+            context.putInt(FROM_GROUP_KEY, from);
+            context.putInt(TO_GROUP_KEY, to);
+            // JFR 이벤트 등 파일 이름으로 파티션을 구분하는 곳에서 사용
+            context.putString("file", snapshotFile.getFileName() + "#" + from + "-" + to);
+            contexts.put("partition" + i, context);
+        }
+        return contexts;
+    }
+}
@@ -0,0 +1,174 @@
+package com.assignment.restaurantbatch.snapshot;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * 바이너리 스냅샷 파일({@link SnapshotFormat})을 메모리 매핑으로 읽습니다.
+ * <p>
+ * - 열 때 트레일러와 푸터 색인만 읽고, 행 그룹은 요청 시 해당 구간만 매핑하여 디코딩합니다.<br>
+ * - 행 그룹은 서로 독립적이므로 여러 스레드가 서로 다른 행 그룹을 동시에 읽을 수 있습니다.<br>
+ * - 행 그룹을 읽을 때마다 CRC32C를 확인하며, 불일치하면 예외를 던집니다.
+ */
+public class SnapshotReader implements AutoCloseable {
+
+    private final Path path;
+    private final FileChannel channel;
+    private final String fingerprint;
+    private final long rowCount;
+    private final List<SnapshotFormat.RowGroupEntry> rowGroups;
+
+    private SnapshotReader(Path path, FileChannel channel, String fingerprint, long rowCount,
+                           List<SnapshotFormat.RowGroupEntry> rowGroups) {
+        this.path = path;
+        this.channel = channel;
+        this.fingerprint = fingerprint;
+        this.rowCount = rowCount;
+        this.rowGroups = rowGroups;
+    }
+
+    /**
+     * 스냅샷 파일을 열고 헤더(컬럼 구성)와 푸터 색인을 확인합니다.
+     *
+     * @throws IllegalStateException 스냅샷 파일이 아니거나, 손상되었거나, 컬럼 구성이 현재 DTO와 다른 경우
+     */
+    public static SnapshotReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < 2L * Integer.BYTES + SnapshotFormat.TRAILER_BYTES) {
+                throw new IllegalStateException("스냅샷 파일이 너무 짧습니다: " + path);
+            }
+            ByteBuffer trailer = channel.map(FileChannel.MapMode.READ_ONLY, size - SnapshotFormat.TRAILER_BYTES,
+                    SnapshotFormat.TRAILER_BYTES);
+            long footerOffset = trailer.getLong();
+            if (trailer.getInt() != SnapshotFormat.MAGIC || footerOffset < 0 || footerOffset > size - SnapshotFormat.TRAILER_BYTES) {
+                throw new IllegalStateException("스냅샷 트레일러가 올바르지 않습니다 (기록 중 중단된 파일일 수 있음): " + path);
+            }
+
+            ByteBuffer footer = channel.map(FileChannel.MapMode.READ_ONLY, footerOffset,
+                    size - SnapshotFormat.TRAILER_BYTES - footerOffset);
+            byte[][] scratch = {new byte[64]};
+            String fingerprint = SnapshotFormat.readString(footer, scratch);
+            long rowCount = footer.getLong();
+            int groupCount = footer.getInt();
+            List<SnapshotFormat.RowGroupEntry> rowGroups = new ArrayList<>(groupCount);
+            for (int i = 0; i < groupCount; i++) {
+                rowGroups.add(new SnapshotFormat.RowGroupEntry(footer.getLong(), footer.getInt(), footer.getInt(), footer.getInt()));
+            }
+
+            long headerLength = rowGroups.isEmpty() ? footerOffset : rowGroups.get(0).offset();
+            readHeader(channel.map(FileChannel.MapMode.READ_ONLY, 0, headerLength), path);
+            return new SnapshotReader(path, channel, fingerprint, rowCount, List.copyOf(rowGroups));
+        } catch (BufferUnderflowException e) {
+            channel.close();
+            throw new IllegalStateException("스냅샷 헤더 또는 푸터가 손상되었습니다: " + path, e);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void readHeader(ByteBuffer header, Path path) {
+        if (header.getInt() != SnapshotFormat.MAGIC) {
+            throw new IllegalStateException("스냅샷 파일이 아닙니다: " + path);
+        }
+        int version = header.getInt();
+        if (version != SnapshotFormat.VERSION) {
+            throw new IllegalStateException("지원하지 않는 스냅샷 버전입니다: " + version + " (" + path + ")");
+        }
+        int columnCount = SnapshotFormat.readVarInt(header);
+        byte[][] scratch = {new byte[64]};
+        List<String> names = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            names.add(SnapshotFormat.readString(header, scratch));
+        }
+        if (!names.equals(SnapshotFormat.COLUMN_NAMES)) {
+            throw new IllegalStateException("스냅샷 컬럼 구성이 현재 DTO와 다릅니다: " + path);
+        }
+    }
+
+    /**
+     * 행 그룹 하나를 읽어 DTO 목록으로 반환합니다. 같은 행 그룹의 반복 값은 같은 String 인스턴스를 공유합니다.
+     *
+     * @throws IllegalStateException 체크섬이 맞지 않는 경우
+     */
+    public List<RestaurantCsvDto> readRowGroup(int group) throws IOException {
+        SnapshotFormat.RowGroupEntry entry = rowGroups.get(group);
+        MappedByteBuffer block = channel.map(FileChannel.MapMode.READ_ONLY, entry.offset(), entry.length());
+
+        CRC32C crc = new CRC32C();
+        crc.update(block.duplicate());
+        if ((int) crc.getValue() != entry.crc()) {
+            throw new IllegalStateException("스냅샷 행 그룹 " + group + "의 체크섬이 맞지 않습니다: " + path);
+        }
+
+        int rows = entry.rows();
+        List<RestaurantCsvDto> items = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            RestaurantCsvDto item = new RestaurantCsvDto();
+            long value = SnapshotFormat.readVarLong(block);
+            if (value != 0) {
+                long zigZag = value - 1;
+                item.setRecordNumber((int) (zigZag >>> 1) ^ -(int) (zigZag & 1));
+            }
+            items.add(item);
+        }
+
+        byte[][] scratch = {new byte[256]};
+        for (int column : SnapshotFormat.STRING_COLUMNS) {
+            byte encoding = block.get();
+            if (encoding == SnapshotFormat.ENCODING_DICT) {
+                String[] dictionary = new String[SnapshotFormat.readVarInt(block)];
+                for (int i = 0; i < dictionary.length; i++) {
+                    dictionary[i] = SnapshotFormat.readString(block, scratch);
+                }
+                for (RestaurantCsvDto item : items) {
+                    int code = SnapshotFormat.readVarInt(block);
+                    if (code != 0) SnapshotFormat.BINDER.set(item, column, dictionary[code - 1]);
+                }
+            } else if (encoding == SnapshotFormat.ENCODING_PLAIN) {
+                for (RestaurantCsvDto item : items) {
+                    SnapshotFormat.BINDER.set(item, column, SnapshotFormat.readString(block, scratch));
+                }
+            } else {
+                throw new IllegalStateException("알 수 없는 컬럼 인코딩 " + encoding + ": "
+                        + SnapshotFormat.BINDER.schema().columns().get(column).field());
+            }
+        }
+        return items;
+    }
+
+    public int rowGroupCount() {
+        return rowGroups.size();
+    }
+
+    /** 행 그룹의 행 수 (디코딩 없이 색인에서 반환) */
+    public int rowGroupRows(int group) {
+        return rowGroups.get(group).rows();
+    }
+
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /** 스냅샷을 만든 원본 CSV 지문 */
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,128 @@
+package com.assignment.restaurantbatch.snapshot;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.reader.RestaurantItemReaderConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.file.LineMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 원본 CSV 지문(SHA-256)을 키로 바이너리 스냅샷을 보관하는 캐시 디렉토리입니다.
+ * <p>
+ * - 적재가 끝난 파티션 파일(중복 제거 후)로 스냅샷을 만들어 {@code restaurant-<지문 앞 16자>.snap}으로 저장합니다.<br>
+ * - 같은 원본 CSV로 다시 적재할 때는 CSV를 파싱하지 않고 스냅샷을 읽습니다. 푸터의 전체 지문까지 일치해야 적중입니다.<br>
+ * - 임시 파일에 기록한 뒤 이름을 바꾸므로, 기록 중 중단되어도 불완전한 스냅샷이 적중하지 않습니다.
+ */
+@Slf4j
+public class SnapshotStore {
+
+    private static final String SUFFIX = ".snap";
+
+    private final Path dir;
+    private final int rowGroupSize;
+
+    /**
+     * @param dir 스냅샷 보관 디렉토리
+     * @param rowGroupSize 행 그룹 하나의 최대 행 수
+     */
+    public SnapshotStore(Path dir, int rowGroupSize) {
+        this.dir = dir;
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    /**
+     * 파일 내용의 SHA-256 지문 (16진수)
+     */
+    public static String fingerprint(Path source) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[1 << 16];
+        try (InputStream in = Files.newInputStream(source)) {
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * 지문에 해당하는 스냅샷을 찾습니다. 손상되었거나 형식이 다른 스냅샷은 없는 것으로 봅니다.
+     */
+    public Optional<Path> find(String fingerprint) {
+        Path path = pathOf(fingerprint);
+        if (!Files.isRegularFile(path)) return Optional.empty();
+
+        try (SnapshotReader reader = SnapshotReader.open(path)) {
+            if (fingerprint.equals(reader.fingerprint())) {
+                return Optional.of(path);
+            }
+            log.warn("스냅샷 지문 불일치, 다시 생성합니다: {}", path);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("스냅샷을 사용할 수 없어 다시 생성합니다: {} ({})", path, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 파티션 CSV 파일들(헤더 포함)을 파싱하여 스냅샷을 만듭니다. 파싱할 수 없는 행은 건너뜁니다.
+     *
+     * @return 저장한 스냅샷 경로
+     */
+    public Path save(String fingerprint, List<Path> csvFiles, Charset charset) throws Exception {
+        Files.createDirectories(dir);
+        Path target = pathOf(fingerprint);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        LineMapper<RestaurantCsvDto> lineMapper = RestaurantItemReaderConfig.lineMapper();
+        long skipped = 0;
+        long rows;
+        try {
+            try (SnapshotWriter writer = new SnapshotWriter(temp, fingerprint, rowGroupSize)) {
+                for (Path file : csvFiles) {
+                    try (BufferedReader reader = Files.newBufferedReader(file, charset)) {
+                        reader.readLine(); // 헤더
+                        String line;
+                        int lineNumber = 1;
+                        while ((line = reader.readLine()) != null) {
+                            lineNumber++;
+                            if (line.isBlank()) continue;
+                            try {
+                                writer.write(lineMapper.mapLine(line, lineNumber));
+                            } catch (Exception e) {
+                                skipped++;
+                            }
+                        }
+                    }
+                }
+                rows = writer.rowCount();
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        log.info("스냅샷 저장: {} ({}건, 파싱 불가 {}건 제외, {} bytes)", target, rows, skipped, Files.size(target));
+        return target;
+    }
+
+    Path pathOf(String fingerprint) {
+        return dir.resolve("restaurant-" + fingerprint.substring(0, Math.min(16, fingerprint.length())) + SUFFIX);
+    }
+}
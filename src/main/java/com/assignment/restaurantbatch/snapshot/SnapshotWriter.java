@@ -0,0 +1,159 @@
+package com.assignment.restaurantbatch.snapshot;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * restaurant 행을 바이너리 스냅샷 파일({@link SnapshotFormat})로 기록합니다.
+ * <p>
+ * - 행을 rowGroupSize개씩 모아 컬럼 단위로 인코딩하고, 행 그룹마다 CRC32C 체크섬과 위치를 푸터 색인에 남깁니다.<br>
+ * - 문자열 컬럼은 행 그룹 안에서 고유 값이 절반 이하이면 사전 인코딩, 아니면 길이 + UTF-8 바이트로 씁니다.<br>
+ * - {@link #close()}에서 마지막 행 그룹과 푸터를 씁니다. 닫기 전의 파일은 읽을 수 없습니다.
+ */
+public class SnapshotWriter implements AutoCloseable {
+
+    private final OutputStream out;
+    private final String fingerprint;
+    private final int rowGroupSize;
+    private final List<RestaurantCsvDto> rowGroup;
+
+    private final List<SnapshotFormat.RowGroupEntry> index = new ArrayList<>();
+    private long position;
+    private long rowCount;
+
+    /**
+     * @param fingerprint 원본 CSV 지문 (푸터에 기록, 캐시 적중 확인용)
+     * @param rowGroupSize 행 그룹 하나의 최대 행 수 (병렬 읽기 단위)
+     */
+    public SnapshotWriter(Path target, String fingerprint, int rowGroupSize) throws IOException {
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("행 그룹 크기는 1 이상이어야 합니다: " + rowGroupSize);
+        }
+        this.out = new BufferedOutputStream(Files.newOutputStream(target), 1 << 16);
+        this.fingerprint = fingerprint;
+        this.rowGroupSize = rowGroupSize;
+        this.rowGroup = new ArrayList<>(rowGroupSize);
+        writeHeader();
+    }
+
+    public void write(RestaurantCsvDto item) throws IOException {
+        rowGroup.add(item);
+        if (rowGroup.size() >= rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    /** 지금까지 기록한 행 수 */
+    public long rowCount() {
+        return rowCount + rowGroup.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (out) {
+            flushRowGroup();
+            long footerOffset = position;
+
+            ByteArrayOutputStream footer = new ByteArrayOutputStream();
+            SnapshotFormat.writeString(footer, fingerprint);
+            DataOutputStream data = new DataOutputStream(footer);
+            data.writeLong(rowCount);
+            data.writeInt(index.size());
+            for (SnapshotFormat.RowGroupEntry entry : index) {
+                data.writeLong(entry.offset());
+                data.writeInt(entry.length());
+                data.writeInt(entry.rows());
+                data.writeInt(entry.crc());
+            }
+            data.writeLong(footerOffset);
+            data.writeInt(SnapshotFormat.MAGIC);
+            writeBlock(footer);
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(header);
+        data.writeInt(SnapshotFormat.MAGIC);
+        data.writeInt(SnapshotFormat.VERSION);
+        SnapshotFormat.writeVarLong(header, SnapshotFormat.COLUMN_NAMES.size());
+        for (String name : SnapshotFormat.COLUMN_NAMES) {
+            SnapshotFormat.writeString(header, name);
+        }
+        writeBlock(header);
+    }
+
+    private void flushRowGroup() throws IOException {
+        if (rowGroup.isEmpty()) return;
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream(rowGroup.size() * 256);
+        for (RestaurantCsvDto item : rowGroup) {
+            Integer recordNumber = item.getRecordNumber();
+            SnapshotFormat.writeVarLong(block, recordNumber == null ? 0 : zigZag(recordNumber) + 1);
+        }
+        for (int column : SnapshotFormat.STRING_COLUMNS) {
+            writeStringColumn(block, column);
+        }
+
+        CRC32C crc = new CRC32C();
+        byte[] bytes = block.toByteArray();
+        crc.update(bytes, 0, bytes.length);
+        index.add(new SnapshotFormat.RowGroupEntry(position, bytes.length, rowGroup.size(), (int) crc.getValue()));
+
+        writeBlock(block);
+        rowCount += rowGroup.size();
+        rowGroup.clear();
+    }
+
+    private void writeStringColumn(ByteArrayOutputStream block, int column) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int limit = rowGroup.size() / 2;
+        for (RestaurantCsvDto item : rowGroup) {
+            String value = (String) SnapshotFormat.BINDER.get(item, column);
+            if (value != null && dictionary.putIfAbsent(value, dictionary.size()) == null && dictionary.size() > limit) {
+                break;
+            }
+        }
+
+        if (dictionary.size() > limit) {
+            block.write(SnapshotFormat.ENCODING_PLAIN);
+            for (RestaurantCsvDto item : rowGroup) {
+                SnapshotFormat.writeString(block, (String) SnapshotFormat.BINDER.get(item, column));
+            }
+            return;
+        }
+
+        block.write(SnapshotFormat.ENCODING_DICT);
+        String[] values = new String[dictionary.size()];
+        dictionary.forEach((value, code) -> values[code] = value);
+        SnapshotFormat.writeVarLong(block, values.length);
+        for (String value : values) {
+            SnapshotFormat.writeString(block, value);
+        }
+        for (RestaurantCsvDto item : rowGroup) {
+            String value = (String) SnapshotFormat.BINDER.get(item, column);
+            SnapshotFormat.writeVarLong(block, value == null ? 0 : dictionary.get(value) + 1L);
+        }
+    }
+
+    private void writeBlock(ByteArrayOutputStream block) throws IOException {
+        block.writeTo(out);
+        position += block.size();
+    }
+
+    private static long zigZag(int value) {
+        return Integer.toUnsignedLong((value << 1) ^ (value >> 31));
+    }
+}
@@ -1,22 +1,37 @@
 package com.assignment.restaurantbatch.util;
 
+import com.assignment.restaurantbatch.schema.DatasetSchema;
 import org.springframework.stereotype.Component;
 
 import java.io.*;
 import java.nio.charset.Charset;
 import java.nio.file.*;
 import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 /**
  * 입력 CSV 파일을 지정된 라인 수 단위로 분할하는 유틸리티 클래스입니다.
  * <p>
  * - 헤더는 모든 분할 파일에 포함됩니다.<br>
- * - 기존 파일이 존재할 경우 삭제 후 새로 생성합니다.
+ * - 기존 파일이 존재할 경우 삭제 후 새로 생성합니다.<br>
+ * - 여러 입력 파일은 같은 디렉토리에 입력별 이름으로 분할합니다.<br>
+ * - 지역 파티션 모드에서는 개방자치단체코드별로 파일을 나누어, 파티션 하나가 테이블 파티션 하나에만 쓰게 합니다.
  */
 @Component
 public class CsvSplitter {
 
+    /** 개방자치단체코드 컬럼 위치 (schema/restaurant.yml 순서) */
+    static final int REGION_CODE_INDEX = DatasetSchema.restaurant().indexOf("regionCode");
+
+    /** 여러 파일 적재 시 분할 파일 이름 (restaurant-part-&lt;순번&gt;_&lt;파일명&gt;-&lt;번호&gt;.csv) */
+    private static final Pattern SOURCE_PART_FILE = Pattern.compile("restaurant-part-(\\d{3}_.*)-\\d{3,}\\.csv");
+
+    /** 개방자치단체코드가 비어 있는 행의 지역 파일 접미사 */
+    private static final String NO_REGION = "none";
+
     /**
      * 주어진 파일 경로의 CSV 파일을 지정된 라인 수 단위로 분할하여 저장합니다.
      *
@@ -25,22 +40,83 @@ public class CsvSplitter {
      * @param linesPerFile  파일당 라인 수
      */
     public void split(Path inputPath, String outputDir, int linesPerFile) {
-        try (BufferedReader reader = Files.newBufferedReader(inputPath, Charset.forName("MS949"))) {
+        split(inputPath, outputDir, linesPerFile, line -> true);
+    }
+
+    /**
+     * 조건에 맞는 라인만 지정된 라인 수 단위로 분할하여 저장합니다.
+     *
+     * @param filter 헤더를 제외한 원본 라인에 대한 포함 조건
+     * @return 분할 파일에 기록한 라인 수 (헤더 제외)
+     */
+    public long split(Path inputPath, String outputDir, int linesPerFile, Predicate<String> filter) {
+        try {
+            return splitInto(inputPath, prepareOutputDir(outputDir), linesPerFile, filter, "");
+        } catch (IOException e) {
+            throw new RuntimeException("CSV 분할 실패: " + inputPath, e);
+        }
+    }
 
-            Path outDir = Paths.get(outputDir);
-            Files.createDirectories(outDir);
-
-            // 기존 파일 삭제
-            try (Stream<Path> paths = Files.walk(outDir)) {
-                paths.filter(Files::isRegularFile)
-                        .forEach(path -> {
-                            try {
-                                Files.delete(path);
-                            } catch (IOException e) {
-                                throw new UncheckedIOException("파티션 파일 삭제 실패: " + path, e);
-                            }
-                        });
+    /**
+     * 여러 입력 파일을 같은 디렉토리에 분할합니다. 분할 파일 이름에 입력 순번과 파일명을 넣어
+     * (restaurant-part-&lt;순번&gt;_&lt;파일명&gt;-&lt;번호&gt;.csv) 어느 입력에서 나온 파일인지 알 수 있게 합니다.
+     *
+     * @return 분할 파일에 기록한 라인 수 (헤더 제외)
+     */
+    public long splitAll(List<Path> inputPaths, String outputDir, int linesPerFile) {
+        Path outDir;
+        try {
+            outDir = prepareOutputDir(outputDir);
+        } catch (IOException e) {
+            throw new RuntimeException("분할 디렉토리 준비 실패: " + outputDir, e);
+        }
+        long written = 0;
+        for (int i = 0; i < inputPaths.size(); i++) {
+            Path inputPath = inputPaths.get(i);
+            try {
+                written += splitInto(inputPath, outDir, linesPerFile, line -> true, sourcePrefix(i, inputPath));
+            } catch (IOException e) {
+                throw new RuntimeException("CSV 분할 실패: " + inputPath, e);
             }
+        }
+        return written;
+    }
+
+    /**
+     * 파티션 디렉토리의 분할 파일(restaurant-part*.csv)인지 확인합니다.
+     */
+    public static boolean isPartitionFile(String fileName) {
+        return fileName.startsWith("restaurant-part") && fileName.endsWith(".csv");
+    }
+
+    /**
+     * 파티션 디렉토리의 분할 파일을 이름 순서로 반환합니다.
+     */
+    public static List<Path> partitionFiles(Path partitionDir) throws IOException {
+        try (Stream<Path> files = Files.list(partitionDir)) {
+            return files.filter(path -> isPartitionFile(path.getFileName().toString()))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * 분할 파일 이름에서 입력 파일 구분자(&lt;순번&gt;_&lt;파일명&gt;)를 꺼냅니다. 여러 파일 적재로 만든 파일이 아니면 null입니다.
+     */
+    public static String sourceOf(String partFileName) {
+        Matcher matcher = SOURCE_PART_FILE.matcher(partFileName);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+
+    static String sourcePrefix(int index, Path inputPath) {
+        String name = inputPath.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String stem = dot > 0 ? name.substring(0, dot) : name;
+        return String.format("%03d_%s-", index, stem.replaceAll("[^\\p{L}\\p{N}_]", "_"));
+    }
+
+    private long splitInto(Path inputPath, Path outDir, int linesPerFile, Predicate<String> filter, String prefix) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(inputPath, Charset.forName("MS949"))) {
 
             // 헤더 + 내용 읽기
             String header = reader.readLine();
@@ -48,28 +124,140 @@ public class CsvSplitter {
             String line;
             int fileIndex = 0;
             int count = 0;
+            long written = 0;
 
             while ((line = reader.readLine()) != null) {
+                if (!filter.test(line)) continue;
                 buffer.add(line);
                 count++;
+                written++;
                 if (count == linesPerFile) {
-                    writeFile(buffer, header, outDir, fileIndex++);
+                    writeFile(buffer, header, outDir, prefix + String.format("%03d", fileIndex++));
                     buffer.clear();
                     count = 0;
                 }
             }
 
             if (!buffer.isEmpty()) {
-                writeFile(buffer, header, outDir, fileIndex);
+                writeFile(buffer, header, outDir, prefix + String.format("%03d", fileIndex));
             }
+            return written;
+        }
+    }
+
+    /**
+     * CSV 파일을 개방자치단체코드별 파일(restaurant-part-&lt;코드&gt;.csv)로 분할합니다.
+     * 코드가 비어 있는 행은 restaurant-part-none.csv에 모읍니다.
+     *
+     * @return 지역 코드별 라인 수 (코드 오름차순, 빈 코드는 빈 문자열 키)
+     */
+    public SortedMap<String, Long> splitByRegion(Path inputPath, String outputDir) {
+        SortedMap<String, Long> counts = new TreeMap<>();
+        Map<String, BufferedWriter> writers = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(inputPath, Charset.forName("MS949"))) {
+
+            Path outDir = prepareOutputDir(outputDir);
+            String header = reader.readLine();
+            String line;
 
+            while ((line = reader.readLine()) != null) {
+                String regionCode = regionCodeOf(line);
+                BufferedWriter writer = writers.get(regionCode);
+                if (writer == null) {
+                    writer = Files.newBufferedWriter(outDir.resolve(regionFileName(regionCode)), Charset.forName("MS949"));
+                    writer.write(header);
+                    writer.newLine();
+                    writers.put(regionCode, writer);
+                }
+                writer.write(line);
+                writer.newLine();
+                counts.merge(regionCode, 1L, Long::sum);
+            }
         } catch (IOException e) {
-            throw new RuntimeException("CSV 분할 실패: " + inputPath, e);
+            throw new RuntimeException("CSV 지역 분할 실패: " + inputPath, e);
+        } finally {
+            closeAll(writers.values());
+        }
+        return counts;
+    }
+
+    /**
+     * 원본 CSV 라인에서 개방자치단체코드를 꺼냅니다. 큰따옴표로 감싼 필드 안의 쉼표는 구분자로 보지 않습니다.
+     *
+     * @return 따옴표를 제거하고 공백을 정리한 코드 (없으면 빈 문자열)
+     */
+    public static String regionCodeOf(String line) {
+        int column = 0;
+        int start = 0;
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                if (column == REGION_CODE_INDEX) {
+                    return unquote(line.substring(start, i));
+                }
+                column++;
+                start = i + 1;
+            }
+        }
+        return column == REGION_CODE_INDEX ? unquote(line.substring(start)) : "";
+    }
+
+    /**
+     * 지역 코드별 분할 파일 이름. 파일명에 쓸 수 없는 문자는 밑줄로 바꿉니다.
+     */
+    static String regionFileName(String regionCode) {
+        String suffix = regionCode.isEmpty() ? NO_REGION : regionCode.replaceAll("[^A-Za-z0-9_-]", "_");
+        return "restaurant-part-" + suffix + ".csv";
+    }
+
+    private static String unquote(String field) {
+        String value = field.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        return value.trim();
+    }
+
+    /**
+     * 출력 디렉토리를 만들고 기존 파일을 삭제합니다.
+     */
+    private Path prepareOutputDir(String outputDir) throws IOException {
+        Path outDir = Paths.get(outputDir);
+        Files.createDirectories(outDir);
+
+        // 기존 파일 삭제
+        try (Stream<Path> paths = Files.walk(outDir)) {
+            paths.filter(Files::isRegularFile)
+                    .forEach(path -> {
+                        try {
+                            Files.delete(path);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException("파티션 파일 삭제 실패: " + path, e);
+                        }
+                    });
+        }
+        return outDir;
+    }
+
+    private void closeAll(Collection<BufferedWriter> writers) {
+        IOException failure = null;
+        for (BufferedWriter writer : writers) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("지역 분할 파일 닫기 실패", failure);
         }
     }
 
-    private void writeFile(List<String> lines, String header, Path dir, int index) throws IOException {
-        Path file = dir.resolve(String.format("restaurant-part-%03d.csv", index));
+    private void writeFile(List<String> lines, String header, Path dir, String suffix) throws IOException {
+        Path file = dir.resolve("restaurant-part-" + suffix + ".csv");
         try (BufferedWriter writer = Files.newBufferedWriter(file, Charset.forName("MS949"))) {
             writer.write(header);
             writer.newLine();
@@ -80,4 +268,3 @@ public class CsvSplitter {
         }
     }
 }
-
@@ -0,0 +1,181 @@
+package com.assignment.restaurantbatch.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * 여러 입력 CSV(시도별 추출본, 보정 파일 등)를 한 번에 적재할 때 입력 목록을 만들고 파일별 크기를 조사하는 유틸리티입니다.
+ * <p>
+ * - 입력 지정: 쉼표로 구분한 경로 또는 glob 패턴({@code data/extracts/*.csv}, {@code data/**}{@code /*.csv})<br>
+ * - 매니페스트: 한 줄에 경로(또는 glob) 하나, 빈 줄과 {@code #} 주석은 무시, 상대 경로는 매니페스트 파일 위치 기준<br>
+ * - 조사(라인 수, 바이트 수, 헤더)는 파일마다 별도 스레드에서 동시에 수행합니다.
+ */
+public final class InputFiles {
+
+    private static final String GLOB_CHARS = "*?[{";
+
+    private InputFiles() {
+    }
+
+    /**
+     * 입력 파일 하나의 조사 결과
+     *
+     * @param lines 헤더 포함 라인 수
+     */
+    public record Profile(Path path, long lines, long bytes, String header) {
+
+        /** 헤더를 제외한 행 수 */
+        public long rows() {
+            return Math.max(lines - 1, 0);
+        }
+    }
+
+    /**
+     * 쉼표로 구분한 경로/glob 목록을 실제 파일 목록으로 바꿉니다. 결과는 항목 순서대로, 같은 glob 안에서는 경로순입니다.
+     *
+     * @throws IllegalArgumentException 어떤 항목도 파일과 일치하지 않는 경우
+     */
+    public static List<Path> resolve(String spec) {
+        return resolve(List.of(spec.split(",")), Paths.get(""));
+    }
+
+    /**
+     * 매니페스트 파일에 나열된 입력 파일 목록을 반환합니다.
+     */
+    public static List<Path> readManifest(Path manifest) {
+        try (Stream<String> lines = Files.lines(manifest)) {
+            List<String> entries = lines.map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .toList();
+            Path baseDir = manifest.toAbsolutePath().getParent();
+            return resolve(entries, baseDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("매니페스트 읽기 실패: " + manifest, e);
+        }
+    }
+
+    private static List<Path> resolve(List<String> entries, Path baseDir) {
+        Set<Path> files = new LinkedHashSet<>();
+        for (String raw : entries) {
+            String entry = raw.trim();
+            if (entry.isEmpty()) continue;
+            if (entry.chars().noneMatch(c -> GLOB_CHARS.indexOf(c) >= 0)) {
+                Path file = baseDir.resolve(entry).normalize();
+                if (!Files.isRegularFile(file)) {
+                    throw new IllegalArgumentException("입력 파일이 없습니다: " + file);
+                }
+                files.add(file);
+            } else {
+                files.addAll(glob(baseDir, entry));
+            }
+        }
+        if (files.isEmpty()) {
+            throw new IllegalArgumentException("입력 파일 목록이 비어 있습니다: " + entries);
+        }
+        return List.copyOf(files);
+    }
+
+    /**
+     * glob 패턴과 일치하는 파일을 경로순으로 반환합니다. 패턴에서 glob 문자가 처음 나오기 전까지의 디렉토리부터 탐색합니다.
+     */
+    static List<Path> glob(Path baseDir, String pattern) {
+        String normalized = pattern.replace('\\', '/');
+        int firstGlob = indexOfGlob(normalized);
+        int lastSlash = normalized.lastIndexOf('/', firstGlob);
+        Path root = baseDir.resolve(lastSlash < 0 ? "" : normalized.substring(0, lastSlash)).normalize();
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + normalized.substring(lastSlash + 1));
+        if (!Files.isDirectory(root)) {
+            throw new IllegalArgumentException("입력 디렉토리가 없습니다: " + root);
+        }
+
+        try (Stream<Path> paths = Files.walk(root)) {
+            List<Path> matched = paths.filter(Files::isRegularFile)
+                    .filter(path -> matcher.matches(root.relativize(path)))
+                    .sorted()
+                    .toList();
+            if (matched.isEmpty()) {
+                throw new IllegalArgumentException("패턴과 일치하는 입력 파일이 없습니다: " + pattern);
+            }
+            return matched;
+        } catch (IOException e) {
+            throw new UncheckedIOException("입력 파일 탐색 실패: " + root, e);
+        }
+    }
+
+    private static int indexOfGlob(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (GLOB_CHARS.indexOf(pattern.charAt(i)) >= 0) return i;
+        }
+        return pattern.length();
+    }
+
+    /**
+     * 입력 파일마다 라인 수, 크기, 헤더를 동시에 조사합니다. 결과는 입력 순서와 같습니다.
+     *
+     * @param parallelism 동시에 조사할 최대 파일 수
+     * @throws IllegalArgumentException 헤더가 없거나 첫 파일과 헤더가 다른 파일이 있는 경우
+     */
+    public static List<Profile> profile(List<Path> files, Charset charset, int parallelism) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(Math.min(parallelism, files.size()), 1), runnable -> {
+            Thread thread = new Thread(runnable, "input-profile");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Profile>> futures = new ArrayList<>(files.size());
+            for (Path file : files) {
+                futures.add(executor.submit(() -> profile(file, charset)));
+            }
+            List<Profile> profiles = new ArrayList<>(files.size());
+            for (Future<Profile> future : futures) {
+                try {
+                    profiles.add(future.get());
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception cause) throw cause;
+                    throw e;
+                }
+            }
+            checkHeaders(profiles);
+            return profiles;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static Profile profile(Path file, Charset charset) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, charset)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV 파일에 헤더가 존재하지 않습니다: " + file);
+            }
+            long lines = 1 + reader.lines().count();
+            return new Profile(file, lines, Files.size(file), header);
+        }
+    }
+
+    private static void checkHeaders(List<Profile> profiles) {
+        String expected = profiles.get(0).header();
+        for (Profile profile : profiles) {
+            if (!profile.header().equals(expected)) {
+                throw new IllegalArgumentException("입력 파일의 헤더가 첫 파일(" + profiles.get(0).path() + ")과 다릅니다: "
+                        + profile.path());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.assignment.restaurantbatch.util;
+
+/**
+ * int 값을 박싱 없이 저장하는 오픈 어드레싱 기반 해시 Set입니다.
+ * <p>
+ * - 수백만 건의 recordNumber 중복 검사에서 Integer/String 객체 생성을 피하기 위해 사용합니다.<br>
+ * - 스레드 안전하지 않으므로 단일 스레드(예: 실패 로그 writer 스레드)에서 쓰거나, 여러 스레드에서 쓸 때는 호출 측에서 동기화해야 합니다.
+ */
+public class IntHashSet {
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /** 0은 빈 슬롯 표시로 사용하므로 별도 플래그로 관리 */
+    private boolean containsZero;
+    private int[] keys;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public IntHashSet() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedSize 예상 원소 수 (초기 용량 계산용)
+     */
+    public IntHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max((int) (expectedSize / LOAD_FACTOR), 16) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * 값을 추가합니다.
+     *
+     * @param key 추가할 값
+     * @return 새로 추가되었으면 true, 이미 존재하면 false
+     */
+    public boolean add(int key) {
+        if (key == 0) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) return false;
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        if (++size >= resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * 값의 존재 여부를 반환합니다.
+     */
+    public boolean contains(int key) {
+        if (key == 0) return containsZero;
+
+        int index = slot(key);
+        while (keys[index] != 0) {
+            if (keys[index] == key) return true;
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int slot(int key) {
+        int h = key * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private void rehash(int newCapacity) {
+        int[] oldKeys = keys;
+        allocate(newCapacity);
+        for (int key : oldKeys) {
+            if (key == 0) continue;
+            int index = slot(key);
+            while (keys[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+        }
+    }
+}
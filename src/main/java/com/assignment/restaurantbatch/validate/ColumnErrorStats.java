@@ -0,0 +1,88 @@
+package com.assignment.restaurantbatch.validate;
+
+import com.assignment.restaurantbatch.validate.RowValidator.ColumnError;
+import com.assignment.restaurantbatch.validate.RowValidator.Reason;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증 결과를 컬럼·오류 종류별로 누적합니다. 모든 파티션 스레드가 하나의 인스턴스를 공유하므로
+ * 카운터는 {@link LongAdder}로 락 없이 더하고, 컬럼별 예시 값은 처음 기록된 것 하나만 남깁니다.
+ */
+public class ColumnErrorStats {
+
+    private final String[] fields;
+    private final LongAdder[][] counts;
+    private final AtomicReferenceArray<String> samples;
+    private final LongAdder rowsChecked = new LongAdder();
+    private final LongAdder rowsFailed = new LongAdder();
+
+    public ColumnErrorStats(RowValidator validator) {
+        int columnCount = validator.columnCount();
+        this.fields = new String[columnCount];
+        this.counts = new LongAdder[columnCount][Reason.values().length];
+        this.samples = new AtomicReferenceArray<>(columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            fields[column] = validator.field(column);
+            for (int reason = 0; reason < Reason.values().length; reason++) {
+                counts[column][reason] = new LongAdder();
+            }
+        }
+    }
+
+    /** 검사한 행 수를 더합니다. */
+    public void addChecked(int rows) {
+        rowsChecked.add(rows);
+    }
+
+    /** 오류가 있는 행 하나의 컬럼 오류를 더합니다. */
+    public void addFailure(List<ColumnError> errors) {
+        rowsFailed.increment();
+        for (ColumnError error : errors) {
+            counts[error.column()][error.reason().ordinal()].increment();
+            samples.compareAndSet(error.column(), null, error.value());
+        }
+    }
+
+    public long rowsChecked() {
+        return rowsChecked.sum();
+    }
+
+    public long rowsFailed() {
+        return rowsFailed.sum();
+    }
+
+    public long count(String field, Reason reason) {
+        for (int column = 0; column < fields.length; column++) {
+            if (fields[column].equals(field)) {
+                return counts[column][reason.ordinal()].sum();
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 컬럼: " + field);
+    }
+
+    /**
+     * 오류가 한 건 이상인 컬럼의 집계를 컬럼 순서대로 반환합니다.
+     */
+    public List<ColumnSummary> summaries() {
+        List<ColumnSummary> summaries = new ArrayList<>();
+        for (int column = 0; column < fields.length; column++) {
+            long type = counts[column][Reason.TYPE.ordinal()].sum();
+            long length = counts[column][Reason.LENGTH.ordinal()].sum();
+            if (type + length > 0) {
+                summaries.add(new ColumnSummary(fields[column], type, length, samples.get(column)));
+            }
+        }
+        return summaries;
+    }
+
+    /**
+     * 컬럼 하나의 오류 집계
+     *
+     * @param sample 처음 기록된 오류 값
+     */
+    public record ColumnSummary(String field, long typeErrors, long lengthErrors, String sample) {}
+}
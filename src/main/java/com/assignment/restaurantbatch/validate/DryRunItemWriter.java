@@ -0,0 +1,67 @@
+package com.assignment.restaurantbatch.validate;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.progress.BatchProgress;
+import com.assignment.restaurantbatch.validate.RowValidator.ColumnError;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 검증 전용(dry-run) 실행에서 {@link com.assignment.restaurantbatch.writer.MultiInsertWriter} 대신 쓰는 Writer입니다.
+ * <p>
+ * - DB에 접근하지 않고 {@link RowValidator}로 행마다 형식·길이를 검사합니다.<br>
+ * - 오류가 있는 행은 Chunk에서 제거하고 {@code rejectedRowHandler}(실패 로그)로 넘기며 컬럼별 집계에 더합니다.
+ *   제거된 행은 이후 쓰기 리스너(진행률 등)에 전달되지 않으므로 통과한 행만 처리 건수로 집계됩니다.<br>
+ * - 예외를 던지지 않으므로 Chunk 재시도/스캔이 일어나지 않습니다.
+ */
+public class DryRunItemWriter implements ItemWriter<RestaurantCsvDto> {
+
+    /** 검증 전용 실행 여부 JobParameter 이름 */
+    public static final String DRY_RUN_PARAM = "dryRun";
+
+    private final RowValidator validator;
+    private final ColumnErrorStats stats;
+    private final BatchMetrics metrics;
+    private final BatchProgress progress;
+    private final BiConsumer<RestaurantCsvDto, Throwable> rejectedRowHandler;
+
+    public DryRunItemWriter(RowValidator validator, ColumnErrorStats stats, BatchMetrics metrics, BatchProgress progress,
+                            BiConsumer<RestaurantCsvDto, Throwable> rejectedRowHandler) {
+        this.validator = validator;
+        this.stats = stats;
+        this.metrics = metrics;
+        this.progress = progress;
+        this.rejectedRowHandler = rejectedRowHandler;
+    }
+
+    @Override
+    public void write(Chunk<? extends RestaurantCsvDto> chunk) {
+        String partition = BatchMetrics.currentPartition();
+        long start = System.nanoTime();
+        int rows = chunk.size();
+
+        for (Iterator<? extends RestaurantCsvDto> it = chunk.iterator(); it.hasNext(); ) {
+            RestaurantCsvDto item = it.next();
+            List<ColumnError> errors = validator.validate(item);
+            if (errors.isEmpty()) continue;
+
+            it.remove();
+            stats.addFailure(errors);
+            IllegalArgumentException error = new IllegalArgumentException(errors.stream()
+                    .map(ColumnError::message)
+                    .collect(Collectors.joining("; ")));
+            metrics.increment(BatchMetrics.SKIPS, partition, error);
+            progress.addSkipped();
+            rejectedRowHandler.accept(item, error);
+        }
+
+        stats.addChecked(rows);
+        metrics.recordTime(BatchMetrics.CHUNK_WRITE, partition, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,83 @@
+package com.assignment.restaurantbatch.validate;
+
+import com.assignment.restaurantbatch.validate.ColumnErrorStats.ColumnSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 검증 전용 실행의 마스터 스텝 리스너입니다. 모든 파티션이 끝난 뒤 컬럼별 오류 집계를 로그와 CSV 파일로 남깁니다.
+ * <p>
+ * 오류 행 자체는 실패 로그(RestaurantSkipListener)에 기록되므로 이 보고서에는 컬럼별 건수와 예시 값만 남깁니다.
+ */
+@Slf4j
+public class DryRunReport implements StepExecutionListener {
+
+    private static final String HEADER = "column,type_errors,length_errors,sample";
+
+    private final ColumnErrorStats stats;
+    private final Path reportFile;
+
+    /**
+     * @param reportFile 컬럼별 집계 CSV 경로 (보통 실패 로그 옆)
+     */
+    public DryRunReport(ColumnErrorStats stats, Path reportFile) {
+        this.stats = stats;
+        this.reportFile = reportFile;
+    }
+
+    /**
+     * 실패 로그 경로에서 보고서 경로를 만듭니다. (failed-xxx.csv → failed-xxx-dry-run.csv)
+     */
+    public static Path reportFileFor(Path failureLog) {
+        String name = failureLog.getFileName().toString();
+        String base = name.endsWith(".csv") ? name.substring(0, name.length() - 4) : name;
+        return failureLog.resolveSibling(base + "-dry-run.csv");
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        List<ColumnSummary> summaries = stats.summaries();
+        log.info("[dry-run] 검증 완료: {}건 중 {}건 오류, 오류 컬럼 {}개",
+                stats.rowsChecked(), stats.rowsFailed(), summaries.size());
+        for (ColumnSummary summary : summaries) {
+            log.info("[dry-run]   {} - 형식 {}건, 길이 {}건 (예: {})",
+                    summary.field(), summary.typeErrors(), summary.lengthErrors(), summary.sample());
+        }
+
+        try {
+            write(summaries);
+            log.info("[dry-run] 컬럼별 오류 집계 저장: {}", reportFile);
+        } catch (IOException e) {
+            log.warn("[dry-run] 컬럼별 오류 집계 저장 실패: {}", e.getMessage());
+        }
+        return stepExecution.getExitStatus();
+    }
+
+    void write(List<ColumnSummary> summaries) throws IOException {
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(reportFile, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (ColumnSummary summary : summaries) {
+                writer.write(summary.field() + "," + summary.typeErrors() + "," + summary.lengthErrors() + ","
+                        + quote(summary.sample()));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static String quote(String value) {
+        return value == null ? "" : "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
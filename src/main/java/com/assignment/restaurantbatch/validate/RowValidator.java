@@ -0,0 +1,98 @@
+package com.assignment.restaurantbatch.validate;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.schema.ColumnSpec;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.SchemaDtoBinder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * restaurant 행이 DB에 그대로 바인딩될 수 있는지 DB 없이 검사합니다.
+ * <p>
+ * - 컬럼마다 적재 시와 같은 변환({@link com.assignment.restaurantbatch.schema.ColumnType#convert})을 수행하여 형식 오류를 찾습니다.<br>
+ * - 스키마에 {@code length}가 지정된 STRING 컬럼은 글자 수(코드 포인트 기준, VARCHAR와 동일)를 검사합니다.<br>
+ * - DTO 필드가 문자열이 아닌 컬럼(recordNumber)은 읽기 단계에서 이미 변환되므로 검사하지 않습니다.
+ */
+public class RowValidator {
+
+    /** 컬럼 오류 종류 */
+    public enum Reason { TYPE, LENGTH }
+
+    /**
+     * 컬럼 하나의 검증 오류입니다.
+     *
+     * @param column 검사 대상 컬럼 인덱스 ({@link #field(int)})
+     */
+    public record ColumnError(int column, String field, Reason reason, String value, String message) {}
+
+    private final SchemaDtoBinder<RestaurantCsvDto> binder;
+    /** 검사 대상 컬럼의 스키마 인덱스 (문자열 필드, 스키마 순서) */
+    private final int[] columns;
+    private final ColumnSpec[] specs;
+
+    /**
+     * @param schema restaurant 스키마 (schema/restaurant.yml)
+     * @throws IllegalStateException 스키마 필드에 해당하는 접근자가 {@link RestaurantCsvDto}에 없는 경우
+     */
+    public RowValidator(DatasetSchema schema) {
+        this.binder = SchemaDtoBinder.of(schema, RestaurantCsvDto.class);
+        List<ColumnSpec> schemaColumns = schema.columns();
+        this.columns = IntStream.range(0, schemaColumns.size())
+                .filter(column -> binder.valueType(column) == String.class)
+                .toArray();
+        this.specs = new ColumnSpec[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            specs[i] = schemaColumns.get(columns[i]);
+        }
+    }
+
+    /**
+     * 행을 검사합니다.
+     *
+     * @return 컬럼 오류 목록 (오류가 없으면 빈 목록)
+     */
+    public List<ColumnError> validate(RestaurantCsvDto item) {
+        List<ColumnError> errors = null;
+        for (int i = 0; i < columns.length; i++) {
+            String value = (String) binder.get(item, columns[i]);
+            if (value == null) continue;
+
+            ColumnError error = check(i, value);
+            if (error != null) {
+                if (errors == null) errors = new ArrayList<>(2);
+                errors.add(error);
+            }
+        }
+        return errors == null ? List.of() : errors;
+    }
+
+    /** 검사 대상 컬럼 수 */
+    public int columnCount() {
+        return columns.length;
+    }
+
+    /** 인덱스에 해당하는 필드명 */
+    public String field(int column) {
+        return specs[column].field();
+    }
+
+    private ColumnError check(int column, String value) {
+        ColumnSpec spec = specs[column];
+        try {
+            spec.type().convert(value);
+        } catch (RuntimeException e) {
+            return new ColumnError(column, spec.field(), Reason.TYPE, value,
+                    spec.field() + " " + spec.type() + " 변환 실패: " + e.getMessage());
+        }
+        Integer length = spec.length();
+        // 글자 수는 UTF-16 길이 이하이므로 짧은 값은 코드 포인트를 세지 않음
+        if (length != null && value.length() > length && value.codePointCount(0, value.length()) > length) {
+            return new ColumnError(column, spec.field(), Reason.LENGTH, value,
+                    spec.field() + " 길이 초과: " + value.codePointCount(0, value.length()) + " > " + length);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,170 @@
+package com.assignment.restaurantbatch.writer;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.jfr.ChunkWriteEvent;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.policy.DbCircuitBreaker;
+import com.assignment.restaurantbatch.progress.BatchProgress;
+import com.assignment.restaurantbatch.reader.ColumnarChunk;
+import com.assignment.restaurantbatch.schema.ColumnType;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.function.BiConsumer;
+
+/**
+ * {@link ColumnarChunk}의 바이트 구간에서 직접 값을 읽어 다중 INSERT로 저장하는 Writer 클래스입니다.
+ * <p>
+ * - 행마다 DTO를 만들지 않고, 컬럼 타입에 따라 바인딩 시점에만 값을 변환합니다.<br>
+ * - Step 입장에서는 버퍼 하나가 아이템 하나이므로, 파싱/제약 조건 오류로 다중 INSERT가 실패하면
+ *   행 단위 INSERT로 다시 시도하여 실패한 행만 {@code rejectedRowHandler}로 넘기고 나머지는 저장합니다.
+ *   행 단위 INSERT는 한 트랜잭션으로 묶고, 커밋한 뒤에만 실패한 행을 넘깁니다.<br>
+ * - 일시적인 DB 오류({@link DbCircuitBreaker#isDbError}, 연결 끊김·교착 롤백 포함)는 행 단위 INSERT를 롤백하고 그대로 던져 Step의 재시도 정책을 따릅니다.
+ *   재시도 후에도 실패하여 버퍼 전체가 스킵되면 저장된 행이 없으므로 모든 행을 실패로 표시하여 넘깁니다.<br>
+ * - 버퍼 하나의 쓰기 구간은 {@link ChunkWriteEvent} JFR 이벤트로 남습니다.<br>
+ * - 주소 분해 컬럼(sido, sigungu, road_name)은 쓰지 않습니다. 주소 분해를 켜면 마스터 스텝이 이 Writer를 쓰지 않도록 막습니다.
+ */
+@Slf4j
+public class ColumnarInsertWriter implements ItemWriter<ColumnarChunk>, SkipListener<ColumnarChunk, ColumnarChunk> {
+
+    /** {@link MultiInsertWriter#bindValues} 순서와 동일한 컬럼 타입 (schema/restaurant.yml) */
+    static final ColumnType[] COLUMN_TYPES = DatasetSchema.restaurant().types();
+
+    private final DataSource dataSource;
+    private final BatchMetrics metrics;
+    private final BatchProgress progress;
+    private final BiConsumer<RestaurantCsvDto, Throwable> rejectedRowHandler;
+
+    public ColumnarInsertWriter(DataSource dataSource, BatchMetrics metrics, BatchProgress progress,
+                                BiConsumer<RestaurantCsvDto, Throwable> rejectedRowHandler) {
+        this.dataSource = dataSource;
+        this.metrics = metrics;
+        this.progress = progress;
+        this.rejectedRowHandler = rejectedRowHandler;
+    }
+
+    @Override
+    public void write(Chunk<? extends ColumnarChunk> items) throws Exception {
+        for (ColumnarChunk chunk : items) {
+            if (!chunk.isEmpty()) {
+                writeChunk(chunk);
+            }
+        }
+    }
+
+    /**
+     * 버퍼 전체가 스킵된 경우 모든 행을 실패로 표시하고 실패 레코드로 넘깁니다.
+     * 행 단위 INSERT는 롤백되었고 실패 행은 커밋 후에만 넘기므로, 같은 행을 두 번 넘기지 않습니다.
+     * 스킵 콜백은 다음 read() 전에 호출되므로 버퍼 내용이 유지되어 있습니다.
+     */
+    @Override
+    public void onSkipInWrite(ColumnarChunk chunk, Throwable t) {
+        for (int row = 0; row < chunk.rows(); row++) {
+            chunk.markRejected(row);
+            progress.addSkipped();
+            rejectedRowHandler.accept(chunk.toDto(row), t);
+        }
+    }
+
+    private void writeChunk(ColumnarChunk chunk) throws Exception {
+        String partition = BatchMetrics.currentPartition();
+        int rows = chunk.rows();
+        ChunkWriteEvent event = new ChunkWriteEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String sql = insertSql(rows);
+
+        try (Connection conn = dataSource.getConnection()) {
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                int paramIndex = 1;
+                for (int row = 0; row < rows; row++) {
+                    bindRow(ps, chunk, row, paramIndex);
+                    paramIndex += MultiInsertWriter.RECORD_COLUMN_COUNT;
+                }
+                ps.executeUpdate();
+            } catch (Exception e) {
+                // 연결·교착 등 일시적인 DB 오류는 행 단위로 나눠도 실패하므로 Step의 재시도 정책에 맡김
+                if (DbCircuitBreaker.isDbError(e)) throw e;
+                log.warn("Columnar 다중 INSERT 실패 - 행 단위로 재시도 ({}행): {}", rows, e.getMessage());
+                rows = writeRowByRow(conn, chunk, partition);
+            }
+        }
+
+        metrics.recordTime(BatchMetrics.CHUNK_WRITE, partition, System.nanoTime() - start);
+        metrics.increment(BatchMetrics.ROWS_WRITTEN, partition, rows);
+        progress.addCommitted(rows);
+        // 행 단위 재시도 시 rows는 저장에 성공한 행 수, SQL 크기는 처음 실행한 다중 INSERT 기준
+        MultiInsertWriter.commitEvent(event, partition, rows, sql);
+    }
+
+    /**
+     * 한 트랜잭션 안에서 행 단위로 INSERT하여 실패한 행만 걸러냅니다.
+     * 일시적인 DB 오류로 중단되면 롤백하고 실패 표시를 지운 뒤 다시 던지므로, 재시도 시 이미 저장된 행이 중복되지 않습니다.
+     *
+     * @return 저장에 성공한 행 수
+     */
+    private int writeRowByRow(Connection conn, ColumnarChunk chunk, String partition) throws Exception {
+        int written = 0;
+        Throwable[] errors = new Throwable[chunk.rows()];
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try (PreparedStatement ps = conn.prepareStatement(insertSql(1))) {
+            for (int row = 0; row < chunk.rows(); row++) {
+                try {
+                    bindRow(ps, chunk, row, 1);
+                    ps.executeUpdate();
+                    written++;
+                } catch (Exception e) {
+                    if (DbCircuitBreaker.isDbError(e)) throw e;
+                    // 실패한 문장만 취소되고 트랜잭션은 이어짐
+                    chunk.markRejected(row);
+                    errors[row] = e;
+                }
+            }
+            conn.commit();
+        } catch (Exception e) {
+            conn.rollback();
+            chunk.clearRejected();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+
+        for (int row = 0; row < errors.length; row++) {
+            if (errors[row] == null) continue;
+            metrics.increment(BatchMetrics.SKIPS, partition, errors[row]);
+            progress.addSkipped();
+            rejectedRowHandler.accept(chunk.toDto(row), errors[row]);
+        }
+        return written;
+    }
+
+    private static String insertSql(int rows) {
+        return MultiInsertWriter.INSERT_SQL_PREFIX
+                + MultiInsertWriter.generatePlaceholders(rows, MultiInsertWriter.RECORD_COLUMN_COUNT);
+    }
+
+    /**
+     * 한 행의 각 컬럼을 타입에 맞게 바인딩합니다. 빈 값은 문자열 컬럼은 빈 문자열, 그 외는 null로 바인딩합니다.
+     */
+    void bindRow(PreparedStatement ps, ColumnarChunk chunk, int row, int index) throws Exception {
+        for (int column = 0; column < COLUMN_TYPES.length; column++, index++) {
+            ColumnType type = COLUMN_TYPES[column];
+            if (type == ColumnType.STRING) {
+                ps.setString(index, chunk.getString(row, column));
+                continue;
+            }
+            if (chunk.isBlank(row, column)) {
+                ps.setObject(index, null);
+                continue;
+            }
+            type.bind(ps, index, chunk.getString(row, column));
+        }
+    }
+}
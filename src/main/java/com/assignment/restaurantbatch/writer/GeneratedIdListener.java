@@ -0,0 +1,21 @@
+package com.assignment.restaurantbatch.writer;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+
+import java.util.List;
+
+/**
+ * {@link MultiInsertWriter}가 INSERT로 생성된 id를 행 순서대로 넘겨받는 콜백입니다.
+ * <p>
+ * DTO는 CSV 컬럼과 1:1이므로 id를 담지 않고, 필요한 쪽(검색 색인)이 이 콜백으로 행과 id를 연결합니다.
+ * 그룹 커밋 시 DB 쓰기 스레드에서 호출되며, 호출 시점은 커밋 전입니다.
+ */
+@FunctionalInterface
+public interface GeneratedIdListener {
+
+    /**
+     * @param items INSERT한 행
+     * @param ids   행 순서대로 생성된 id
+     */
+    void onInserted(List<? extends RestaurantCsvDto> items, long[] ids);
+}
@@ -0,0 +1,284 @@
+package com.assignment.restaurantbatch.writer;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 파티션의 Chunk를 모아 한 트랜잭션으로 커밋하는(그룹 커밋) Writer입니다.
+ * <p>
+ * - 파티션 스레드는 Chunk를 크기가 정해진 큐에 넣고, 별도 크기의 DB 쓰기 스레드 풀이 큐에서 꺼내 씁니다.
+ *   동시 트랜잭션 수는 gridSize가 아니라 쓰기 스레드 수로 정해지고, 큐가 가득 차면 파티션 스레드가 대기합니다(배압).<br>
+ * - 쓰기 스레드는 큐에 쌓인 Chunk를 {@code maxGroupRows} 행까지 한 번에 꺼내 다중 INSERT 몇 번과 커밋 한 번으로 저장합니다.<br>
+ * - {@link #write}는 자기 Chunk가 포함된 그룹이 커밋된 뒤에 반환합니다. 따라서 파티션의 스텝 커밋(읽기 위치 저장)은
+ *   행이 DB에 커밋된 뒤에만 일어나고, 실패하면 해당 파티션의 재시도/스킵 정책이 그대로 적용됩니다.<br>
+ * - 그룹 커밋이 실패하면 그룹을 롤백하고 Chunk마다 따로 다시 커밋하여, 실패한 Chunk의 파티션에만 예외를 전달합니다.
+ */
+@Slf4j
+public class GroupCommitWriter implements ItemWriter<RestaurantCsvDto>, AutoCloseable {
+
+    /** 그룹 커밋 횟수 지표 */
+    public static final String GROUP_COMMITS = "batch.group-commit.commits";
+    /** 그룹 커밋에 포함된 Chunk 수 지표 */
+    public static final String GROUP_CHUNKS = "batch.group-commit.chunks";
+    /** Chunk를 큐에 넣은 뒤 커밋 완료까지 대기한 시간 지표 */
+    public static final String GROUP_WAIT = "batch.group-commit.wait";
+
+    private static final long POLL_MILLIS = 100;
+
+    private final DataSource dataSource;
+    private final MultiInsertWriter inserter;
+    private final BatchMetrics metrics;
+    private final BlockingQueue<PendingChunk> queue;
+    private final int maxGroupRows;
+    private final int statementRows;
+    private final List<Thread> writerThreads;
+
+    private final LongAdder commits = new LongAdder();
+    private final LongAdder chunks = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * @param inserter      다중 INSERT 구문 생성/바인딩 (대상 테이블 포함)
+     * @param writerThreads DB 쓰기 스레드 수 (동시 트랜잭션 수)
+     * @param queueCapacity 대기할 수 있는 Chunk 수
+     * @param maxGroupRows  한 번에 커밋할 최대 행 수 (Chunk 하나가 이보다 크면 그 Chunk만 커밋)
+     * @param statementRows INSERT 구문 하나에 담을 최대 행 수
+     */
+    public GroupCommitWriter(DataSource dataSource, MultiInsertWriter inserter, BatchMetrics metrics,
+                             int writerThreads, int queueCapacity, int maxGroupRows, int statementRows) {
+        if (writerThreads < 1 || queueCapacity < 1 || maxGroupRows < 1 || statementRows < 1) {
+            throw new IllegalArgumentException("그룹 커밋 설정 값은 1 이상이어야 합니다.");
+        }
+        this.dataSource = dataSource;
+        this.inserter = inserter;
+        this.metrics = metrics;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxGroupRows = maxGroupRows;
+        this.statementRows = statementRows;
+        this.writerThreads = new ArrayList<>(writerThreads);
+        for (int i = 0; i < writerThreads; i++) {
+            Thread thread = new Thread(this::runWriter, "group-commit-" + i);
+            thread.setDaemon(true);
+            this.writerThreads.add(thread);
+            thread.start();
+        }
+    }
+
+    @Override
+    public void write(Chunk<? extends RestaurantCsvDto> chunk) throws Exception {
+        List<? extends RestaurantCsvDto> items = chunk.getItems();
+        if (items.isEmpty()) return;
+        if (closed) {
+            throw new IllegalStateException("그룹 커밋 Writer가 종료되었습니다.");
+        }
+
+        long start = System.nanoTime();
+        PendingChunk pending = new PendingChunk(items);
+        queue.put(pending);
+        try {
+            await(pending);
+        } finally {
+            metrics.recordTime(GROUP_WAIT, BatchMetrics.currentPartition(), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Chunk가 커밋(또는 실패)될 때까지 기다립니다.
+     * 대기 중 인터럽트되면 아직 쓰기 스레드가 가져가지 않은 경우에만 취소하고,
+     * 이미 쓰는 중이면 결과를 끝까지 기다려 커밋된 행과 스텝 상태가 어긋나지 않게 합니다.
+     */
+    private void await(PendingChunk pending) throws Exception {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    pending.result.get();
+                    break;
+                } catch (InterruptedException e) {
+                    if (pending.cancel()) throw e;
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof Exception cause) throw cause;
+                    throw e;
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWriter() {
+        PendingChunk carried = null;
+        while (true) {
+            // 앞 그룹에 넣지 못하고 남긴 Chunk는 이미 가져간(claim) 상태
+            PendingChunk first = carried;
+            carried = null;
+            if (first == null) {
+                try {
+                    first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (first == null) {
+                    if (closed) break;
+                    continue;
+                }
+                if (!first.claim()) continue;
+            }
+
+            // 큐에 이미 쌓인 Chunk를 최대 행 수까지 모음 (기다리지 않음)
+            List<PendingChunk> group = new ArrayList<>();
+            group.add(first);
+            int rows = first.items.size();
+            PendingChunk next;
+            while (rows < maxGroupRows && (next = queue.poll()) != null) {
+                if (!next.claim()) continue;
+                if (rows + next.items.size() > maxGroupRows) {
+                    carried = next;
+                    break;
+                }
+                group.add(next);
+                rows += next.items.size();
+            }
+            commitGroup(group, rows);
+        }
+        if (carried != null) {
+            carried.result.completeExceptionally(new IllegalStateException("그룹 커밋 Writer가 종료되었습니다."));
+        }
+    }
+
+    private void commitGroup(List<PendingChunk> group, int rows) {
+        String thread = Thread.currentThread().getName();
+        long start = System.nanoTime();
+        try {
+            commit(group, thread);
+        } catch (Exception e) {
+            if (group.size() == 1) {
+                group.get(0).result.completeExceptionally(e);
+                return;
+            }
+            log.warn("그룹 커밋 실패 - Chunk별로 다시 커밋 ({}개 Chunk, {}행): {}", group.size(), rows, e.getMessage());
+            for (PendingChunk pending : group) {
+                commitGroup(List.of(pending), pending.items.size());
+            }
+            return;
+        }
+
+        group.forEach(pending -> pending.result.complete(null));
+        commits.increment();
+        chunks.add(group.size());
+        metrics.increment(GROUP_COMMITS, thread, 1);
+        metrics.increment(GROUP_CHUNKS, thread, group.size());
+        metrics.recordTime(BatchMetrics.WRITER_EXECUTE, thread, System.nanoTime() - start);
+    }
+
+    /**
+     * 그룹의 행을 한 트랜잭션에서 {@code statementRows}행씩 다중 INSERT한 뒤 커밋합니다.
+     */
+    private void commit(List<PendingChunk> group, String thread) throws Exception {
+        List<RestaurantCsvDto> rows = new ArrayList<>();
+        for (PendingChunk pending : group) {
+            rows.addAll(pending.items);
+        }
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                for (int from = 0; from < rows.size(); from += statementRows) {
+                    // 그룹 커밋 스레드에는 Step 컨텍스트가 없으므로 JFR 이벤트도 메트릭과 같이 스레드 이름으로 구분
+                    inserter.insert(conn, rows.subList(from, Math.min(from + statementRows, rows.size())), thread);
+                }
+                conn.commit();
+            } catch (Exception e) {
+                try {
+                    conn.rollback();
+                } catch (SQLException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+                throw e;
+            } finally {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException e) {
+                    log.warn("그룹 커밋 커넥션 반납 전 autoCommit 복구 실패: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** 쓰기 스레드가 아직 가져가지 않은 Chunk 수 */
+    int queuedChunks() {
+        return queue.size();
+    }
+
+    /** 그룹 커밋 횟수 */
+    public long commitCount() {
+        return commits.sum();
+    }
+
+    /** 커밋된 Chunk 수 */
+    public long chunkCount() {
+        return chunks.sum();
+    }
+
+    /**
+     * 큐에 남은 Chunk를 모두 쓴 뒤 쓰기 스레드를 종료합니다. (Job 종료 시 호출)
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        for (Thread thread : writerThreads) {
+            thread.join();
+        }
+        PendingChunk left;
+        while ((left = queue.poll()) != null) {
+            left.result.completeExceptionally(new IllegalStateException("그룹 커밋 Writer가 종료되었습니다."));
+        }
+        if (commits.sum() > 0) {
+            log.info("그룹 커밋 종료: 커밋 {}회, Chunk {}개 (커밋당 평균 {}개)",
+                    commits.sum(), chunks.sum(), String.format("%.1f", (double) chunks.sum() / commits.sum()));
+        }
+    }
+
+    /**
+     * 큐에서 대기 중인 Chunk 하나. 쓰기 스레드가 가져가면(claim) 더 이상 취소할 수 없습니다.
+     */
+    private static final class PendingChunk {
+
+        private static final int QUEUED = 0;
+        private static final int CLAIMED = 1;
+        private static final int CANCELLED = 2;
+
+        private final List<RestaurantCsvDto> items;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+        private PendingChunk(List<? extends RestaurantCsvDto> items) {
+            this.items = List.copyOf(items);
+        }
+
+        boolean claim() {
+            return state.compareAndSet(QUEUED, CLAIMED);
+        }
+
+        boolean cancel() {
+            return state.compareAndSet(QUEUED, CANCELLED);
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.assignment.restaurantbatch.writer;
 
+import com.assignment.restaurantbatch.address.AddressDecomposer;
+import com.assignment.restaurantbatch.address.RoadAddress;
 import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
-import com.assignment.restaurantbatch.util.ParseUtil;
-import lombok.RequiredArgsConstructor;
+import com.assignment.restaurantbatch.jfr.ChunkWriteEvent;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.SchemaDtoBinder;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 
 /**
@@ -16,29 +23,89 @@ import java.util.List;
  * <p>
  * PreparedStatement를 사용하여 데이터 타입에 맞게 바인딩하며,
  * 성능 향상을 위해 다중 VALUES SQL 구문을 동적으로 생성합니다.
+ * 컬럼 순서와 타입은 schema/restaurant.yml에서 만든 {@link SchemaDtoBinder}를 따릅니다.
+ * <p>
+ * SQL 생성, 커넥션 획득, 바인딩, 실행 구간의 소요 시간은 Chunk 단위로 {@link BatchMetrics}에 기록되며,
+ * 전체 구간은 행 수와 SQL 크기를 포함한 JFR 이벤트({@link ChunkWriteEvent})로도 남습니다.
+ * 주어진 커넥션에 쓰는 {@link #insert(Connection, List)}, {@link #insertReturningIds}(그룹 커밋, 샤드 적재)도 INSERT 한 번마다 같은 이벤트를 남깁니다.
+ * <p>
+ * 지역 재적재 시에는 같은 컬럼 구성의 스테이징 테이블({@link #TARGET_TABLE_PARAM})에 씁니다.
+ * <p>
+ * 주소 분해기({@link AddressDecomposer})가 주어지면 도로명주소를 분해한 시도/시군구/도로명을 CSV 컬럼 뒤에 함께 씁니다.
+ * <p>
+ * id 콜백({@link GeneratedIdListener})이 주어지면 INSERT로 생성된 id를 행 순서대로 넘깁니다. (검색 색인이 행을 id로 가리키기 위함)
  */
-@RequiredArgsConstructor
 public class MultiInsertWriter implements ItemWriter<RestaurantCsvDto> {
 
+    /** 적재 대상 테이블 JobParameter 이름 (미지정 시 schema/restaurant.yml의 table) */
+    public static final String TARGET_TABLE_PARAM = "targetTable";
+
+    /** INSERT 구문 prefix (VALUES 제외, schema/restaurant.yml 컬럼 순서) */
+    static final String INSERT_SQL_PREFIX = DatasetSchema.restaurant().insertSqlPrefix();
+
+    /** 주소 분해 컬럼 (CSV 컬럼 뒤에 추가) */
+    public static final String ADDRESS_COLUMNS = "sido, sigungu, road_name";
+
+    static final int ADDRESS_COLUMN_COUNT = 3;
+
+    private static final SchemaDtoBinder<RestaurantCsvDto> BINDER = SchemaDtoBinder.restaurant();
+
     private final DataSource dataSource;
+    private final BatchMetrics metrics;
+    private final String table;
+    private final String insertSqlPrefix;
+    private final AddressDecomposer addressDecomposer;
+    private final int columnCount;
+    private final GeneratedIdListener idListener;
 
-    /** INSERT 구문 prefix (VALUES 제외) */
-    private static final String INSERT_SQL_PREFIX = """
-        INSERT INTO restaurant (
-            record_number, service_name, service_id, region_code, management_number,
-            license_date, cancel_date, business_status_code, business_status_name,
-            detail_status_code, detail_status_name, close_date, suspend_start_date,
-            suspend_end_date, reopen_date, phone, area_size, postal_code, full_address,
-            road_address, road_postal_code, store_name, last_modified, data_update_type,
-            data_update_date, business_type, coord_x, coord_y, sanitation_type,
-            male_employee, female_employee, around_info, grade, water_type,
-            total_employees, hq_employees, office_employees, sales_employees,
-            production_employees, building_ownership, guarantee_amount, monthly_rent,
-            multi_use_yn, total_scale, traditional_id, main_menu, homepage
-        ) VALUES 
-    """;
-
-    private static final int RECORD_COLUMN_COUNT = RestaurantCsvDto.class.getDeclaredFields().length;
+    public MultiInsertWriter(DataSource dataSource) {
+        this(dataSource, BatchMetrics.noop());
+    }
+
+    public MultiInsertWriter(DataSource dataSource, BatchMetrics metrics) {
+        this(dataSource, metrics, null, null);
+    }
+
+    /**
+     * @param targetTable restaurant와 컬럼 구성이 같은 적재 대상 테이블
+     */
+    public MultiInsertWriter(DataSource dataSource, BatchMetrics metrics, String targetTable) {
+        this(dataSource, metrics, targetTable, null);
+    }
+
+    /**
+     * @param targetTable 적재 대상 테이블 (null이면 restaurant)
+     * @param addressDecomposer 주소 분해기 (null이면 주소 분해 컬럼을 쓰지 않음)
+     */
+    public MultiInsertWriter(DataSource dataSource, BatchMetrics metrics, String targetTable, AddressDecomposer addressDecomposer) {
+        this(dataSource, metrics, targetTable, addressDecomposer, null);
+    }
+
+    /**
+     * @param targetTable 적재 대상 테이블 (null이면 restaurant)
+     * @param addressDecomposer 주소 분해기 (null이면 주소 분해 컬럼을 쓰지 않음)
+     * @param idListener INSERT로 생성된 id를 받을 콜백 (null이면 id를 받아 오지 않음)
+     */
+    public MultiInsertWriter(DataSource dataSource, BatchMetrics metrics, String targetTable, AddressDecomposer addressDecomposer,
+                             GeneratedIdListener idListener) {
+        this.dataSource = dataSource;
+        this.metrics = metrics;
+        this.addressDecomposer = addressDecomposer;
+        this.table = targetTable == null ? DatasetSchema.restaurant().table() : targetTable;
+        this.insertSqlPrefix = insertSqlPrefix(targetTable, addressDecomposer != null);
+        this.columnCount = RECORD_COLUMN_COUNT + (addressDecomposer != null ? ADDRESS_COLUMN_COUNT : 0);
+        this.idListener = idListener;
+    }
+
+    static final int RECORD_COLUMN_COUNT = DatasetSchema.restaurant().columnCount();
+
+    private static String insertSqlPrefix(String targetTable, boolean addressColumns) {
+        DatasetSchema schema = DatasetSchema.restaurant();
+        String prefix = targetTable == null ? INSERT_SQL_PREFIX : schema.insertSqlPrefix(targetTable);
+        if (!addressColumns) return prefix;
+        String table = targetTable == null ? schema.table() : targetTable;
+        return "INSERT INTO " + table + " (" + schema.columnList() + ", " + ADDRESS_COLUMNS + ") VALUES ";
+    }
 
     /**
      * 한 Chunk의 아이템들을 다중 INSERT SQL로 DB에 저장합니다.
@@ -48,79 +115,152 @@ public class MultiInsertWriter implements ItemWriter<RestaurantCsvDto> {
         List<? extends RestaurantCsvDto> items = chunk.getItems();
         if (items.isEmpty()) return;
 
-        String sql = INSERT_SQL_PREFIX + generatePlaceholders(items.size(), RECORD_COLUMN_COUNT);
+        String partition = BatchMetrics.currentPartition();
+        ChunkWriteEvent event = new ChunkWriteEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String sql = insertSql(items.size());
+        long sqlBuilt = System.nanoTime();
+        metrics.recordTime(BatchMetrics.WRITER_SQL_BUILD, partition, sqlBuilt - start);
 
-        try (Connection conn = dataSource.getConnection();
-             PreparedStatement ps = conn.prepareStatement(sql)) {
+        try (Connection conn = dataSource.getConnection()) {
+            long acquired = System.nanoTime();
+            metrics.recordTime(BatchMetrics.WRITER_CONNECTION_ACQUIRE, partition, acquired - sqlBuilt);
 
-            int paramIndex = 1;
-            for (RestaurantCsvDto item : items) {
-                bindValues(ps, item, paramIndex);
-                paramIndex += RECORD_COLUMN_COUNT;
+            try (PreparedStatement ps = prepare(conn, sql)) {
+                bindAll(ps, items);
+                long bound = System.nanoTime();
+                metrics.recordTime(BatchMetrics.WRITER_BIND, partition, bound - acquired);
+
+                ps.executeUpdate();
+                metrics.recordTime(BatchMetrics.WRITER_EXECUTE, partition, System.nanoTime() - bound);
+                if (idListener != null) {
+                    idListener.onInserted(items, generatedIds(ps, items.size()));
+                }
             }
+        }
+
+        commitEvent(event, partition, items.size(), sql);
+    }
+
+    /**
+     * 주어진 커넥션에서 아이템들을 다중 INSERT 한 번으로 실행합니다.
+     * 커넥션의 트랜잭션(커밋/롤백)과 반납은 호출 측이 담당합니다. (샤드 적재 시 여러 DB에 걸친 커밋 조율용)
+     */
+    public void insert(Connection conn, List<? extends RestaurantCsvDto> items) throws Exception {
+        insert(conn, items, BatchMetrics.currentPartition());
+    }
 
+    /**
+     * {@link #insert(Connection, List)}와 같지만 JFR 이벤트의 파티션 이름을 지정합니다.
+     * 파티션 스레드 밖에서 실행하는 경우(그룹 커밋 스레드)에 씁니다.
+     */
+    public void insert(Connection conn, List<? extends RestaurantCsvDto> items, String partition) throws Exception {
+        if (items.isEmpty()) return;
+        ChunkWriteEvent event = new ChunkWriteEvent();
+        event.begin();
+        String sql = insertSql(items.size());
+        try (PreparedStatement ps = prepare(conn, sql)) {
+            bindAll(ps, items);
             ps.executeUpdate();
+            if (idListener != null) {
+                idListener.onInserted(items, generatedIds(ps, items.size()));
+            }
+        }
+        commitEvent(event, partition, items.size(), sql);
+    }
+
+    /**
+     * {@link #insert(Connection, List)}와 같지만 INSERT로 생성된 id를 행 순서대로 반환합니다.
+     * 커밋 후 되돌려야 하는 경우(샤드 커밋 실패) 이번 INSERT의 행만 정확히 지우는 데 사용합니다.
+     */
+    public long[] insertReturningIds(Connection conn, List<? extends RestaurantCsvDto> items) throws Exception {
+        if (items.isEmpty()) return new long[0];
+        ChunkWriteEvent event = new ChunkWriteEvent();
+        event.begin();
+        String sql = insertSql(items.size());
+        long[] ids;
+        try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            bindAll(ps, items);
+            ps.executeUpdate();
+            ids = generatedIds(ps, items.size());
+        }
+        commitEvent(event, BatchMetrics.currentPartition(), items.size(), sql);
+        return ids;
+    }
+
+    /**
+     * 다중 INSERT 한 번의 JFR 이벤트를 남깁니다. 기록 중인 JFR 세션이 없으면 값을 채우지 않습니다.
+     */
+    static void commitEvent(ChunkWriteEvent event, String partition, int rows, String sql) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.partition = partition;
+            event.rows = rows;
+            event.sqlBytes = sql.length();
+            event.commit();
+        }
+    }
+
+    private PreparedStatement prepare(Connection conn, String sql) throws SQLException {
+        return idListener != null ? conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS) : conn.prepareStatement(sql);
+    }
+
+    private static long[] generatedIds(PreparedStatement ps, int rows) throws SQLException {
+        long[] ids = new long[rows];
+        int count = 0;
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next() && count < ids.length) {
+                ids[count++] = keys.getLong(1);
+            }
+        }
+        if (count != ids.length) {
+            throw new SQLException("생성된 id 수(" + count + ")가 INSERT 행 수(" + ids.length + ")와 다릅니다.");
+        }
+        return ids;
+    }
+
+    /** 적재 대상 테이블 */
+    public String table() {
+        return table;
+    }
+
+    /**
+     * 행 수만큼의 VALUES 구문을 붙인 다중 INSERT SQL을 만듭니다.
+     */
+    private String insertSql(int rows) {
+        return insertSqlPrefix + generatePlaceholders(rows, columnCount);
+    }
+
+    /**
+     * {@link #insertSql(int)}의 파라미터를 아이템 순서대로 모두 바인딩합니다.
+     */
+    private void bindAll(PreparedStatement ps, List<? extends RestaurantCsvDto> items) throws Exception {
+        int paramIndex = 1;
+        for (RestaurantCsvDto item : items) {
+            bindValues(ps, item, paramIndex);
+            paramIndex += columnCount;
         }
     }
 
     /**
      * (?,?,?,...) 형태의 VALUES 구문을 레코드 수만큼 생성합니다.
      */
-    private String generatePlaceholders(int rows, int cols) {
+    static String generatePlaceholders(int rows, int cols) {
         String singleRow = "(" + "?,".repeat(cols - 1) + "?" + ")";
         return String.join(",", java.util.Collections.nCopies(rows, singleRow));
     }
 
     /**
-     * 한 레코드의 각 필드를 PreparedStatement에 순서대로 바인딩합니다.
+     * 한 레코드의 각 필드를 schema/restaurant.yml 순서와 타입으로 바인딩하고, 주소 분해 컬럼은 그 뒤에 바인딩합니다.
      */
-    private void bindValues(PreparedStatement ps, RestaurantCsvDto item, int index) throws Exception {
-        ps.setObject(index++, item.getRecordNumber());
-        ps.setString(index++, item.getServiceName());
-        ps.setString(index++, item.getServiceId());
-        ps.setString(index++, item.getRegionCode());
-        ps.setString(index++, item.getManagementNumber());
-        ps.setObject(index++, ParseUtil.toLocalDate(item.getLicenseDate()));
-        ps.setObject(index++, ParseUtil.toLocalDate(item.getCancelDate()));
-        ps.setString(index++, item.getBusinessStatusCode());
-        ps.setString(index++, item.getBusinessStatusName());
-        ps.setString(index++, item.getDetailStatusCode());
-        ps.setString(index++, item.getDetailStatusName());
-        ps.setObject(index++, ParseUtil.toLocalDate(item.getCloseDate()));
-        ps.setObject(index++, ParseUtil.toLocalDate(item.getSuspendStartDate()));
-        ps.setObject(index++, ParseUtil.toLocalDate(item.getSuspendEndDate()));
-        ps.setObject(index++, ParseUtil.toLocalDate(item.getReopenDate()));
-        ps.setString(index++, item.getPhone());
-        ps.setString(index++, item.getAreaSize());
-        ps.setString(index++, item.getPostalCode());
-        ps.setString(index++, item.getFullAddress());
-        ps.setString(index++, item.getRoadAddress());
-        ps.setString(index++, item.getRoadPostalCode());
-        ps.setString(index++, item.getStoreName());
-        ps.setObject(index++, ParseUtil.toLocalDateTime(item.getLastModified()));
-        ps.setString(index++, item.getDataUpdateType());
-        ps.setObject(index++, ParseUtil.toLocalDateTime(item.getDataUpdateDate()));
-        ps.setString(index++, item.getBusinessType());
-        ps.setObject(index++, ParseUtil.parseDouble(item.getCoordX()));
-        ps.setObject(index++, ParseUtil.parseDouble(item.getCoordY()));
-        ps.setString(index++, item.getSanitationType());
-        ps.setObject(index++, ParseUtil.parseInt(item.getMaleEmployee()));
-        ps.setObject(index++, ParseUtil.parseInt(item.getFemaleEmployee()));
-        ps.setString(index++, item.getAroundInfo());
-        ps.setString(index++, item.getGrade());
-        ps.setString(index++, item.getWaterType());
-        ps.setObject(index++, ParseUtil.parseInt(item.getTotalEmployees()));
-        ps.setObject(index++, ParseUtil.parseInt(item.getHqEmployees()));
-        ps.setObject(index++, ParseUtil.parseInt(item.getOfficeEmployees()));
-        ps.setObject(index++, ParseUtil.parseInt(item.getSalesEmployees()));
-        ps.setObject(index++, ParseUtil.parseInt(item.getProductionEmployees()));
-        ps.setString(index++, item.getBuildingOwnership());
-        ps.setObject(index++, ParseUtil.parseInt(item.getGuaranteeAmount()));
-        ps.setObject(index++, ParseUtil.parseInt(item.getMonthlyRent()));
-        ps.setString(index++, item.getMultiUseYn());
-        ps.setString(index++, item.getTotalScale());
-        ps.setString(index++, item.getTraditionalId());
-        ps.setString(index++, item.getMainMenu());
-        ps.setString(index++, item.getHomepage());
+    void bindValues(PreparedStatement ps, RestaurantCsvDto item, int index) throws Exception {
+        index = BINDER.bind(ps, item, index);
+        if (addressDecomposer != null) {
+            RoadAddress address = addressDecomposer.decompose(item.getRoadAddress(), item.getFullAddress());
+            ps.setString(index++, address.sido());
+            ps.setString(index++, address.sigungu());
+            ps.setString(index++, address.roadName());
+        }
     }
 }
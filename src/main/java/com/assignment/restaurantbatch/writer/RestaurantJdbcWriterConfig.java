@@ -1,5 +1,15 @@
 package com.assignment.restaurantbatch.writer;
 
+import com.assignment.restaurantbatch.address.AddressDecomposer;
+import com.assignment.restaurantbatch.listener.RestaurantSkipListener;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.progress.BatchProgress;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -16,11 +26,87 @@ public class RestaurantJdbcWriterConfig {
     /**
      * DB 연결을 기반으로 하는 MultiInsertWriter Bean 등록
      *
+     * @param targetTable 적재 대상 테이블 (JobParameter targetTable, 미지정 시 restaurant, 지역 재적재 시 스테이징 테이블)
      * @param dataSource Spring에서 관리하는 DataSource
+     * @param batchMetrics 구간별 소요 시간 기록용 지표
+     * @param addressDecomposerProvider 주소 분해기 (batch.address.enabled=true일 때만 존재, 시도/시군구/도로명 컬럼 추가)
+     * @param idListenerProvider 생성된 id를 받을 콜백 (검색 색인 사용 시 색인 병합기, 지역 재적재에서는 사용하지 않음)
      * @return MultiInsertWriter 인스턴스
      */
     @Bean
-    public MultiInsertWriter restaurantItemWriter(DataSource dataSource) {
-        return new MultiInsertWriter(dataSource);
+    @JobScope
+    public MultiInsertWriter restaurantItemWriter(
+            @Value("#{jobParameters['" + MultiInsertWriter.TARGET_TABLE_PARAM + "']}") String targetTable,
+            DataSource dataSource,
+            BatchMetrics batchMetrics,
+            ObjectProvider<AddressDecomposer> addressDecomposerProvider,
+            ObjectProvider<GeneratedIdListener> idListenerProvider
+    ) {
+        return new MultiInsertWriter(dataSource, batchMetrics, targetTable, addressDecomposerProvider.getIfAvailable(),
+                targetTable == null ? idListenerProvider.getIfAvailable() : null);
+    }
+
+    /**
+     * 그룹 커밋 Writer Bean 등록. batch.group-commit.enabled=true인 경우에만 등록되며,
+     * restaurant 데이터셋의 dto Chunk 형식에서 MultiInsertWriter 대신 사용됩니다.
+     * Job 범위로 생성되어 Job이 끝나면 남은 Chunk를 모두 쓴 뒤 쓰기 스레드를 종료합니다.
+     *
+     * @param restaurantItemWriter 다중 INSERT 구문 생성/바인딩 (JobParameter targetTable 반영)
+     * @param writerThreads DB 쓰기 스레드 수 = 동시 트랜잭션 수 (batch.group-commit.writer-threads)
+     * @param queueCapacity 쓰기 대기 Chunk 수, 넘으면 파티션 스레드가 대기 (batch.group-commit.queue-capacity)
+     * @param maxGroupRows 커밋 한 번에 모을 최대 행 수 (batch.group-commit.max-group-rows)
+     * @param statementRows INSERT 구문 하나의 최대 행 수 (batch.group-commit.statement-rows)
+     * @return GroupCommitWriter 인스턴스
+     */
+    @Bean(destroyMethod = "close")
+    @JobScope
+    @ConditionalOnProperty(prefix = "batch.group-commit", name = "enabled", havingValue = "true")
+    public GroupCommitWriter groupCommitItemWriter(
+            MultiInsertWriter restaurantItemWriter,
+            DataSource dataSource,
+            BatchMetrics batchMetrics,
+            @Value("${batch.group-commit.writer-threads:4}") int writerThreads,
+            @Value("${batch.group-commit.queue-capacity:32}") int queueCapacity,
+            @Value("${batch.group-commit.max-group-rows:10000}") int maxGroupRows,
+            @Value("${batch.group-commit.statement-rows:2000}") int statementRows
+    ) {
+        return new GroupCommitWriter(dataSource, restaurantItemWriter, batchMetrics,
+                writerThreads, queueCapacity, maxGroupRows, statementRows);
+    }
+
+    /**
+     * Columnar 모드(chunkFormat=columnar)용 Writer Bean 등록.
+     * 저장에 실패한 행은 Job 단위 실패 로그(RestaurantSkipListener)에 기록됩니다.
+     *
+     * @param restaurantSkipListener 실패 레코드 기록 리스너
+     * @return ColumnarInsertWriter 인스턴스
+     */
+    @Bean
+    @JobScope
+    public ColumnarInsertWriter columnarItemWriter(
+            DataSource dataSource,
+            BatchMetrics batchMetrics,
+            BatchProgress batchProgress,
+            RestaurantSkipListener restaurantSkipListener
+    ) {
+        return new ColumnarInsertWriter(dataSource, batchMetrics, batchProgress, restaurantSkipListener::onSkipInWrite);
+    }
+
+    /**
+     * 스키마 기반 데이터셋(JobParameter dataset)용 Writer Bean 등록.
+     *
+     * @param dataset 적재할 데이터셋 이름
+     * @param datasetSchemaRegistry 시작 시점에 읽어 둔 스키마 목록
+     * @return SchemaInsertWriter 인스턴스
+     */
+    @Bean
+    @JobScope
+    public SchemaInsertWriter schemaItemWriter(
+            @Value("#{jobParameters['" + DatasetSchemaRegistry.DATASET_PARAM + "'] ?: '" + DatasetSchema.RESTAURANT + "'}") String dataset,
+            DatasetSchemaRegistry datasetSchemaRegistry,
+            DataSource dataSource,
+            BatchMetrics batchMetrics
+    ) {
+        return new SchemaInsertWriter(dataSource, datasetSchemaRegistry.get(dataset), batchMetrics);
     }
 }
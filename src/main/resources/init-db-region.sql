@@ -0,0 +1,25 @@
+-- ========================================================
+-- restaurant 테이블 지역 파티션 전환 스크립트 (region 프로필)
+-- init-db.sql 실행 후 실행: mysql -u root -p < init-db-region.sql
+-- ========================================================
+
+USE restaurant_db;
+
+-- 1. 파티션 키는 모든 UNIQUE 키에 포함되어야 하므로 PK를 (id, region_code)로 바꾸고 region_code는 NOT NULL로 둡니다.
+--    id는 계속 AUTO_INCREMENT로 발급하며, 지역 재적재 시에도 다른 지역 id와 겹치지 않게 애플리케이션이 맞춥니다.
+UPDATE restaurant SET region_code = '' WHERE region_code IS NULL;
+
+ALTER TABLE restaurant
+    MODIFY region_code VARCHAR(10) NOT NULL DEFAULT '' COMMENT '개방자치단체코드',
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, region_code);
+
+-- 2. region_code 기준 LIST COLUMNS 파티션으로 전환합니다.
+--    - 개방자치단체코드가 빈 행은 p_none에 둡니다.
+--    - 지역별 파티션(p_<코드>)은 적재 전에 애플리케이션이 입력 CSV에 있는 지역만큼 추가합니다.
+--    - 이미 적재된 행이 있으면 해당 지역 파티션을 아래 목록에 함께 적어야 전환됩니다.
+--    - 지역 재적재는 restaurant_stage(CREATE TABLE ... LIKE 후 파티션 제거)에 적재한 뒤 EXCHANGE PARTITION으로 교체합니다.
+ALTER TABLE restaurant
+    PARTITION BY LIST COLUMNS (region_code) (
+        PARTITION p_none VALUES IN ('')
+    );
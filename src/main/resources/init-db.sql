@@ -67,5 +67,43 @@ CREATE TABLE IF NOT EXISTS restaurant (
     total_scale VARCHAR(50) COMMENT '시설총규모',
     traditional_id VARCHAR(100) COMMENT '전통업소지정번호',
     main_menu VARCHAR(255) COMMENT '전통업소주된음식',
-    homepage VARCHAR(255) COMMENT '홈페이지'
+    homepage VARCHAR(255) COMMENT '홈페이지',
+    sido VARCHAR(20) COMMENT '시도 (도로명주소 분해, batch.address.enabled)',
+    sigungu VARCHAR(40) COMMENT '시군구 (도로명주소 분해)',
+    road_name VARCHAR(80) COMMENT '도로명 (도로명주소 분해)',
+    INDEX idx_restaurant_sido_sigungu (sido, sigungu),
+    INDEX idx_restaurant_road_name (road_name)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+-- 5-1. (선택) 지역 파티션 모드(region 프로필)는 이 스크립트 실행 후 init-db-region.sql을 실행하여 LIST COLUMNS 파티션으로 전환
+
+-- 5-2. 기존 restaurant 테이블에 주소 분해 컬럼 추가 (이전 버전 스키마를 쓰는 경우)
+-- ALTER TABLE restaurant
+--     ADD COLUMN sido VARCHAR(20) COMMENT '시도 (도로명주소 분해, batch.address.enabled)',
+--     ADD COLUMN sigungu VARCHAR(40) COMMENT '시군구 (도로명주소 분해)',
+--     ADD COLUMN road_name VARCHAR(80) COMMENT '도로명 (도로명주소 분해)',
+--     ADD INDEX idx_restaurant_sido_sigungu (sido, sigungu),
+--     ADD INDEX idx_restaurant_road_name (road_name);
+
+-- 6. 적재 중 갱신되는 요약 테이블 (원본 테이블 조회 없이 건수/비율/합계 제공)
+CREATE TABLE IF NOT EXISTS restaurant_summary (
+    dimension VARCHAR(20) NOT NULL COMMENT '집계 기준 (REGION, STATUS, BUSINESS_TYPE, LICENSE_YEAR)',
+    dim_value VARCHAR(100) NOT NULL COMMENT '집계 기준 값 (값이 없으면 빈 문자열)',
+    row_count BIGINT NOT NULL DEFAULT 0 COMMENT '적재 건수',
+    open_count BIGINT NOT NULL DEFAULT 0 COMMENT '영업/정상(01) 건수',
+    closed_count BIGINT NOT NULL DEFAULT 0 COMMENT '폐업(03) 건수',
+    total_area DOUBLE NOT NULL DEFAULT 0 COMMENT '소재지면적 합계',
+    total_employees BIGINT NOT NULL DEFAULT 0 COMMENT '총직원수 합계',
+    updated_at DATETIME COMMENT '마지막 반영 시각',
+    PRIMARY KEY (dimension, dim_value)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_general_ci;
+
+CREATE OR REPLACE VIEW restaurant_summary_ratio AS
+SELECT dimension,
+       dim_value,
+       row_count,
+       open_count / NULLIF(row_count, 0) AS open_ratio,
+       closed_count / NULLIF(row_count, 0) AS closed_ratio,
+       total_area,
+       total_employees
+FROM restaurant_summary;
@@ -0,0 +1,92 @@
+package com.assignment.restaurantbatch.address;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * {@link AddressDecomposer}의 주소 분해와 접두어 캐시를 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 도로명주소의 시도/시군구/도로명, 지번주소의 시도/시군구 분해를 확인합니다.
+ * • 같은 접두어의 행이 캐시된 결과를 공유하고, 캐시 크기가 제한되는지 확인합니다.
+ */
+class AddressDecomposerTest {
+
+    @Test
+    @DisplayName("도로명주소를 시도, 시군구, 도로명으로 분해해야 한다")
+    void shouldDecomposeRoadAddress() {
+        // given
+        AddressDecomposer decomposer = new AddressDecomposer(16);
+
+        // when & then
+        assertThat(new RoadAddress[]{
+                decomposer.decompose("서울특별시 강남구 테헤란로 152, 3층 (역삼동)", null),
+                decomposer.decompose("경기도 성남시 분당구 판교역로 235", null),
+                decomposer.decompose("세종특별자치시 한누리대로 2130 (보람동)", null),
+                decomposer.decompose("경상북도 칠곡군 왜관읍 중앙로 123", null),
+                decomposer.decompose("경기도 성남시 분당구 동판교로 177번길 25", null),
+                decomposer.decompose("서울특별시 중구 세종대로 지하 2", null),
+                decomposer.decompose("서울특별시  종로구   종로1길 50", null)
+        }).extracting(RoadAddress::sido, RoadAddress::sigungu, RoadAddress::roadName)
+                .containsExactly(
+                        tuple("서울특별시", "강남구", "테헤란로"),
+                        tuple("경기도", "성남시 분당구", "판교역로"),
+                        tuple("세종특별자치시", null, "한누리대로"),
+                        tuple("경상북도", "칠곡군", "중앙로"),
+                        tuple("경기도", "성남시 분당구", "동판교로177번길"),
+                        tuple("서울특별시", "중구", "세종대로"),
+                        tuple("서울특별시", "종로구", "종로1길"));
+    }
+
+    @Test
+    @DisplayName("도로명주소가 없거나 분해할 수 없으면 지번주소에서 시도와 시군구만 찾아야 한다")
+    void shouldFallBackToLotAddress() {
+        // given
+        AddressDecomposer decomposer = new AddressDecomposer(16);
+
+        // when & then: 지번주소의 "세종로"는 동 이름이므로 도로명으로 보지 않음
+        assertThat(decomposer.decompose("", "서울특별시 종로구 세종로 1-68"))
+                .isEqualTo(new RoadAddress("서울특별시", "종로구", null));
+        assertThat(decomposer.decompose("강남구 테헤란로 1", "서울특별시 강남구 역삼동 123-4"))
+                .isEqualTo(new RoadAddress("서울특별시", "강남구", null));
+        assertThat(decomposer.decompose(null, null)).isEqualTo(RoadAddress.EMPTY);
+        assertThat(decomposer.decompose("주소 없음", " ")).isEqualTo(RoadAddress.EMPTY);
+    }
+
+    @Test
+    @DisplayName("건물번호만 다른 주소는 캐시된 분해 결과를 공유해야 한다")
+    void shouldReuseResultForSamePrefix() {
+        // given
+        AddressDecomposer decomposer = new AddressDecomposer(16);
+
+        // when
+        RoadAddress first = decomposer.decompose("서울특별시 강남구 테헤란로 152", null);
+        RoadAddress second = decomposer.decompose("서울특별시 강남구 테헤란로 7, 2층 (역삼동)", null);
+        RoadAddress other = decomposer.decompose("서울특별시 강남구 강남대로 1", null);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(other.roadName()).isEqualTo("강남대로");
+        assertThat(decomposer.hits()).isEqualTo(1);
+        assertThat(decomposer.misses()).isEqualTo(2);
+        assertThat(decomposer.hitRatio()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘는 접두어는 캐시하지 않고 분해 결과만 반환해야 한다")
+    void shouldBoundCacheSize() {
+        // given
+        AddressDecomposer decomposer = new AddressDecomposer(4);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            RoadAddress address = decomposer.decompose("서울특별시 강남구 도로" + i + "길 1", null);
+            assertThat(address.roadName()).isEqualTo("도로" + i + "길");
+        }
+
+        // then
+        assertThat(decomposer.size()).isLessThanOrEqualTo(4);
+    }
+}
@@ -0,0 +1,69 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import com.assignment.restaurantbatch.aggregate.RestaurantAggregator.AggregateKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AggregateSummaryWriter}가 요약 테이블에 집계를 누적 반영하는지 H2로 검증하는 테스트 클래스입니다.
+ */
+class AggregateSummaryWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AggregateSummaryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:summary;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS restaurant_summary");
+        jdbcTemplate.execute("""
+                CREATE TABLE restaurant_summary (
+                    dimension VARCHAR(20) NOT NULL, dim_value VARCHAR(100) NOT NULL,
+                    row_count BIGINT NOT NULL DEFAULT 0, open_count BIGINT NOT NULL DEFAULT 0,
+                    closed_count BIGINT NOT NULL DEFAULT 0, total_area DOUBLE NOT NULL DEFAULT 0,
+                    total_employees BIGINT NOT NULL DEFAULT 0, updated_at TIMESTAMP,
+                    PRIMARY KEY (dimension, dim_value))""");
+        writer = new AggregateSummaryWriter(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("처음 보는 키는 INSERT하고 기존 키는 값을 더해야 한다")
+    void shouldInsertNewKeysAndAddToExistingKeys() {
+        // given
+        AggregateKey seoul = new AggregateKey(AggregateDimension.REGION, "3000000");
+        AggregateKey busan = new AggregateKey(AggregateDimension.REGION, "3250000");
+
+        // when
+        writer.write(Map.of(seoul, counters(2, 1, 1, 30.0, 4)));
+        writer.write(Map.of(seoul, counters(3, 3, 0, 10.5, 1), busan, counters(1, 0, 1, 0, 0)));
+
+        // then
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT * FROM restaurant_summary WHERE dimension = 'REGION' AND dim_value = '3000000'");
+        assertThat(((Number) row.get("ROW_COUNT")).longValue()).isEqualTo(5);
+        assertThat(((Number) row.get("OPEN_COUNT")).longValue()).isEqualTo(4);
+        assertThat(((Number) row.get("CLOSED_COUNT")).longValue()).isEqualTo(1);
+        assertThat(((Number) row.get("TOTAL_AREA")).doubleValue()).isEqualTo(40.5);
+        assertThat(((Number) row.get("TOTAL_EMPLOYEES")).longValue()).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restaurant_summary", Long.class)).isEqualTo(2);
+    }
+
+    private AggregateCounters counters(long rows, long open, long closed, double area, long employees) {
+        AggregateCounters counters = new AggregateCounters();
+        counters.rowCount = rows;
+        counters.openCount = open;
+        counters.closedCount = closed;
+        counters.totalArea = area;
+        counters.totalEmployees = employees;
+        return counters;
+    }
+}
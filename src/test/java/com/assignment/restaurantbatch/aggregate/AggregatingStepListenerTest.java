@@ -0,0 +1,148 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import com.assignment.restaurantbatch.aggregate.RestaurantAggregator.AggregateKey;
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.reader.ColumnarChunk;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link AggregatingStepListener}와 {@link RestaurantAggregator}의 집계를 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 커밋된 Chunk만 집계하고 롤백된 Chunk는 버리는지 확인합니다.
+ * • 여러 파티션의 로컬 집계가 동시에 병합되어도 합계가 정확한지 확인합니다.
+ */
+class AggregatingStepListenerTest {
+
+    @Test
+    @DisplayName("커밋된 Chunk만 지역/상태/업태/인허가연도별로 집계해야 한다")
+    void shouldAggregateOnlyCommittedChunks() {
+        // given
+        RestaurantAggregator aggregator = new RestaurantAggregator();
+        AggregatingStepListener<RestaurantCsvDto> listener = AggregatingStepListener.forDto(aggregator);
+        StepExecution stepExecution = new StepExecution("slaveStep", null);
+
+        // when: 첫 Chunk는 커밋, 두 번째 Chunk는 롤백
+        listener.beforeStep(stepExecution);
+        listener.afterWrite(new Chunk<>(List.of(
+                dto("3000000", "01", "한식", "2015-03-02", "33.5", "2"),
+                dto("3000000", "03", "분식", "2019-07-01", "", "abc"))));
+        listener.afterChunk(null);
+        listener.afterWrite(new Chunk<>(List.of(dto("3110000", "01", "한식", "2020-01-01", "10", "1"))));
+        listener.afterChunkError(null);
+        listener.afterStep(stepExecution);
+
+        // then
+        Map<AggregateKey, AggregateCounters> snapshot = aggregator.snapshot();
+        AggregateCounters region = snapshot.get(new AggregateKey(AggregateDimension.REGION, "3000000"));
+        assertThat(region.getRowCount()).isEqualTo(2);
+        assertThat(region.getOpenCount()).isEqualTo(1);
+        assertThat(region.getClosedCount()).isEqualTo(1);
+        assertThat(region.getTotalArea()).isEqualTo(33.5);
+        assertThat(region.getTotalEmployees()).isEqualTo(2);
+
+        assertThat(snapshot).doesNotContainKey(new AggregateKey(AggregateDimension.REGION, "3110000"));
+        assertThat(snapshot.get(new AggregateKey(AggregateDimension.LICENSE_YEAR, "2019")).getRowCount()).isEqualTo(1);
+        assertThat(snapshot.get(new AggregateKey(AggregateDimension.BUSINESS_TYPE, "한식")).getRowCount()).isEqualTo(1);
+        assertThat(snapshot.get(new AggregateKey(AggregateDimension.STATUS, "03")).getClosedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 파티션이 동시에 병합해도 합계가 정확해야 한다")
+    void shouldMergePartitionsConcurrently() throws Exception {
+        // given
+        RestaurantAggregator aggregator = new RestaurantAggregator();
+        AggregatingStepListener<RestaurantCsvDto> listener = AggregatingStepListener.forDto(aggregator);
+        int partitions = 8;
+        int rowsPerPartition = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(partitions);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int p = 0; p < partitions; p++) {
+                futures.add(executor.submit(() -> {
+                    StepExecution stepExecution = new StepExecution("slaveStep", null);
+                    listener.beforeStep(stepExecution);
+                    for (int i = 0; i < rowsPerPartition; i++) {
+                        listener.afterWrite(new Chunk<>(List.of(dto("3000000", "01", "한식", "2015-01-01", "1.5", "1"))));
+                        listener.afterChunk(null);
+                    }
+                    listener.afterStep(stepExecution);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        AggregateCounters region = aggregator.snapshot().get(new AggregateKey(AggregateDimension.REGION, "3000000"));
+        assertThat(region.getRowCount()).isEqualTo((long) partitions * rowsPerPartition);
+        assertThat(region.getOpenCount()).isEqualTo((long) partitions * rowsPerPartition);
+        assertThat(region.getTotalArea()).isEqualTo(1.5 * partitions * rowsPerPartition);
+    }
+
+    @Test
+    @DisplayName("Columnar 버퍼에서는 Writer가 실패로 표시한 행을 제외하고 집계해야 한다")
+    void shouldSkipRejectedColumnarRows() {
+        // given
+        RestaurantAggregator aggregator = new RestaurantAggregator();
+        AggregatingStepListener<ColumnarChunk> listener = AggregatingStepListener.forColumnar(aggregator);
+        StepExecution stepExecution = new StepExecution("slaveStep", null);
+        ColumnarChunk chunk = chunkOf(
+                "\"1\",,,\"3000000\",,\"2015-03-02\",,\"01\"",
+                "\"2\",,,\"3000000\",,\"2016-03-02\",,\"03\"");
+        chunk.markRejected(1);
+
+        // when
+        listener.beforeStep(stepExecution);
+        listener.afterWrite(new Chunk<>(List.of(chunk)));
+        listener.afterChunk(null);
+        listener.afterStep(stepExecution);
+
+        // then
+        Map<AggregateKey, AggregateCounters> snapshot = aggregator.snapshot();
+        assertThat(snapshot.get(new AggregateKey(AggregateDimension.REGION, "3000000")).getRowCount()).isEqualTo(1);
+        assertThat(snapshot.get(new AggregateKey(AggregateDimension.LICENSE_YEAR, "2015")).getOpenCount()).isEqualTo(1);
+        assertThat(snapshot).doesNotContainKey(new AggregateKey(AggregateDimension.LICENSE_YEAR, "2016"));
+    }
+
+    private RestaurantCsvDto dto(String regionCode, String statusCode, String businessType, String licenseDate,
+                                 String areaSize, String totalEmployees) {
+        RestaurantCsvDto dto = new RestaurantCsvDto();
+        dto.setRegionCode(regionCode);
+        dto.setBusinessStatusCode(statusCode);
+        dto.setBusinessType(businessType);
+        dto.setLicenseDate(licenseDate);
+        dto.setAreaSize(areaSize);
+        dto.setTotalEmployees(totalEmployees);
+        return dto;
+    }
+
+    private ColumnarChunk chunkOf(String... lines) {
+        ColumnarChunk chunk = new ColumnarChunk(MultiInsertWriter.RECORD_COLUMN_COUNT, lines.length,
+                ByteBuffer.allocate(4096), StandardCharsets.UTF_8);
+        for (String line : lines) {
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            chunk.addRow(bytes, bytes.length);
+        }
+        return chunk;
+    }
+}
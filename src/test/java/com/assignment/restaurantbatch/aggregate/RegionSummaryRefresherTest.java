@@ -0,0 +1,122 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.region.RegionPartitionManager;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link RegionSummaryRefresher}가 지역 재적재 시 요약 테이블을 새 지역 행 기준으로 맞추는지 H2로 검증하는 테스트 클래스입니다.
+ */
+class RegionSummaryRefresherTest {
+
+    private static final String REGION = "3000000";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private AggregateSummaryWriter summaryWriter;
+    private RegionSummaryRefresher refresher;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:region-summary;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("test-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS restaurant_stage");
+        jdbcTemplate.execute("CREATE TABLE restaurant_stage AS SELECT * FROM restaurant WHERE 1 = 0");
+        summaryWriter = new AggregateSummaryWriter(jdbcTemplate, new DataSourceTransactionManager(dataSource));
+        refresher = new RegionSummaryRefresher(jdbcTemplate, summaryWriter);
+    }
+
+    @Test
+    @DisplayName("교환 후에는 기존 지역 행의 집계가 빠지고 새 지역 행의 집계만 남아야 한다")
+    void shouldReplaceRegionAggregates() throws Exception {
+        // given: 기존 적재 3건(영업 2, 폐업 1)과 요약 테이블, 새로 적재한 2건(영업 1, 폐업 1)
+        write("restaurant", rows(3, 2));
+        summaryWriter.write(refresher.aggregate("restaurant", REGION));
+        write("restaurant_stage", rows(2, 1));
+
+        // when
+        refresher.refresh(REGION, "restaurant", "restaurant_stage");
+
+        // then
+        assertThat(summary("REGION", REGION)).containsExactly(2L, 1L, 1L);
+        assertThat(summary("STATUS", "01")).containsExactly(1L, 1L, 0L);
+        assertThat(summary("STATUS", "03")).containsExactly(1L, 0L, 1L);
+        assertThat(summary("LICENSE_YEAR", "2020")).containsExactly(2L, 1L, 1L);
+    }
+
+    @Test
+    @DisplayName("요약 테이블의 지역 행이 어긋나 있어도 새 지역 행 기준으로 다시 계산해야 한다")
+    void shouldRecomputeRegionRowEvenIfSummaryDrifted() throws Exception {
+        // given: 요약 테이블의 지역 행이 실제(3건)보다 많이 기록된 상태
+        write("restaurant", rows(3, 2));
+        summaryWriter.write(refresher.aggregate("restaurant", REGION));
+        summaryWriter.write(refresher.aggregate("restaurant", REGION));
+        write("restaurant_stage", rows(2, 1));
+
+        // when
+        refresher.refresh(REGION, "restaurant", "restaurant_stage");
+
+        // then
+        assertThat(summary("REGION", REGION)).containsExactly(2L, 1L, 1L);
+    }
+
+    @Test
+    @DisplayName("지역 행 교체가 실패하면 요약 테이블 갱신도 함께 롤백되어야 한다")
+    void shouldRollBackSummaryWithFailedSwap() throws Exception {
+        // given
+        write("restaurant", rows(3, 2));
+        summaryWriter.write(refresher.aggregate("restaurant", REGION));
+        write("restaurant_stage", rows(2, 1));
+        RegionPartitionManager manager = new RegionPartitionManager(dataSource, "restaurant");
+        jdbcTemplate.execute("ALTER TABLE restaurant_stage DROP COLUMN sido");
+
+        // when: 스테이징 테이블에 주소 분해 컬럼이 없어 INSERT 단계에서 실패
+        assertThatThrownBy(() -> manager.exchange(REGION, "restaurant_stage", refresher::refresh))
+                .isInstanceOf(BadSqlGrammarException.class);
+
+        // then
+        assertThat(summary("REGION", REGION)).containsExactly(3L, 2L, 1L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restaurant", Long.class)).isEqualTo(3);
+    }
+
+    private Long[] summary(String dimension, String value) {
+        return jdbcTemplate.queryForObject(
+                "SELECT row_count, open_count, closed_count FROM restaurant_summary WHERE dimension = ? AND dim_value = ?",
+                (rs, rowNum) -> new Long[]{rs.getLong(1), rs.getLong(2), rs.getLong(3)}, dimension, value);
+    }
+
+    private void write(String table, List<RestaurantCsvDto> rows) throws Exception {
+        new MultiInsertWriter(dataSource, BatchMetrics.noop(), table).write(new Chunk<>(rows));
+    }
+
+    private List<RestaurantCsvDto> rows(int count, int open) {
+        List<RestaurantCsvDto> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RestaurantCsvDto dto = new RestaurantCsvDto();
+            dto.setRecordNumber(i + 1);
+            dto.setRegionCode(REGION);
+            dto.setLicenseDate("2020-01-0" + (i + 1));
+            dto.setBusinessStatusCode(i < open ? "01" : "03");
+            rows.add(dto);
+        }
+        return rows;
+    }
+}
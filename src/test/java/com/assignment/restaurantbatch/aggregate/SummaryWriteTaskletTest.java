@@ -0,0 +1,119 @@
+package com.assignment.restaurantbatch.aggregate;
+
+import com.assignment.restaurantbatch.aggregate.RestaurantAggregator.AggregateKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.dao.DefaultExecutionContextSerializer;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 마스터 스텝 집계를 Job ExecutionContext로 넘겨 {@link SummaryWriteTasklet}이 반영하는 흐름을 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 마스터 스텝 종료 시 집계가 요약 테이블 대신 Job ExecutionContext에 더해지는지 확인합니다.<br>
+ * • 요약 테이블 반영 실패가 예외로 전달되어 스텝이 실패하는지 확인합니다.
+ */
+class SummaryWriteTaskletTest {
+
+    private static final AggregateKey REGION = new AggregateKey(AggregateDimension.REGION, "3000000");
+
+    @Test
+    @DisplayName("마스터 스텝 집계는 Job ExecutionContext에 보관되고 재실행 집계와 합쳐져야 한다")
+    void shouldStashAggregatesAcrossMasterStepRuns() throws Exception {
+        // given
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+
+        // when: 실패한 첫 실행과 재시작 실행이 각각 한 행씩 집계
+        masterStepRun(jobExecution, "3000000");
+        masterStepRun(jobExecution, "3000000");
+
+        // then
+        Map<AggregateKey, AggregateCounters> pending = RestaurantAggregator.pendingSummary(jobExecution.getExecutionContext());
+        assertThat(pending.get(REGION).getRowCount()).isEqualTo(2);
+        assertThat(pending.get(REGION).getTotalEmployees()).isEqualTo(6);
+
+        // JobRepository 직렬화 후에도 그대로 복원되어야 재시작 시 다시 반영할 수 있음
+        DefaultExecutionContextSerializer serializer = new DefaultExecutionContextSerializer();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Map<String, Object> context = new HashMap<>();
+        context.put(RestaurantAggregator.PENDING_SUMMARY_KEY,
+                jobExecution.getExecutionContext().get(RestaurantAggregator.PENDING_SUMMARY_KEY));
+        serializer.serialize(context, out);
+        Map<String, Object> restored = serializer.deserialize(new ByteArrayInputStream(out.toByteArray()));
+        @SuppressWarnings("unchecked")
+        Map<AggregateKey, AggregateCounters> restoredPending =
+                (Map<AggregateKey, AggregateCounters>) restored.get(RestaurantAggregator.PENDING_SUMMARY_KEY);
+        assertThat(restoredPending.get(REGION).getRowCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("보관된 집계를 요약 테이블에 반영해야 한다")
+    void shouldWritePendingAggregates() throws Exception {
+        // given
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        masterStepRun(jobExecution, "3000000");
+        AggregateSummaryWriter summaryWriter = mock(AggregateSummaryWriter.class);
+        StepExecution summaryStep = jobExecution.createStepExecution("summaryStep");
+
+        // when
+        new SummaryWriteTasklet(summaryWriter).execute(new StepContribution(summaryStep), null);
+
+        // then
+        verify(summaryWriter).write(RestaurantAggregator.pendingSummary(jobExecution.getExecutionContext()));
+    }
+
+    @Test
+    @DisplayName("요약 테이블 반영이 실패하면 예외를 던져 스텝을 실패시켜야 한다")
+    void shouldFailWhenSummaryWriteFails() {
+        // given
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        masterStepRun(jobExecution, "3000000");
+        AggregateSummaryWriter summaryWriter = mock(AggregateSummaryWriter.class);
+        doThrow(new DataAccessResourceFailureException("DB down")).when(summaryWriter).write(anyMap());
+        StepExecution summaryStep = jobExecution.createStepExecution("summaryStep");
+
+        // when / then
+        assertThatThrownBy(() -> new SummaryWriteTasklet(summaryWriter).execute(new StepContribution(summaryStep), null))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(RestaurantAggregator.pendingSummary(jobExecution.getExecutionContext())).containsKey(REGION);
+    }
+
+    @Test
+    @DisplayName("보관된 집계가 없으면 요약 테이블에 쓰지 않아야 한다")
+    void shouldSkipWhenNothingPending() throws Exception {
+        // given
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        AggregateSummaryWriter summaryWriter = mock(AggregateSummaryWriter.class);
+        StepExecution summaryStep = jobExecution.createStepExecution("summaryStep");
+
+        // when
+        new SummaryWriteTasklet(summaryWriter).execute(new StepContribution(summaryStep), null);
+
+        // then
+        verifyNoInteractions(summaryWriter);
+    }
+
+    private static void masterStepRun(JobExecution jobExecution, String regionCode) {
+        PartitionAggregates partition = new PartitionAggregates();
+        partition.add(regionCode, "01", "한식", "2015-03-02", "33.5", "3");
+        RestaurantAggregator aggregator = new RestaurantAggregator();
+        aggregator.merge(partition);
+        aggregator.afterStep(jobExecution.createStepExecution("masterStep"));
+    }
+}
@@ -0,0 +1,179 @@
+package com.assignment.restaurantbatch.dedup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ManagementNumberDeduplicator} 클래스의 단위 테스트입니다.
+ * <p>
+ * • 파티션 파일 전체에서 관리번호별 최신 버전만 남기고 밀려난 행을 별도 파일에 기록하는지 확인합니다.
+ * • 메모리 예산을 넘어 해시 파티션(spill)으로 처리해도 결과가 같은지 확인합니다.
+ * • 최신 버전 테이블이 메모리 예산을 넘어 커지지 않는지 확인합니다.
+ */
+class ManagementNumberDeduplicatorTest {
+
+    private static final String HEADER = "\"번호\",\"관리번호\"";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("관리번호별로 최종수정시점이 가장 늦은 행만 남기고 나머지는 별도 파일에 기록해야 한다")
+    void shouldKeepLatestVersionPerManagementNumber() throws Exception {
+        // given
+        List<Path> files = givenPartitionFiles();
+        Path sideFile = tempDir.resolve("side/duplicates.csv");
+
+        // when
+        DedupResult result = new ManagementNumberDeduplicator(64L * 1024 * 1024)
+                .deduplicate(files, StandardCharsets.UTF_8, 7, sideFile);
+
+        // then
+        assertDeduplicated(result, files, sideFile);
+        assertThat(result.spillPartitions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메모리 예산을 넘으면 해시 파티션으로 나누어 처리해도 같은 결과를 내야 한다")
+    void shouldProduceSameResultWithSpill() throws Exception {
+        // given: 테이블 항목 2개 분량의 예산
+        List<Path> files = givenPartitionFiles();
+        Path sideFile = tempDir.resolve("side/duplicates.csv");
+
+        // when
+        DedupResult result = new ManagementNumberDeduplicator(2L * LatestVersionTable.BYTES_PER_ENTRY)
+                .deduplicate(files, StandardCharsets.UTF_8, 7, sideFile);
+
+        // then
+        assertDeduplicated(result, files, sideFile);
+        assertThat(result.spillPartitions()).isEqualTo(4);
+        try (var remaining = Files.list(tempDir)) {
+            assertThat(remaining.map(path -> path.getFileName().toString())).noneMatch(name -> name.startsWith("dedup-"));
+        }
+    }
+
+    @Test
+    @DisplayName("예상 행 수보다 관리번호가 많아 예산을 넘으면 해시 파티션으로 다시 처리해야 한다")
+    void shouldFallBackToSpillWhenExpectedRowsUnderestimated() throws Exception {
+        // given: 테이블 항목 2개 분량의 예산, 예상 행 수 1건
+        List<Path> files = givenPartitionFiles();
+        Path sideFile = tempDir.resolve("side/duplicates.csv");
+
+        // when
+        DedupResult result = new ManagementNumberDeduplicator(2L * LatestVersionTable.BYTES_PER_ENTRY)
+                .deduplicate(files, StandardCharsets.UTF_8, 1, sideFile);
+
+        // then
+        assertDeduplicated(result, files, sideFile);
+        assertThat(result.spillPartitions()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("테이블 슬롯은 메모리 예산 안의 2의 거듭제곱으로 정해지고 그 이상 커지지 않아야 한다")
+    void shouldKeepTableWithinBudget() {
+        // given: 64MB 예산
+        long budget = 64L * 1024 * 1024;
+
+        // when
+        int capacity = LatestVersionTable.capacityFor(budget);
+        LatestVersionTable small = new LatestVersionTable(1, LatestVersionTable.capacityFor(4L * LatestVersionTable.BYTES_PER_SLOT));
+        small.offer(1, 0, 1);
+        small.offer(2, 0, 2);
+
+        // then
+        assertThat(capacity).isEqualTo(2_097_152);
+        assertThat((long) capacity * LatestVersionTable.BYTES_PER_SLOT).isLessThanOrEqualTo(budget);
+        assertThat(small.offer(1, 1, 3)).isEqualTo(1);
+        assertThatThrownBy(() -> small.offer(3, 0, 4)).isInstanceOf(LatestVersionTable.TableFullException.class);
+    }
+
+    @Test
+    @DisplayName("큰따옴표와 이스케이프된 따옴표가 있는 필드를 정확히 꺼내야 한다")
+    void shouldExtractQuotedField() {
+        // given
+        String line = "\"1\",\"a,b\",\"say \"\"hi\"\"\",plain,";
+
+        // when / then
+        assertThat(ManagementNumberDeduplicator.field(line, 1)).isEqualTo("a,b");
+        assertThat(ManagementNumberDeduplicator.field(line, 2)).isEqualTo("say \"hi\"");
+        assertThat(ManagementNumberDeduplicator.field(line, 3)).isEqualTo("plain");
+        assertThat(ManagementNumberDeduplicator.field(line, 4)).isEmpty();
+        assertThat(ManagementNumberDeduplicator.field(line, 5)).isNull();
+    }
+
+    /**
+     * part-000: M-1(2020), M-2(2024), 관리번호 없음
+     * part-001: M-1(2023), M-2(2021), M-3
+     * part-002: M-3 (최종수정시점 동일 → 파일상 뒤쪽 유지)
+     */
+    private List<Path> givenPartitionFiles() throws Exception {
+        Path part0 = write("restaurant-part-000.csv",
+                line(1, "M-1", "2020-01-01 00:00:00"),
+                line(2, "M-2", "2024-01-01 00:00:00"),
+                line(3, "", "2024-01-01 00:00:00"));
+        Path part1 = write("restaurant-part-001.csv",
+                line(4, "M-1", "2023-05-05 10:00:00"),
+                "",
+                line(5, "M-2", "2021-01-01 00:00:00"),
+                line(6, "M-3", "2022-01-01 00:00:00"));
+        Path part2 = write("restaurant-part-002.csv",
+                line(7, "M-3", "2022-01-01 00:00:00"));
+        return List.of(part0, part1, part2);
+    }
+
+    private void assertDeduplicated(DedupResult result, List<Path> files, Path sideFile) throws Exception {
+        assertThat(result.rows()).isEqualTo(7);
+        assertThat(result.removedRows()).isEqualTo(3);
+        assertThat(result.rewrittenFiles()).isEqualTo(2);
+
+        assertThat(recordNumbers(files.get(0))).containsExactly("2", "3");
+        assertThat(recordNumbers(files.get(1))).containsExactly("4");
+        assertThat(recordNumbers(files.get(2))).containsExactly("7");
+        assertThat(Files.readAllLines(files.get(1), StandardCharsets.UTF_8).get(0)).isEqualTo(HEADER);
+
+        List<String> side = Files.readAllLines(sideFile, StandardCharsets.UTF_8);
+        assertThat(side.get(0)).isEqualTo(HEADER);
+        assertThat(side.subList(1, side.size()).stream().map(l -> ManagementNumberDeduplicator.field(l, 0)))
+                .containsExactly("1", "5", "6");
+    }
+
+    private List<String> recordNumbers(Path file) throws Exception {
+        return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                .skip(1)
+                .filter(l -> !l.isBlank())
+                .map(l -> ManagementNumberDeduplicator.field(l, 0))
+                .toList();
+    }
+
+    private Path write(String name, String... lines) throws Exception {
+        List<String> content = new ArrayList<>();
+        content.add(HEADER);
+        content.addAll(List.of(lines));
+        return Files.write(tempDir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+
+    private String line(int recordNumber, String managementNumber, String lastModified) {
+        String[] fields = new String[47];
+        Arrays.fill(fields, "");
+        fields[0] = String.valueOf(recordNumber);
+        fields[ManagementNumberDeduplicator.MANAGEMENT_NUMBER] = managementNumber;
+        fields[ManagementNumberDeduplicator.LAST_MODIFIED] = lastModified;
+        StringBuilder line = new StringBuilder();
+        for (String field : fields) {
+            if (!line.isEmpty()) line.append(',');
+            line.append('"').append(field).append('"');
+        }
+        return line.toString();
+    }
+}
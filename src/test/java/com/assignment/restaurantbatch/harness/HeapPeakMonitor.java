@@ -0,0 +1,112 @@
+package com.assignment.restaurantbatch.harness;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 한 번의 측정 구간에서 힙 전체의 최대 사용량을 구하는 모니터입니다.
+ * <p>
+ * - 힙 풀별 최대값({@link MemoryPoolMXBean#getPeakUsage()})은 풀마다 다른 시점의 값이라 더하면 실제 최대보다 커지므로 쓰지 않습니다.<br>
+ * - 대신 {@link MemoryMXBean#getHeapMemoryUsage()}를 주기적으로 읽고, GC 알림의 GC 직전 힙 사용량(같은 시점의 풀 합계)과 비교하여
+ *   큰 값을 최대 사용량으로 씁니다. 샘플 사이에 GC가 일어나도 GC 직전 값이 최대를 잡습니다.<br>
+ * - 시작 시 힙 풀의 최대값을 초기화하여 이전 측정의 값이 섞이지 않게 합니다.
+ */
+class HeapPeakMonitor implements AutoCloseable {
+
+    private static final long SAMPLE_MILLIS = 10;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final Set<String> heapPools;
+    private final AtomicLong peakBytes = new AtomicLong();
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final NotificationListener gcListener = this::onGc;
+    private final Thread sampler;
+    private volatile boolean running = true;
+
+    private HeapPeakMonitor() {
+        List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        pools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        heapPools = pools.stream().map(MemoryPoolMXBean::getName).collect(Collectors.toSet());
+
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(gcListener, null, null);
+                emitters.add(emitter);
+            }
+        }
+        sample();
+        sampler = new Thread(() -> {
+            while (running) {
+                sample();
+                try {
+                    Thread.sleep(SAMPLE_MILLIS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }, "heap-peak-monitor");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    /**
+     * 힙 풀 최대값을 초기화하고 측정을 시작합니다.
+     */
+    static HeapPeakMonitor start() {
+        return new HeapPeakMonitor();
+    }
+
+    /** 시작 이후 힙 전체의 최대 사용량 (bytes) */
+    long peakBytes() {
+        sample();
+        return peakBytes.get();
+    }
+
+    private void sample() {
+        peakBytes.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+    }
+
+    private void onGc(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) return;
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        long beforeGc = 0;
+        for (var entry : info.getGcInfo().getMemoryUsageBeforeGc().entrySet()) {
+            if (heapPools.contains(entry.getKey())) {
+                beforeGc += entry.getValue().getUsed();
+            }
+        }
+        peakBytes.accumulateAndGet(beforeGc, Math::max);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        sampler.interrupt();
+        sampler.join();
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(gcListener);
+            } catch (ListenerNotFoundException ignored) {
+                // 등록한 리스너만 제거하므로 발생하지 않음
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.assignment.restaurantbatch.harness;
+
+import com.assignment.restaurantbatch.RestaurantBatchApplication;
+import com.assignment.restaurantbatch.reconcile.ReconciliationTasklet;
+import com.assignment.restaurantbatch.util.BatchTuner;
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 합성 데이터로 {@code restaurantPartitionedJob} 전체 흐름의 처리량을 측정하는 하네스입니다.
+ * <p>
+ * 일반 테스트에서는 제외되며 {@code ./gradlew throughputHarness}로만 실행됩니다.
+ * 행 수별로 합성 CSV 생성 → BatchTuner 튜닝 → 분할 → Job 실행 후
+ * rows/sec, 최대 힙 사용량, GC 시간을 측정하여 {@code build/reports/harness/throughput.csv}에 기록합니다.
+ *
+ * <p>시스템 프로퍼티:
+ * <ul>
+ *   <li>{@code harness.rows}: 측정할 행 수 목록 (기본 100000,1000000,5000000)</li>
+ *   <li>{@code harness.malformedRate}: 잘못된 행 비율 (기본 0.001)</li>
+ *   <li>{@code harness.seed}: 난수 seed (기본 42)</li>
+ *   <li>{@code harness.chunkFormat}: 슬레이브 스텝 Chunk 표현 방식 dto/columnar (기본 dto)</li>
+ *   <li>{@code spring.datasource.*}: 지정 시 H2 대신 로컬 MySQL 사용</li>
+ * </ul>
+ */
+@Tag("harness")
+@SpringBootTest(classes = RestaurantBatchApplication.class)
+@SpringBatchTest
+@ActiveProfiles("test")
+class RestaurantJobThroughputHarness {
+
+    private static final Path WORK_DIR = Paths.get("build/harness");
+    private static final Path REPORT_FILE = Paths.get("build/reports/harness/throughput.csv");
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private Job restaurantPartitionedJob;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BatchTuner batchTuner;
+
+    @Test
+    @DisplayName("행 수별 restaurantPartitionedJob 처리량 측정")
+    void measureThroughput() throws Exception {
+        long seed = Long.getLong("harness.seed", 42L);
+        double malformedRate = Double.parseDouble(System.getProperty("harness.malformedRate", "0.001"));
+        String[] rowCounts = System.getProperty("harness.rows", "100000,1000000,5000000").split(",");
+        String chunkFormat = System.getProperty("harness.chunkFormat", "dto");
+
+        List<String> report = new ArrayList<>();
+        report.add("chunkFormat,rows,malformed,gridSize,chunkSize,elapsedMillis,rowsPerSecond,written,skipped,peakHeapMb,gcMillis");
+
+        for (String rowCount : rowCounts) {
+            int rows = Integer.parseInt(rowCount.trim());
+            report.add(runOnce(rows, seed, malformedRate, chunkFormat));
+        }
+
+        Files.createDirectories(REPORT_FILE.getParent());
+        Files.write(REPORT_FILE, report);
+        report.forEach(System.out::println);
+    }
+
+    private String runOnce(int rows, long seed, double malformedRate, String chunkFormat) throws Exception {
+        jdbcTemplate.execute("TRUNCATE TABLE restaurant");
+
+        Path inputCsv = WORK_DIR.resolve("restaurant-" + rows + ".csv");
+        var generated = new SyntheticRestaurantCsvGenerator(seed, malformedRate).generate(inputCsv, rows);
+
+        var config = batchTuner.tune(rows);
+        Path partitionDir = WORK_DIR.resolve("partitioned-" + rows);
+        new CsvSplitter().split(inputCsv, partitionDir.toString(), config.linesPerFile());
+
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addLong("timestamp", System.currentTimeMillis())
+                .addString("partitionDir", partitionDir.toString())
+                .addLong("linesPerFile", (long) config.linesPerFile())
+                .addLong("gridSize", (long) config.gridSize())
+                .addLong("chunkSize", (long) config.chunkSize())
+                .addString("chunkFormat", chunkFormat)
+                // 적재 처리량만 측정하도록 정합성 검증은 생략
+                .addString(ReconciliationTasklet.RECONCILE_PARAM, "false")
+                .addString("failureLog", WORK_DIR.resolve("failed-" + rows + ".csv").toString())
+                .toJobParameters();
+
+        System.gc();
+        long gcBefore = totalGcMillis();
+        JobExecution jobExecution;
+        long elapsedMillis;
+        long peakHeapMb;
+        // 풀별 최대값의 합은 서로 다른 시점의 값이므로 힙 전체 사용량을 샘플링하고 GC 직전 값과 비교
+        try (HeapPeakMonitor heap = HeapPeakMonitor.start()) {
+            long start = System.nanoTime();
+            jobExecution = jobLauncherTestUtils.getJobLauncher().run(restaurantPartitionedJob, jobParameters);
+            elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            peakHeapMb = heap.peakBytes() / (1024 * 1024);
+        }
+        long gcMillis = totalGcMillis() - gcBefore;
+
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        // columnar 모드는 버퍼 단위로 write count가 집계되므로 테이블 건수를 기준으로 합니다.
+        long written = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restaurant", Long.class);
+        long skipped = rows - written;
+        long rowsPerSecond = elapsedMillis == 0 ? 0 : rows * 1000L / elapsedMillis;
+
+        Files.deleteIfExists(inputCsv);
+
+        return String.join(",",
+                chunkFormat, String.valueOf(rows), String.valueOf(generated.malformedRows()),
+                String.valueOf(config.gridSize()), String.valueOf(config.chunkSize()),
+                String.valueOf(elapsedMillis), String.valueOf(rowsPerSecond),
+                String.valueOf(written), String.valueOf(skipped),
+                String.valueOf(peakHeapMb), String.valueOf(gcMillis));
+    }
+
+    private long totalGcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                .filter(time -> time > 0)
+                .sum();
+    }
+}
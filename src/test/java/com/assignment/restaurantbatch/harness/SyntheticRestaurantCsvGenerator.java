@@ -0,0 +1,219 @@
+package com.assignment.restaurantbatch.harness;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * 전국일반음식점표준데이터와 같은 47개 컬럼 구조의 MS949 CSV를 원하는 크기로 생성하는 합성 데이터 생성기입니다.
+ * <p>
+ * - 영업상태, 업태, 지역, 급수시설 등은 실제 데이터와 유사한 비율로 분포합니다.<br>
+ * - {@code malformedRate} 비율만큼 잘못된 날짜, 컬럼 길이 초과, 깨진 따옴표가 포함된 행을 생성합니다.<br>
+ * - 같은 seed로 생성하면 항상 동일한 파일이 만들어집니다.
+ */
+public class SyntheticRestaurantCsvGenerator {
+
+    static final String HEADER = "\"번호\",\"개방서비스명\",\"개방서비스아이디\",\"개방자치단체코드\",\"관리번호\",\"인허가일자\",\"인허가취소일자\"," +
+            "\"영업상태구분코드\",\"영업상태명\",\"상세영업상태코드\",\"상세영업상태명\",\"폐업일자\",\"휴업시작일자\",\"휴업종료일자\"," +
+            "\"재개업일자\",\"소재지전화\",\"소재지면적\",\"소재지우편번호\",\"소재지전체주소\",\"도로명전체주소\",\"도로명우편번호\"," +
+            "\"사업장명\",\"최종수정시점\",\"데이터갱신구분\",\"데이터갱신일자\",\"업태구분명\",\"좌표정보x(epsg5174)\"," +
+            "\"좌표정보y(epsg5174)\",\"위생업태명\",\"남성종사자수\",\"여성종사자수\",\"영업장주변구분명\",\"등급구분명\"," +
+            "\"급수시설구분명\",\"총직원수\",\"본사직원수\",\"공장사무직직원수\",\"공장판매직직원수\",\"공장생산직직원수\"," +
+            "\"건물소유구분명\",\"보증액\",\"월세액\",\"다중이용업소여부\",\"시설총규모\",\"전통업소지정번호\",\"전통업소주된음식\"," +
+            "\"홈페이지\",";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final LocalDate MIN_LICENSE_DATE = LocalDate.of(1970, 1, 1);
+    private static final int LICENSE_DAY_RANGE = (int) (LocalDate.of(2025, 1, 1).toEpochDay() - MIN_LICENSE_DATE.toEpochDay());
+
+    /** {자치단체코드, 시도, 시군구} */
+    private static final String[][] REGIONS = {
+            {"3000000", "서울특별시", "종로구"}, {"3220000", "서울특별시", "강남구"}, {"3230000", "서울특별시", "송파구"},
+            {"3160000", "서울특별시", "마포구"}, {"3250000", "부산광역시", "중구"}, {"3330000", "부산광역시", "해운대구"},
+            {"3420000", "대구광역시", "동구"}, {"3490000", "인천광역시", "남동구"}, {"3590000", "광주광역시", "북구"},
+            {"3650000", "대전광역시", "서구"}, {"3700000", "울산광역시", "남구"}, {"3780000", "경기도", "수원시"},
+            {"3830000", "경기도", "안양시"}, {"4070000", "경기도", "이천시"}, {"4181000", "강원특별자치도", "춘천시"},
+            {"4311000", "강원특별자치도", "화천군"}, {"4480000", "충청북도", "청주시"}, {"4500000", "충청남도", "천안시"},
+            {"4640000", "전북특별자치도", "전주시"}, {"4800000", "전라남도", "순천시"}, {"5020000", "경상북도", "포항시"},
+            {"5670000", "경상남도", "창원시"}, {"6510000", "제주특별자치도", "제주시"}
+    };
+
+    private static final String[] DONGS = {"중앙동", "신천동", "역삼동", "산호동", "안양동", "중리", "신갈리", "연동", "효자동", "부평동"};
+    private static final String[] ROADS = {"중앙대로", "동부로", "냉천로", "합포동3길", "사실로", "테헤란로", "연삼로", "효자로", "시청로", "번영로"};
+
+    /** {업태, 누적 가중치(%)} */
+    private static final String[] BUSINESS_TYPES = {"한식", "분식", "호프/통닭", "기타", "중국식", "경양식", "일식", "통닭(치킨)",
+            "정종/대포집/소주방", "식육(숯불구이)", "횟집", "까페", "탕류(보신용)", "김밥(도시락)", "패스트푸드", "뷔페식"};
+    private static final int[] BUSINESS_TYPE_WEIGHTS = {45, 53, 60, 66, 71, 75, 79, 83, 86, 89, 92, 94, 96, 98, 99, 100};
+
+    private static final String[] NAME_PREFIXES = {"행복", "맛나", "한솥", "진양", "대박", "원조", "옛날", "시골", "바다", "산천어", "고향", "황금"};
+    private static final String[] NAME_SUFFIXES = {"식당", "분식", "회센터", "치킨", "국밥", "갈비", "반점", "카페", "푸드", "집"};
+
+    private final long seed;
+    private final double malformedRate;
+
+    /**
+     * @param seed          난수 seed (재현성 보장)
+     * @param malformedRate 잘못된 행 생성 비율 (0.0 ~ 1.0)
+     */
+    public SyntheticRestaurantCsvGenerator(long seed, double malformedRate) {
+        if (malformedRate < 0.0 || malformedRate > 1.0) {
+            throw new IllegalArgumentException("malformedRate는 0.0 ~ 1.0 이어야 합니다: " + malformedRate);
+        }
+        this.seed = seed;
+        this.malformedRate = malformedRate;
+    }
+
+    /**
+     * 지정된 행 수만큼 CSV 파일을 생성합니다. (헤더 제외)
+     *
+     * @param output 출력 파일 경로
+     * @param rows   데이터 행 수
+     * @return 생성 결과 (행 수, 잘못된 행 수, 파일 크기)
+     */
+    public GenerationResult generate(Path output, int rows) throws IOException {
+        Random random = new Random(seed);
+        StringBuilder line = new StringBuilder(1024);
+        int malformedRows = 0;
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(output, Charset.forName("MS949"))) {
+            writer.write(HEADER);
+            writer.newLine();
+
+            for (int recordNumber = 1; recordNumber <= rows; recordNumber++) {
+                Malformation malformation = random.nextDouble() < malformedRate
+                        ? Malformation.ERRORS[random.nextInt(Malformation.ERRORS.length)]
+                        : Malformation.NONE;
+                if (malformation != Malformation.NONE) malformedRows++;
+
+                line.setLength(0);
+                appendRow(line, recordNumber, random, malformation);
+                writer.write(line.toString());
+                writer.newLine();
+            }
+        }
+        return new GenerationResult(rows, malformedRows, Files.size(output));
+    }
+
+    private void appendRow(StringBuilder line, int recordNumber, Random random, Malformation malformation) {
+        String[] region = REGIONS[random.nextInt(REGIONS.length)];
+        LocalDate licenseDate = MIN_LICENSE_DATE.plusDays(random.nextInt(LICENSE_DAY_RANGE));
+        String businessType = weighted(random, BUSINESS_TYPES, BUSINESS_TYPE_WEIGHTS);
+
+        // 영업상태: 폐업 57%, 영업 40%, 휴업 3%
+        int status = random.nextInt(100);
+        boolean closed = status < 57;
+        boolean suspended = status >= 97;
+        LocalDate closeDate = closed ? randomDateAfter(random, licenseDate) : null;
+        LocalDate suspendStart = suspended ? randomDateAfter(random, licenseDate) : null;
+        LocalDateTime lastModified = randomDateAfter(random, closeDate != null ? closeDate : licenseDate)
+                .atTime(random.nextInt(24), random.nextInt(60), random.nextInt(60));
+
+        String dong = DONGS[random.nextInt(DONGS.length)];
+        String road = ROADS[random.nextInt(ROADS.length)];
+        int lotNumber = 1 + random.nextInt(999);
+        String storeName = NAME_PREFIXES[random.nextInt(NAME_PREFIXES.length)]
+                + NAME_SUFFIXES[random.nextInt(NAME_SUFFIXES.length)];
+        String areaSize = String.format(Locale.ROOT, "%.2f", 8 + random.nextDouble() * 200);
+
+        String regionCode = malformation == Malformation.OVERLONG_FIELD ? region[0] + "0123456789" : region[0];
+        String licenseDateText = malformation == Malformation.BAD_DATE
+                ? licenseDate.getYear() + "-" + String.format("%02d", licenseDate.getMonthValue()) + "-00"
+                : licenseDate.format(DATE_FORMAT);
+        if (malformation == Malformation.BROKEN_QUOTE) {
+            storeName = storeName + "\"" + (char) ('A' + random.nextInt(26));
+        }
+
+        field(line, String.valueOf(recordNumber));
+        field(line, "일반음식점");
+        field(line, "07_24_04_P");
+        field(line, regionCode);
+        field(line, region[0] + "-101-" + licenseDate.getYear() + "-" + String.format("%07d", recordNumber));
+        field(line, licenseDateText);
+        field(line, "");
+        field(line, closed ? "03" : suspended ? "02" : "01");
+        field(line, closed ? "폐업" : suspended ? "휴업" : "영업/정상");
+        field(line, closed ? "02" : suspended ? "03" : "01");
+        field(line, closed ? "폐업" : suspended ? "휴업" : "영업");
+        field(line, format(closeDate));
+        field(line, format(suspendStart));
+        field(line, format(suspendStart == null ? null : suspendStart.plusMonths(3)));
+        field(line, "");
+        field(line, random.nextInt(100) < 40 ? String.format("0%d %03d %04d", 2 + random.nextInt(60), random.nextInt(1000), random.nextInt(10000)) : "");
+        field(line, areaSize);
+        field(line, String.format("%03d-%03d", 100 + random.nextInt(600), random.nextInt(1000)));
+        field(line, region[1] + " " + region[2] + " " + dong + " " + lotNumber);
+        field(line, region[1] + " " + region[2] + " " + road + " " + lotNumber + " (" + dong + ")");
+        field(line, String.format("%05d", random.nextInt(64_000)));
+        field(line, storeName);
+        field(line, lastModified.format(DATETIME_FORMAT));
+        field(line, random.nextBoolean() ? "U" : "I");
+        field(line, lastModified.plusDays(2).format(DATETIME_FORMAT));
+        field(line, businessType);
+        field(line, String.valueOf(150_000 + random.nextDouble() * 300_000));
+        field(line, String.valueOf(150_000 + random.nextDouble() * 400_000));
+        field(line, businessType);
+        field(line, String.valueOf(random.nextInt(100) < 85 ? 0 : random.nextInt(5)));
+        field(line, String.valueOf(random.nextInt(100) < 85 ? 0 : random.nextInt(5)));
+        field(line, "");
+        field(line, "");
+        field(line, random.nextInt(100) < 60 ? "상수도전용" : "");
+        for (int i = 0; i < 5; i++) {
+            field(line, random.nextInt(100) < 90 ? "0" : String.valueOf(random.nextInt(10)));
+        }
+        field(line, "");
+        field(line, "0");
+        field(line, "0");
+        field(line, random.nextInt(100) < 97 ? "N" : "Y");
+        field(line, areaSize);
+        field(line, "");
+        field(line, "");
+        field(line, "");
+    }
+
+    private LocalDate randomDateAfter(Random random, LocalDate base) {
+        return base.plusDays(random.nextInt(3_650));
+    }
+
+    private String weighted(Random random, String[] values, int[] cumulativeWeights) {
+        int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) return values[i];
+        }
+        return values[values.length - 1];
+    }
+
+    private String format(LocalDate date) {
+        return date == null ? "" : date.format(DATE_FORMAT);
+    }
+
+    /**
+     * 원본 데이터와 동일하게 모든 필드를 큰따옴표로 감싸고 뒤에 쉼표를 붙입니다.
+     */
+    private void field(StringBuilder line, String value) {
+        line.append('"').append(value).append("\",");
+    }
+
+    /**
+     * 잘못된 행 유형
+     */
+    enum Malformation {
+        NONE, BAD_DATE, OVERLONG_FIELD, BROKEN_QUOTE;
+
+        private static final Malformation[] ERRORS = {BAD_DATE, OVERLONG_FIELD, BROKEN_QUOTE};
+    }
+
+    /**
+     * 생성 결과. rows: 데이터 행 수, malformedRows: 잘못된 행 수, bytes: 파일 크기
+     */
+    public record GenerationResult(int rows, int malformedRows, long bytes) {}
+}
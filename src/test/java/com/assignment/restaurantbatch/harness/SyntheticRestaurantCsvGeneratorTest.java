@@ -0,0 +1,71 @@
+package com.assignment.restaurantbatch.harness;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SyntheticRestaurantCsvGenerator}의 생성 결과를 검증하는 단위 테스트입니다.
+ * <p>
+ * • 같은 seed로 생성한 파일은 동일해야 합니다.
+ * • 정상 행은 원본과 같은 컬럼 수(47개 + 마지막 쉼표)로 분리되어야 합니다.
+ */
+class SyntheticRestaurantCsvGeneratorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("같은 seed로 생성하면 동일한 파일이 만들어져야 한다")
+    void shouldBeReproducibleWithSameSeed() throws Exception {
+        // given
+        Path first = tempDir.resolve("first.csv");
+        Path second = tempDir.resolve("second.csv");
+
+        // when
+        new SyntheticRestaurantCsvGenerator(7L, 0.1).generate(first, 500);
+        new SyntheticRestaurantCsvGenerator(7L, 0.1).generate(second, 500);
+
+        // then
+        assertThat(Files.readAllBytes(first)).isEqualTo(Files.readAllBytes(second));
+    }
+
+    @Test
+    @DisplayName("malformedRate가 0이면 모든 행이 원본과 같은 컬럼 수를 가져야 한다")
+    void shouldGenerateWellFormedRowsWhenMalformedRateIsZero() throws Exception {
+        // given
+        Path file = tempDir.resolve("clean.csv");
+
+        // when
+        var result = new SyntheticRestaurantCsvGenerator(1L, 0.0).generate(file, 200);
+
+        // then
+        List<String> lines = Files.readAllLines(file, Charset.forName("MS949"));
+        assertThat(result.malformedRows()).isZero();
+        assertThat(lines).hasSize(201);
+        assertThat(lines.get(0)).isEqualTo(SyntheticRestaurantCsvGenerator.HEADER);
+
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        for (String line : lines.subList(1, lines.size())) {
+            assertThat(tokenizer.tokenize(line).getFieldCount()).isEqualTo(48);
+        }
+    }
+
+    @Test
+    @DisplayName("malformedRate 비율만큼 잘못된 행이 생성되어야 한다")
+    void shouldGenerateMalformedRowsAtConfiguredRate() throws Exception {
+        // when
+        var result = new SyntheticRestaurantCsvGenerator(3L, 0.2).generate(tempDir.resolve("dirty.csv"), 5_000);
+
+        // then
+        assertThat(result.malformedRows()).isBetween(800, 1_200);
+    }
+}
@@ -0,0 +1,51 @@
+package com.assignment.restaurantbatch.inbox;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link InboxWatcher}의 수신 파일 처리와 결과별 이동을 검증하는 테스트 클래스입니다.
+ */
+class InboxWatcherTest {
+
+    @Test
+    @DisplayName("수신 폴더의 CSV를 이름순으로 처리하고 결과에 따라 마커와 함께 processed/failed로 옮겨야 한다")
+    void shouldProcessPendingFilesAndMoveByResult(@TempDir Path inbox) throws Exception {
+        // given
+        Files.writeString(inbox.resolve("b.csv"), "b");
+        Files.writeString(inbox.resolve("a.csv"), "a");
+        Files.createFile(inbox.resolve("a.csv.done"));
+        Files.writeString(inbox.resolve("notes.txt"), "skip");
+
+        List<String> handled = new ArrayList<>();
+        InboxWatcher watcher = new InboxWatcher(inbox, ".done", (file, marker) -> {
+            handled.add(file.getFileName() + "|" + marker.getFileName());
+            if (file.getFileName().toString().equals("b.csv")) {
+                throw new IllegalStateException("적재 실패");
+            }
+        });
+
+        // when
+        int count = watcher.processPending();
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(handled).containsExactly("a.csv|a.csv.done", "b.csv|b.csv.done");
+        assertThat(inbox.resolve(InboxWatcher.PROCESSED_DIR).resolve("a.csv")).exists();
+        assertThat(inbox.resolve(InboxWatcher.PROCESSED_DIR).resolve("a.csv.done")).exists();
+        assertThat(inbox.resolve(InboxWatcher.FAILED_DIR).resolve("b.csv")).exists();
+        assertThat(inbox.resolve("a.csv")).doesNotExist();
+        assertThat(inbox.resolve("notes.txt")).exists();
+
+        // 이미 옮긴 파일은 다시 처리하지 않음
+        assertThat(watcher.processPending()).isZero();
+    }
+}
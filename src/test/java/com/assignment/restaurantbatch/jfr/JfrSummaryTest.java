@@ -0,0 +1,95 @@
+package com.assignment.restaurantbatch.jfr;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link JfrEventListener}가 기록한 이벤트를 {@link JfrSummary}가 파티션별로 요약하는지 검증하는 테스트 클래스입니다.
+ * <p>
+ * - 실제 JFR 녹화를 시작하고 이벤트를 기록한 뒤 .jfr 파일로 덤프하여 요약<br>
+ * - 백분위 계산 검증
+ */
+class JfrSummaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("녹화된 커스텀 이벤트를 파티션별 처리량과 스킵 건수로 요약해야 한다")
+    void shouldSummarizeRecordingPerPartition() throws Exception {
+        // given
+        Path file = tempDir.resolve("batch.jfr");
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution("slaveStep:partition0", 1L);
+        stepExecution.getExecutionContext().putString("file", "restaurant-part-000.csv");
+        stepExecution.setWriteCount(3);
+        JfrEventListener listener = new JfrEventListener();
+
+        try (Recording recording = new Recording()) {
+            List.of(PartitionEvent.class, ChunkReadEvent.class, ChunkWriteEvent.class,
+                    RetryEvent.class, SkipEvent.class, ChunkRollbackEvent.class).forEach(recording::enable);
+            recording.start();
+
+            // when
+            listener.beforeStep(stepExecution);
+            for (int i = 0; i < 3; i++) {
+                ChunkWriteEvent event = new ChunkWriteEvent();
+                event.begin();
+                event.partition = "slaveStep:partition0";
+                event.rows = 1;
+                event.sqlBytes = 1024;
+                event.commit();
+            }
+            listener.onSkipInWrite(new RestaurantCsvDto(), new SQLException("fail"));
+            Thread.sleep(5);
+            listener.afterStep(stepExecution);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<JfrSummary.PartitionSummary> summaries = JfrSummary.summarize(file);
+
+        // then
+        JfrSummary.PartitionSummary partition = summaries.stream()
+                .filter(s -> s.partition().equals("slaveStep:partition0"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(partition.file()).isEqualTo("restaurant-part-000.csv");
+        assertThat(partition.rowsWritten()).isEqualTo(3);
+        assertThat(partition.durationMillis()).isGreaterThanOrEqualTo(5);
+
+        // 스텝 동기화 컨텍스트 밖에서 기록된 스킵 이벤트는 "none" 파티션으로 집계
+        assertThat(summaries).anySatisfy(s -> {
+            assertThat(s.partition()).isEqualTo("none");
+            assertThat(s.skips()).isEqualTo(1);
+        });
+        assertThat(JfrSummary.format(summaries)).contains("slaveStep:partition0");
+    }
+
+    @Test
+    @DisplayName("백분위는 nearest-rank 방식으로 계산되어야 한다")
+    void shouldComputeNearestRankPercentile() {
+        // given
+        long[] nanos = new long[100];
+        for (int i = 0; i < nanos.length; i++) {
+            nanos[i] = (i + 1) * 1_000_000L;
+        }
+
+        // when & then
+        assertThat(JfrSummary.percentileMillis(nanos, 50)).isEqualTo(50.0);
+        assertThat(JfrSummary.percentileMillis(nanos, 99)).isEqualTo(99.0);
+        assertThat(JfrSummary.percentileMillis(nanos, 100)).isEqualTo(100.0);
+        assertThat(JfrSummary.percentileMillis(new long[0], 99)).isZero();
+    }
+}
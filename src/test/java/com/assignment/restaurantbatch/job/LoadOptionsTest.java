@@ -0,0 +1,99 @@
+package com.assignment.restaurantbatch.job;
+
+import com.assignment.restaurantbatch.multifile.FileGroupPartitioner;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
+import com.assignment.restaurantbatch.validate.DryRunItemWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link LoadOptions}의 JobParameter 기본값과 적재 방식 조합 검사를 검증하는 테스트 클래스입니다.
+ * <p>
+ * - 값이 없는 JobParameter가 기본값으로 채워지는지 확인<br>
+ * - dto Chunk 형식 전용 기능을 다른 형식에서 요청하면 거부하는지 확인
+ */
+class LoadOptionsTest {
+
+    @Test
+    @DisplayName("값이 없는 JobParameter는 기본값으로 채워져야 한다")
+    void shouldFillDefaults() {
+        // when
+        LoadOptions options = LoadOptions.from(required());
+
+        // then
+        assertThat(options.gridSize()).isEqualTo(2);
+        assertThat(options.chunkSize()).isEqualTo(100);
+        assertThat(options.chunkFormat()).isEqualTo(RestaurantJobConfig.CHUNK_FORMAT_DTO);
+        assertThat(options.dataset()).isEqualTo(DatasetSchema.RESTAURANT);
+        assertThat(options.dryRun()).isFalse();
+        assertThat(options.multiFile()).isFalse();
+        assertThat(options.targetTable()).isNull();
+        assertThat(options.restaurantDto()).isTrue();
+    }
+
+    @Test
+    @DisplayName("launcher가 문자열·숫자로 넘긴 JobParameter를 그대로 읽어야 한다")
+    void shouldReadTypedParameters() {
+        // given
+        Map<String, Object> jobParameters = required();
+        jobParameters.put(DryRunItemWriter.DRY_RUN_PARAM, "true");
+        jobParameters.put(FileGroupPartitioner.INPUT_FILES_PARAM, 3L);
+        jobParameters.put("chunkFormat", RestaurantJobConfig.CHUNK_FORMAT_COLUMNAR);
+
+        // when
+        LoadOptions options = LoadOptions.from(jobParameters);
+
+        // then
+        assertThat(options.dryRun()).isTrue();
+        assertThat(options.multiFile()).isTrue();
+        assertThat(options.columnar()).isTrue();
+        assertThat(options.restaurantDto()).isFalse();
+    }
+
+    @Test
+    @DisplayName("dto Chunk 형식 전용 기능을 columnar 형식이나 다른 데이터셋에서 요청하면 거부해야 한다")
+    void shouldRejectDtoOnlyFeatureForOtherFormats() {
+        // given
+        Map<String, Object> columnar = required();
+        columnar.put("chunkFormat", RestaurantJobConfig.CHUNK_FORMAT_COLUMNAR);
+        Map<String, Object> otherDataset = required();
+        otherDataset.put(DatasetSchemaRegistry.DATASET_PARAM, "bakery");
+
+        // when / then
+        assertThatThrownBy(() -> LoadOptions.from(columnar).requireRestaurantDto("샤드 적재는", true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("샤드 적재는");
+        assertThatThrownBy(() -> LoadOptions.from(otherDataset).requireRestaurantDto("스냅샷 적재는", true))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatCode(() -> LoadOptions.from(columnar).requireRestaurantDto("샤드 적재는", false))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("gridSize가 없으면 예외를 던져야 한다")
+    void shouldRequireGridSize() {
+        // given
+        Map<String, Object> jobParameters = required();
+        jobParameters.remove("gridSize");
+
+        // when / then
+        assertThatThrownBy(() -> LoadOptions.from(jobParameters))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("gridSize");
+    }
+
+    private static Map<String, Object> required() {
+        Map<String, Object> jobParameters = new HashMap<>();
+        jobParameters.put("gridSize", 2L);
+        jobParameters.put("chunkSize", 100L);
+        return jobParameters;
+    }
+}
@@ -2,6 +2,9 @@ package com.assignment.restaurantbatch.job;
 
 import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
 import com.assignment.restaurantbatch.listener.RestaurantSkipListener;
+import com.assignment.restaurantbatch.metrics.MetricsJsonReporter;
+import com.assignment.restaurantbatch.progress.ProgressJobListener;
+import com.assignment.restaurantbatch.region.RegionPartitionManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.Job;
@@ -11,6 +14,7 @@ import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.batch.item.file.FlatFileItemReader;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
 import java.lang.reflect.Field;
 import java.nio.file.Path;
 
@@ -31,11 +35,18 @@ class RestaurantJobConfigTest {
         PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
         ObjectProvider<FlatFileItemReader<RestaurantCsvDto>> readerProvider = mock(ObjectProvider.class);
 
+        Step mockDedupStep = mock(Step.class);
         Step mockMasterStep = mock(Step.class);
+        Step mockSummaryStep = mock(Step.class);
+        Step mockReconcileStep = mock(Step.class);
+        RestaurantSkipListener skipListener = mock(RestaurantSkipListener.class);
+        MetricsJsonReporter metricsJsonReporter = mock(MetricsJsonReporter.class);
+        ProgressJobListener progressJobListener = mock(ProgressJobListener.class);
         RestaurantJobConfig config = new RestaurantJobConfig(jobRepository, transactionManager, readerProvider);
 
         // when
-        Job job = config.restaurantPartitionedJob(mockMasterStep);
+        Job job = config.restaurantPartitionedJob(mockDedupStep, mockMasterStep, mockSummaryStep, mockReconcileStep, skipListener, metricsJsonReporter, progressJobListener,
+                mock(DataSource.class), mock(RegionPartitionManager.class));
 
         // then
         assertThat(job).isNotNull();
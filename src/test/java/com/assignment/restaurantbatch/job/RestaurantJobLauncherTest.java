@@ -1,5 +1,7 @@
 package com.assignment.restaurantbatch.job;
 
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaRegistry;
 import com.assignment.restaurantbatch.util.BatchTuner;
 import com.assignment.restaurantbatch.util.CsvSplitter;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +13,7 @@ import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.launch.JobLauncher;
 
 import java.io.InputStream;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -73,5 +76,9 @@ class RestaurantJobLauncherTest {
         JobParameters params = captor.getValue();
         assertThat(params.getString("partitionDir")).isEqualTo(partitionDir.toString());
         assertThat(params.getLong("chunkSize")).isEqualTo(2L);
+        assertThat(params.getLong("totalRows")).isEqualTo(Files.lines(inputCsv, Charset.forName("MS949")).count() - 1);
+        assertThat(params.getLong("totalBytes")).isEqualTo(Files.size(inputCsv));
+        assertThat(params.getString("chunkFormat")).isEqualTo(RestaurantJobConfig.CHUNK_FORMAT_DTO);
+        assertThat(params.getString(DatasetSchemaRegistry.DATASET_PARAM)).isEqualTo(DatasetSchema.RESTAURANT);
     }
 }
@@ -0,0 +1,170 @@
+package com.assignment.restaurantbatch.job;
+
+import com.assignment.restaurantbatch.aggregate.RegionSummaryRefresher;
+import com.assignment.restaurantbatch.reconcile.LoadBoundaryListener;
+import com.assignment.restaurantbatch.reconcile.ReconciliationTasklet;
+import com.assignment.restaurantbatch.region.RegionPartitionManager;
+import com.assignment.restaurantbatch.search.TableIndexer;
+import com.assignment.restaurantbatch.util.BatchTuner;
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link RestaurantRegionJobLauncher}의 지역 재적재 흐름을 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 해당 지역 행만 분할하여 스테이징 테이블로 적재한 뒤 교환하는지 확인합니다.
+ * • 요약 테이블 갱신을 지역 행 교체 리스너로 넘기는지 확인합니다.
+ * • Job이 완료되지 않거나 지역 행이 없으면 교환하지 않는지 확인합니다.
+ */
+class RestaurantRegionJobLauncherTest {
+
+    private static final String STAGE = "restaurant_stage";
+
+    @TempDir
+    Path tempDir;
+
+    private JobLauncher jobLauncher;
+    private Job job;
+    private RegionPartitionManager regionPartitionManager;
+    private RegionSummaryRefresher regionSummaryRefresher;
+    private TableIndexer tableIndexer;
+    private RestaurantRegionJobLauncher launcher;
+    private Path partitionDir;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        jobLauncher = mock(JobLauncher.class);
+        job = mock(Job.class);
+        regionPartitionManager = mock(RegionPartitionManager.class);
+        when(regionPartitionManager.table()).thenReturn("restaurant");
+        regionSummaryRefresher = mock(RegionSummaryRefresher.class);
+        tableIndexer = mock(TableIndexer.class);
+        ObjectProvider<TableIndexer> tableIndexerProvider = mock(ObjectProvider.class);
+        when(tableIndexerProvider.getIfAvailable()).thenReturn(tableIndexer);
+        BatchTuner batchTuner = mock(BatchTuner.class);
+        when(batchTuner.tune(anyInt())).thenReturn(new BatchTuner.BatchConfig(1, 2, 2));
+
+        Path inputCsv = tempDir.resolve("restaurant.csv");
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("success-test.csv")) {
+            Files.copy(Objects.requireNonNull(in), inputCsv, StandardCopyOption.REPLACE_EXISTING);
+        }
+        partitionDir = tempDir.resolve("region-partitioned");
+
+        launcher = new RestaurantRegionJobLauncher(jobLauncher, job, batchTuner, new CsvSplitter(), regionPartitionManager,
+                regionSummaryRefresher, tableIndexerProvider) {
+            @Override
+            protected Path getInputCsvPath() {
+                return inputCsv;
+            }
+
+            @Override
+            protected Path getPartitionDirPath() {
+                return partitionDir;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("지역 행만 스테이징 테이블에 적재한 뒤 지역 파티션과 교환하고 검색 색인에 반영해야 한다")
+    void shouldLoadIntoStageThenExchange() throws Exception {
+        // given: Job 시작 시 restaurant 최대 id 100
+        JobExecution completed = execution(BatchStatus.COMPLETED);
+        completed.getExecutionContext().putLong(LoadBoundaryListener.BASE_ID_KEY, 100L);
+        when(jobLauncher.run(eq(job), any())).thenReturn(completed);
+
+        // when
+        launcher.reload("4311000", STAGE);
+
+        // then: 2건을 한 줄씩 나눈 파티션 파일 2개
+        try (var files = Files.list(partitionDir)) {
+            assertThat(files.count()).isEqualTo(2);
+        }
+
+        ArgumentCaptor<JobParameters> captor = ArgumentCaptor.forClass(JobParameters.class);
+        ArgumentCaptor<RegionPartitionManager.SwapListener> listener = ArgumentCaptor.forClass(RegionPartitionManager.SwapListener.class);
+        InOrder inOrder = inOrder(regionPartitionManager, jobLauncher, tableIndexer);
+        inOrder.verify(regionPartitionManager).prepareStaging(STAGE);
+        inOrder.verify(jobLauncher).run(eq(job), captor.capture());
+        inOrder.verify(regionPartitionManager).exchange(eq("4311000"), eq(STAGE), listener.capture());
+        // 교환해 온 행(기준 id 초과)을 색인 파일에 합침
+        inOrder.verify(tableIndexer).indexAfter(100L);
+
+        // 교체 시점에 호출되는 리스너가 요약 테이블을 갱신
+        listener.getValue().swapped("4311000", "restaurant", STAGE);
+        verify(regionSummaryRefresher).refresh("4311000", "restaurant", STAGE);
+
+        JobParameters params = captor.getValue();
+        assertThat(params.getString(MultiInsertWriter.TARGET_TABLE_PARAM)).isEqualTo(STAGE);
+        assertThat(params.getString(ReconciliationTasklet.RECONCILE_PARAM)).isEqualTo("false");
+        assertThat(params.getLong("totalRows")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Job이 완료되지 않으면 교환하지 않아야 한다")
+    void shouldNotExchangeWhenJobFailed() throws Exception {
+        // given
+        when(jobLauncher.run(eq(job), any())).thenReturn(execution(BatchStatus.FAILED));
+
+        // when / then
+        assertThatThrownBy(() -> launcher.reload("4311000", STAGE))
+                .isInstanceOf(IllegalStateException.class);
+        verify(regionPartitionManager, never()).exchange(anyString(), anyString(), any());
+        verifyNoInteractions(regionSummaryRefresher, tableIndexer);
+    }
+
+    @Test
+    @DisplayName("입력에 없는 지역은 스테이징 테이블을 만들지 않고 거부해야 한다")
+    void shouldRejectUnknownRegion() throws Exception {
+        assertThatThrownBy(() -> launcher.reload("9999999", STAGE))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(regionPartitionManager, jobLauncher, regionSummaryRefresher);
+    }
+
+    @Test
+    @DisplayName("전체 적재는 지역별 파일로 나누어 운영 테이블에 적재해야 한다")
+    void shouldSplitByRegionAndLoad() throws Exception {
+        // when
+        launcher.loadByRegion();
+
+        // then
+        try (var files = Files.list(partitionDir)) {
+            assertThat(files.map(path -> path.getFileName().toString()).sorted().toList()).containsExactly(
+                    "restaurant-part-3250000.csv", "restaurant-part-3420000.csv",
+                    "restaurant-part-4070000.csv", "restaurant-part-4311000.csv");
+        }
+
+        ArgumentCaptor<JobParameters> captor = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobLauncher).run(eq(job), captor.capture());
+        assertThat(captor.getValue().getString(MultiInsertWriter.TARGET_TABLE_PARAM)).isNull();
+        assertThat(captor.getValue().getLong("totalRows")).isEqualTo(6L);
+    }
+
+    private JobExecution execution(BatchStatus status) {
+        JobExecution execution = new JobExecution(1L);
+        execution.setStatus(status);
+        return execution;
+    }
+}
@@ -0,0 +1,80 @@
+package com.assignment.restaurantbatch.job;
+
+import com.assignment.restaurantbatch.reconcile.ReconciliationTasklet;
+import com.assignment.restaurantbatch.util.BatchTuner;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link RestaurantReplayJobLauncher} 클래스의 단위 테스트입니다.
+ * <p>
+ * - 실패 로그 파일이 파티션 파일로 배치되는지 검증<br>
+ * - 재처리용 Job 파라미터(인코딩, gridSize) 구성 검증
+ */
+class RestaurantReplayJobLauncherTest {
+
+    @Test
+    @DisplayName("실패 로그 파일마다 하나의 파티션 파일을 만들고 UTF-8로 Job을 실행해야 한다")
+    void testReplayStagesFailureFilesAndLaunchesJob(@TempDir Path tempDir) throws Exception {
+        // given: 실패 로그 2개 (일반 + gzip)
+        Path failure1 = tempDir.resolve("failed-1.csv");
+        Files.writeString(failure1, "\"번호\"\n\"1\"\n\"2\"\n", StandardCharsets.UTF_8);
+
+        Path failure2 = tempDir.resolve("failed-2.csv.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(failure2))) {
+            out.write("\"번호\"\n\"3\"\n".getBytes(StandardCharsets.UTF_8));
+        }
+
+        JobLauncher jobLauncher = mock(JobLauncher.class);
+        Job job = mock(Job.class);
+        BatchTuner batchTuner = mock(BatchTuner.class);
+        when(batchTuner.tune(anyInt())).thenReturn(new BatchTuner.BatchConfig(100, 8, 50));
+
+        Path partitionDir = tempDir.resolve("replay-partitioned");
+        RestaurantReplayJobLauncher launcher = new RestaurantReplayJobLauncher(jobLauncher, job, batchTuner) {
+            @Override
+            protected Path getPartitionDirPath() {
+                return partitionDir;
+            }
+
+            @Override
+            protected Path getFailureDirPath() {
+                return tempDir;
+            }
+        };
+
+        // when
+        launcher.replayJobRunner().run(new DefaultApplicationArguments(
+                "--replay.files=" + failure1 + "," + failure2));
+
+        // then: 파일 단위 파티션 생성
+        assertThat(partitionDir.resolve("restaurant-part-000.csv")).exists();
+        assertThat(Files.readAllLines(partitionDir.resolve("restaurant-part-001.csv"))).containsExactly("\"번호\"", "\"3\"");
+        verify(batchTuner).tune(3);
+
+        ArgumentCaptor<JobParameters> captor = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobLauncher).run(eq(job), captor.capture());
+
+        JobParameters params = captor.getValue();
+        assertThat(params.getString("encoding")).isEqualTo("UTF-8");
+        assertThat(params.getLong("gridSize")).isEqualTo(2L);
+        assertThat(params.getString("partitionDir")).isEqualTo(partitionDir.toString());
+        assertThat(params.getString("failureLog")).startsWith(tempDir.resolve("replay-failed-").toString());
+        assertThat(params.getString(ReconciliationTasklet.RECONCILE_PARAM)).isEqualTo("false");
+    }
+}
@@ -0,0 +1,134 @@
+package com.assignment.restaurantbatch.listener;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * {@link FailureRecordSink}의 단일 writer 동작을 검증하는 단위 테스트입니다.
+ *
+ * <p>테스트 항목:
+ * <ul>
+ *     <li>여러 스레드가 동시에 적재해도 recordNumber 기준으로 한 번만 기록되는지 검증</li>
+ *     <li>큐 용량보다 많은 항목을 적재해도 (backpressure) 모두 기록되는지 검증</li>
+ *     <li>.gz 확장자 파일은 gzip으로 기록되는지 검증</li>
+ *     <li>레코드 변환 오류는 해당 레코드만 건너뛰고, 파일 쓰기 오류 후에는 생산자와 종료가 멈추지 않는지 검증</li>
+ * </ul>
+ */
+class FailureRecordSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 적재해도 중복 없이 모두 기록되어야 한다")
+    void shouldWriteAllUniqueRecordsFromConcurrentProducers() throws Exception {
+        // given: 큐 용량을 작게 잡아 backpressure 상황 유도
+        Path file = tempDir.resolve("failed.csv");
+        FailureRecordSink sink = new FailureRecordSink(file, "header", item -> "row-" + item.getRecordNumber(), 16);
+        sink.open();
+
+        // when: 4개 스레드가 같은 1000건을 각각 적재
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 1; i <= 1000; i++) {
+                    sink.offer(record(i));
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        sink.close();
+
+        // then: 헤더 + 1000건
+        List<String> lines = Files.readAllLines(file);
+        assertThat(lines).hasSize(1001);
+        assertThat(lines.get(0)).isEqualTo("header");
+        assertThat(lines.subList(1, lines.size())).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName(".gz 확장자 파일은 gzip으로 압축되어 기록되어야 한다")
+    void shouldWriteGzipWhenFileNameEndsWithGz() throws Exception {
+        // given
+        Path file = tempDir.resolve("failed.csv.gz");
+        FailureRecordSink sink = new FailureRecordSink(file, "header", item -> "row-" + item.getRecordNumber());
+
+        // when
+        sink.offer(record(1));
+        sink.offer(record(2));
+        sink.close();
+
+        // then
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            assertThat(reader.lines().toList()).containsExactly("header", "row-1", "row-2");
+        }
+    }
+
+    @Test
+    @DisplayName("레코드 변환 중 예외가 나면 해당 레코드만 건너뛰고 나머지는 기록해야 한다")
+    void shouldSkipRecordWhenFormatterThrows() throws Exception {
+        // given
+        Path file = tempDir.resolve("failed.csv");
+        FailureRecordSink sink = new FailureRecordSink(file, "header", item -> {
+            if (item.getRecordNumber() == 2) throw new IllegalStateException("format");
+            return "row-" + item.getRecordNumber();
+        });
+
+        // when
+        for (int i = 1; i <= 3; i++) {
+            sink.offer(record(i));
+        }
+        sink.close();
+
+        // then
+        assertThat(Files.readAllLines(file)).containsExactly("header", "row-1", "row-3");
+        assertThat(sink.isFailed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("파일 쓰기 오류 후에는 큐가 가득 차도 적재와 종료가 대기 없이 끝나야 한다")
+    void shouldNotBlockProducersAfterWriteFailure() throws Exception {
+        // given: 쓰기마다 ENOSPC를 내는 장치, 작은 큐
+        Path full = Path.of("/dev/full");
+        assumeTrue(Files.isWritable(full));
+        FailureRecordSink sink = new FailureRecordSink(full, "header", item -> "row-" + item.getRecordNumber(), 4);
+
+        // when
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> {
+            for (int i = 1; i <= 10_000; i++) {
+                sink.offer(record(i));
+            }
+            sink.close();
+        });
+        executor.shutdown();
+
+        // then
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(sink.isFailed()).isTrue();
+    }
+
+    private RestaurantCsvDto record(int recordNumber) {
+        RestaurantCsvDto dto = new RestaurantCsvDto();
+        dto.setRecordNumber(recordNumber);
+        return dto;
+    }
+}
@@ -46,7 +46,7 @@ class RestaurantJobExecutionListenerTest {
         setField(jobExecution, "endTime", LocalDateTime.now());
 
         // StepExecution 더미 추가 (통계 출력 확인용)
-        StepExecution step = new StepExecution("step1", jobExecution);
+        StepExecution step = new StepExecution("slaveStep:partition0", jobExecution);
         setField(step, "readCount", 100);
         setField(step, "writeCount", 90);
         setField(step, "commitCount", 5);
@@ -1,15 +1,24 @@
 package com.assignment.restaurantbatch.listener;
 
 import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.core.io.FileSystemResource;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * {@link RestaurantSkipListener}의 병렬 환경 안정성 및 동작 검증을 위한 단위 테스트 클래스입니다.
@@ -19,6 +28,8 @@ import static org.assertj.core.api.Assertions.assertThat;
  *     <li>헤더는 오직 한 번만 기록되는지 검증</li>
  *     <li>중복 recordNumber는 한 번만 기록되는지 검증</li>
  *     <li>필드 내 큰따옴표는 CSV 형식으로 올바르게 이스케이프 되는지 검증</li>
+ *     <li>재시작한 Job은 기존 실패 로그에 이어서 기록하는지 검증</li>
+ *     <li>여러 파일 적재에서 파일마다 같은 recordNumber를 따로 기록하고 재시작 시 이어받는지 검증</li>
  * </ul>
  */
 class RestaurantSkipListenerTest {
@@ -34,7 +45,7 @@ class RestaurantSkipListenerTest {
         // 테스트마다 새로운 실패로그 파일 생성
         failureFile = tempDir.resolve("failed.csv");
         listener = new RestaurantSkipListener(failureFile);
-        listener.beforeStep(null); // 헤더 강제 작성
+        listener.beforeJob(null); // 헤더 강제 작성
     }
 
     @Test
@@ -47,6 +58,7 @@ class RestaurantSkipListenerTest {
 
         listener.onSkipInWrite(item, new RuntimeException("skip"));
         listener.onSkipInWrite(item, new RuntimeException("skip again"));
+        listener.afterJob(null); // 남은 항목 flush
 
         // then: 헤더 + 한 줄만 존재해야 함
         List<String> lines = Files.readAllLines(failureFile);
@@ -70,10 +82,118 @@ class RestaurantSkipListenerTest {
         // when: 두 항목 모두 스킵 처리
         listener.onSkipInWrite(item1, new RuntimeException("skip"));
         listener.onSkipInWrite(item2, new RuntimeException("skip"));
+        listener.afterJob(null); // 남은 항목 flush
 
         // then: 헤더 + item1만 기록되어야 함
         List<String> lines = Files.readAllLines(failureFile);
         assertThat(lines).hasSize(2);
         assertThat(lines.get(1)).contains("A");
     }
+
+    @Test
+    @DisplayName("여러 스레드에서 스킵된 recordNumber를 모두 조회할 수 있어야 한다")
+    void shouldTrackSkippedRecordNumbersAcrossThreads() throws InterruptedException {
+        // given: 4개 스레드가 서로 다른 recordNumber를 스킵
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int base = t * 1000;
+            threads.add(new Thread(() -> {
+                for (int i = 1; i <= 1000; i++) {
+                    var item = new RestaurantCsvDto();
+                    item.setRecordNumber(base + i);
+                    listener.onSkipInProcess(item, new RuntimeException("skip"));
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        listener.afterJob(null);
+
+        // then
+        for (int recordNumber = 1; recordNumber <= 4000; recordNumber++) {
+            assertThat(listener.isSkipped(recordNumber)).isTrue();
+        }
+        assertThat(listener.isSkipped(4001)).isFalse();
+    }
+
+    @Test
+    @DisplayName("재시작한 Job은 기존 실패 로그를 비우지 않고 헤더 없이 이어서 기록해야 한다")
+    void shouldAppendToExistingFailureLogOnRestart() throws IOException {
+        // given: 첫 실행이 recordNumber 1을 기록하고 실패
+        var first = new RestaurantCsvDto();
+        first.setRecordNumber(1);
+        first.setServiceName("A");
+        listener.onSkipInWrite(first, new RuntimeException("skip"));
+        listener.afterJob(null);
+
+        JobInstance instance = new JobInstance(1L, "restaurantPartitionedJob");
+        JobExplorer jobExplorer = mock(JobExplorer.class);
+        when(jobExplorer.getJobExecutions(instance)).thenReturn(List.of(
+                new JobExecution(instance, 2L, new JobParameters()), new JobExecution(instance, 1L, new JobParameters())));
+        RestaurantSkipListener restarted = new RestaurantSkipListener(failureFile, DatasetSchema.restaurant(), jobExplorer);
+
+        // when: 재시작 실행이 같은 recordNumber 1과 새 recordNumber 2를 스킵
+        restarted.beforeJob(new JobExecution(instance, 2L, new JobParameters()));
+        var second = new RestaurantCsvDto();
+        second.setRecordNumber(2);
+        second.setServiceName("B");
+        restarted.onSkipInWrite(first, new RuntimeException("skip again"));
+        restarted.onSkipInWrite(second, new RuntimeException("skip"));
+        restarted.afterJob(null);
+
+        // then: 헤더 1줄 + 첫 실행 기록 + 새 기록, 이전 실행의 스킵도 이어받음
+        List<String> lines = Files.readAllLines(failureFile);
+        assertThat(lines).hasSize(3);
+        assertThat(lines.get(0)).contains("번호");
+        assertThat(lines.get(1)).contains("A");
+        assertThat(lines.get(2)).contains("B");
+        assertThat(restarted.isSkipped(1)).isTrue();
+        assertThat(restarted.isSkipped(2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 파일 적재에서는 입력 파일이 다르면 같은 recordNumber도 따로 기록하고 재시작 시 이어받아야 한다")
+    void shouldKeyFailuresBySourceFile() throws IOException {
+        // given: 두 입력 파일이 모두 1번을 쓰는 행
+        var seoul = multiFileItem("restaurant-part-000_seoul-000.csv", "A");
+        var busan = multiFileItem("restaurant-part-001_busan-000.csv", "B");
+
+        listener.onSkipInWrite(seoul, new RuntimeException("skip"));
+        listener.onSkipInWrite(busan, new RuntimeException("skip"));
+        listener.onSkipInWrite(busan, new RuntimeException("skip again"));
+        listener.afterJob(null);
+
+        JobInstance instance = new JobInstance(1L, "restaurantPartitionedJob");
+        JobExplorer jobExplorer = mock(JobExplorer.class);
+        when(jobExplorer.getJobExecutions(instance)).thenReturn(List.of(
+                new JobExecution(instance, 2L, new JobParameters()), new JobExecution(instance, 1L, new JobParameters())));
+        RestaurantSkipListener restarted = new RestaurantSkipListener(failureFile, DatasetSchema.restaurant(), jobExplorer);
+
+        // when: 재시작 실행이 busan 1번을 다시 스킵
+        restarted.beforeJob(new JobExecution(instance, 2L, new JobParameters()));
+        restarted.onSkipInWrite(busan, new RuntimeException("skip on restart"));
+        restarted.afterJob(null);
+
+        // then: 헤더 + 파일별 1줄, 입력 파일별 스킵 이어받음
+        List<String> lines = Files.readAllLines(failureFile);
+        assertThat(lines).hasSize(3);
+        assertThat(Files.readAllLines(FailureRecordSink.sourcesFile(failureFile)))
+                .containsExactly("000_seoul,1", "001_busan,1");
+        assertThat(restarted.isSkipped("000_seoul", 1)).isTrue();
+        assertThat(restarted.isSkipped("001_busan", 1)).isTrue();
+        assertThat(restarted.isSkipped("002_fix", 1)).isFalse();
+        assertThat(restarted.isSkipped(1)).isFalse();
+    }
+
+    private static RestaurantCsvDto multiFileItem(String partFileName, String serviceName) {
+        var item = new RestaurantCsvDto();
+        item.setRecordNumber(1);
+        item.setServiceName(serviceName);
+        item.setResource(new FileSystemResource(partFileName));
+        return item;
+    }
 }
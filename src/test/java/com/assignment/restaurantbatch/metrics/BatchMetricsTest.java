@@ -0,0 +1,58 @@
+package com.assignment.restaurantbatch.metrics;
+
+import com.assignment.restaurantbatch.progress.BatchProgress;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link BatchMetrics}의 Timer 재사용과 초당 처리 행 수 Gauge를 검증하는 테스트 클래스입니다.
+ * <p>
+ * - 같은 지표명·파티션의 Timer를 한 번만 등록하고 히스토그램을 발행하지 않는지 확인<br>
+ * - 실행 중 초당 커밋 행 수가 Gauge로 노출되는지 확인
+ */
+class BatchMetricsTest {
+
+    @Test
+    @DisplayName("같은 지표명과 파티션의 Timer는 한 번만 등록되고 히스토그램 버킷이 없어야 한다")
+    void shouldReuseTimerWithoutHistogram() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BatchMetrics metrics = new BatchMetrics(registry);
+
+        // when
+        metrics.recordTime(BatchMetrics.CHUNK_WRITE, "slaveStep:partition0", 1_000);
+        metrics.recordTime(BatchMetrics.CHUNK_WRITE, "slaveStep:partition0", 2_000);
+        metrics.recordTime(BatchMetrics.CHUNK_WRITE, "slaveStep:partition1", 3_000);
+
+        // then
+        Timer timer = metrics.timer(BatchMetrics.CHUNK_WRITE, "slaveStep:partition0");
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.takeSnapshot().histogramCounts()).isEmpty();
+        assertThat(registry.find(BatchMetrics.CHUNK_WRITE).timers()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("실행 중 초당 커밋 행 수가 Gauge로 노출되어야 한다")
+    void shouldExposeRowsPerSecondGauge() throws Exception {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BatchProgress progress = new BatchProgress();
+        new BatchMetricsConfig().rowsPerSecondGauge(new BatchMetrics(registry), progress);
+        progress.start("job", BatchProgress.UNKNOWN, BatchProgress.UNKNOWN);
+
+        // when: 샘플 간격(1초)이 지난 뒤 조회
+        progress.addCommitted(5_000);
+        Thread.sleep(1_100);
+
+        // then
+        double rowsPerSecond = registry.get(BatchMetrics.ROWS_PER_SECOND).gauge().value();
+        assertThat(rowsPerSecond).isGreaterThan(0).isLessThanOrEqualTo(5_000);
+
+        progress.finish();
+        assertThat(registry.get(BatchMetrics.ROWS_PER_SECOND).gauge().value()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+package com.assignment.restaurantbatch.metrics;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ChunkMetricsListener}, {@link SkipRetryMetricsListener}의 지표 기록을 검증하는 테스트 클래스입니다.
+ * <p>
+ * - Chunk 구간별 Timer와 처리 건수 Counter가 기록되는지 확인<br>
+ * - 스킵 건수가 예외 유형별로 집계되는지 확인
+ */
+class ChunkMetricsListenerTest {
+
+    @Test
+    @DisplayName("Chunk 한 번 처리 시 읽기/쓰기/전체 Timer가 한 번씩 기록되어야 한다")
+    void shouldRecordChunkPhaseTimers() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ChunkMetricsListener listener = new ChunkMetricsListener(new BatchMetrics(registry));
+
+        StepExecution stepExecution = MetaDataInstanceFactory.createStepExecution("slaveStep:partition0", 1L);
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        Chunk<RestaurantCsvDto> chunk = new Chunk<>(List.of(new RestaurantCsvDto(), new RestaurantCsvDto()));
+
+        // when
+        listener.beforeChunk(chunkContext);
+        listener.beforeWrite(chunk);
+        listener.afterWrite(chunk);
+        listener.afterChunk(chunkContext);
+
+        // then
+        assertThat(registry.get(BatchMetrics.CHUNK_READ).timer().count()).isEqualTo(1);
+        assertThat(registry.get(BatchMetrics.CHUNK_WRITE).timer().count()).isEqualTo(1);
+        assertThat(registry.get(BatchMetrics.CHUNK_DURATION)
+                .tag(BatchMetrics.PARTITION_TAG, "slaveStep:partition0").timer().count()).isEqualTo(1);
+        assertThat(registry.get(BatchMetrics.ROWS_WRITTEN).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스킵 건수는 예외 유형별로 집계되어야 한다")
+    void shouldCountSkipsByExceptionType() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SkipRetryMetricsListener listener = new SkipRetryMetricsListener(new BatchMetrics(registry));
+
+        // when
+        listener.onSkipInWrite(new RestaurantCsvDto(), new SQLException("fail"));
+        listener.onSkipInWrite(new RestaurantCsvDto(), new SQLException("fail"));
+        listener.onSkipInRead(new NumberFormatException("NaN"));
+
+        // then
+        assertThat(registry.get(BatchMetrics.SKIPS)
+                .tag(BatchMetrics.EXCEPTION_TAG, "SQLException").counter().count()).isEqualTo(2);
+        assertThat(registry.get(BatchMetrics.SKIPS)
+                .tag(BatchMetrics.EXCEPTION_TAG, "NumberFormatException").counter().count()).isEqualTo(1);
+    }
+}
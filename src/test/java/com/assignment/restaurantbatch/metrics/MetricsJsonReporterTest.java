@@ -0,0 +1,43 @@
+package com.assignment.restaurantbatch.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+/**
+ * {@link MetricsJsonReporter}가 Job 종료 시 지표 JSON 파일을 생성하는지 검증하는 테스트 클래스입니다.
+ */
+class MetricsJsonReporterTest {
+
+    @Test
+    @DisplayName("afterJob() 호출 시 batch.* 지표가 JSON 파일로 저장되어야 한다")
+    void shouldDumpMetricsAsJsonAfterJob(@TempDir Path tempDir) throws Exception {
+        // given
+        BatchMetrics metrics = new BatchMetrics(new SimpleMeterRegistry());
+        metrics.increment(BatchMetrics.ROWS_WRITTEN, "slaveStep:partition0", 100);
+        metrics.recordTime(BatchMetrics.WRITER_EXECUTE, "slaveStep:partition0", 1_000_000);
+
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution();
+        setField(jobExecution, "startTime", LocalDateTime.now().minusSeconds(1));
+        setField(jobExecution, "endTime", LocalDateTime.now());
+
+        // when
+        new MetricsJsonReporter(metrics, tempDir).afterJob(jobExecution);
+
+        // then
+        Path file = tempDir.resolve("metrics-" + jobExecution.getId() + ".json");
+        assertThat(file).exists();
+        String json = Files.readString(file);
+        assertThat(json).contains("\"rowsWritten\" : 100", BatchMetrics.WRITER_EXECUTE, "slaveStep:partition0");
+    }
+}
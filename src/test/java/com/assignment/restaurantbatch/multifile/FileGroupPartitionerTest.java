@@ -0,0 +1,95 @@
+package com.assignment.restaurantbatch.multifile;
+
+import com.assignment.restaurantbatch.multifile.SourceFileStats.SourceSummary;
+import com.assignment.restaurantbatch.util.CsvSplitter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 여러 파일 적재({@link CsvSplitter#splitAll}, {@link FileGroupPartitioner}, {@link SourceFileStats})의 단위 테스트입니다.
+ * <p>
+ * • 입력 파일마다 구분되는 이름으로 분할하고<br>
+ * • 작은 분할 파일을 가장 큰 분할 파일 크기까지 한 파티션으로 묶는지 확인합니다.
+ */
+class FileGroupPartitionerTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    private final CsvSplitter csvSplitter = new CsvSplitter();
+
+    @Test
+    @DisplayName("여러 입력 파일을 입력별 이름으로 분할하고 작은 파일들은 한 파티션으로 묶어야 한다")
+    void shouldSplitAllInputsAndGroupSmallPieces(@TempDir Path tempDir) throws Exception {
+        // given: 8행 파일 하나와 1행 보정 파일 셋
+        Path big = write(tempDir.resolve("big.csv"), 8);
+        Path smallA = write(tempDir.resolve("small-a.csv"), 1);
+        Path smallB = write(tempDir.resolve("small-b.csv"), 1);
+        Path smallC = write(tempDir.resolve("small-c.csv"), 1);
+        Path partitionDir = tempDir.resolve("partitioned");
+
+        // when: 4행 단위 분할 후 파티션 생성
+        long written = csvSplitter.splitAll(List.of(big, smallA, smallB, smallC), partitionDir.toString(), 4);
+        Map<String, ExecutionContext> partitions = new FileGroupPartitioner(partitionDir.toFile()).partition(2);
+
+        // then: 큰 파일 조각은 각자, 1행 파일은 4행 조각 크기를 넘지 않는 만큼(둘) 묶임
+        assertThat(written).isEqualTo(11);
+        assertThat(partitions).hasSize(4);
+        List<List<String>> groups = new ArrayList<>();
+        for (int i = 0; i < partitions.size(); i++) {
+            groups.add(List.of(partitions.get("partition" + i).getString(FileGroupPartitioner.FILES_KEY).split("\n")).stream()
+                    .map(file -> Path.of(file).getFileName().toString())
+                    .toList());
+        }
+        assertThat(groups).containsExactly(
+                List.of("restaurant-part-000_big-000.csv"),
+                List.of("restaurant-part-000_big-001.csv"),
+                List.of("restaurant-part-001_small_a-000.csv", "restaurant-part-002_small_b-000.csv"),
+                List.of("restaurant-part-003_small_c-000.csv"));
+        assertThat(partitions.get("partition2").getString("file")).isEqualTo("restaurant-part-001_small_a-000.csv+1");
+        assertThat(CsvSplitter.sourceOf("restaurant-part-001_small_a-000.csv")).isEqualTo("001_small_a");
+        assertThat(CsvSplitter.sourceOf("restaurant-part-007.csv")).isNull();
+    }
+
+    @Test
+    @DisplayName("입력 파일별 건수를 구분자 순서로 집계해야 한다")
+    void shouldSummarizePerSourceCounts() {
+        // given
+        SourceFileStats stats = new SourceFileStats();
+
+        // when
+        stats.addRead("001_fix");
+        stats.addRead("000_seoul");
+        stats.addRead("000_seoul");
+        stats.addWritten("000_seoul", 1);
+        stats.addSkipped("000_seoul");
+        stats.addWritten("001_fix", 1);
+
+        // then
+        assertThat(stats.summaries())
+                .extracting(SourceSummary::source, SourceSummary::read, SourceSummary::written, SourceSummary::skipped)
+                .containsExactly(tuple("000_seoul", 2L, 1L, 1L), tuple("001_fix", 1L, 1L, 0L));
+        assertThat(SourceFileReport.reportFileFor(Path.of("data/failure/failed-1.csv")).getFileName().toString())
+                .isEqualTo("failed-1-files.csv");
+    }
+
+    private static Path write(Path file, int rows) throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add("번호,개방서비스명");
+        IntStream.rangeClosed(1, rows).forEach(i -> lines.add(i + ",일반음식점"));
+        Files.write(file, lines, MS949);
+        return file;
+    }
+}
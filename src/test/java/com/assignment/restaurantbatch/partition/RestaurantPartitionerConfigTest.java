@@ -2,13 +2,17 @@ package com.assignment.restaurantbatch.partition;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.batch.core.partition.support.MultiResourcePartitioner;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 
 import java.io.File;
 import java.lang.reflect.Field;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -46,7 +50,7 @@ class RestaurantPartitionerConfigTest {
 
         // when: 절대경로로 config 호출
         String partitionDir = folder.getAbsolutePath();
-        MultiResourcePartitioner partitioner = config.multiResourcePartitioner(partitionDir);
+        MultiResourcePartitioner partitioner = config.multiResourcePartitioner(partitionDir, null);
 
         // then: partitioner 내부 설정 리소스 확인
         Field resourcesField = MultiResourcePartitioner.class.getDeclaredField("resources");
@@ -56,4 +60,23 @@ class RestaurantPartitionerConfigTest {
         assertThat(partitioner).isNotNull();
         assertThat(actualResources).hasSameSizeAs(expectedResources);
     }
+
+    @Test
+    @DisplayName("followFile이 지정되면 디렉토리 대신 해당 파일 하나를 파티션으로 등록해야 한다")
+    void shouldUseSingleFollowFile(@TempDir Path tempDir) throws Exception {
+        // given: 파티션 디렉토리는 없고, 기록 중인 입력 파일만 존재
+        Path followFile = tempDir.resolve("restaurant.csv");
+        Files.writeString(followFile, "\"번호\"\n");
+
+        // when
+        MultiResourcePartitioner partitioner = config.multiResourcePartitioner(
+                tempDir.resolve("missing").toString(), followFile.toString());
+
+        // then
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+        assertThat(partitions).hasSize(1);
+        assertThat(partitions.values().iterator().next().getString("file"))
+                .startsWith("file:")
+                .endsWith("/restaurant.csv");
+    }
 }
@@ -1,5 +1,6 @@
 package com.assignment.restaurantbatch.policy;
 
+import com.assignment.restaurantbatch.shard.ShardCommitUncertainException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.time.format.DateTimeParseException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -64,27 +66,47 @@ class CustomSkipPolicyTest {
     }
 
     @Test
-    @DisplayName("TransientDataAccessException은 skip 처리해야 한다")
-    void shouldSkipForTransientDataAccessException() throws Exception {
+    @DisplayName("TransientDataAccessException은 재시도 한도를 넘겨도 skip 처리하지 않아야 한다")
+    void shouldNotSkipForTransientDataAccessException() throws Exception {
         // when
         boolean result = skipPolicy.shouldSkip(new TransientDataAccessException("DB issue") {}, 0);
 
         // then
-        assertThat(result).isTrue();
+        assertThat(result).isFalse();
     }
 
     @Test
-    @DisplayName("CannotGetJdbcConnectionException은 skip 처리해야 한다")
-    void shouldSkipForCannotGetJdbcConnectionException() throws Exception {
+    @DisplayName("CannotGetJdbcConnectionException은 skip 처리하지 않아야 한다")
+    void shouldNotSkipForCannotGetJdbcConnectionException() throws Exception {
         // when
         boolean result = skipPolicy.shouldSkip(new CannotGetJdbcConnectionException("Connection failed"), 0);
 
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("연결 오류 SQLState(08)를 가진 SQLException은 skip 처리하지 않아야 한다")
+    void shouldNotSkipForConnectionSqlState() throws Exception {
+        // when
+        boolean result = skipPolicy.shouldSkip(new SQLException("Communications link failure", "08S01"), 0);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("무결성 제약 위반 SQLException은 skip 처리해야 한다")
+    void shouldSkipForIntegrityConstraintViolation() throws Exception {
+        // when
+        boolean result = skipPolicy.shouldSkip(new SQLIntegrityConstraintViolationException("Duplicate entry", "23000"), 0);
+
         // then
         assertThat(result).isTrue();
     }
 
     @Test
-    @DisplayName("SQLException은 skip 처리해야 한다")
+    @DisplayName("데이터 오류 SQLException은 skip 처리해야 한다")
     void shouldSkipForSqlException() throws Exception {
         // when
         boolean result = skipPolicy.shouldSkip(new SQLException("SQL error"), 0);
@@ -93,6 +115,20 @@ class CustomSkipPolicyTest {
         assertThat(result).isTrue();
     }
 
+    @Test
+    @DisplayName("샤드 커밋 상태를 확인하지 못한 예외는 skip 처리하지 않아야 한다")
+    void shouldNotSkipForShardCommitUncertainException() throws Exception {
+        // given
+        ShardCommitUncertainException exception = new ShardCommitUncertainException(0, "compensation failed",
+                new SQLException("Communications link failure", "08S01"));
+
+        // when
+        boolean result = skipPolicy.shouldSkip(exception, 0);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
     @Test
     @DisplayName("FileNotFoundException은 skip 처리하지 않아야 한다")
     void shouldNotSkipForFileNotFoundException() throws Exception {
@@ -0,0 +1,152 @@
+package com.assignment.restaurantbatch.policy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link DbCircuitBreaker}의 상태 전환과 DB 오류 판별을 검증하는 단위 테스트입니다.
+ */
+class DbCircuitBreakerTest {
+
+    private static final Exception DB_ERROR = new CannotGetJdbcConnectionException("pool exhausted");
+
+    @Test
+    @DisplayName("DB 오류 비율이 임계치를 넘으면 OPEN되고 멈춤 시간 동안 쓰기를 대기시킨다")
+    void opensAndBlocksWhenFailureRateExceeded() throws Exception {
+        // given
+        DbCircuitBreaker breaker = new DbCircuitBreaker(0.5, 4, Duration.ofSeconds(10), Duration.ofMillis(300), 4);
+        succeed(breaker, 2);
+
+        // when
+        fail(breaker, 2, DB_ERROR);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(DbCircuitBreaker.State.OPEN);
+        assertThat(breaker.openCount()).isEqualTo(1);
+
+        long start = System.nanoTime();
+        breaker.acquire();
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(250);
+        assertThat(breaker.state()).isEqualTo(DbCircuitBreaker.State.RAMP_UP);
+    }
+
+    @Test
+    @DisplayName("최소 쓰기 수에 못 미치면 오류 비율이 높아도 OPEN되지 않는다")
+    void staysClosedBelowMinimumCalls() throws Exception {
+        // given
+        DbCircuitBreaker breaker = new DbCircuitBreaker(0.5, 10, Duration.ofSeconds(10), Duration.ofSeconds(1), 4);
+
+        // when
+        fail(breaker, 5, DB_ERROR);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(DbCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("데이터 오류는 오류 비율에 포함하지 않는다")
+    void ignoresNonDbErrors() throws Exception {
+        // given
+        DbCircuitBreaker breaker = new DbCircuitBreaker(0.5, 2, Duration.ofSeconds(10), Duration.ofSeconds(1), 4);
+
+        // when
+        fail(breaker, 10, new DataIntegrityViolationException("duplicate key"));
+
+        // then
+        assertThat(breaker.state()).isEqualTo(DbCircuitBreaker.State.CLOSED);
+        assertThat(breaker.openCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("RAMP_UP 중에는 허용 동시 수를 넘는 쓰기를 대기시키고, 성공할수록 늘려 CLOSED로 돌아간다")
+    void rampsUpThenCloses() throws Exception {
+        // given
+        DbCircuitBreaker breaker = openedBreaker(4);
+        breaker.acquire(); // RAMP_UP 전환, 허용 1개 사용
+
+        // when: 두 번째 쓰기는 첫 쓰기가 끝날 때까지 대기
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            try {
+                breaker.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+        breaker.onSuccess(); // 허용 1 → 2
+
+        // then
+        second.get(1, TimeUnit.SECONDS);
+        assertThat(breaker.state()).isEqualTo(DbCircuitBreaker.State.RAMP_UP);
+
+        breaker.acquire();
+        breaker.onSuccess();
+        breaker.onSuccess(); // 허용 2 → 4 = 전체 동시 수
+        assertThat(breaker.state()).isEqualTo(DbCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("RAMP_UP 중 DB 오류가 나면 바로 다시 OPEN된다")
+    void reopensOnFailureDuringRampUp() throws Exception {
+        // given
+        DbCircuitBreaker breaker = openedBreaker(4);
+        breaker.acquire();
+
+        // when
+        breaker.onFailure(DB_ERROR);
+
+        // then
+        assertThat(breaker.state()).isEqualTo(DbCircuitBreaker.State.OPEN);
+        assertThat(breaker.openCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연결·일시적 오류는 원인(cause)까지 확인하여 DB 오류로 판별한다")
+    void classifiesDbErrors() {
+        assertThat(DbCircuitBreaker.isDbError(new TransientDataAccessResourceException("lock wait"))).isTrue();
+        assertThat(DbCircuitBreaker.isDbError(new SQLTransientConnectionException("timeout"))).isTrue();
+        assertThat(DbCircuitBreaker.isDbError(new RuntimeException(new SQLException("link failure", "08S01")))).isTrue();
+        assertThat(DbCircuitBreaker.isDbError(new SQLException("deadlock", "40001"))).isTrue();
+
+        assertThat(DbCircuitBreaker.isDbError(new SQLException("duplicate entry", "23000"))).isFalse();
+        assertThat(DbCircuitBreaker.isDbError(new IllegalArgumentException("bad value"))).isFalse();
+    }
+
+    /**
+     * 짧은 멈춤 시간으로 OPEN시킨 뒤 멈춤이 끝날 때까지 기다린 차단기를 반환합니다.
+     */
+    private DbCircuitBreaker openedBreaker(int fullConcurrency) throws Exception {
+        DbCircuitBreaker breaker = new DbCircuitBreaker(0.5, 1, Duration.ofSeconds(10), Duration.ofMillis(50), fullConcurrency);
+        fail(breaker, 1, DB_ERROR);
+        assertThat(breaker.state()).isEqualTo(DbCircuitBreaker.State.OPEN);
+        Thread.sleep(60);
+        return breaker;
+    }
+
+    private void succeed(DbCircuitBreaker breaker, int times) throws InterruptedException {
+        for (int i = 0; i < times; i++) {
+            breaker.acquire();
+            breaker.onSuccess();
+        }
+    }
+
+    private void fail(DbCircuitBreaker breaker, int times, Exception error) throws InterruptedException {
+        for (int i = 0; i < times; i++) {
+            breaker.acquire();
+            breaker.onFailure(error);
+        }
+    }
+}
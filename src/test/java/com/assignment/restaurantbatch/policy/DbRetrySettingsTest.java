@@ -0,0 +1,87 @@
+package com.assignment.restaurantbatch.policy;
+
+import com.assignment.restaurantbatch.shard.ShardCommitUncertainException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.backoff.NoBackOffPolicy;
+
+import java.sql.DataTruncation;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link DbRetrySettings#retryPolicy()}가 DB 연결·일시적 오류만 재시도하는지 검증합니다.
+ */
+class DbRetrySettingsTest {
+
+    private final DbRetrySettings settings = new DbRetrySettings(3, new NoBackOffPolicy(),
+            new DbCircuitBreaker(0.5, 20, Duration.ofSeconds(10), Duration.ofSeconds(5), 32));
+
+    @Test
+    @DisplayName("일시적 DB 오류는 재시도 한도까지 재시도한다")
+    void retriesTransientErrorUpToLimit() {
+        // given
+        RetryPolicy policy = settings.retryPolicy();
+        RetryContext context = policy.open(null);
+
+        // when & then
+        for (int attempt = 1; attempt < 3; attempt++) {
+            policy.registerThrowable(context, new TransientDataAccessResourceException("lock wait timeout"));
+            assertThat(policy.canRetry(context)).isTrue();
+        }
+        policy.registerThrowable(context, new TransientDataAccessResourceException("lock wait timeout"));
+        assertThat(policy.canRetry(context)).isFalse();
+    }
+
+    @Test
+    @DisplayName("원인이 연결 오류 SQLState(08)인 예외도 재시도한다")
+    void retriesWrappedConnectionError() {
+        // given
+        RetryPolicy policy = settings.retryPolicy();
+        RetryContext context = policy.open(null);
+
+        // when
+        policy.registerThrowable(context, new IllegalStateException(new SQLException("Communications link failure", "08S01")));
+
+        // then
+        assertThat(policy.canRetry(context)).isTrue();
+    }
+
+    @Test
+    @DisplayName("데이터 오류는 재시도하지 않고 바로 스킵 탐색으로 넘긴다")
+    void doesNotRetryDataErrors() {
+        // given
+        RetryPolicy policy = settings.retryPolicy();
+        RetryContext truncation = policy.open(null);
+        RetryContext violation = policy.open(null);
+
+        // when
+        policy.registerThrowable(truncation, new DataTruncation(3, true, false, 200, 100));
+        policy.registerThrowable(violation, new DataIntegrityViolationException("Duplicate entry"));
+
+        // then
+        assertThat(policy.canRetry(truncation)).isFalse();
+        assertThat(policy.canRetry(violation)).isFalse();
+    }
+
+    @Test
+    @DisplayName("샤드 커밋 상태를 확인하지 못한 예외는 원인이 연결 오류여도 재시도하지 않는다")
+    void doesNotRetryShardCommitUncertain() {
+        // given
+        RetryPolicy policy = settings.retryPolicy();
+        RetryContext context = policy.open(null);
+
+        // when
+        policy.registerThrowable(context, new ShardCommitUncertainException(1, "compensation failed",
+                new SQLException("Communications link failure", "08S01")));
+
+        // then
+        assertThat(policy.canRetry(context)).isFalse();
+    }
+}
@@ -0,0 +1,120 @@
+package com.assignment.restaurantbatch.progress;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link BatchProgress}의 진행률 집계와 ETA 계산을 검증하는 테스트 클래스입니다.
+ * <p>
+ * - 여러 스레드에서 동시에 누적한 건수가 유실되지 않는지 확인<br>
+ * - 전체 행 수/바이트 기준 진행률 계산 확인
+ */
+class BatchProgressTest {
+
+    @Test
+    @DisplayName("여러 파티션 스레드가 동시에 누적한 건수가 모두 집계되어야 한다")
+    void shouldAggregateCountsFromConcurrentPartitions() throws Exception {
+        // given
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", 40_000, BatchProgress.UNKNOWN);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when: 4개 스레드가 각각 1000건씩 10번 커밋
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10; i++) {
+                    progress.addCommitted(1_000);
+                }
+                progress.addSkipped();
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        ProgressSnapshot snapshot = progress.snapshot();
+        assertThat(snapshot.committedRows()).isEqualTo(40_000);
+        assertThat(snapshot.skippedRows()).isEqualTo(4);
+        assertThat(snapshot.percent()).isEqualTo(100.0);
+        assertThat(snapshot.etaSeconds()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 행 수를 모르면 바이트 기준으로 진행률을 계산해야 한다")
+    void shouldFallBackToBytesWhenTotalRowsUnknown() {
+        // given
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", BatchProgress.UNKNOWN, 1_000);
+
+        // when
+        progress.addBytes(250);
+        ProgressSnapshot snapshot = progress.snapshot();
+
+        // then
+        assertThat(snapshot.percent()).isEqualTo(25.0);
+        assertThat(snapshot.etaSeconds()).isGreaterThanOrEqualTo(0);
+        assertThat(snapshot.toLogLine()).contains("25.0%");
+    }
+
+    @Test
+    @DisplayName("입력 크기를 모르면 진행률과 ETA는 -1이어야 한다")
+    void shouldReportUnknownWithoutInputSize() {
+        // given
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", BatchProgress.UNKNOWN, BatchProgress.UNKNOWN);
+        progress.addCommitted(10);
+
+        // when
+        ProgressSnapshot snapshot = progress.snapshot();
+
+        // then
+        assertThat(snapshot.percent()).isEqualTo(-1);
+        assertThat(snapshot.etaSeconds()).isEqualTo(-1);
+        assertThat(snapshot.running()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Job 종료 후 ETA는 0이고 실행 중 아님으로 표시되어야 한다")
+    void shouldReportFinished() {
+        // given
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", 100, BatchProgress.UNKNOWN);
+        progress.addCommitted(50);
+
+        // when
+        progress.finish();
+        ProgressSnapshot snapshot = progress.snapshot();
+
+        // then
+        assertThat(snapshot.running()).isFalse();
+        assertThat(snapshot.etaSeconds()).isZero();
+        assertThat(snapshot.percent()).isEqualTo(50.0);
+    }
+
+    @Test
+    @DisplayName("첫 Chunk 커밋 시점의 JVM 가동 시간은 한 번만 기록되어야 한다")
+    void shouldRecordFirstChunkUptimeOnce() {
+        // given
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", 100, BatchProgress.UNKNOWN);
+        assertThat(progress.snapshot().firstChunkUptimeMillis()).isEqualTo(BatchProgress.UNKNOWN);
+
+        // when
+        progress.addCommitted(10);
+        long firstChunk = progress.snapshot().firstChunkUptimeMillis();
+        progress.addCommitted(10);
+
+        // then
+        ProgressSnapshot snapshot = progress.snapshot();
+        assertThat(snapshot.jobStartUptimeMillis()).isGreaterThanOrEqualTo(0);
+        assertThat(firstChunk).isGreaterThanOrEqualTo(snapshot.jobStartUptimeMillis());
+        assertThat(snapshot.firstChunkUptimeMillis()).isEqualTo(firstChunk);
+        assertThat(snapshot.toStartupLine()).contains("firstChunkUptimeMillis=" + firstChunk);
+    }
+}
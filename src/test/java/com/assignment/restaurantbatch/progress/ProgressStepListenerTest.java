@@ -0,0 +1,39 @@
+package com.assignment.restaurantbatch.progress;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ProgressStepListener}가 커밋된 Chunk만 진행률에 반영하는지 검증하는 테스트 클래스입니다.
+ */
+class ProgressStepListenerTest {
+
+    @Test
+    @DisplayName("커밋된 Chunk의 건수만 반영하고 롤백된 Chunk는 버려야 한다")
+    void shouldCountOnlyCommittedChunks() {
+        // given
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", 10, BatchProgress.UNKNOWN);
+        ProgressStepListener listener = new ProgressStepListener(progress);
+        Chunk<RestaurantCsvDto> chunk = new Chunk<>(List.of(new RestaurantCsvDto(), new RestaurantCsvDto()));
+
+        // when: 첫 Chunk는 커밋, 두 번째 Chunk는 롤백
+        listener.afterWrite(chunk);
+        listener.afterChunk(null);
+        listener.afterWrite(chunk);
+        listener.afterChunkError(null);
+        listener.afterChunk(null);
+        listener.onSkipInWrite(new RestaurantCsvDto(), new IllegalStateException());
+
+        // then
+        ProgressSnapshot snapshot = progress.snapshot();
+        assertThat(snapshot.committedRows()).isEqualTo(2);
+        assertThat(snapshot.skippedRows()).isEqualTo(1);
+    }
+}
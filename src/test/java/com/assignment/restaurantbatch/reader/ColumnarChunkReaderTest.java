@@ -0,0 +1,148 @@
+package com.assignment.restaurantbatch.reader;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link ColumnarChunkReader}, {@link ColumnarChunk}의 바이트 단위 토큰화와 버퍼 재사용을 검증하는 테스트 클래스입니다.
+ * <p>
+ * • DelimitedLineTokenizer와 같은 규칙(따옴표 제거, "" 이스케이프, 부족한 컬럼은 빈 값)으로 분리되는지 확인합니다.
+ * • MS949 원본 CSV를 DTO 경로와 같은 값으로 읽는지 확인합니다.
+ * • 멀티바이트 문자만 있는 라인을 빈 줄로 버리지 않는지 확인합니다.
+ */
+class ColumnarChunkReaderTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    @Test
+    @DisplayName("따옴표와 이스케이프된 따옴표를 DelimitedLineTokenizer와 같은 규칙으로 분리해야 한다")
+    void shouldTokenizeQuotedFields() {
+        // given
+        ColumnarChunk chunk = new ColumnarChunk(4, 2, ByteBuffer.allocateDirect(256), StandardCharsets.UTF_8);
+        byte[] line = "\"1\",\"맛집 \"\"본점\"\"\",plain,".getBytes(StandardCharsets.UTF_8);
+        byte[] shortLine = "\"2\"".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        chunk.addRow(line, line.length);
+        chunk.addRow(shortLine, shortLine.length);
+
+        // then
+        assertThat(chunk.rows()).isEqualTo(2);
+        assertThat(chunk.isFull()).isTrue();
+        assertThat(chunk.getString(0, 0)).isEqualTo("1");
+        assertThat(chunk.getString(0, 1)).isEqualTo("맛집 \"본점\"");
+        assertThat(chunk.getString(0, 2)).isEqualTo("plain");
+        assertThat(chunk.getString(0, 3)).isEmpty();
+        assertThat(chunk.getString(1, 0)).isEqualTo("2");
+        assertThat(chunk.isBlank(1, 2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("멀티바이트 문자로만 이루어진 필드는 빈 값으로 보지 않아야 한다")
+    void shouldNotTreatMultiByteFieldAsBlank() {
+        // given: MS949/UTF-8 한글은 모든 바이트가 0x80 이상
+        ColumnarChunk chunk = new ColumnarChunk(3, 1, ByteBuffer.allocate(64), MS949);
+        byte[] line = "한식, \t,\"가\"".getBytes(MS949);
+
+        // when
+        chunk.addRow(line, line.length);
+
+        // then
+        assertThat(chunk.isBlank(0, 0)).isFalse();
+        assertThat(chunk.isBlank(0, 1)).isTrue();
+        assertThat(chunk.isBlank(0, 2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("MS949 CSV를 chunkSize 행씩 같은 버퍼에 채워 반환하고 DTO 경로와 같은 값을 가져야 한다")
+    void shouldReadMs949CsvIntoReusedBuffer() throws Exception {
+        // given
+        ColumnarBufferPool pool = new ColumnarBufferPool(true);
+        AtomicLong bytesRead = new AtomicLong();
+        ColumnarChunkReader reader = new ColumnarChunkReader(new ClassPathResource("success-test.csv"), MS949,
+                DatasetSchema.restaurant().columnCount(), 4, 1024, pool, bytesRead::addAndGet);
+        var lineMapper = RestaurantItemReaderConfig.lineMapper();
+        String firstLine = new String(new ClassPathResource("success-test.csv").getContentAsByteArray(), MS949)
+                .split("\r?\n")[1];
+        RestaurantCsvDto expected = lineMapper.mapLine(firstLine, 1);
+
+        // when
+        reader.open(new ExecutionContext());
+        ColumnarChunk first = reader.read();
+        int firstRows = first.rows();
+        String storeName = first.getString(0, 21);
+        String managementNumber = first.getString(0, 4);
+        ColumnarChunk second = reader.read();
+        int secondRows = second.rows();
+        ColumnarChunk end = reader.read();
+        reader.close();
+
+        // then: 헤더 제외 6건 = 4 + 2
+        assertThat(firstRows).isEqualTo(4);
+        assertThat(second).isSameAs(first);
+        assertThat(secondRows).isEqualTo(2);
+        assertThat(end).isNull();
+        assertThat(storeName).isEqualTo(expected.getStoreName());
+        assertThat(managementNumber).isEqualTo(expected.getManagementNumber());
+        assertThat(bytesRead.get()).isEqualTo(new ClassPathResource("success-test.csv").contentLength());
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시작 시 이전 실행에서 커밋된 라인 이후부터 읽어야 한다")
+    void shouldResumeFromSavedLineCount() throws Exception {
+        // given
+        String csv = "header\n\"1\",a\n\"2\",b\n\"3\",c\n";
+        ExecutionContext context = new ExecutionContext();
+        ColumnarChunkReader reader = newReader(csv);
+        reader.open(context);
+        reader.read();
+        reader.update(context);
+        reader.close();
+
+        // when
+        ColumnarChunkReader restarted = newReader(csv);
+        restarted.open(context);
+        ColumnarChunk chunk = restarted.read();
+
+        // then
+        assertThat(chunk.rows()).isEqualTo(1);
+        assertThat(chunk.getString(0, 0)).isEqualTo("3");
+        restarted.close();
+    }
+
+    @Test
+    @DisplayName("멀티바이트 문자와 공백만 있는 라인은 빈 줄로 건너뛰지 않아야 한다")
+    void shouldNotSkipMultiByteOnlyLine() throws Exception {
+        // given: 공백만 있는 라인은 건너뛰고, 한글과 공백만 있는 라인은 읽어야 함
+        String csv = "header\n  \n 가 나 \n\"1\",b\n";
+        ColumnarChunkReader reader = newReader(csv);
+        reader.open(new ExecutionContext());
+
+        // when
+        ColumnarChunk chunk = reader.read();
+
+        // then
+        assertThat(chunk.rows()).isEqualTo(2);
+        assertThat(chunk.getString(0, 0)).isEqualTo(" 가 나 ");
+        assertThat(chunk.getString(1, 0)).isEqualTo("1");
+        reader.close();
+    }
+
+    private ColumnarChunkReader newReader(String csv) {
+        return new ColumnarChunkReader(new ByteArrayResource(csv.getBytes(StandardCharsets.UTF_8)),
+                StandardCharsets.UTF_8, 2, 2, 64, new ColumnarBufferPool(false), bytes -> { });
+    }
+}
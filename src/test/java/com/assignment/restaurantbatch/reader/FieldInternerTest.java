@@ -0,0 +1,123 @@
+package com.assignment.restaurantbatch.reader;
+
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link FieldInterner}, {@link FieldInternRegistry}의 동작을 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 같은 바이트는 같은 인스턴스로 정규화되는지 확인합니다.
+ * • 최대 항목 수를 넘으면 캐시에 추가하지 않는지 확인합니다.
+ * • 컬럼별 적중률 지표가 등록되는지 확인합니다.
+ */
+class FieldInternerTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    @Test
+    @DisplayName("같은 원본 바이트는 디코딩 없이 같은 문자열 인스턴스를 반환해야 한다")
+    void shouldReturnCanonicalInstanceForSameBytes() {
+        // given
+        FieldInterner interner = new FieldInterner(16);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        byte[] bytes = "일반음식점".getBytes(MS949);
+        buffer.put(bytes).put(bytes);
+
+        // when
+        String first = interner.intern(buffer, 0, bytes.length, MS949);
+        String second = interner.intern(buffer, bytes.length, bytes.length, MS949);
+
+        // then
+        assertThat(first).isEqualTo("일반음식점");
+        assertThat(second).isSameAs(first);
+        assertThat(interner.hits()).isEqualTo(1);
+        assertThat(interner.misses()).isEqualTo(1);
+        assertThat(interner.hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘는 값은 캐시에 추가하지 않아야 한다")
+    void shouldNotGrowBeyondMaxEntries() {
+        // given
+        FieldInterner interner = new FieldInterner(4);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            intern(interner, "value-" + i);
+        }
+
+        // then
+        assertThat(interner.size()).isLessThanOrEqualTo(4);
+        assertThat(intern(interner, "value-99")).isEqualTo("value-99");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 값을 동시에 인터닝해도 결과 값은 항상 같아야 한다")
+    void shouldBeThreadSafe() throws Exception {
+        // given
+        FieldInterner interner = new FieldInterner(64);
+        Set<String> results = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    results.add(intern(interner, "영업/정상"));
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(results).containsExactly("영업/정상");
+        assertThat(interner.hits() + interner.misses()).isEqualTo(40_000);
+    }
+
+    @Test
+    @DisplayName("설정된 컬럼만 인터너를 두고 컬럼별 적중률 지표를 등록해야 한다")
+    void shouldRegisterInternersForConfiguredColumns() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        FieldInternRegistry internRegistry = new FieldInternRegistry(List.of("serviceName"), 16, new BatchMetrics(registry));
+        FieldInterner[] interners = internRegistry.byColumnIndex();
+
+        // when
+        String first = intern(interners[1], "일반음식점");
+        String second = intern(interners[1], "일반음식점");
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(interners[2]).isNull();
+        assertThat(registry.get(FieldInternRegistry.HIT_RATIO)
+                .tag(FieldInternRegistry.COLUMN_TAG, "serviceName").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 컬럼을 지정하면 예외가 발생해야 한다")
+    void shouldRejectUnknownColumn() {
+        // when / then
+        assertThatThrownBy(() -> new FieldInternRegistry(List.of("unknown"), 16, BatchMetrics.noop()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String intern(FieldInterner interner, String value) {
+        byte[] bytes = value.getBytes(MS949);
+        return interner.intern(ByteBuffer.wrap(bytes), 0, bytes.length, MS949);
+    }
+}
@@ -0,0 +1,109 @@
+package com.assignment.restaurantbatch.reader;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link TailFollowingInputStream}의 기록 중 파일 따라 읽기를 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 완료 마커가 생길 때까지 EOF를 반환하지 않고, 마커 이전에 기록된 라인을 모두 읽는지 확인합니다.
+ * • 파일이 늘어나지 않고 마커도 없으면 대기 시간 초과로 실패하는지 확인합니다.
+ */
+class TailFollowingInputStreamTest {
+
+    @Test
+    @DisplayName("기록 중인 파일을 완료 마커가 생길 때까지 따라 읽어 모든 라인을 반환해야 한다")
+    void shouldFollowGrowingFileUntilMarker(@TempDir Path tempDir) throws Exception {
+        // given: 헤더만 있는 파일, 다른 스레드가 나머지 라인을 나누어 기록한 뒤 마커 생성
+        Path file = tempDir.resolve("restaurant.csv");
+        Path marker = tempDir.resolve("restaurant.csv.done");
+        Files.writeString(file, "\"번호\"\n", StandardCharsets.UTF_8);
+
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND)) {
+                for (int i = 1; i <= 3; i++) {
+                    Thread.sleep(50);
+                    // 라인을 둘로 나누어 기록해도 리더에는 완성된 라인만 전달되어야 함
+                    writer.write("\"" + i);
+                    writer.flush();
+                    Thread.sleep(20);
+                    writer.write("\"\n");
+                    writer.flush();
+                }
+                Files.createFile(marker);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new TailFollowingInputStream(file, marker, Duration.ofMillis(10), Duration.ofSeconds(5)),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        producer.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(lines).containsExactly("\"번호\"", "\"1\"", "\"2\"", "\"3\"");
+    }
+
+    @Test
+    @DisplayName("마커가 이미 있으면 남은 내용을 읽은 뒤 바로 EOF를 반환해야 한다")
+    void shouldStopAtEofWhenMarkerExists(@TempDir Path tempDir) throws Exception {
+        // given
+        Path file = tempDir.resolve("restaurant.csv");
+        Path marker = tempDir.resolve("restaurant.csv.done");
+        Files.writeString(file, "a\nb\n", StandardCharsets.UTF_8);
+        Files.createFile(marker);
+
+        // when
+        byte[] content;
+        try (TailFollowingInputStream in = new TailFollowingInputStream(file, marker,
+                Duration.ofMillis(10), Duration.ofSeconds(5))) {
+            content = in.readAllBytes();
+        }
+
+        // then
+        assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo("a\nb\n");
+    }
+
+    @Test
+    @DisplayName("파일이 늘어나지 않고 마커도 없으면 대기 시간 초과로 실패해야 한다")
+    void shouldFailWhenFileStopsGrowing(@TempDir Path tempDir) throws Exception {
+        // given
+        Path file = tempDir.resolve("restaurant.csv");
+        Files.writeString(file, "a\n", StandardCharsets.UTF_8);
+
+        // when & then
+        try (TailFollowingInputStream in = new TailFollowingInputStream(file, tempDir.resolve("restaurant.csv.done"),
+                Duration.ofMillis(10), Duration.ofMillis(100))) {
+            assertThatThrownBy(in::readAllBytes)
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("완료 마커");
+        }
+    }
+}
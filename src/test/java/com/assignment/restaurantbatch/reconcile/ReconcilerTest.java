@@ -0,0 +1,157 @@
+package com.assignment.restaurantbatch.reconcile;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.reader.RestaurantItemReaderConfig;
+import com.assignment.restaurantbatch.reconcile.ReconciliationMismatch.Type;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link Reconciler}가 원본 CSV와 DB의 불일치 레코드를 찾아내는지 H2로 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 정상 적재된 경우 모든 구간이 일치하는지 확인합니다.
+ * • 누락/중복/변경/예상 밖 레코드를 유형별로 보고하고, 스킵된 레코드는 제외하는지 확인합니다.
+ * • 기준 id 이하의 이전 적재 행은 비교하지 않는지 확인합니다.
+ * • 여러 파일 적재에서 파일마다 같은 번호가 있어도 스킵된 파일의 행만 제외하는지 확인합니다.
+ */
+class ReconcilerTest {
+
+    private static final String HEADER = "\"번호\",\"개방서비스명\",\"개방서비스아이디\",\"개방자치단체코드\",\"관리번호\",\"인허가일자\"";
+
+    @TempDir
+    Path tempDir;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private Path sourceFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:reconcile;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("test-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 1; i <= 6; i++) {
+            lines.add("\"" + i + "\",\"일반음식점\",\"07_24_04_P\",\"3000000\",\"M-" + i + "\",\"2020-01-0" + i + "\"");
+        }
+        sourceFile = tempDir.resolve("restaurant-part-000.csv");
+        Files.write(sourceFile, lines, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("원본이 그대로 적재되었다면 모든 구간이 일치해야 한다")
+    void shouldMatchWhenLoadedAsIs() throws Exception {
+        // given
+        insert(readSource());
+
+        // when
+        ReconciliationReport report = new Reconciler(dataSource, 2)
+                .reconcile(List.of(sourceFile), StandardCharsets.UTF_8, (source, recordNumber) -> false);
+
+        // then
+        assertThat(report.isMatched()).isTrue();
+        assertThat(report.sourceRows()).isEqualTo(6);
+        assertThat(report.tableRows()).isEqualTo(6);
+        assertThat(report.buckets()).isEqualTo(4);
+        assertThat(report.mismatches()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("누락/중복/변경/예상 밖 레코드를 유형별로 보고하고 스킵된 레코드는 제외해야 한다")
+    void shouldReportMismatchedRecordNumbers() throws Exception {
+        // given: 2번 중복, 3번 값 변경, 4번 누락, 5번은 적재 중 스킵, 999번은 원본에 없음
+        List<RestaurantCsvDto> items = readSource();
+        insert(items);
+        insert(List.of(items.get(1)));
+        jdbcTemplate.update("UPDATE restaurant SET management_number = 'CHANGED' WHERE record_number = 3");
+        jdbcTemplate.update("DELETE FROM restaurant WHERE record_number IN (4, 5)");
+        RestaurantCsvDto unexpected = items.get(0);
+        unexpected.setRecordNumber(999);
+        insert(List.of(unexpected));
+
+        // when
+        ReconciliationReport report = new Reconciler(dataSource, 2)
+                .reconcile(List.of(sourceFile), StandardCharsets.UTF_8, (source, recordNumber) -> recordNumber == 5);
+
+        // then
+        assertThat(report.isMatched()).isFalse();
+        assertThat(report.sourceExcluded()).isEqualTo(1);
+        assertThat(report.mismatches()).containsExactly(
+                new ReconciliationMismatch(2, Type.DUPLICATE, 1, 2),
+                new ReconciliationMismatch(3, Type.CHANGED, 1, 1),
+                new ReconciliationMismatch(4, Type.MISSING, 1, 0),
+                new ReconciliationMismatch(999, Type.UNEXPECTED, 0, 1));
+    }
+
+    @Test
+    @DisplayName("기준 id 이하의 이전 적재 행은 비교에서 제외해야 한다")
+    void shouldIgnoreRowsOfEarlierLoads() throws Exception {
+        // given: 같은 원본을 이전에 한 번 적재한 테이블
+        insert(readSource());
+        long baseId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM restaurant", Long.class);
+        insert(readSource());
+
+        // when
+        ReconciliationReport report = new Reconciler(dataSource, 2)
+                .reconcile(List.of(sourceFile), StandardCharsets.UTF_8, (source, recordNumber) -> false, baseId);
+
+        // then
+        assertThat(report.isMatched()).isTrue();
+        assertThat(report.tableRows()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("여러 파일이 같은 번호를 쓰면 스킵된 입력 파일의 행만 제외해야 한다")
+    void shouldExcludeSkippedRowsByInputFile() throws Exception {
+        // given: 두 입력 파일이 모두 1~6번을 쓰고, busan의 5번만 적재 중 스킵
+        Path seoul = Files.copy(sourceFile, tempDir.resolve("restaurant-part-000_seoul-000.csv"));
+        Path busan = Files.copy(sourceFile, tempDir.resolve("restaurant-part-001_busan-000.csv"));
+        List<RestaurantCsvDto> items = readSource();
+        insert(items);
+        insert(items.stream().filter(item -> item.getRecordNumber() != 5).toList());
+
+        // when
+        ReconciliationReport report = new Reconciler(dataSource, 2)
+                .reconcile(List.of(seoul, busan), StandardCharsets.UTF_8,
+                        (source, recordNumber) -> "001_busan".equals(source) && recordNumber == 5);
+
+        // then
+        assertThat(report.isMatched()).isTrue();
+        assertThat(report.sourceRows()).isEqualTo(11);
+        assertThat(report.sourceExcluded()).isEqualTo(1);
+        assertThat(report.tableRows()).isEqualTo(11);
+    }
+
+    private List<RestaurantCsvDto> readSource() throws Exception {
+        LineMapper<RestaurantCsvDto> lineMapper = RestaurantItemReaderConfig.lineMapper();
+        List<String> lines = Files.readAllLines(sourceFile, StandardCharsets.UTF_8);
+        List<RestaurantCsvDto> items = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            items.add(lineMapper.mapLine(lines.get(i), i + 1));
+        }
+        return items;
+    }
+
+    private void insert(List<RestaurantCsvDto> items) throws Exception {
+        new MultiInsertWriter(dataSource).write(new Chunk<>(items));
+    }
+}
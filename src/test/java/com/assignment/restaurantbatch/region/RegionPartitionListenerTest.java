@@ -0,0 +1,88 @@
+package com.assignment.restaurantbatch.region;
+
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link RegionPartitionListener}가 모든 적재 전에 입력 지역의 파티션을 준비하는지 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 분할 파일의 지역 코드를 인코딩과 관계없이 모아 파티션 추가를 요청하는지 확인합니다.
+ * • LIST 파티션 테이블이 아니거나 스테이징 테이블 적재면 입력을 읽지 않는지 확인합니다.
+ */
+class RegionPartitionListenerTest {
+
+    private static final String HEADER = "\"번호\",\"개방서비스명\",\"개방서비스아이디\",\"개방자치단체코드\"";
+
+    @TempDir
+    Path partitionDir;
+
+    @Test
+    @DisplayName("파티션 테이블이면 분할 파일의 지역 코드로 없는 파티션 추가를 요청해야 한다")
+    void shouldEnsurePartitionsForInputRegions() throws Exception {
+        // given: MS949 원본 분할 파일과 UTF-8 재처리 파일, 지역 코드가 빈 행
+        write("restaurant-part-000.csv", Charset.forName("MS949"), "\"1\",\"일반음식점\",\"07_24_04_P\",\"3000000\"",
+                "\"2\",\"일반음식점\",\"07_24_04_P\",\"\"");
+        write("restaurant-part-001.csv", StandardCharsets.UTF_8, "\"3\",\"일반음식점\",\"07_24_04_P\",\"3250000\"");
+        write("other.csv", StandardCharsets.UTF_8, "\"4\",\"일반음식점\",\"07_24_04_P\",\"4311000\"");
+        RegionPartitionManager manager = mock(RegionPartitionManager.class);
+        when(manager.isListPartitioned()).thenReturn(true);
+
+        // when
+        new RegionPartitionListener(manager).beforeJob(execution(new JobParametersBuilder()
+                .addString("partitionDir", partitionDir.toString())
+                .toJobParameters()));
+
+        // then
+        verify(manager).ensurePartitions(Set.of("", "3000000", "3250000"));
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니거나 스테이징 테이블 적재면 입력을 읽지 않아야 한다")
+    void shouldSkipWhenNotPartitionedOrStaging() throws Exception {
+        // given
+        write("restaurant-part-000.csv", StandardCharsets.UTF_8, "\"1\",\"일반음식점\",\"07_24_04_P\",\"3000000\"");
+        RegionPartitionManager manager = mock(RegionPartitionManager.class);
+        RegionPartitionListener listener = new RegionPartitionListener(manager);
+
+        // when
+        listener.beforeJob(execution(new JobParametersBuilder()
+                .addString("partitionDir", partitionDir.toString())
+                .toJobParameters()));
+        listener.beforeJob(execution(new JobParametersBuilder()
+                .addString("partitionDir", partitionDir.toString())
+                .addString(MultiInsertWriter.TARGET_TABLE_PARAM, "restaurant_stage")
+                .toJobParameters()));
+
+        // then: 첫 실행은 파티션 여부만 확인, 스테이징 적재는 확인도 하지 않음
+        verify(manager, times(1)).isListPartitioned();
+        verify(manager, never()).ensurePartitions(any());
+    }
+
+    private void write(String name, Charset charset, String... rows) throws Exception {
+        Files.write(partitionDir.resolve(name), concat(rows), charset);
+    }
+
+    private static List<String> concat(String... rows) {
+        return Stream.concat(Stream.of(HEADER), Stream.of(rows)).toList();
+    }
+
+    private static JobExecution execution(JobParameters parameters) {
+        return new JobExecution(new JobInstance(1L, "restaurantPartitionedJob"), 1L, parameters);
+    }
+}
@@ -0,0 +1,169 @@
+package com.assignment.restaurantbatch.region;
+
+import com.assignment.restaurantbatch.address.AddressDecomposer;
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.writer.MultiInsertWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link RegionPartitionManager}의 지역 재적재 교환을 H2(파티션 미지원 대체 경로)로 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 스테이징 테이블의 행으로 해당 지역만 교체되고 다른 지역은 그대로인지 확인합니다.
+ * • 도로명주소 분해 컬럼도 함께 교체되는지, 교체 후에도 id가 겹치지 않는지 확인합니다.
+ * • MySQL 파티션 DDL과 파티션 이름 규칙을 확인합니다.
+ */
+class RegionPartitionManagerTest {
+
+    private static final String STAGE = "restaurant_stage";
+    private static final String SEOUL = "3000000";
+    private static final String BUSAN = "3250000";
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private RegionPartitionManager manager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:region;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("test-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + STAGE);
+        manager = new RegionPartitionManager(dataSource, "restaurant");
+
+        new MultiInsertWriter(dataSource).write(new Chunk<>(rows(SEOUL, 1, 2)));
+        new MultiInsertWriter(dataSource).write(new Chunk<>(rows(BUSAN, 3, 1)));
+    }
+
+    @Test
+    @DisplayName("스테이징 테이블의 행으로 해당 지역만 교체하고 스테이징 테이블을 삭제해야 한다")
+    void shouldReplaceOnlyTargetRegion() throws Exception {
+        // given: 서울 지역을 3건으로 새로 적재
+        manager.prepareStaging(STAGE);
+        new MultiInsertWriter(dataSource, BatchMetrics.noop(), STAGE).write(new Chunk<>(rows(SEOUL, 10, 3)));
+
+        // when
+        long exchanged = manager.exchange(SEOUL, STAGE);
+
+        // then
+        assertThat(exchanged).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT record_number FROM restaurant WHERE region_code = ? ORDER BY record_number", Integer.class, SEOUL))
+                .containsExactly(10, 11, 12);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT record_number FROM restaurant WHERE region_code = ?", Integer.class, BUSAN))
+                .containsExactly(3);
+        assertThatThrownBy(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + STAGE, Long.class))
+                .isInstanceOf(BadSqlGrammarException.class);
+    }
+
+    @Test
+    @DisplayName("주소 분해를 켜고 재적재하면 시도/시군구/도로명 컬럼도 함께 교체되어야 한다")
+    void shouldKeepAddressColumnsOnExchange() throws Exception {
+        // given
+        manager.prepareStaging(STAGE);
+        List<RestaurantCsvDto> stageRows = rows(SEOUL, 10, 1);
+        stageRows.get(0).setRoadAddress("서울특별시 종로구 세종대로 175");
+        new MultiInsertWriter(dataSource, BatchMetrics.noop(), STAGE, new AddressDecomposer(16)).write(new Chunk<>(stageRows));
+
+        // when
+        manager.exchange(SEOUL, STAGE);
+
+        // then
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT sido, sigungu, road_name FROM restaurant WHERE region_code = ?", SEOUL);
+        assertThat(row).containsEntry("SIDO", "서울특별시")
+                .containsEntry("SIGUNGU", "종로구")
+                .containsEntry("ROAD_NAME", "세종대로");
+    }
+
+    @Test
+    @DisplayName("교체한 지역 행은 다른 지역 행과 겹치지 않는 새 id를 가져야 한다")
+    void shouldKeepIdsUniqueAfterExchange() throws Exception {
+        // given
+        long previousMaxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM restaurant", Long.class);
+        manager.prepareStaging(STAGE);
+        new MultiInsertWriter(dataSource, BatchMetrics.noop(), STAGE).write(new Chunk<>(rows(SEOUL, 10, 3)));
+
+        // when
+        manager.exchange(SEOUL, STAGE);
+        new MultiInsertWriter(dataSource).write(new Chunk<>(rows(BUSAN, 20, 2)));
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT id) FROM restaurant", Long.class))
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restaurant", Long.class));
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM restaurant WHERE region_code = ?", Long.class, SEOUL))
+                .hasSize(3)
+                .allMatch(id -> id > previousMaxId);
+    }
+
+    @Test
+    @DisplayName("스테이징 테이블에 다른 지역 행이 있으면 교체하지 않아야 한다")
+    void shouldRejectStageWithOtherRegions() throws Exception {
+        // given
+        manager.prepareStaging(STAGE);
+        MultiInsertWriter stageWriter = new MultiInsertWriter(dataSource, BatchMetrics.noop(), STAGE);
+        stageWriter.write(new Chunk<>(rows(SEOUL, 10, 1)));
+        stageWriter.write(new Chunk<>(rows(BUSAN, 11, 1)));
+
+        // when / then
+        assertThatThrownBy(() -> manager.exchange(SEOUL, STAGE))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("다른 지역");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM restaurant", Long.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("파티션 테이블이 아니면 파티션을 추가하지 않아야 한다")
+    void shouldSkipPartitionDdlWhenNotPartitioned() {
+        assertThat(manager.isListPartitioned()).isFalse();
+        assertThat(manager.ensurePartitions(List.of(SEOUL, BUSAN))).isZero();
+    }
+
+    @Test
+    @DisplayName("지역 코드별 LIST 파티션 DDL을 만들고 잘못된 코드는 거부해야 한다")
+    void shouldBuildPartitionDdl() {
+        assertThat(RegionPartitionManager.partitionName(SEOUL)).isEqualTo("p_3000000");
+        assertThat(RegionPartitionManager.partitionName("")).isEqualTo("p_none");
+        assertThat(RegionPartitionManager.addPartitionSql("restaurant", List.of(SEOUL, "")))
+                .isEqualTo("ALTER TABLE restaurant ADD PARTITION ("
+                        + "PARTITION p_3000000 VALUES IN ('3000000'), PARTITION p_none VALUES IN (''))");
+
+        assertThatThrownBy(() -> RegionPartitionManager.partitionName("30'; DROP TABLE x"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("스테이징 테이블의 AUTO_INCREMENT를 대상 테이블의 다음 id로 맞추는 DDL을 만들어야 한다")
+    void shouldBuildAutoIncrementDdl() {
+        assertThat(RegionPartitionManager.autoIncrementSql(STAGE, 1001))
+                .isEqualTo("ALTER TABLE restaurant_stage AUTO_INCREMENT = 1001");
+    }
+
+    private List<RestaurantCsvDto> rows(String regionCode, int firstRecordNumber, int count) {
+        List<RestaurantCsvDto> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RestaurantCsvDto dto = new RestaurantCsvDto();
+            dto.setRecordNumber(firstRecordNumber + i);
+            dto.setRegionCode(regionCode);
+            dto.setManagementNumber(regionCode + "-" + (firstRecordNumber + i));
+            rows.add(dto);
+        }
+        return rows;
+    }
+}
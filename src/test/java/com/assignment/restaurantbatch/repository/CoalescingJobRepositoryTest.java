@@ -0,0 +1,120 @@
+package com.assignment.restaurantbatch.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link CoalescingJobRepository}의 스텝 메타데이터 갱신 병합 규칙을 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 실행 중(STARTED) 스텝의 update는 N번째마다 반영하고, 첫 갱신과 종료 갱신은 항상 반영하는지 확인합니다.
+ * • 재시작 위치를 담는 ExecutionContext 갱신은 매번 반영하는지 확인합니다.
+ * • 스텝 외 메서드는 그대로 위임하는지 확인합니다.
+ * • 건너뛴 갱신에서도 Job 중지 요청을 스텝에 전달하는지 확인합니다.
+ */
+class CoalescingJobRepositoryTest {
+
+    @Test
+    @DisplayName("실행 중 스텝 update는 N Chunk마다 한 번만 반영하고, ExecutionContext는 매 Chunk 반영해야 한다")
+    void shouldCoalesceRunningStepUpdates() {
+        // given
+        JobRepository delegate = mock(JobRepository.class);
+        CoalescingJobRepository coalescing = new CoalescingJobRepository(3, Duration.ofHours(1), id -> BatchStatus.STARTED);
+        JobRepository repository = coalescing.wrap(delegate);
+        StepExecution stepExecution = startedStep(1L);
+
+        // when: 첫 갱신 + Chunk 5번 + 종료
+        repository.update(stepExecution);
+        for (int i = 0; i < 5; i++) {
+            repository.updateExecutionContext(stepExecution);
+            repository.update(stepExecution);
+        }
+        stepExecution.setStatus(BatchStatus.COMPLETED);
+        repository.updateExecutionContext(stepExecution);
+        repository.update(stepExecution);
+
+        // then: update = 첫 갱신 + 3번째 Chunk + 종료, updateExecutionContext = 매 Chunk + 종료
+        verify(delegate, times(3)).update(stepExecution);
+        verify(delegate, times(6)).updateExecutionContext(stepExecution);
+        assertThat(coalescing.flushedCount()).isEqualTo(9);
+        assertThat(coalescing.coalescedCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("간격이 1이면 모든 갱신을 그대로 반영하고, 스텝 외 메서드는 위임해야 한다")
+    void shouldPassThroughWhenDisabled() {
+        // given
+        JobRepository delegate = mock(JobRepository.class);
+        JobRepository repository = new CoalescingJobRepository(1, Duration.ofHours(1), id -> BatchStatus.STARTED).wrap(delegate);
+        StepExecution stepExecution = startedStep(2L);
+        JobExecution jobExecution = stepExecution.getJobExecution();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            repository.update(stepExecution);
+        }
+        repository.update(jobExecution);
+
+        // then
+        verify(delegate, times(4)).update(stepExecution);
+        verify(delegate).update(jobExecution);
+    }
+
+    @Test
+    @DisplayName("지정 시간이 지나면 Chunk 수와 관계없이 반영해야 한다")
+    void shouldFlushAfterInterval() throws Exception {
+        // given
+        JobRepository delegate = mock(JobRepository.class);
+        JobRepository repository = new CoalescingJobRepository(1_000, Duration.ofMillis(20), id -> BatchStatus.STARTED).wrap(delegate);
+        StepExecution stepExecution = startedStep(3L);
+        repository.update(stepExecution);
+
+        // when
+        repository.update(stepExecution);
+        Thread.sleep(30);
+        repository.update(stepExecution);
+
+        // then: 첫 갱신 + 시간 경과 후 갱신
+        verify(delegate, times(2)).update(stepExecution);
+    }
+
+    @Test
+    @DisplayName("건너뛴 update에서도 Job 중지 요청을 확인하여 스텝에 종료를 표시해야 한다")
+    void shouldCheckForInterruptionOnCoalescedUpdates() {
+        // given: 첫 갱신 이후 다른 프로세스가 Job 중지를 요청
+        JobRepository delegate = mock(JobRepository.class);
+        AtomicReference<BatchStatus> stored = new AtomicReference<>(BatchStatus.STARTED);
+        CoalescingJobRepository coalescing = new CoalescingJobRepository(10, Duration.ofHours(1), id -> stored.get());
+        JobRepository repository = coalescing.wrap(delegate);
+        StepExecution stepExecution = startedStep(4L);
+        repository.update(stepExecution);
+
+        // when
+        repository.update(stepExecution);
+        assertThat(stepExecution.isTerminateOnly()).isFalse();
+        stored.set(BatchStatus.STOPPING);
+        repository.update(stepExecution);
+
+        // then: 갱신은 건너뛰었지만 중지 요청은 전달됨
+        verify(delegate, times(1)).update(stepExecution);
+        assertThat(coalescing.coalescedCount()).isEqualTo(2);
+        assertThat(stepExecution.getJobExecution().getStatus()).isEqualTo(BatchStatus.STOPPING);
+        assertThat(stepExecution.isTerminateOnly()).isTrue();
+    }
+
+    private StepExecution startedStep(long id) {
+        JobExecution jobExecution = new JobExecution(10L);
+        StepExecution stepExecution = new StepExecution("slaveStep:partition0", jobExecution, id);
+        stepExecution.setStatus(BatchStatus.STARTED);
+        return stepExecution;
+    }
+}
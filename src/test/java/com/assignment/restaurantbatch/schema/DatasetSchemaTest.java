@@ -0,0 +1,149 @@
+package com.assignment.restaurantbatch.schema;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * YAML 디스크립터로 만든 {@link DatasetSchema}를 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 기본 스키마(restaurant.yml)가 DTO 필드 순서, 원본 CSV 헤더와 일치하는지 확인합니다.<br>
+ * • 컬럼명 기본값(snake_case), 잘못된 디스크립터 거부, 레코드 직렬화를 확인합니다.
+ */
+class DatasetSchemaTest {
+
+    @Test
+    @DisplayName("기본 스키마는 DTO 필드 순서와 원본 CSV 헤더와 일치해야 한다")
+    void restaurantSchemaShouldMatchDtoAndSourceHeader() throws Exception {
+        // given
+        DatasetSchema schema = DatasetSchema.restaurant();
+        String[] dtoFields = Arrays.stream(RestaurantCsvDto.class.getDeclaredFields())
+                .filter(field -> !Modifier.isTransient(field.getModifiers())) // 입력 파일 구분자
+                .map(Field::getName)
+                .toArray(String[]::new);
+
+        String header;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource("success-test.csv").getInputStream(), Charset.forName("MS949")))) {
+            header = reader.readLine();
+        }
+
+        // when & then
+        assertThat(schema.fieldNames()).containsExactly(dtoFields);
+        assertThat(schema.columnCount()).isEqualTo(47);
+        assertThat(schema.insertSqlPrefix())
+                .startsWith("INSERT INTO restaurant (record_number, service_name, service_id,")
+                .contains("coord_x, coord_y", "multi_use_yn")
+                .endsWith("homepage) VALUES ");
+        schema.validateHeader(header);
+    }
+
+    @Test
+    @DisplayName("column 생략 시 snake_case, type 생략 시 STRING이어야 한다")
+    void shouldApplyColumnDefaults() {
+        // given
+        DatasetSchema schema = DatasetSchemaLoader.load(new ClassPathResource("schema/bakery.yml"));
+
+        // when & then
+        assertThat(schema.name()).isEqualTo("bakery");
+        assertThat(schema.columns()).extracting(ColumnSpec::column).containsExactly(
+                "record_number", "management_number", "license_date", "store_name",
+                "last_modified", "coord_x", "employee_count");
+        assertThat(schema.types()).containsExactly(ColumnType.INT, ColumnType.STRING, ColumnType.DATE,
+                ColumnType.STRING, ColumnType.DATETIME, ColumnType.DOUBLE, ColumnType.INT);
+        assertThat(schema.headerLine()).startsWith("\"번호\",\"관리번호\"");
+    }
+
+    @Test
+    @DisplayName("SQL 식별자가 아닌 테이블명이나 알 수 없는 타입은 거부해야 한다")
+    void shouldRejectInvalidDescriptor() {
+        // given
+        String badTable = """
+                name: bad
+                table: "bakery; DROP TABLE restaurant"
+                columns:
+                  - { field: recordNumber, header: "번호", type: INT }
+                """;
+        String badType = """
+                name: bad
+                table: bakery
+                columns:
+                  - { field: recordNumber, header: "번호", type: DECIMAL }
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> DatasetSchemaLoader.load(resource(badTable)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("table");
+        assertThatThrownBy(() -> DatasetSchemaLoader.load(resource(badType)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("DECIMAL");
+    }
+
+    @Test
+    @DisplayName("length는 STRING 컬럼의 양의 정수만 허용해야 한다")
+    void shouldParseStringLength() {
+        // given
+        String badLength = """
+                name: bad
+                table: bakery
+                columns:
+                  - { field: recordNumber, header: "번호", type: INT, length: 10 }
+                """;
+        String zeroLength = """
+                name: bad
+                table: bakery
+                columns:
+                  - { field: storeName, header: "상호", length: 0 }
+                """;
+
+        // when
+        ColumnSpec phone = DatasetSchema.restaurant().columns().stream()
+                .filter(column -> column.field().equals("phone"))
+                .findFirst().orElseThrow();
+
+        // then
+        assertThat(phone.length()).isEqualTo(50);
+        assertThatThrownBy(() -> DatasetSchemaLoader.load(resource(badLength)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("STRING");
+        assertThatThrownBy(() -> DatasetSchemaLoader.load(resource(zeroLength)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("length");
+    }
+
+    @Test
+    @DisplayName("헤더가 다르거나 레코드 번호가 숫자가 아니어도 원인을 알 수 있어야 한다")
+    void shouldValidateHeaderAndKeepRawValues() {
+        // given
+        DatasetSchema schema = DatasetSchemaLoader.load(new ClassPathResource("schema/bakery.yml"));
+        String[] values = {"x1", "M-1", "2020-01-01", "빵집 \"해\"", "", "", ""};
+
+        // when
+        SchemaRecord record = schema.toRecord(values);
+
+        // then
+        assertThat(record.getRecordNumber()).isNull();
+        assertThat(schema.csvLine(record)).isEqualTo("\"x1\",\"M-1\",\"2020-01-01\",\"빵집 \"\"해\"\"\",\"\",\"\",\"\"");
+        assertThatThrownBy(() -> schema.validateHeader("\"번호\",\"관리번호\",\"인허가일자\",\"상호\",\"최종수정시점\",\"좌표정보x(epsg5174)\",\"총직원수\""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("4번째");
+    }
+
+    private static ByteArrayResource resource(String yaml) {
+        return new ByteArrayResource(yaml.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,162 @@
+package com.assignment.restaurantbatch.schema;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.lang.reflect.Field;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+
+/**
+ * {@link SchemaDtoBinder}가 schema/restaurant.yml 순서대로 DTO를 바인딩·직렬화하는지 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 각 컬럼이 YAML의 위치와 타입으로 바인딩되는지 확인합니다.<br>
+ * • 실패 로그 라인이 헤더와 같은 순서로 만들어지는지 확인합니다.<br>
+ * • 토큰 배열이 컬럼 인덱스로 DTO setter에 채워지는지 확인합니다.<br>
+ * • 스키마 필드에 맞는 getter가 없는 DTO는 생성 시점에 거부하는지 확인합니다.
+ */
+class SchemaDtoBinderTest {
+
+    private final DatasetSchema schema = DatasetSchema.restaurant();
+
+    @Test
+    @DisplayName("DTO의 각 필드를 YAML 컬럼 위치와 타입으로 바인딩해야 한다")
+    void shouldBindEachFieldAtSchemaPosition() throws Exception {
+        // given
+        RestaurantCsvDto dto = populated();
+        PreparedStatement ps = mock(PreparedStatement.class);
+
+        // when
+        int next = SchemaDtoBinder.restaurant().bind(ps, dto, 1);
+
+        // then
+        assertThat(next).isEqualTo(schema.columnCount() + 1);
+        InOrder order = inOrder(ps);
+        List<ColumnSpec> columns = schema.columns();
+        for (int column = 0; column < columns.size(); column++) {
+            ColumnSpec spec = columns.get(column);
+            int index = column + 1;
+            switch (spec.type()) {
+                case STRING -> order.verify(ps).setString(index, spec.field());
+                case INT -> order.verify(ps).setObject(index, spec.field().equals(DatasetSchema.RECORD_NUMBER_FIELD) ? 7 : 3);
+                case DOUBLE -> order.verify(ps).setObject(index, 1.5);
+                case DATE -> order.verify(ps).setObject(index, LocalDate.of(2024, 1, 2));
+                case DATETIME -> order.verify(ps).setObject(index, LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("실패 로그 라인은 헤더와 같은 컬럼 순서로 직렬화되어야 한다")
+    void shouldSerializeInHeaderOrder() throws Exception {
+        // given
+        RestaurantCsvDto dto = populated();
+        dto.setStoreName("\"맛집\"");
+
+        // when
+        String[] tokens = SchemaDtoBinder.restaurant().csvLine(dto).split(",", -1);
+
+        // then
+        assertThat(tokens).hasSize(schema.headerLine().split(",", -1).length);
+        String[] fields = schema.fieldNames();
+        for (int column = 0; column < fields.length; column++) {
+            String value = String.valueOf(RestaurantCsvDto.class.getMethod(getter(fields[column])).invoke(dto));
+            assertThat(tokens[column]).isEqualTo("\"" + value.replace("\"", "\"\"") + "\"");
+        }
+    }
+
+    @Test
+    @DisplayName("토큰 배열은 컬럼 인덱스로 DTO에 채워져야 한다")
+    void shouldFillDtoByColumnIndex() throws Exception {
+        // given
+        String[] fields = schema.fieldNames();
+        String[] values = fields.clone();
+        values[0] = " 12 ";
+
+        // when
+        RestaurantCsvDto dto = SchemaDtoBinder.restaurant().newItem(values);
+
+        // then
+        assertThat(dto.getRecordNumber()).isEqualTo(12);
+        for (int column = 1; column < fields.length; column++) {
+            assertThat(RestaurantCsvDto.class.getMethod(getter(fields[column])).invoke(dto)).isEqualTo(values[column]);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 숫자 값은 null로 두고, 숫자가 아니면 NumberFormatException이 발생해야 한다")
+    void shouldConvertNumericFields() {
+        String[] values = new String[schema.columnCount()];
+        values[0] = " ";
+        assertThat(SchemaDtoBinder.restaurant().newItem(values).getRecordNumber()).isNull();
+
+        values[0] = "abc";
+        assertThatThrownBy(() -> SchemaDtoBinder.restaurant().newItem(values))
+                .isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    @DisplayName("스키마 필드에 맞는 setter가 없는 DTO는 바인더 생성 시점에 거부해야 한다")
+    void shouldRejectDtoMissingSetter() {
+        DatasetSchema partial = new DatasetSchema("partial", "partial",
+                List.of(new ColumnSpec(DatasetSchema.RECORD_NUMBER_FIELD, "record_number", "번호", ColumnType.INT)));
+
+        assertThatThrownBy(() -> SchemaDtoBinder.of(partial, PartialDto.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("setRecordNumber");
+    }
+
+    @Test
+    @DisplayName("스키마 필드에 맞는 getter가 없는 DTO는 바인더 생성 시점에 거부해야 한다")
+    void shouldRejectDtoMissingSchemaField() {
+        assertThatThrownBy(() -> SchemaDtoBinder.of(schema, PartialDto.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("getServiceId()");
+    }
+
+    /**
+     * 문자열 필드는 필드명, 나머지는 타입에 맞는 값으로 채운 DTO
+     */
+    private RestaurantCsvDto populated() throws Exception {
+        RestaurantCsvDto dto = new RestaurantCsvDto();
+        for (ColumnSpec spec : schema.columns()) {
+            Field field = RestaurantCsvDto.class.getDeclaredField(spec.field());
+            field.setAccessible(true);
+            if (field.getType() == Integer.class) {
+                field.set(dto, 7);
+                continue;
+            }
+            field.set(dto, switch (spec.type()) {
+                case STRING -> spec.field();
+                case INT -> "3";
+                case DOUBLE -> "1.5";
+                case DATE -> "2024-01-02";
+                case DATETIME -> "2024-01-02 03:04:05";
+            });
+        }
+        return dto;
+    }
+
+    private static String getter(String field) {
+        return "get" + Character.toUpperCase(field.charAt(0)) + field.substring(1);
+    }
+
+    public static class PartialDto {
+        public Integer getRecordNumber() {
+            return 1;
+        }
+
+        public String getServiceName() {
+            return "service";
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.assignment.restaurantbatch.search;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link BigramIndexBuilder}로 만든 검색 색인을 {@link BigramIndex}로 조회하는 테스트 클래스입니다.
+ * <p>
+ * • 여러 파티션의 포스팅 목록이 합쳐져 후보 교집합이 정확한지 확인합니다.
+ * • 커밋된 Chunk만 색인하고, 실패/재시작 실행에서는 색인 파일을 만들지 않는지 확인합니다.
+ * • 이후 실행의 색인이 기존 색인 파일에 합쳐지는지 확인합니다.
+ */
+class BigramIndexTest {
+
+    private static final int STORE_NAME = 0;
+    private static final int ROAD_ADDRESS = 1;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("여러 파티션의 포스팅 목록을 합쳐 검색어 bigram을 모두 포함하는 행을 찾아야 한다")
+    void shouldIntersectPostingsMergedFromPartitions() throws Exception {
+        // given: 같은 bigram이 두 파티션에 나뉘어 있음
+        PartitionPostings first = new PartitionPostings(BigramIndexBuilder.COLUMNS.size());
+        first.add(STORE_NAME, 1, "김밥천국 강남점");
+        first.add(STORE_NAME, 2, "천국김밥");
+        first.add(ROAD_ADDRESS, 1, "서울특별시 강남구 테헤란로 1");
+        first.addRows(2);
+        PartitionPostings second = new PartitionPostings(BigramIndexBuilder.COLUMNS.size());
+        second.add(STORE_NAME, 3, "ＫＩＭＢＡＰ 김밥천국");
+        second.add(STORE_NAME, 4, "강남 국밥");
+        second.add(ROAD_ADDRESS, 4, "서울특별시 서초구 강남대로 2");
+        second.addRows(2);
+
+        BigramIndexBuilder builder = new BigramIndexBuilder(tempDir.resolve("search/index.idx"));
+        builder.merge(second);
+        builder.merge(first);
+
+        // when
+        builder.write();
+
+        // then
+        try (BigramIndex index = BigramIndex.open(builder.indexFile())) {
+            assertThat(index.columns()).containsExactly("store_name", "road_address");
+            assertThat(index.candidates("store_name", "김밥천국")).containsExactly(1, 3);
+            // bigram 단위 후보이므로 순서가 다른 "천국김밥"도 "김밥"만으로는 포함됨
+            assertThat(index.candidates("store_name", "김밥")).containsExactly(1, 2, 3);
+            assertThat(index.candidates("store_name", "kimbap")).containsExactly(3);
+            assertThat(index.candidates("store_name", "냉면")).isEmpty();
+            assertThat(index.candidates("road_address", "강남")).containsExactly(1, 4);
+            assertThat(index.candidates("road_address", "서울특별시 강남구")).containsExactly(1);
+        }
+        assertThat(builder.rows()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("이후 실행의 색인은 기존 색인 파일의 행을 지우지 않고 합쳐져야 한다")
+    void shouldMergeIntoExistingIndex() throws Exception {
+        // given: 전체 적재로 만든 색인
+        Path file = tempDir.resolve("index.idx");
+        PartitionPostings fullLoad = new PartitionPostings(BigramIndexBuilder.COLUMNS.size());
+        fullLoad.add(STORE_NAME, 1, "김밥천국 강남점");
+        fullLoad.add(STORE_NAME, 2, "강남 국밥");
+        fullLoad.add(ROAD_ADDRESS, 1, "서울특별시 강남구 테헤란로 1");
+        fullLoad.addRows(2);
+        BigramIndexBuilder first = new BigramIndexBuilder(file);
+        first.merge(fullLoad);
+        first.write();
+
+        // when: 재처리처럼 적은 행만 적재한 실행
+        PartitionPostings replay = new PartitionPostings(BigramIndexBuilder.COLUMNS.size());
+        replay.add(STORE_NAME, 10, "김밥나라 강남역점");
+        replay.addRows(1);
+        BigramIndexBuilder second = new BigramIndexBuilder(file);
+        second.merge(replay);
+        second.write();
+
+        // then
+        try (BigramIndex index = BigramIndex.open(file)) {
+            assertThat(index.candidates("store_name", "김밥")).containsExactly(1, 10);
+            assertThat(index.candidates("store_name", "강남")).containsExactly(1, 2, 10);
+            assertThat(index.candidates("road_address", "테헤란로")).containsExactly(1);
+        }
+        assertThat(second.rows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("두 글자 미만 검색어나 색인되지 않은 컬럼은 거부해야 한다")
+    void shouldRejectShortQueryAndUnknownColumn() throws Exception {
+        // given
+        PartitionPostings partition = new PartitionPostings(BigramIndexBuilder.COLUMNS.size());
+        partition.add(STORE_NAME, 1, "김밥천국");
+        partition.addRows(1);
+        BigramIndexBuilder builder = new BigramIndexBuilder(tempDir.resolve("index.idx"));
+        builder.merge(partition);
+        builder.write();
+
+        // when & then
+        try (BigramIndex index = BigramIndex.open(builder.indexFile())) {
+            assertThatThrownBy(() -> index.candidates("store_name", "김"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> index.candidates("store_name", "김 밥"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> index.candidates("store_name; DROP TABLE restaurant", "김밥"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("커밋된 Chunk만 색인하고 완료된 마스터 스텝에서 색인 파일을 저장해야 한다")
+    void shouldIndexOnlyCommittedChunks() throws Exception {
+        // given
+        BigramIndexBuilder builder = new BigramIndexBuilder(tempDir.resolve("index.idx"));
+        IndexingStepListener listener = new IndexingStepListener(builder);
+        StepExecution masterExecution = new StepExecution("masterStep", null);
+        StepExecution slaveExecution = new StepExecution("slaveStep", null);
+
+        RestaurantCsvDto committed = dto("김밥천국", "서울특별시 강남구");
+        RestaurantCsvDto withoutId = dto("김밥나라", "서울특별시 중구");
+        RestaurantCsvDto rolledBack = dto("김밥세상", "부산광역시 중구");
+
+        // when: 첫 Chunk는 커밋(id를 받지 못한 행 포함), 두 번째 Chunk는 롤백
+        builder.beforeStep(masterExecution);
+        listener.beforeStep(slaveExecution);
+        builder.onInserted(List.of(committed), new long[]{1});
+        listener.afterWrite(new Chunk<>(List.of(committed, withoutId)));
+        listener.afterChunk(null);
+        builder.onInserted(List.of(rolledBack), new long[]{2});
+        listener.afterWrite(new Chunk<>(List.of(rolledBack)));
+        listener.afterChunkError(null);
+        listener.afterStep(slaveExecution);
+        masterExecution.setExitStatus(ExitStatus.COMPLETED);
+        builder.afterStep(masterExecution);
+
+        // then
+        assertThat(builder.rows()).isEqualTo(1);
+        try (BigramIndex index = BigramIndex.open(builder.indexFile())) {
+            assertThat(index.candidates("store_name", "김밥")).containsExactly(1);
+            assertThat(index.candidates("road_address", "중구")).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("실패했거나 재시작된 마스터 스텝에서는 색인 파일을 만들지 않아야 한다")
+    void shouldNotWriteIndexForFailedOrRestartedRun() {
+        // given
+        Path file = tempDir.resolve("index.idx");
+        PartitionPostings partition = new PartitionPostings(BigramIndexBuilder.COLUMNS.size());
+        partition.add(STORE_NAME, 1, "김밥천국");
+        partition.addRows(1);
+
+        // when: 실패한 실행
+        BigramIndexBuilder failed = new BigramIndexBuilder(file);
+        StepExecution failedExecution = new StepExecution("masterStep", null);
+        failed.beforeStep(failedExecution);
+        failed.merge(partition);
+        failedExecution.setExitStatus(ExitStatus.FAILED);
+        failed.afterStep(failedExecution);
+
+        // when: 이전 실행 컨텍스트를 이어받은 재시작 실행
+        BigramIndexBuilder restarted = new BigramIndexBuilder(file);
+        StepExecution restartedExecution = new StepExecution("masterStep", null);
+        restartedExecution.setExecutionContext(failedExecution.getExecutionContext());
+        restarted.beforeStep(restartedExecution);
+        restarted.merge(partition);
+        restartedExecution.setExitStatus(ExitStatus.COMPLETED);
+        restarted.afterStep(restartedExecution);
+
+        // then
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    @DisplayName("후보 수만큼 IN 자리표시자를 만들고 확인할 컬럼 값을 함께 읽어야 한다")
+    void shouldBuildConfirmQuery() {
+        // when & then
+        assertThat(BigramSearcher.confirmSql("store_name", 3))
+                .startsWith("SELECT id, store_name FROM restaurant")
+                .endsWith("WHERE id IN (?, ?, ?)");
+    }
+
+    private static RestaurantCsvDto dto(String storeName, String roadAddress) {
+        RestaurantCsvDto dto = new RestaurantCsvDto();
+        dto.setStoreName(storeName);
+        dto.setRoadAddress(roadAddress);
+        return dto;
+    }
+}
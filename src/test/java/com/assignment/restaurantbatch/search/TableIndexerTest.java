@@ -0,0 +1,167 @@
+package com.assignment.restaurantbatch.search;
+
+import com.assignment.restaurantbatch.reconcile.LoadBoundaryListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적재된 테이블에서 검색 색인을 반영하는 {@link TableIndexer}, {@link ShardIndexListener}를 H2로 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 기준 id보다 큰 행만 읽어 기존 색인 파일과 합치는지 확인합니다.
+ * • 재시작된 마스터 스텝이 Job 시작 시 기준 id 이후의 행을 테이블에서 읽어 색인하는지 확인합니다.
+ * • 샤드 적재는 샤드마다 별도 색인 파일에 그 샤드의 행을 색인하는지 확인합니다.
+ * • {@link BigramSearcher}가 DB 값을 색인과 같이 정규화하여 확인하는지 확인합니다.
+ */
+class TableIndexerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = dataSource("search-index");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    @DisplayName("기준 id보다 큰 행만 색인하여 기존 색인 파일과 합치고, 재생성은 테이블 전체로 새로 만들어야 한다")
+    void shouldIndexRowsAfterBaseIdIntoExistingIndex() throws Exception {
+        // given: 이전 적재로 색인된 행 1건
+        Path file = tempDir.resolve("index.idx");
+        insert(jdbcTemplate, "김밥천국 강남점", "서울특별시 강남구 테헤란로 1");
+        TableIndexer indexer = new TableIndexer(dataSource, file);
+        indexer.indexAfter(0);
+        long baseId = maxId(jdbcTemplate);
+        insert(jdbcTemplate, "김밥나라", "서울특별시 서초구 강남대로 2");
+
+        // when
+        long indexed = indexer.indexAfter(baseId);
+
+        // then
+        assertThat(indexed).isEqualTo(1);
+        try (BigramIndex index = BigramIndex.open(file)) {
+            assertThat(index.candidates("store_name", "김밥")).hasSize(2);
+            assertThat(index.candidates("road_address", "강남대로")).containsExactly((int) baseId + 1);
+        }
+
+        // when: 첫 행을 지운 뒤 재생성하면 지운 행의 id가 남지 않음
+        jdbcTemplate.update("DELETE FROM restaurant WHERE id = ?", baseId);
+        indexer.rebuild();
+
+        // then
+        try (BigramIndex index = BigramIndex.open(file)) {
+            assertThat(index.candidates("store_name", "김밥")).containsExactly((int) baseId + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("재시작된 마스터 스텝은 Job 시작 시 기준 id 이후의 행을 테이블에서 읽어 색인해야 한다")
+    void shouldIndexTableRowsWhenRestarted() throws Exception {
+        // given: 첫 실행에서 1건이 커밋된 뒤 실패, 재시작 실행에서 1건 추가
+        Path file = tempDir.resolve("index.idx");
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.getExecutionContext().putLong(LoadBoundaryListener.BASE_ID_KEY, maxId(jdbcTemplate));
+        StepExecution failedExecution = new StepExecution("masterStep", jobExecution);
+        BigramIndexBuilder failed = new BigramIndexBuilder(file, dataSource);
+        failed.beforeStep(failedExecution);
+        insert(jdbcTemplate, "김밥천국", "서울특별시 강남구 테헤란로 1");
+        failedExecution.setExitStatus(ExitStatus.FAILED);
+        failed.afterStep(failedExecution);
+
+        StepExecution restartedExecution = new StepExecution("masterStep", jobExecution);
+        restartedExecution.setExecutionContext(failedExecution.getExecutionContext());
+        BigramIndexBuilder restarted = new BigramIndexBuilder(file, dataSource);
+        restarted.beforeStep(restartedExecution);
+        insert(jdbcTemplate, "천국김밥", "서울특별시 서초구 강남대로 2");
+        restartedExecution.setExitStatus(ExitStatus.COMPLETED);
+
+        // when
+        restarted.afterStep(restartedExecution);
+
+        // then: 첫 실행에서 커밋된 행도 색인됨
+        try (BigramIndex index = BigramIndex.open(file)) {
+            assertThat(index.candidates("store_name", "김밥")).hasSize(2);
+        }
+    }
+
+    @Test
+    @DisplayName("샤드 적재는 샤드마다 별도 색인 파일에 이번 적재의 행을 색인해야 한다")
+    void shouldIndexEachShardIntoItsOwnFile() throws Exception {
+        // given: 샤드 0에 이전 적재 행 1건
+        DriverManagerDataSource shard0 = dataSource("search-shard0");
+        DriverManagerDataSource shard1 = dataSource("search-shard1");
+        JdbcTemplate shard0Template = new JdbcTemplate(shard0);
+        JdbcTemplate shard1Template = new JdbcTemplate(shard1);
+        insert(shard0Template, "이전 김밥", "서울특별시 종로구 1");
+        Path file = tempDir.resolve("index.idx");
+        ShardIndexListener listener = new ShardIndexListener(List.of(shard0, shard1), file);
+        StepExecution stepExecution = new StepExecution("masterStep", new JobExecution(1L));
+
+        // when
+        listener.beforeStep(stepExecution);
+        insert(shard0Template, "김밥천국", "서울특별시 강남구 테헤란로 1");
+        insert(shard1Template, "김밥나라", "서울특별시 서초구 강남대로 2");
+        stepExecution.setExitStatus(ExitStatus.COMPLETED);
+        listener.afterStep(stepExecution);
+
+        // then: 샤드 0은 이번 적재 행(id 2)만, 샤드 1은 자기 행(id 1)만 색인
+        try (BigramIndex index = BigramIndex.open(TableIndexer.shardIndexFile(file, 0))) {
+            assertThat(index.candidates("store_name", "김밥")).containsExactly(2);
+        }
+        try (BigramIndex index = BigramIndex.open(TableIndexer.shardIndexFile(file, 1))) {
+            assertThat(index.candidates("store_name", "김밥")).containsExactly(1);
+        }
+    }
+
+    @Test
+    @DisplayName("검색 결과 확인은 DB 값을 색인과 같이 정규화하여 전각 문자와 연속 공백도 찾아야 한다")
+    void shouldConfirmCandidatesWithNormalizedValues() throws Exception {
+        // given: 전각 영문과 연속 공백이 있는 상호명, bigram은 모두 있지만 연속하지 않는 상호명
+        insert(jdbcTemplate, "ＫＩＭＢＡＰ  김밥천국", "서울특별시 강남구 테헤란로 1");
+        insert(jdbcTemplate, "천국김밥", "서울특별시 서초구 강남대로 2");
+        Path file = tempDir.resolve("index.idx");
+        new TableIndexer(dataSource, file).rebuild();
+
+        // when
+        try (BigramIndex index = BigramIndex.open(file)) {
+            BigramSearcher searcher = new BigramSearcher(jdbcTemplate, index);
+
+            // then
+            assertThat(searcher.search("store_name", "kimbap 김밥", 10)).containsExactly(1L);
+            assertThat(searcher.search("store_name", "김밥천국", 10)).containsExactly(1L);
+            assertThat(searcher.search("store_name", "국김", 10)).containsExactly(2L);
+        }
+    }
+
+    private static DriverManagerDataSource dataSource(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("test-schema.sql")).execute(dataSource);
+        return dataSource;
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, String storeName, String roadAddress) {
+        jdbcTemplate.update("INSERT INTO restaurant (store_name, road_address) VALUES (?, ?)", storeName, roadAddress);
+    }
+
+    private static long maxId(JdbcTemplate jdbcTemplate) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM restaurant", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+}
@@ -0,0 +1,316 @@
+package com.assignment.restaurantbatch.shard;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.policy.CustomSkipPolicy;
+import com.assignment.restaurantbatch.policy.DbCircuitBreaker;
+import com.assignment.restaurantbatch.policy.DbRetrySettings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.repository.support.JobRepositoryFactoryBean;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.support.ListItemReader;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.retry.backoff.NoBackOffPolicy;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link ShardedInsertWriter}를 H2 메모리 DB 여러 개(샤드)로 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 각 행이 라우터가 정한 샤드 하나에만 적재되는지 확인합니다.
+ * • 한 샤드의 INSERT·커밋 실패 시 어느 샤드에도 이번 Chunk 행이 남지 않는지 확인합니다.
+ * • 되돌리기가 이전 적재의 행을 지우지 않는지 확인합니다.
+ * • 되돌리기나 커밋 결과 확인이 실패하면 스텝이 스킵 없이 실패하는지 확인합니다.
+ */
+class ShardedInsertWriterTest {
+
+    private static final int SHARDS = 3;
+
+    private final List<DataSource> shards = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        shards.clear();
+        for (int i = 0; i < SHARDS; i++) {
+            DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:shard" + i + ";DB_CLOSE_DELAY=-1", "sa", "");
+            new ResourceDatabasePopulator(new ClassPathResource("test-schema.sql")).execute(dataSource);
+            shards.add(dataSource);
+        }
+    }
+
+    @Test
+    @DisplayName("각 행은 관리번호 해시로 정해진 샤드 하나에만 적재되어야 한다")
+    void shouldWriteEachRowToItsShard() throws Exception {
+        // given
+        ShardedInsertWriter writer = new ShardedInsertWriter(shards, ShardRouter.byManagementNumber(SHARDS), BatchMetrics.noop());
+        List<RestaurantCsvDto> rows = rows(1, 60);
+
+        // when
+        writer.write(new Chunk<>(rows));
+
+        // then
+        long total = 0;
+        for (int shard = 0; shard < SHARDS; shard++) {
+            List<String> numbers = new JdbcTemplate(shards.get(shard))
+                    .queryForList("SELECT management_number FROM restaurant", String.class);
+            for (String number : numbers) {
+                assertThat(ShardRouter.shardOf(number, SHARDS)).isEqualTo(shard);
+            }
+            assertThat(writer.rowsWritten(shard)).isEqualTo(numbers.size());
+            total += numbers.size();
+        }
+        assertThat(total).isEqualTo(60);
+        assertThat(count(0)).isPositive();
+        assertThat(count(1)).isPositive();
+        assertThat(count(2)).isPositive();
+    }
+
+    @Test
+    @DisplayName("한 샤드의 INSERT가 실패하면 모든 샤드를 롤백해야 한다")
+    void shouldRollbackAllShardsWhenInsertFails() {
+        // given: 2번 샤드의 테이블 제거
+        new JdbcTemplate(shards.get(2)).execute("DROP TABLE restaurant");
+        ShardedInsertWriter writer = new ShardedInsertWriter(shards, ShardRouter.byManagementNumber(SHARDS), BatchMetrics.noop());
+
+        // when / then
+        assertThatThrownBy(() -> writer.write(new Chunk<>(rows(1, 60)))).isInstanceOf(SQLException.class);
+        assertThat(count(0)).isZero();
+        assertThat(count(1)).isZero();
+        assertThat(writer.rowsWritten(0)).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋 도중 실패하면 이미 커밋한 샤드의 행을 되돌려야 한다")
+    void shouldCompensateCommittedShardsWhenCommitFails() {
+        // given: 1번 샤드 커밋 실패 (0번 샤드는 이미 커밋된 상태)
+        shards.set(1, failingCommit(shards.get(1)));
+        ShardedInsertWriter writer = new ShardedInsertWriter(shards, ShardRouter.byManagementNumber(SHARDS), BatchMetrics.noop());
+
+        // when / then
+        assertThatThrownBy(() -> writer.write(new Chunk<>(rows(1, 60))))
+                .isInstanceOf(SQLException.class)
+                .hasMessageContaining("commit");
+        assertThat(count(0)).isZero();
+        assertThat(count(1)).isZero();
+        assertThat(count(2)).isZero();
+        assertThat(writer.compensationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("되돌리기는 이번 Chunk에서 생성된 id의 행만 지우고 record_number가 같은 이전 적재 행은 남겨야 한다")
+    void shouldCompensateOnlyRowsOfThisChunk() throws Exception {
+        // given: 이전 적재에서 같은 record_number로 들어간 행
+        List<RestaurantCsvDto> previous = rows(1, 60);
+        new ShardedInsertWriter(shards, ShardRouter.byManagementNumber(SHARDS), BatchMetrics.noop())
+                .write(new Chunk<>(previous));
+        long[] before = {count(0), count(1), count(2)};
+        shards.set(1, failingCommit(shards.get(1)));
+        ShardedInsertWriter writer = new ShardedInsertWriter(shards, ShardRouter.byManagementNumber(SHARDS), BatchMetrics.noop());
+
+        // when / then
+        assertThatThrownBy(() -> writer.write(new Chunk<>(rows(1, 60)))).isInstanceOf(SQLException.class);
+        assertThat(new long[]{count(0), count(1), count(2)}).containsExactly(before);
+    }
+
+    @Test
+    @DisplayName("커밋 응답 전에 연결이 끊겨 실제로 커밋된 샤드의 행도 지운 뒤 재시도 가능한 예외를 던져야 한다")
+    void shouldCleanUpShardWhoseCommitOutcomeIsUnknown() {
+        // given: 1번 샤드는 커밋은 되지만 응답 전에 연결이 끊긴 것으로 보고
+        shards.set(1, lostCommitResponse(shards.get(1)));
+        ShardedInsertWriter writer = new ShardedInsertWriter(shards, ShardRouter.byManagementNumber(SHARDS), BatchMetrics.noop());
+
+        // when / then
+        assertThatThrownBy(() -> writer.write(new Chunk<>(rows(1, 60))))
+                .isInstanceOf(SQLException.class)
+                .isNotInstanceOf(ShardCommitUncertainException.class);
+        assertThat(count(0)).isZero();
+        assertThat(count(1)).isZero();
+        assertThat(count(2)).isZero();
+        assertThat(writer.compensationCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("되돌리기가 실패하면 스킵할 수 없는 ShardCommitUncertainException을 던져야 한다")
+    void shouldThrowUncertainWhenCompensationFails() {
+        // given: 1번 샤드 커밋 실패, 0번 샤드 되돌리기 실패
+        shards.set(0, failingDelete(shards.get(0)));
+        shards.set(1, failingCommit(shards.get(1)));
+        ShardedInsertWriter writer = new ShardedInsertWriter(shards, ShardRouter.byManagementNumber(SHARDS), BatchMetrics.noop());
+
+        // when / then
+        assertThatThrownBy(() -> writer.write(new Chunk<>(rows(1, 60))))
+                .isInstanceOfSatisfying(ShardCommitUncertainException.class, e -> assertThat(e.shard()).isZero());
+    }
+
+    @Test
+    @DisplayName("커밋 결과를 알 수 없는 샤드를 정리하지 못하면 스킵할 수 없는 ShardCommitUncertainException을 던져야 한다")
+    void shouldThrowUncertainWhenUnknownCommitCannotBeCleanedUp() {
+        // given: 0번 샤드 커밋 응답 유실, 정리용 DELETE도 실패
+        shards.set(0, failingDelete(lostCommitResponse(shards.get(0))));
+        ShardedInsertWriter writer = new ShardedInsertWriter(shards, ShardRouter.byManagementNumber(SHARDS), BatchMetrics.noop());
+
+        // when / then
+        assertThatThrownBy(() -> writer.write(new Chunk<>(rows(1, 60))))
+                .isInstanceOfSatisfying(ShardCommitUncertainException.class, e -> assertThat(e.shard()).isZero());
+    }
+
+    @Test
+    @DisplayName("되돌리기가 실패하면 스텝은 한 건씩 다시 쓰지 않고 FAILED로 끝나야 한다")
+    void shouldFailStepWithoutScanWhenCompensationFails() throws Exception {
+        // given: 1번 샤드 커밋 실패, 0번 샤드 되돌리기 실패
+        shards.set(0, failingDelete(shards.get(0)));
+        shards.set(1, failingCommit(shards.get(1)));
+        ShardedInsertWriter writer = new ShardedInsertWriter(shards, ShardRouter.byManagementNumber(SHARDS), BatchMetrics.noop());
+        List<RestaurantCsvDto> rows = rows(1, 60);
+        long routedToShard0 = rows.stream()
+                .filter(dto -> ShardRouter.shardOf(dto.getManagementNumber(), SHARDS) == 0)
+                .count();
+
+        DataSource metaDataSource = new DriverManagerDataSource("jdbc:h2:mem:shardMeta;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("org/springframework/batch/core/schema-drop-h2.sql"),
+                new ClassPathResource("org/springframework/batch/core/schema-h2.sql")).execute(metaDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(metaDataSource);
+        JobRepositoryFactoryBean factory = new JobRepositoryFactoryBean();
+        factory.setDataSource(metaDataSource);
+        factory.setTransactionManager(transactionManager);
+        factory.afterPropertiesSet();
+        JobRepository jobRepository = factory.getObject();
+
+        DbRetrySettings retrySettings = new DbRetrySettings(3, new NoBackOffPolicy(),
+                new DbCircuitBreaker(0.5, 20, Duration.ofSeconds(10), Duration.ofSeconds(5), 32));
+        Step step = new StepBuilder("shardStep", jobRepository)
+                .<RestaurantCsvDto, RestaurantCsvDto>chunk(rows.size(), transactionManager)
+                .reader(new ListItemReader<>(rows))
+                .writer(writer)
+                .faultTolerant()
+                .retryPolicy(retrySettings.retryPolicy())
+                .skipPolicy(new CustomSkipPolicy())
+                .build();
+        JobExecution jobExecution = jobRepository.createJobExecution("shardJob", new JobParameters());
+        StepExecution stepExecution = jobExecution.createStepExecution(step.getName());
+        jobRepository.add(stepExecution);
+
+        // when
+        step.execute(stepExecution);
+
+        // then: 스킵 탐색으로 다시 쓰지 않았으므로 0번 샤드에는 첫 시도 행만 남음
+        assertThat(stepExecution.getStatus()).isEqualTo(BatchStatus.FAILED);
+        assertThat(stepExecution.getWriteSkipCount()).isZero();
+        assertThat(stepExecution.getFailureExceptions())
+                .anySatisfy(e -> assertThat(e).hasStackTraceContaining(ShardCommitUncertainException.class.getName()));
+        assertThat(count(0)).isEqualTo(routedToShard0);
+        assertThat(count(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("라우터는 같은 값을 항상 같은 샤드로 보내고 알 수 없는 기준은 거부해야 한다")
+    void shouldRouteStably() {
+        RestaurantCsvDto dto = rows(1, 1).get(0);
+        ShardRouter router = ShardRouter.of(ShardRouter.REGION, SHARDS);
+
+        assertThat(router.route(dto)).isEqualTo(router.route(dto)).isBetween(0, SHARDS - 1);
+        assertThat(ShardRouter.shardOf(null, SHARDS)).isZero();
+        assertThat(ShardRouter.shardOf("", SHARDS)).isZero();
+        assertThatThrownBy(() -> ShardRouter.of("store-name", SHARDS)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private long count(int shard) {
+        return new JdbcTemplate(shards.get(shard)).queryForObject("SELECT COUNT(*) FROM restaurant", Long.class);
+    }
+
+    /**
+     * commit() 호출 시 예외를 던지는 커넥션을 주는 DataSource (되돌리기용 자동 커밋 커넥션은 그대로 사용)
+     */
+    private static DataSource failingCommit(DataSource target) {
+        return intercept(target, (conn, method, args) -> {
+            if ("commit".equals(method) && !conn.getAutoCommit()) {
+                throw new SQLException("commit failed");
+            }
+        });
+    }
+
+    /**
+     * 커밋은 반영하지만 응답 전에 연결이 끊긴 것처럼 예외를 던지는 DataSource
+     */
+    private static DataSource lostCommitResponse(DataSource target) {
+        return intercept(target, (conn, method, args) -> {
+            if ("commit".equals(method) && !conn.getAutoCommit()) {
+                conn.commit();
+                throw new SQLException("Communications link failure", "08S01");
+            }
+        });
+    }
+
+    /**
+     * DELETE 문 준비 시 연결 오류를 던지는 DataSource (되돌리기·정리 실패)
+     */
+    private static DataSource failingDelete(DataSource target) {
+        return intercept(target, (conn, method, args) -> {
+            if ("prepareStatement".equals(method) && ((String) args[0]).startsWith("DELETE")) {
+                throw new SQLException("Communications link failure", "08S01");
+            }
+        });
+    }
+
+    /**
+     * 커넥션 메서드 호출 전에 {@code before}를 실행하는 DataSource
+     */
+    private static DataSource intercept(DataSource target, ConnectionInterceptor before) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection conn = super.getConnection();
+                return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            before.before(conn, method.getName(), args);
+                            try {
+                                return method.invoke(conn, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        });
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface ConnectionInterceptor {
+        void before(Connection conn, String method, Object[] args) throws SQLException;
+    }
+
+    private List<RestaurantCsvDto> rows(int firstRecordNumber, int count) {
+        List<RestaurantCsvDto> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RestaurantCsvDto dto = new RestaurantCsvDto();
+            dto.setRecordNumber(firstRecordNumber + i);
+            dto.setRegionCode("3000000");
+            dto.setManagementNumber("MN-" + (firstRecordNumber + i));
+            rows.add(dto);
+        }
+        return rows;
+    }
+}
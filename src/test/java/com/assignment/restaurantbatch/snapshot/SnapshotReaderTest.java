@@ -0,0 +1,174 @@
+package com.assignment.restaurantbatch.snapshot;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link SnapshotWriter}로 쓴 스냅샷을 {@link SnapshotReader}, {@link SnapshotItemReader}로 읽는 테스트 클래스입니다.
+ * <p>
+ * • 행 그룹 단위 기록/읽기에서 값과 null이 그대로 복원되는지 확인합니다.
+ * • 체크섬 불일치, 재시작 시 행 그룹 건너뛰기, 행 그룹 구간 파티션 분할을 확인합니다.
+ * • 스냅샷 컬럼 구성이 스키마(schema/restaurant.yml)에서 만들어지는지 확인합니다.
+ */
+class SnapshotReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("여러 행 그룹으로 기록한 행을 값과 null 그대로 읽어야 한다")
+    void shouldRoundTripRowsAcrossRowGroups() throws Exception {
+        // given
+        Path file = tempDir.resolve("a.snap");
+        List<RestaurantCsvDto> rows = rows(25);
+        write(file, rows, 10);
+
+        // when
+        List<RestaurantCsvDto> read = new ArrayList<>();
+        try (SnapshotReader reader = SnapshotReader.open(file)) {
+            assertThat(reader.rowGroupCount()).isEqualTo(3);
+            assertThat(reader.rowCount()).isEqualTo(25);
+            assertThat(reader.fingerprint()).isEqualTo("fp");
+            for (int group = 0; group < reader.rowGroupCount(); group++) {
+                read.addAll(reader.readRowGroup(group));
+            }
+        }
+
+        // then
+        assertThat(read).hasSize(25);
+        for (int i = 0; i < rows.size(); i++) {
+            for (int column : SnapshotFormat.STRING_COLUMNS) {
+                assertThat(SnapshotFormat.BINDER.get(read.get(i), column))
+                        .as(SnapshotFormat.BINDER.schema().columns().get(column).field() + " #" + i)
+                        .isEqualTo(SnapshotFormat.BINDER.get(rows.get(i), column));
+            }
+            assertThat(read.get(i).getRecordNumber()).isEqualTo(rows.get(i).getRecordNumber());
+        }
+        // 사전 인코딩된 반복 값은 같은 인스턴스를 공유
+        assertThat(read.get(0).getServiceName()).isSameAs(read.get(1).getServiceName());
+    }
+
+    @Test
+    @DisplayName("스냅샷 컬럼은 recordNumber와 스키마의 나머지 필드를 스키마 순서로 담아야 한다")
+    void columnsShouldFollowSchema() {
+        List<String> fields = new ArrayList<>(List.of(DatasetSchema.restaurant().fieldNames()));
+        fields.remove(DatasetSchema.RECORD_NUMBER_FIELD);
+        fields.add(0, DatasetSchema.RECORD_NUMBER_FIELD);
+
+        assertThat(SnapshotFormat.COLUMN_NAMES).containsExactlyElementsOf(fields);
+    }
+
+    @Test
+    @DisplayName("행 그룹 체크섬이 맞지 않으면 예외를 던져야 한다")
+    void shouldRejectCorruptedRowGroup() throws Exception {
+        // given: 행 그룹 하나만 기록한 뒤, 푸터 바로 앞(행 그룹 마지막 부분)의 바이트 하나 변경
+        Path file = tempDir.resolve("b.snap");
+        write(file, rows(10), 10);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer trailer = ByteBuffer.allocate(SnapshotFormat.TRAILER_BYTES);
+            channel.read(trailer, channel.size() - SnapshotFormat.TRAILER_BYTES);
+            long offset = trailer.getLong(0) - 2;
+
+            ByteBuffer one = ByteBuffer.allocate(1);
+            channel.read(one, offset);
+            one.put(0, (byte) (one.get(0) ^ 0x5A));
+            channel.write(one.rewind(), offset);
+        }
+
+        // when / then
+        try (SnapshotReader reader = SnapshotReader.open(file)) {
+            assertThatThrownBy(() -> reader.readRowGroup(0))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("체크섬");
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 시 이미 읽은 행 수만큼 건너뛰고 이어서 읽어야 한다")
+    void shouldResumeFromSavedItemCount() throws Exception {
+        // given
+        Path file = tempDir.resolve("c.snap");
+        write(file, rows(25), 10);
+        ExecutionContext context = new ExecutionContext();
+        SnapshotItemReader first = new SnapshotItemReader(file, 0, 3);
+        first.open(context);
+        for (int i = 0; i < 13; i++) {
+            first.read();
+        }
+        first.update(context);
+        first.close();
+
+        // when
+        SnapshotItemReader restarted = new SnapshotItemReader(file, 0, 3);
+        restarted.open(context);
+        List<Integer> recordNumbers = new ArrayList<>();
+        RestaurantCsvDto item;
+        while ((item = restarted.read()) != null) {
+            recordNumbers.add(item.getRecordNumber());
+        }
+        restarted.close();
+
+        // then
+        assertThat(recordNumbers).hasSize(12).startsWith(13).endsWith(24);
+    }
+
+    @Test
+    @DisplayName("행 그룹을 gridSize개 이하의 연속 구간으로 나누어야 한다")
+    void shouldPartitionRowGroups() throws Exception {
+        // given: 행 그룹 5개
+        Path file = tempDir.resolve("d.snap");
+        write(file, rows(50), 10);
+
+        // when
+        Map<String, ExecutionContext> partitions = new SnapshotPartitioner(file).partition(2);
+        Map<String, ExecutionContext> tooMany = new SnapshotPartitioner(file).partition(8);
+
+        // then
+        assertThat(partitions).hasSize(2);
+        assertThat(partitions.get("partition0").getInt(SnapshotPartitioner.FROM_GROUP_KEY)).isZero();
+        assertThat(partitions.get("partition0").getInt(SnapshotPartitioner.TO_GROUP_KEY)).isEqualTo(2);
+        assertThat(partitions.get("partition1").getInt(SnapshotPartitioner.FROM_GROUP_KEY)).isEqualTo(2);
+        assertThat(partitions.get("partition1").getInt(SnapshotPartitioner.TO_GROUP_KEY)).isEqualTo(5);
+        assertThat(tooMany).hasSize(5);
+    }
+
+    private void write(Path file, List<RestaurantCsvDto> rows, int rowGroupSize) throws Exception {
+        try (SnapshotWriter writer = new SnapshotWriter(file, "fp", rowGroupSize)) {
+            for (RestaurantCsvDto row : rows) {
+                writer.write(row);
+            }
+        }
+    }
+
+    private List<RestaurantCsvDto> rows(int count) {
+        List<RestaurantCsvDto> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RestaurantCsvDto dto = new RestaurantCsvDto();
+            dto.setRecordNumber(i);
+            dto.setServiceName("일반음식점");
+            dto.setRegionCode(i % 2 == 0 ? "3000000" : "3250000");
+            dto.setManagementNumber("MN-" + i);
+            dto.setLicenseDate("2020-01-0" + (i % 9 + 1));
+            dto.setStoreName(i % 5 == 0 ? null : "가게 " + i);
+            dto.setCoordX(String.valueOf(200000.5 + i));
+            dto.setHomepage(i == 3 ? "" : null);
+            rows.add(dto);
+        }
+        return rows;
+    }
+}
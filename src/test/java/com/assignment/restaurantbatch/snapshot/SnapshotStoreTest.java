@@ -0,0 +1,83 @@
+package com.assignment.restaurantbatch.snapshot;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link SnapshotStore}의 원본 지문 기반 스냅샷 캐시를 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 픽스처 CSV(MS949)로 스냅샷을 만들고 같은 지문으로 찾을 수 있는지 확인합니다.
+ * • 원본이 바뀌거나 스냅샷이 손상되면 적중하지 않는지 확인합니다.
+ */
+class SnapshotStoreTest {
+
+    private static final Charset MS949 = Charset.forName("MS949");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("CSV로 만든 스냅샷은 같은 지문으로 찾을 수 있고 모든 행을 담아야 한다")
+    void shouldSaveAndFindSnapshotByFingerprint() throws Exception {
+        // given
+        Path csv = new ClassPathResource("success-test.csv").getFile().toPath();
+        SnapshotStore store = new SnapshotStore(tempDir.resolve("snapshot"), 4);
+        String fingerprint = SnapshotStore.fingerprint(csv);
+
+        // when
+        Path saved = store.save(fingerprint, List.of(csv), MS949);
+        Optional<Path> found = store.find(fingerprint);
+
+        // then
+        assertThat(found).contains(saved);
+        try (SnapshotReader reader = SnapshotReader.open(saved)) {
+            assertThat(reader.rowCount()).isEqualTo(6);
+            assertThat(reader.rowGroupCount()).isEqualTo(2);
+            RestaurantCsvDto first = reader.readRowGroup(0).get(0);
+            assertThat(first.getManagementNumber()).isNotBlank();
+            assertThat(first.getRegionCode()).isEqualTo("3250000");
+        }
+        try (var files = Files.list(saved.getParent())) {
+            assertThat(files).containsExactly(saved);
+        }
+    }
+
+    @Test
+    @DisplayName("원본 내용이 바뀌거나 스냅샷이 손상되면 적중하지 않아야 한다")
+    void shouldMissWhenSourceChangesOrSnapshotIsCorrupted() throws Exception {
+        // given
+        Path csv = tempDir.resolve("restaurant.csv");
+        Files.copy(new ClassPathResource("success-test.csv").getFile().toPath(), csv);
+        SnapshotStore store = new SnapshotStore(tempDir.resolve("snapshot"), 4);
+        String fingerprint = SnapshotStore.fingerprint(csv);
+        Path saved = store.save(fingerprint, List.of(csv), MS949);
+
+        // when: 원본에 빈 줄 추가
+        Files.writeString(csv, "\n", StandardOpenOption.APPEND);
+        String changed = SnapshotStore.fingerprint(csv);
+
+        // then
+        assertThat(changed).isNotEqualTo(fingerprint);
+        assertThat(store.find(changed)).isEmpty();
+
+        // when: 스냅샷 트레일러 손상 (기록 중 중단된 파일과 같은 상태)
+        byte[] bytes = Files.readAllBytes(saved);
+        Files.write(saved, Arrays.copyOf(bytes, bytes.length - 3));
+
+        // then
+        assertThat(store.find(fingerprint)).isEmpty();
+    }
+}
@@ -10,6 +10,7 @@ import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -61,4 +62,67 @@ class CsvSplitterTest {
             assertThat(lines.get(0)).contains("번호"); // 첫 줄은 반드시 헤더
         }
     }
+
+    @Test
+    @DisplayName("지역별로 분할하면 개방자치단체코드마다 한 파일에 해당 지역 행만 담겨야 한다")
+    void splitByRegion_createsOneFilePerRegion() throws Exception {
+        // given
+        Path inputPath = new ClassPathResource("success-test.csv").getFile().toPath();
+
+        // when
+        Map<String, Long> counts = csvSplitter.splitByRegion(inputPath, outputPath.toString());
+
+        // then: 픽스처의 4개 지역 (3250000 2건, 3420000 1건, 4070000 1건, 4311000 2건)
+        assertThat(counts).containsExactly(
+                Map.entry("3250000", 2L), Map.entry("3420000", 1L), Map.entry("4070000", 1L), Map.entry("4311000", 2L));
+
+        List<String> busan = Files.readAllLines(outputPath.resolve("restaurant-part-3250000.csv"), Charset.forName("MS949"));
+        assertThat(busan).hasSize(3);
+        assertThat(busan.get(0)).contains("번호");
+        assertThat(busan.subList(1, 3)).allMatch(line -> CsvSplitter.regionCodeOf(line).equals("3250000"));
+    }
+
+    @Test
+    @DisplayName("조건을 지정하면 해당 라인만 분할하고 기록한 라인 수를 반환해야 한다")
+    void split_withFilter_writesOnlyMatchingLines() throws Exception {
+        // given
+        Path inputPath = new ClassPathResource("success-test.csv").getFile().toPath();
+
+        // when
+        long written = csvSplitter.split(inputPath, outputPath.toString(), 1,
+                line -> "4311000".equals(CsvSplitter.regionCodeOf(line)));
+
+        // then
+        assertThat(written).isEqualTo(2);
+        File[] files = outputPath.toFile().listFiles((dir, name) -> name.endsWith(".csv"));
+        assertThat(files).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표는 구분자로 보지 않고 개방자치단체코드를 꺼내야 한다")
+    void regionCodeOf_ignoresQuotedCommas() {
+        assertThat(CsvSplitter.regionCodeOf("\"1\",\"일반, 음식점\",\"07_24_04_P\",\" 3000000 \",\"M-1\"")).isEqualTo("3000000");
+        assertThat(CsvSplitter.regionCodeOf("\"1\",\"a\",\"b\",\"\",\"M-1\"")).isEmpty();
+        assertThat(CsvSplitter.regionCodeOf("\"1\",\"a\"")).isEmpty();
+        assertThat(CsvSplitter.regionFileName("")).isEqualTo("restaurant-part-none.csv");
+    }
+
+    @Test
+    @DisplayName("파티션 디렉토리에서 restaurant-part*.csv 분할 파일만 이름 순서로 반환해야 한다")
+    void partitionFiles_returnsOnlyPartFilesInOrder() throws Exception {
+        // given
+        Files.createDirectories(outputPath);
+        Files.createFile(outputPath.resolve("restaurant-part-2.csv"));
+        Files.createFile(outputPath.resolve("restaurant-part-1.csv"));
+        Files.createFile(outputPath.resolve("restaurant-part-1.csv.tmp"));
+        Files.createFile(outputPath.resolve("duplicates-1.csv"));
+
+        // when
+        List<Path> files = CsvSplitter.partitionFiles(outputPath);
+
+        // then
+        assertThat(files).containsExactly(
+                outputPath.resolve("restaurant-part-1.csv"),
+                outputPath.resolve("restaurant-part-2.csv"));
+    }
 }
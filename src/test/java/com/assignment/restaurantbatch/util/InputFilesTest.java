@@ -0,0 +1,75 @@
+package com.assignment.restaurantbatch.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link InputFiles}의 단위 테스트입니다.
+ * <p>
+ * • glob/매니페스트로 입력 파일 목록을 만들고<br>
+ * • 파일별 라인 수와 크기를 조사하며 헤더가 다른 파일을 거부하는지 확인합니다.
+ */
+class InputFilesTest {
+
+    private static final String HEADER = "번호,개방서비스명";
+
+    @Test
+    @DisplayName("매니페스트의 경로와 glob을 매니페스트 위치 기준으로 풀어 순서대로 반환해야 한다")
+    void shouldResolveManifestEntries(@TempDir Path tempDir) throws Exception {
+        // given
+        Path seoul = write(tempDir.resolve("extracts/seoul.csv"), "1,a");
+        Path busan = write(tempDir.resolve("extracts/busan.csv"), "2,b");
+        Path fix = write(tempDir.resolve("fix.csv"), "3,c");
+        write(tempDir.resolve("extracts/readme.txt"), "x");
+        Path manifest = tempDir.resolve("manifest.txt");
+        Files.writeString(manifest, "# 정기 적재\nfix.csv\n\nextracts/*.csv\nfix.csv\n");
+
+        // when
+        List<Path> files = InputFiles.readManifest(manifest);
+
+        // then: 중복은 한 번만, glob 결과는 경로순
+        assertThat(files).containsExactly(fix, busan, seoul);
+    }
+
+    @Test
+    @DisplayName("파일마다 라인 수와 크기를 조사하고 헤더가 다른 파일이 있으면 거부해야 한다")
+    void shouldProfileFilesAndRejectMismatchedHeader(@TempDir Path tempDir) throws Exception {
+        // given
+        Path first = write(tempDir.resolve("a.csv"), "1,a", "2,b");
+        Path second = write(tempDir.resolve("b.csv"));
+        Path other = tempDir.resolve("c.csv");
+        Files.writeString(other, "번호,다른컬럼\n1,a\n");
+
+        // when
+        List<InputFiles.Profile> profiles = InputFiles.profile(List.of(first, second), StandardCharsets.UTF_8, 2);
+
+        // then
+        assertThat(profiles).extracting(InputFiles.Profile::rows).containsExactly(2L, 0L);
+        assertThat(profiles.get(0).bytes()).isEqualTo(Files.size(first));
+        assertThatThrownBy(() -> InputFiles.profile(List.of(first, other), StandardCharsets.UTF_8, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("c.csv");
+        assertThatThrownBy(() -> InputFiles.resolve(tempDir.resolve("*.tsv").toString()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Path write(Path file, String... rows) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.write(file, concat(rows), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private static List<String> concat(String... rows) {
+        return Stream.concat(Stream.of(HEADER), Stream.of(rows)).toList();
+    }
+}
@@ -0,0 +1,48 @@
+package com.assignment.restaurantbatch.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link IntHashSet} 클래스의 단위 테스트입니다.
+ * <p>
+ * • 중복 값 추가 시 false를 반환하는지 확인합니다.
+ * • 0 및 음수 값, 초기 용량을 넘는 원소 추가 시에도 정상 동작하는지 검증합니다.
+ */
+class IntHashSetTest {
+
+    @Test
+    @DisplayName("같은 값을 두 번 추가하면 두 번째는 false를 반환해야 한다")
+    void shouldRejectDuplicates() {
+        // given
+        IntHashSet set = new IntHashSet(4);
+
+        // when / then
+        assertThat(set.add(1)).isTrue();
+        assertThat(set.add(1)).isFalse();
+        assertThat(set.add(0)).isTrue();
+        assertThat(set.add(0)).isFalse();
+        assertThat(set.add(-7)).isTrue();
+        assertThat(set.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("초기 용량을 넘어도 모든 값이 유지되어야 한다")
+    void shouldGrowBeyondInitialCapacity() {
+        // given
+        IntHashSet set = new IntHashSet(16);
+
+        // when
+        for (int i = 1; i <= 100_000; i++) {
+            set.add(i * 31);
+        }
+
+        // then
+        assertThat(set.size()).isEqualTo(100_000);
+        assertThat(set.contains(31)).isTrue();
+        assertThat(set.contains(100_000 * 31)).isTrue();
+        assertThat(set.contains(32)).isFalse();
+    }
+}
@@ -0,0 +1,106 @@
+package com.assignment.restaurantbatch.validate;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.progress.BatchProgress;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.validate.ColumnErrorStats.ColumnSummary;
+import com.assignment.restaurantbatch.validate.RowValidator.Reason;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.item.Chunk;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 검증 전용 실행({@link DryRunItemWriter}, {@link RowValidator}, {@link DryRunReport})의 단위 테스트입니다.
+ * <p>
+ * • 적재 시와 같은 변환으로 형식 오류를, 스키마 length로 길이 초과를 찾는지 확인합니다.<br>
+ * • 오류 행만 Chunk에서 빠지고 실패 로그로 넘어가며 컬럼별로 집계되는지 확인합니다.
+ */
+class DryRunItemWriterTest {
+
+    private final RowValidator validator = new RowValidator(DatasetSchema.restaurant());
+
+    @Test
+    @DisplayName("형식이 틀린 날짜/숫자와 길이를 넘는 값을 컬럼별 오류로 반환해야 한다")
+    void shouldReportTypeAndLengthErrors() {
+        // given: 지역코드 최대 10자, 한글은 글자 수로 계산
+        RestaurantCsvDto bad = row(1, "2024-13-45", "12345678901");
+        bad.setMaleEmployee("3명");
+        RestaurantCsvDto korean = row(2, "2024-01-01", "가나다라마바사아자차");
+
+        // when & then
+        assertThat(validator.validate(bad))
+                .extracting(RowValidator.ColumnError::field, RowValidator.ColumnError::reason)
+                .containsExactly(
+                        tuple("regionCode", Reason.LENGTH),
+                        tuple("licenseDate", Reason.TYPE),
+                        tuple("maleEmployee", Reason.TYPE));
+        assertThat(validator.validate(korean)).isEmpty();
+        assertThat(validator.validate(new RestaurantCsvDto())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("오류 행은 Chunk에서 빼고 실패 로그로 넘기며 컬럼별로 집계해야 한다")
+    void shouldRejectInvalidRowsAndCollectStats(@TempDir Path tempDir) throws Exception {
+        // given
+        ColumnErrorStats stats = new ColumnErrorStats(validator);
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", 3, BatchProgress.UNKNOWN);
+        List<RestaurantCsvDto> rejected = new ArrayList<>();
+        List<Throwable> causes = new ArrayList<>();
+        DryRunItemWriter writer = new DryRunItemWriter(validator, stats, BatchMetrics.noop(), progress, (dto, t) -> {
+            rejected.add(dto);
+            causes.add(t);
+        });
+        Chunk<RestaurantCsvDto> chunk = new Chunk<>(List.of(
+                row(1, "2024-01-01", "3250000"),
+                row(2, "2024/01/01", "3250000"),
+                row(3, "2024-01-01", "3250000-TOO-LONG")));
+
+        // when
+        writer.write(chunk);
+        Path reportFile = DryRunReport.reportFileFor(tempDir.resolve("failed-1.csv"));
+        StepExecution stepExecution = new StepExecution("masterStep", null);
+        stepExecution.setExitStatus(ExitStatus.COMPLETED);
+        new DryRunReport(stats, reportFile).afterStep(stepExecution);
+
+        // then: 1번 행만 남고 2, 3번 행은 실패 로그로 전달
+        assertThat(chunk.getItems()).extracting(RestaurantCsvDto::getRecordNumber).containsExactly(1);
+        assertThat(rejected).extracting(RestaurantCsvDto::getRecordNumber).containsExactly(2, 3);
+        assertThat(causes.get(0)).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("licenseDate");
+        assertThat(progress.snapshot().skippedRows()).isEqualTo(2);
+
+        assertThat(stats.rowsChecked()).isEqualTo(3);
+        assertThat(stats.rowsFailed()).isEqualTo(2);
+        assertThat(stats.count("licenseDate", Reason.TYPE)).isEqualTo(1);
+        assertThat(stats.count("regionCode", Reason.LENGTH)).isEqualTo(1);
+        assertThat(stats.summaries()).extracting(ColumnSummary::sample).containsExactly("3250000-TOO-LONG", "2024/01/01");
+
+        assertThat(reportFile.getFileName().toString()).isEqualTo("failed-1-dry-run.csv");
+        assertThat(Files.readAllLines(reportFile, StandardCharsets.UTF_8)).containsExactly(
+                "column,type_errors,length_errors,sample",
+                "regionCode,0,1,\"3250000-TOO-LONG\"",
+                "licenseDate,1,0,\"2024/01/01\"");
+    }
+
+    private static RestaurantCsvDto row(int recordNumber, String licenseDate, String regionCode) {
+        RestaurantCsvDto dto = new RestaurantCsvDto();
+        dto.setRecordNumber(recordNumber);
+        dto.setLicenseDate(licenseDate);
+        dto.setRegionCode(regionCode);
+        dto.setStoreName("식당" + recordNumber);
+        return dto;
+    }
+}
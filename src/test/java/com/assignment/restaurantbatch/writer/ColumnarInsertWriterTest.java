@@ -0,0 +1,180 @@
+package com.assignment.restaurantbatch.writer;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.progress.BatchProgress;
+import com.assignment.restaurantbatch.reader.ColumnarChunk;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * {@link ColumnarInsertWriter} 클래스의 단위 테스트입니다.
+ * <p>
+ * • 컬럼 타입에 맞게 버퍼에서 바로 바인딩하는지 확인합니다.
+ * • 다중 INSERT 실패 시 행 단위로 재시도하여 실패한 행만 걸러내는지 확인합니다.
+ * • SQLState로 분류되는 DB 오류도 행 단위로 나누지 않고 그대로 던지는지 확인합니다.
+ * • 행 단위 재시도 중 일시적인 오류가 나면 롤백하고 실패 행을 넘기지 않는지 확인합니다.
+ */
+class ColumnarInsertWriterTest {
+
+    @Test
+    @DisplayName("버퍼의 값을 컬럼 타입에 맞게 바인딩하여 한 번의 다중 INSERT로 저장해야 한다")
+    void shouldBindFromBufferWithColumnTypes() throws Exception {
+        // given
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(ps);
+
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", 2, BatchProgress.UNKNOWN);
+        ColumnarInsertWriter writer = new ColumnarInsertWriter(dataSource, BatchMetrics.noop(), progress, (dto, t) -> { });
+
+        // when
+        writer.write(new Chunk<>(List.of(chunkOf("\"1\",\"일반음식점\",,,,\"2024-01-01\"", "\"2\""))));
+
+        // then
+        verify(ps, times(1)).executeUpdate();
+        verify(ps).setObject(1, 1);
+        verify(ps).setString(2, "일반음식점");
+        verify(ps).setObject(6, LocalDate.of(2024, 1, 1));
+        verify(ps).setObject(MultiInsertWriter.RECORD_COLUMN_COUNT + 6, null);
+        assertThat(progress.snapshot().committedRows()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다중 INSERT가 실패하면 행 단위로 재시도하여 실패한 행만 넘겨야 한다")
+    void shouldFallBackToRowByRowAndRejectOnlyFailedRows() throws Exception {
+        // given: 잘못된 날짜가 포함된 2번 행
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(ps);
+
+        List<RestaurantCsvDto> rejected = new ArrayList<>();
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", 2, BatchProgress.UNKNOWN);
+        ColumnarInsertWriter writer = new ColumnarInsertWriter(dataSource, BatchMetrics.noop(), progress,
+                (dto, t) -> rejected.add(dto));
+
+        // when
+        writer.write(new Chunk<>(List.of(chunkOf("\"1\",,,,,\"2024-01-01\"", "\"2\",,,,,\"2024-13-45\""))));
+
+        // then: 1번 행만 저장, 2번 행은 실패 레코드로 전달
+        verify(ps, times(1)).executeUpdate();
+        assertThat(rejected).extracting(RestaurantCsvDto::getRecordNumber).containsExactly(2);
+        assertThat(rejected.get(0).getLicenseDate()).isEqualTo("2024-13-45");
+        assertThat(progress.snapshot().committedRows()).isEqualTo(1);
+        assertThat(progress.snapshot().skippedRows()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일시적인 DB 오류는 Step 재시도를 위해 그대로 던져야 한다")
+    void shouldRethrowTransientErrors() throws Exception {
+        // given
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(ps);
+        when(ps.executeUpdate()).thenThrow(new SQLTransientConnectionException("lost"));
+
+        ColumnarInsertWriter writer = new ColumnarInsertWriter(dataSource, BatchMetrics.noop(), new BatchProgress(),
+                (dto, t) -> { });
+
+        // when / then
+        assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(chunkOf("\"1\"")))))
+                .isInstanceOf(SQLException.class);
+    }
+
+    @Test
+    @DisplayName("교착 상태 롤백(SQLState 40001)처럼 일반 SQLException인 DB 오류도 행 단위로 나누지 않고 그대로 던져야 한다")
+    void shouldRethrowDbErrorsClassifiedBySqlState() throws Exception {
+        // given: MySQL 드라이버가 교착 상태를 SQLTransientException이 아닌 SQLException으로 던지는 경우
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(ps);
+        when(ps.executeUpdate()).thenThrow(new SQLException("Deadlock found", "40001", 1213));
+
+        List<RestaurantCsvDto> rejected = new ArrayList<>();
+        ColumnarInsertWriter writer = new ColumnarInsertWriter(dataSource, BatchMetrics.noop(), new BatchProgress(),
+                (dto, t) -> rejected.add(dto));
+
+        // when / then: 행 단위 재시도 없이 다중 INSERT 한 번만 실행
+        assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(chunkOf("\"1\"", "\"2\"")))))
+                .isInstanceOf(SQLException.class);
+        verify(ps, times(1)).executeUpdate();
+        verify(connection, never()).setAutoCommit(false);
+        assertThat(rejected).isEmpty();
+    }
+
+    @Test
+    @DisplayName("행 단위 재시도 중 일시적인 DB 오류가 나면 롤백하고 실패 행을 넘기지 않은 채 다시 던져야 한다")
+    void shouldRollBackRowByRowFallbackOnTransientError() throws Exception {
+        // given: 다중 INSERT는 제약 조건 오류, 행 단위 재시도에서는 2번 행 실패 후 3번 행에서 연결 끊김
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenReturn(ps);
+        when(ps.executeUpdate())
+                .thenThrow(new SQLException("duplicate"))
+                .thenReturn(1)
+                .thenThrow(new SQLException("constraint"))
+                .thenThrow(new SQLTransientConnectionException("lost"));
+
+        List<RestaurantCsvDto> rejected = new ArrayList<>();
+        BatchProgress progress = new BatchProgress();
+        progress.start("job", 3, BatchProgress.UNKNOWN);
+        ColumnarInsertWriter writer = new ColumnarInsertWriter(dataSource, BatchMetrics.noop(), progress,
+                (dto, t) -> rejected.add(dto));
+        ColumnarChunk chunk = chunkOf("\"1\"", "\"2\"", "\"3\"");
+
+        // when / then
+        assertThatThrownBy(() -> writer.write(new Chunk<>(List.of(chunk))))
+                .isInstanceOf(SQLTransientConnectionException.class);
+        verify(connection).setAutoCommit(false);
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+        assertThat(rejected).isEmpty();
+        assertThat(chunk.isRejected(1)).isFalse();
+
+        // 재시도 후에도 실패하여 버퍼가 스킵되면 모든 행을 한 번씩 넘김
+        writer.onSkipInWrite(chunk, new SQLTransientConnectionException("lost"));
+        assertThat(rejected).extracting(RestaurantCsvDto::getRecordNumber).containsExactly(1, 2, 3);
+        assertThat(progress.snapshot().committedRows()).isZero();
+        assertThat(progress.snapshot().skippedRows()).isEqualTo(3);
+    }
+
+    private ColumnarChunk chunkOf(String... lines) {
+        ColumnarChunk chunk = new ColumnarChunk(MultiInsertWriter.RECORD_COLUMN_COUNT, lines.length,
+                ByteBuffer.allocate(4096), StandardCharsets.UTF_8);
+        for (String line : lines) {
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            chunk.addRow(bytes, bytes.length);
+        }
+        return chunk;
+    }
+}
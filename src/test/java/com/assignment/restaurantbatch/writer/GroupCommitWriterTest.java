@@ -0,0 +1,164 @@
+package com.assignment.restaurantbatch.writer;
+
+import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * {@link GroupCommitWriter}를 H2 메모리 DB로 검증하는 테스트 클래스입니다.
+ * <p>
+ * • 큐에 쌓인 여러 파티션의 Chunk를 한 번의 커밋으로 모아 쓰는지 확인합니다.<br>
+ * • 그룹 안의 Chunk 하나가 실패하면 그 Chunk의 파티션에만 예외가 전달되고 나머지는 커밋되는지 확인합니다.
+ */
+class GroupCommitWriterTest {
+
+    private DataSource dataSource;
+    private final CountDownLatch connectionRequested = new CountDownLatch(1);
+    private final CountDownLatch firstConnection = new CountDownLatch(1);
+    private GroupCommitWriter writer;
+    private ExecutorService partitions;
+
+    @BeforeEach
+    void setUp() {
+        DataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:group-commit;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("test-schema.sql")).execute(h2);
+        new JdbcTemplate(h2).execute("DELETE FROM restaurant");
+
+        // 첫 그룹의 커넥션 획득을 막아 두어 나머지 Chunk가 큐에 쌓이게 함
+        AtomicBoolean first = new AtomicBoolean(true);
+        dataSource = new DelegatingDataSource(h2) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (first.getAndSet(false)) {
+                    connectionRequested.countDown();
+                    try {
+                        firstConnection.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.getConnection();
+            }
+        };
+        writer = new GroupCommitWriter(dataSource, new MultiInsertWriter(dataSource), BatchMetrics.noop(), 1, 16, 1000, 25);
+        partitions = Executors.newFixedThreadPool(5);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        firstConnection.countDown();
+        partitions.shutdownNow();
+        writer.close();
+    }
+
+    @Test
+    @DisplayName("큐에 쌓인 여러 파티션의 Chunk는 한 번의 커밋으로 모아 써야 한다")
+    void shouldCoalesceQueuedChunksIntoOneCommit() throws Exception {
+        // given: 첫 Chunk가 쓰기 스레드를 점유한 동안 4개 파티션의 Chunk가 대기
+        List<Future<?>> results = new ArrayList<>();
+        results.add(submit(rows(1, 10)));
+        assertThat(connectionRequested.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int p = 1; p <= 4; p++) {
+            results.add(submit(rows(p * 100, 30)));
+        }
+        awaitQueued(4);
+
+        // when
+        firstConnection.countDown();
+        for (Future<?> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+
+        // then: 첫 Chunk 1회 + 나머지 4개 Chunk(120행, 구문 25행씩) 1회
+        assertThat(count()).isEqualTo(130);
+        assertThat(writer.commitCount()).isEqualTo(2);
+        assertThat(writer.chunkCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("그룹 안의 Chunk 하나가 실패하면 그 Chunk만 실패하고 나머지는 커밋되어야 한다")
+    void shouldFailOnlyTheBadChunkInGroup() throws Exception {
+        // given: 두 번째 그룹에 잘못된 날짜가 있는 Chunk 포함
+        List<RestaurantCsvDto> bad = rows(200, 5);
+        bad.get(3).setLicenseDate("2024-13-45");
+
+        Future<?> first = submit(rows(1, 10));
+        assertThat(connectionRequested.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<?> good1 = submit(rows(100, 5));
+        awaitQueued(1);
+        Future<?> failing = submit(bad);
+        awaitQueued(2);
+        Future<?> good2 = submit(rows(300, 5));
+        awaitQueued(3);
+
+        // when
+        firstConnection.countDown();
+
+        // then
+        first.get(5, TimeUnit.SECONDS);
+        good1.get(5, TimeUnit.SECONDS);
+        good2.get(5, TimeUnit.SECONDS);
+        assertThatThrownBy(() -> failing.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(DateTimeParseException.class);
+        assertThat(count()).isEqualTo(20);
+        assertThat(new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM restaurant WHERE record_number BETWEEN 200 AND 204", Long.class)).isZero();
+    }
+
+    private Future<?> submit(List<RestaurantCsvDto> rows) {
+        return partitions.submit(() -> {
+            writer.write(new Chunk<>(rows));
+            return null;
+        });
+    }
+
+    /** 큐에 대기 중인 Chunk 수가 기대값이 될 때까지 기다립니다. */
+    private void awaitQueued(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (writer.queuedChunks() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(writer.queuedChunks()).isEqualTo(expected);
+    }
+
+    private long count() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM restaurant", Long.class);
+    }
+
+    private static List<RestaurantCsvDto> rows(int firstRecordNumber, int count) {
+        List<RestaurantCsvDto> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RestaurantCsvDto dto = new RestaurantCsvDto();
+            dto.setRecordNumber(firstRecordNumber + i);
+            dto.setManagementNumber("MN-" + (firstRecordNumber + i));
+            dto.setLicenseDate("2024-01-01");
+            rows.add(dto);
+        }
+        return rows;
+    }
+}
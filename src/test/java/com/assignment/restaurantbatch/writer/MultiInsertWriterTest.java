@@ -1,14 +1,25 @@
 package com.assignment.restaurantbatch.writer;
 
+import com.assignment.restaurantbatch.address.AddressDecomposer;
 import com.assignment.restaurantbatch.dto.RestaurantCsvDto;
+import com.assignment.restaurantbatch.jfr.ChunkWriteEvent;
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.springframework.batch.item.Chunk;
 
 import javax.sql.DataSource;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -18,9 +29,15 @@ import static org.mockito.Mockito.*;
  * {@link MultiInsertWriter} 클래스의 단위 테스트입니다.
  * <p>
  * • Chunk에 담긴 DTO들을 다중 INSERT 쿼리로 DB에 저장하는지 확인합니다.
+ * • 주소 분해기가 주어지면 시도/시군구/도로명 컬럼을 CSV 컬럼 뒤에 함께 저장하는지 확인합니다.
+ * • id 콜백이 주어지면 생성된 id를 행 순서대로 넘기는지 확인합니다.
+ * • 주어진 커넥션에 쓰는 경로(그룹 커밋, 샤드 적재)도 INSERT마다 JFR 쓰기 이벤트를 남기는지 확인합니다.
  */
 class MultiInsertWriterTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     @DisplayName("한 Chunk의 아이템을 DB에 다중 INSERT 쿼리로 처리해야 한다")
     void shouldWriteChunkToDatabaseWithMultiInsert() throws Exception {
@@ -61,4 +78,98 @@ class MultiInsertWriterTest {
         assertThat(allValues.stream().map(String::valueOf))
                 .anyMatch(s -> s.contains("2025-01-01"));
     }
+
+    @Test
+    @DisplayName("주소 분해기가 주어지면 분해한 시도/시군구/도로명을 CSV 컬럼 뒤에 바인딩해야 한다")
+    void shouldBindDecomposedAddressColumns() throws Exception {
+        // given
+        RestaurantCsvDto dto = new RestaurantCsvDto();
+        dto.setRecordNumber(1);
+        dto.setRoadAddress("경기도 성남시 분당구 판교역로 235");
+
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(ps);
+
+        MultiInsertWriter writer = new MultiInsertWriter(dataSource, BatchMetrics.noop(), null, new AddressDecomposer(16));
+
+        // when
+        writer.write(new Chunk<>(List.of(dto, dto)));
+
+        // then: 두 번째 행의 주소 컬럼은 행당 컬럼 수(CSV + 3)만큼 뒤에 바인딩
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        assertThat(sql.getValue()).contains("homepage, " + MultiInsertWriter.ADDRESS_COLUMNS + ") VALUES ");
+
+        int columns = MultiInsertWriter.RECORD_COLUMN_COUNT + MultiInsertWriter.ADDRESS_COLUMN_COUNT;
+        verify(ps).setString(columns * 2 - 2, "경기도");
+        verify(ps).setString(columns * 2 - 1, "성남시 분당구");
+        verify(ps).setString(columns * 2, "판교역로");
+    }
+
+    @Test
+    @DisplayName("id 콜백이 주어지면 INSERT로 생성된 id를 행 순서대로 넘겨야 한다")
+    void shouldPassGeneratedIdsToListener() throws Exception {
+        // given
+        RestaurantCsvDto dto1 = new RestaurantCsvDto();
+        RestaurantCsvDto dto2 = new RestaurantCsvDto();
+
+        DataSource dataSource = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ResultSet keys = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS))).thenReturn(ps);
+        when(ps.getGeneratedKeys()).thenReturn(keys);
+        when(keys.next()).thenReturn(true, true, false);
+        when(keys.getLong(1)).thenReturn(101L, 102L);
+
+        List<Object> received = new ArrayList<>();
+        MultiInsertWriter writer = new MultiInsertWriter(dataSource, BatchMetrics.noop(), null, null,
+                (items, ids) -> received.addAll(List.of(items.get(0), ids[0], items.get(1), ids[1])));
+
+        // when
+        writer.write(new Chunk<>(List.of(dto1, dto2)));
+
+        // then
+        assertThat(received).containsExactly(dto1, 101L, dto2, 102L);
+    }
+
+    @Test
+    @DisplayName("주어진 커넥션에 쓰는 INSERT도 행 수와 SQL 크기를 담은 JFR 쓰기 이벤트를 남겨야 한다")
+    void shouldRecordWriteEventsForConnectionInserts() throws Exception {
+        // given
+        Connection connection = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        ResultSet keys = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(ps);
+        when(connection.prepareStatement(anyString(), eq(Statement.RETURN_GENERATED_KEYS))).thenReturn(ps);
+        when(ps.getGeneratedKeys()).thenReturn(keys);
+        when(keys.next()).thenReturn(true, false);
+        when(keys.getLong(1)).thenReturn(101L);
+        MultiInsertWriter writer = new MultiInsertWriter(mock(DataSource.class), BatchMetrics.noop(), null, null);
+        Path file = tempDir.resolve("write.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(ChunkWriteEvent.class);
+            recording.start();
+
+            // when: 그룹 커밋(스레드 이름 지정)과 샤드 적재(id 반환) 경로
+            writer.insert(connection, List.of(new RestaurantCsvDto(), new RestaurantCsvDto()), "group-commit-1");
+            writer.insertReturningIds(connection, List.of(new RestaurantCsvDto()));
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(ChunkWriteEvent.NAME))
+                .toList();
+        assertThat(events).extracting(event -> event.getInt("rows")).containsExactly(2, 1);
+        assertThat(events.get(0).getString("partition")).isEqualTo("group-commit-1");
+        assertThat(events).allSatisfy(event -> assertThat(event.getLong("sqlBytes")).isPositive());
+    }
 }
@@ -0,0 +1,78 @@
+package com.assignment.restaurantbatch.writer;
+
+import com.assignment.restaurantbatch.metrics.BatchMetrics;
+import com.assignment.restaurantbatch.reader.RestaurantItemReaderConfig;
+import com.assignment.restaurantbatch.schema.DatasetSchema;
+import com.assignment.restaurantbatch.schema.DatasetSchemaLoader;
+import com.assignment.restaurantbatch.schema.SchemaRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.file.LineMapper;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 스키마 디스크립터만으로 새 데이터셋을 읽고 적재하는 {@link SchemaInsertWriter}를 H2로 검증하는 테스트 클래스입니다.
+ */
+class SchemaInsertWriterTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DatasetSchema schema;
+    private LineMapper<SchemaRecord> lineMapper;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:schema-writer;DB_CLOSE_DELAY=-1", "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("test-schema.sql")).execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        schema = DatasetSchemaLoader.load(new ClassPathResource("schema/bakery.yml"));
+        lineMapper = RestaurantItemReaderConfig.lineMapper(schema);
+    }
+
+    @Test
+    @DisplayName("스키마 컬럼 타입대로 변환하여 정의된 테이블에 적재해야 한다")
+    void shouldInsertRowsIntoSchemaTable() throws Exception {
+        // given: 행 끝 쉼표(초과 컬럼)와 빈 숫자 컬럼 포함
+        Chunk<SchemaRecord> chunk = new Chunk<>(
+                lineMapper.mapLine("\"1\",\"B-1\",\"2021-03-04\",\"동네빵집\",\"2024-01-02 03:04:05\",\"201234.5\",\"3\",", 2),
+                lineMapper.mapLine("\"2\",\"B-2\",\"\",\"케이크\",\"2024-01-02 03:04:05\",\"\",\"\",", 3));
+
+        // when
+        new SchemaInsertWriter(dataSource, schema, BatchMetrics.noop()).write(chunk);
+
+        // then
+        Map<String, Object> first = jdbcTemplate.queryForMap("SELECT * FROM bakery WHERE record_number = 1");
+        assertThat(first.get("STORE_NAME")).isEqualTo("동네빵집");
+        assertThat(((java.sql.Date) first.get("LICENSE_DATE")).toLocalDate()).isEqualTo(LocalDate.of(2021, 3, 4));
+        assertThat(first.get("COORD_X")).isEqualTo(201234.5);
+        assertThat(first.get("EMPLOYEE_COUNT")).isEqualTo(3);
+
+        Map<String, Object> second = jdbcTemplate.queryForMap("SELECT * FROM bakery WHERE record_number = 2");
+        assertThat(second.get("LICENSE_DATE")).isNull();
+        assertThat(second.get("EMPLOYEE_COUNT")).isNull();
+    }
+
+    @Test
+    @DisplayName("변환할 수 없는 값은 쓰기 예외로 던져 스킵 정책을 따르게 해야 한다")
+    void shouldFailOnUnparseableValue() throws Exception {
+        // given
+        Chunk<SchemaRecord> chunk = new Chunk<>(
+                lineMapper.mapLine("\"3\",\"B-3\",\"2021/03/04\",\"빵\",\"\",\"\",\"\"", 2));
+        SchemaInsertWriter writer = new SchemaInsertWriter(dataSource, schema, BatchMetrics.noop());
+
+        // when & then
+        assertThatThrownBy(() -> writer.write(chunk)).isInstanceOf(RuntimeException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM bakery", Integer.class)).isZero();
+    }
+}
@@ -48,5 +48,35 @@ CREATE TABLE restaurant (
                             total_scale VARCHAR(50),
                             traditional_id VARCHAR(100),
                             main_menu VARCHAR(255),
-                            homepage VARCHAR(255)
+                            homepage VARCHAR(255),
+                            sido VARCHAR(20),
+                            sigungu VARCHAR(40),
+                            road_name VARCHAR(80)
+);
+
+DROP TABLE IF EXISTS restaurant_summary;
+
+CREATE TABLE restaurant_summary (
+                            dimension VARCHAR(20) NOT NULL,
+                            dim_value VARCHAR(100) NOT NULL,
+                            row_count BIGINT NOT NULL DEFAULT 0,
+                            open_count BIGINT NOT NULL DEFAULT 0,
+                            closed_count BIGINT NOT NULL DEFAULT 0,
+                            total_area DOUBLE NOT NULL DEFAULT 0,
+                            total_employees BIGINT NOT NULL DEFAULT 0,
+                            updated_at TIMESTAMP,
+                            PRIMARY KEY (dimension, dim_value)
+);
+
+DROP TABLE IF EXISTS bakery;
+
+CREATE TABLE bakery (
+                            id BIGINT PRIMARY KEY AUTO_INCREMENT,
+                            record_number INT,
+                            management_number VARCHAR(50),
+                            license_date DATE,
+                            store_name VARCHAR(255),
+                            last_modified TIMESTAMP,
+                            coord_x DOUBLE,
+                            employee_count INT
 );